@@ -8,6 +8,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
+import java.util.Comparator;
 import java.util.Vector;
 
 /**
@@ -48,6 +49,14 @@ public class CSatz extends Satz
 
   public static final int TS_BANK_69 = 69000;
 
+  /**
+   * Reihenfolge nach Bankleitzahl und Kontonummer des endbegünstigten
+   * Instituts, z. B. für DtausDateiWriter.setSortierung()
+   */
+  public static final Comparator<CSatz> NACH_BLZ_KONTO = Comparator
+      .comparingLong(CSatz::getBlzEndbeguenstigt)
+      .thenComparingLong(CSatz::getKontonummer);
+
   /**
    * Feld c01, 4 Byte, numerisch, Satzlänge, konstanter Teil 187 Bytes +
    * Erweiterungsteil( e) zu 29 Bytes, max. 0622 Stellen
@@ -4,8 +4,8 @@
  */
 package de.jost_net.OBanToo.Dtaus;
 
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
@@ -20,6 +20,7 @@ import com.itextpdf.text.pdf.PdfPCell;
 import com.itextpdf.text.pdf.PdfPTable;
 import com.itextpdf.text.pdf.PdfWriter;
 
+import de.jost_net.OBanToo.Tools.Ausgabe;
 import de.jost_net.OBanToo.Tools.Util;
 
 /**
@@ -51,12 +52,29 @@ public class Dtaus2Pdf
 
   public Dtaus2Pdf(String dtausfile, String pdffile)
       throws IOException, DtausException, DocumentException
+  {
+    try (Ausgabe ausgabe = Ausgabe.of(Paths.get(pdffile)))
+    {
+      erzeuge(dtausfile, ausgabe);
+    }
+  }
+
+  /**
+   * Schreibt das PDF in ein beliebiges Ziel. Das Ziel wird nicht geschlossen.
+   */
+  public Dtaus2Pdf(String dtausfile, Ausgabe ausgabe)
+      throws IOException, DtausException, DocumentException
+  {
+    erzeuge(dtausfile, ausgabe);
+  }
+
+  private void erzeuge(String dtausfile, Ausgabe ausgabe)
+      throws IOException, DtausException, DocumentException
   {
     DtausDateiParser in = new DtausDateiParser(dtausfile);
     Document doc = new Document();
-    FileOutputStream out = new FileOutputStream(pdffile);
 
-    PdfWriter writer = PdfWriter.getInstance(doc, out);
+    PdfWriter writer = PdfWriter.getInstance(doc, ausgabe.getStream());
     doc.setMargins(80, 30, 20, 30); // links, rechts, oben, unten
     doc.addAuthor("OBanToo");
     doc.addTitle("DTAUS2PDF");
@@ -141,7 +159,6 @@ public class Dtaus2Pdf
       outputESatz(in, doc);
     }
     doc.close();
-    out.close();
   }
 
   private void outputASatz(DtausDateiParser in, Document doc, int logischeDatei)
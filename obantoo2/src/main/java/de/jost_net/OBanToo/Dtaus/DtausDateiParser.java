@@ -12,6 +12,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Vector;
 
+import de.jost_net.OBanToo.Tools.Kompression;
+
 /**
  * Parser für DTAUS-Dateien
  * <p>
@@ -44,6 +46,10 @@ import java.util.Vector;
  * gespeichert.
  * </p>
  * <p>
+ * gzip- und ZIP-komprimierte Dateien werden beim Lesen entpackt (siehe
+ * Kompression).
+ * </p>
+ * <p>
  * Sollte die zu parsende DTAUS-Datei fehlerhaft sein, werden entsprechende
  * DtausExceptions geworfen.
  * <p>
@@ -150,8 +156,8 @@ public class DtausDateiParser
     }
 
     logischeDateien = new Vector<>();
-    dtaus = is;
-    while (is.available() > 0)
+    dtaus = Kompression.entpacke(is);
+    while (weitereDaten())
     {
       asatz = new ASatz(lese(), toleranz);
       LogischeDatei logdat = new LogischeDatei(asatz);
@@ -227,16 +233,28 @@ public class DtausDateiParser
     return this.logdat.getESatz();
   }
 
+  /**
+   * Prüft, ob ein weiterer Satz folgt. available() ist bei entpackten Streams
+   * nicht verlässlich.
+   */
+  private boolean weitereDaten() throws IOException
+  {
+    dtaus.mark(1);
+    int b = dtaus.read();
+    dtaus.reset();
+    return b != -1;
+  }
+
   private String lese() throws IOException, DtausException
   {
     byte[] inchar = new byte[4];
-    dtaus.read(inchar);
+    dtaus.readNBytes(inchar, 0, inchar.length);
     String satzlaenge = new String(inchar, this.encoding);
     // Lese in der Satzlänge. Die Satzlänge ist um 4 Bytes zu verringern, da
     // diese
     // Bytes bereits gelesen wurden.
     inchar = new byte[getSatzlaenge(satzlaenge) - 4];
-    dtaus.read(inchar);
+    dtaus.readNBytes(inchar, 0, inchar.length);
     return satzlaenge + new String(inchar, this.encoding);
   }
 
@@ -4,14 +4,22 @@
  */
 package de.jost_net.OBanToo.Dtaus;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
+import java.util.Comparator;
 import java.util.Date;
 
+import de.jost_net.OBanToo.Tools.Ausgabe;
+import de.jost_net.OBanToo.Tools.ExterneSortierung;
+
 /**
  * Datenträgeraustauschdateien (DTAUS) erstellen
  * <p>
@@ -91,12 +99,65 @@ public class DtausDateiWriter
 
   private ESatz esatz;
 
+  /**
+   * Externe Sortierung der C-Sätze einer logischen Datei (optional)
+   */
+  private ExterneSortierung<CSatz> sortierung = null;
+
+  /**
+   * Die C-Sätze werden im DTAUS-Format ausgelagert und beim Mischen neu
+   * eingelesen.
+   */
+  private static final ExterneSortierung.Satzformat<CSatz> FORMAT = new ExterneSortierung.Satzformat<CSatz>()
+  {
+    @Override
+    public void schreibe(DataOutput out, CSatz c) throws IOException
+    {
+      ByteArrayOutputStream bos = new ByteArrayOutputStream(256);
+      try
+      {
+        c.write(new DataOutputStream(bos));
+      }
+      catch (DtausException e)
+      {
+        throw new IOException(e.getMessage(), e);
+      }
+      out.writeShort(bos.size());
+      out.write(bos.toByteArray());
+    }
+
+    @Override
+    public CSatz lese(DataInput in) throws IOException
+    {
+      byte[] satz = new byte[in.readUnsignedShort()];
+      in.readFully(satz);
+      try
+      {
+        return new CSatz(new String(satz, StandardCharsets.ISO_8859_1),
+            DtausDateiParser.SPEZIFIKATIONSKONFORM);
+      }
+      catch (DtausException e)
+      {
+        throw new IOException(e.getMessage(), e);
+      }
+    }
+  };
+
   public DtausDateiWriter(OutputStream os)
   {
     dos = new DataOutputStream(os);
     open();
   }
 
+  /**
+   * Ausgabe in ein beliebiges Ziel. close() schließt das Ziel nicht, das
+   * übernimmt der Aufrufer.
+   */
+  public DtausDateiWriter(Ausgabe ausgabe)
+  {
+    this(ausgabe.getStream());
+  }
+
   /**
    * Die Open-Methode wird durch den Konstruktor aufgerufen. Ein erneuter Aufruf
    * darf erfolgen, nachdem der E-Satz geschrieben wurden. Damit wird die
@@ -296,6 +357,27 @@ public class DtausDateiWriter
     csatz.addVerwendungszweck(value);
   }
 
+  /**
+   * Sortierung der C-Sätze, z. B. nach CSatz.NACH_BLZ_KONTO. Die C-Sätze
+   * werden bis zum E-Satz gesammelt und mit writeESatz() sortiert
+   * geschrieben. Größere Datenmengen als das Speicherbudget (Bytes) werden in
+   * temporäre Dateien ausgelagert.
+   *
+   * @param reihenfolge
+   *          null: Reihenfolge der Übergabe
+   */
+  public void setSortierung(Comparator<? super CSatz> reihenfolge,
+      long speicher)
+  {
+    if (sortierung != null)
+    {
+      sortierung.close();
+    }
+    sortierung = reihenfolge != null
+        ? new ExterneSortierung<>(reihenfolge, FORMAT, speicher)
+        : null;
+  }
+
   public void writeASatz() throws Exception
   {
     asatz.write(dos);
@@ -307,7 +389,25 @@ public class DtausDateiWriter
     csatz.setErstbeauftragtesInstitut(asatz.getBlz());
     csatz.setKontoAuftraggeber(asatz.getKonto());
     esatz.add(csatz); // Kontrollsummen addieren
-    csatz.write(dos);
+    if (sortierung != null)
+    {
+      try
+      {
+        sortierung.add(csatz);
+      }
+      catch (IOException e)
+      {
+        if (e.getCause() instanceof DtausException)
+        {
+          throw (DtausException) e.getCause();
+        }
+        throw e;
+      }
+    }
+    else
+    {
+      csatz.write(dos);
+    }
     String ret = csatz.toString();
     csatz = new CSatz();
     return ret;
@@ -315,6 +415,17 @@ public class DtausDateiWriter
 
   public void writeESatz() throws IOException
   {
+    if (sortierung != null)
+    {
+      try
+      {
+        sortierung.ausgeben(c -> c.write(dos));
+      }
+      catch (DtausException e)
+      {
+        throw new IOException(e.getMessage(), e);
+      }
+    }
     esatz.write(dos);
   }
 
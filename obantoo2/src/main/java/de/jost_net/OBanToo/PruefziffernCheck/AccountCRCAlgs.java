@@ -8,174 +8,146 @@
  */
 package de.jost_net.OBanToo.PruefziffernCheck;
 
-import java.math.BigInteger;
-
 /* Some changes suggested by Alexander Nittka (AN) */
 public class AccountCRCAlgs
 {
+  private static final PZRet[] ERGEBNIS_10_06 = PZRet.paar(10, "06");
+
+  private static final PZRet[] ERGEBNIS_10_40 = PZRet.paar(10, "40");
+
+  private static final PZRet[] ERGEBNIS_10_46 = PZRet.paar(10, "46");
+
+  private static final PZRet[] ERGEBNIS_10_48 = PZRet.paar(10, "48");
+
+  private static final PZRet[] ERGEBNIS_10_50 = PZRet.paar(10, "50");
+
+  private static final PZRet[] ERGEBNIS_10_63 = PZRet.paar(10, "63");
+
+  private static final PZRet[] ERGEBNIS_8_63 = PZRet.paar(8, "63");
+
+  private static final PZRet[] ERGEBNIS_10_76 = PZRet.paar(10, "76");
+
+  private static final PZRet[] ERGEBNIS_8_76 = PZRet.paar(8, "76");
+
+  private static final PZRet[] ERGEBNIS_10_84 = PZRet.paar(10, "84");
+
   public static PZRet alg_00(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8, new int[] { 2, 1, 2, 1, 2, 1, 2, 1, 2 },
-        true);
-    int crc = (10 - sum % 10) % 10;
-    return new PZRet(number[9] == crc);
+    return standard("00", blz, number);
   }
 
   public static PZRet alg_01(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8, new int[] { 1, 7, 3, 1, 7, 3, 1, 7, 3 },
-        false);
-    int crc = (10 - sum % 10) % 10;
-    return new PZRet(number[9] == crc);
+    return standard("01", blz, number);
   }
 
   public static PZRet alg_02(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8, new int[] { 2, 9, 8, 7, 6, 5, 4, 3, 2 },
-        false);
-    int crc = 11 - (sum % 11);
-    if (crc == 11)
-      crc = 0;
-    return new PZRet(number[9] == crc);
+    return standard("02", blz, number);
   }
 
   public static PZRet alg_03(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8, new int[] { 2, 1, 2, 1, 2, 1, 2, 1, 2 },
-        false);
-    int crc = (10 - sum % 10) % 10;
-    return new PZRet(number[9] == crc);
+    return standard("03", blz, number);
   }
 
   public static PZRet alg_04(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8, new int[] { 4, 3, 2, 7, 6, 5, 4, 3, 2 },
-        false);
-    int crc = 11 - (sum % 11);
-    if (crc == 11)
-      crc = 0;
-    return new PZRet(number[9] == crc);
+    return standard("04", blz, number);
   }
 
   public static PZRet alg_05(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8, new int[] { 1, 3, 7, 1, 3, 7, 1, 3, 7 },
-        false);
-    int crc = (10 - sum % 10) % 10;
-    return new PZRet(number[9] == crc);
+    return standard("05", blz, number);
   }
 
   public static PZRet alg_06(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8, new int[] { 4, 3, 2, 7, 6, 5, 4, 3, 2 },
-        false);
-    int crc = 11 - sum % 11;
-    if (crc > 9)
-      crc = 0;
-    return new PZRet(number[9] == crc, 10, "06");
+    return PZRet.of(standard("06", blz, number).isValid(), ERGEBNIS_10_06);
   }
 
   public static PZRet alg_07(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8,
-        new int[] { 10, 9, 8, 7, 6, 5, 4, 3, 2 }, false);
-    int crc = 11 - (sum % 11);
-    if (crc == 11)
-      crc = 0;
-    return new PZRet(number[9] == crc);
+    return standard("07", blz, number);
   }
 
+  private static final int[] GEWICHTE_08 = { 2, 1, 2, 1, 2, 1, 2, 1, 2 };
+
   public static PZRet alg_08(int[] blz, int[] number)
   {
-    PZRet result = new PZRet(true);
+    PZRet result = PZRet.of(true);
     long bigint = calculateIntFromNumber(number);
     if (bigint >= 60000)
     {
-      int sum = addProducts(number, 0, 8,
-          new int[] { 2, 1, 2, 1, 2, 1, 2, 1, 2 }, true);
+      int sum = addProducts(number, 0, 8, GEWICHTE_08, true);
       int crc = (10 - sum % 10) % 10;
-      result = new PZRet((number[9] == crc));
+      result = PZRet.of((number[9] == crc));
     }
     return result;
   }
 
   public static PZRet alg_09(int[] blz, int[] number)
   {
-    return new PZRet(true);
+    return PZRet.of(true);
   }
 
   public static PZRet alg_10(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8,
-        new int[] { 10, 9, 8, 7, 6, 5, 4, 3, 2 }, false);
-    int crc = 11 - sum % 11;
-    if (crc > 9)
-      crc = 0;
-    return new PZRet(number[9] == crc);
+    return standard("10", blz, number);
   }
 
   public static PZRet alg_11(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8,
-        new int[] { 10, 9, 8, 7, 6, 5, 4, 3, 2 }, false);
-    int crc = 11 - sum % 11;
-    if (crc == 10)
-      crc = 9;
-    else if (crc == 11)
-      crc = 0;
-    return new PZRet(number[9] == crc);
+    return standard("11", blz, number);
   }
 
   public static PZRet alg_12(int[] blz, int[] number)
   {
     // this should never happen, because 12 is not used
-    return new PZRet(false);
+    return PZRet.of(false);
   }
 
+  private static final int[] GEWICHTE_13 = { 1, 2, 1, 2, 1, 2 };
+
   public static PZRet alg_13(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 1, 6, new int[] { 1, 2, 1, 2, 1, 2 }, true);
+    int sum = addProducts(number, 1, 6, GEWICHTE_13, true);
     int crc = (10 - sum % 10) % 10;
 
-    PZRet ok = new PZRet((number[7] == crc));
+    PZRet ok = PZRet.of((number[7] == crc));
     if (!ok.isValid())
     {
-      sum = addProducts(number, 3, 8, new int[] { 1, 2, 1, 2, 1, 2 }, true);
+      sum = addProducts(number, 3, 8, GEWICHTE_13, true);
       crc = (10 - sum % 10) % 10;
-      ok = new PZRet((number[9] == crc));
+      ok = PZRet.of((number[9] == crc));
     }
     return ok;
   }
 
   public static PZRet alg_14(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 3, 8, new int[] { 7, 6, 5, 4, 3, 2 }, false);
-    int crc = 11 - (sum % 11);
-    if (crc == 11)
-      crc = 0;
-    return new PZRet(number[9] == crc);
+    return standard("14", blz, number);
   }
 
   public static PZRet alg_15(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 5, 8, new int[] { 5, 4, 3, 2 }, false);
-    int crc = 11 - sum % 11;
-    if (crc > 9)
-      crc = 0;
-    return new PZRet(number[9] == crc);
+    return standard("15", blz, number);
   }
 
+  private static final int[] GEWICHTE_16 = { 4, 3, 2, 7, 6, 5, 4, 3, 2 };
+
   public static PZRet alg_16(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8, new int[] { 4, 3, 2, 7, 6, 5, 4, 3, 2 },
-        false);
+    int sum = addProducts(number, 0, 8, GEWICHTE_16, false);
     int crc = 11 - sum % 11;
     if (crc == 11)
       crc = 0;
-    return new PZRet((crc == 10 && number[8] == number[9])
+    return PZRet.of((crc == 10 && number[8] == number[9])
         || (crc != 10 && number[9] == crc));
   }
 
+  private static final int[] GEWICHTE_17 = { 1, 2, 1, 2, 1, 2 };
+
   public static PZRet alg_17(int[] blz, int[] number)
   {
     /*
@@ -184,75 +156,52 @@ public class AccountCRCAlgs
      * haben, KÖNNEN diese Produkte niemals zweistellig werden, so dass wir
      * einfach IMMER die Quersumme bilden
      */
-    int sum = addProducts(number, 1, 6, new int[] { 1, 2, 1, 2, 1, 2 }, true);
+    int sum = addProducts(number, 1, 6, GEWICHTE_17, true);
     sum--;
     int crc = (10 - sum % 11) % 10;
-    return new PZRet(number[7] == crc);
+    return PZRet.of(number[7] == crc);
   }
 
   public static PZRet alg_18(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8, new int[] { 3, 1, 7, 9, 3, 1, 7, 9, 3 },
-        false);
-    int crc = (10 - sum % 10) % 10;
-    return new PZRet(number[9] == crc);
+    return standard("18", blz, number);
   }
 
   public static PZRet alg_19(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8, new int[] { 1, 9, 8, 7, 6, 5, 4, 3, 2 },
-        false);
-    int crc = 11 - sum % 11;
-    if (crc > 9)
-      crc = 0;
-    return new PZRet(number[9] == crc);
+    return standard("19", blz, number);
   }
 
   public static PZRet alg_20(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8, new int[] { 3, 9, 8, 7, 6, 5, 4, 3, 2 },
-        false);
-    int crc = 11 - sum % 11;
-    if (crc > 9)
-      crc = 0;
-    return new PZRet(number[9] == crc);
+    return standard("20", blz, number);
   }
 
+  private static final int[] GEWICHTE_21 = { 2, 1, 2, 1, 2, 1, 2, 1, 2 };
+
   public static PZRet alg_21(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8, new int[] { 2, 1, 2, 1, 2, 1, 2, 1, 2 },
-        true);
+    int sum = addProducts(number, 0, 8, GEWICHTE_21, true);
     int checksum = quersumme(sum, true);
     int crc = 10 - checksum;
-    return new PZRet(number[9] == crc);
+    return PZRet.of(number[9] == crc);
   }
 
   /** korrigiert: Heiner */
   public static PZRet alg_22(int[] blz, int[] number)
   {
-    /*
-     * Spez: Von den jeweiligen Produkten bleiben die Zehnerstellen [bei der
-     * Addition] unberücksichtigt. --> Es ist egal, ob wir die 10er mit addieren
-     * oder nicht - da danach eh wieder ein Modulo 10 gemacht wird, fallen die
-     * am Ende raus
-     */
-    int sum = addProducts(number, 0, 8, new int[] { 3, 1, 3, 1, 3, 1, 3, 1, 3 },
-        false);
-    int crc = 10 - (sum % 10);
-    if (crc == 10)
-    {
-      crc = 0;
-    }
-    return new PZRet(number[9] == crc);
+    return standard("22", blz, number);
   }
 
+  private static final int[] GEWICHTE_23 = { 7, 6, 5, 4, 3, 2 };
+
   public static PZRet alg_23(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 5, new int[] { 7, 6, 5, 4, 3, 2 }, false);
+    int sum = addProducts(number, 0, 5, GEWICHTE_23, false);
     int crc = 11 - sum % 11;
     if (crc == 11)
       crc = 0;
-    return new PZRet((crc == 10 && number[5] == number[6])
+    return PZRet.of((crc == 10 && number[5] == number[6])
         || (crc != 10 && number[6] == crc));
   }
 
@@ -294,56 +243,61 @@ public class AccountCRCAlgs
       crc += ((weights[j] * number[i]) + weights[j]) % 11;
     }
 
-    return new PZRet((crc % 10) == number[9]);
+    return PZRet.of((crc % 10) == number[9]);
   }
 
+  private static final int[] GEWICHTE_25 = { 9, 8, 7, 6, 5, 4, 3, 2 };
+
   public static PZRet alg_25(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 1, 8, new int[] { 9, 8, 7, 6, 5, 4, 3, 2 },
-        false);
+    int sum = addProducts(number, 1, 8, GEWICHTE_25, false);
     int crc = 11 - (sum % 11);
 
     if (crc == 10 && number[1] < 8)
     {
-      return new PZRet(false);
+      return PZRet.of(false);
     }
     if (crc > 9)
     {
       crc = 0;
     }
-    return new PZRet(number[9] == crc);
+    return PZRet.of(number[9] == crc);
   }
 
+  private static final int[] GEWICHTE_26 = { 2, 7, 6, 5, 4, 3, 2 };
+
   public static PZRet alg_26(int[] blz, int[] number)
   {
     int startpos = 0;
     if (number[0] == 0 && number[1] == 0)
       startpos = 2;
 
-    int sum = addProducts(number, startpos, startpos + 6,
-        new int[] { 2, 7, 6, 5, 4, 3, 2 }, false);
+    int sum = addProducts(number, startpos, startpos + 6, GEWICHTE_26, false);
     int crc = 11 - sum % 11;
     if (crc > 9)
       crc = 0;
-    return new PZRet(number[startpos + 7] == crc);
+    return PZRet.of(number[startpos + 7] == crc);
   }
 
+  private static final int[] GEWICHTE_27 = { 2, 1, 2, 1, 2, 1, 2, 1, 2 };
+
+  private static final int[][] TRANSFORMATION_27 = {
+      { 0, 1, 5, 9, 3, 7, 4, 8, 2, 6 }, { 0, 1, 7, 6, 9, 8, 3, 2, 5, 4 },
+      { 0, 1, 8, 4, 6, 2, 9, 5, 7, 3 }, { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 } };
+
   public static PZRet alg_27(int[] blz, int[] number)
   {
     PZRet ok;
 
     if (number[0] == 0)
     {
-      int sum = addProducts(number, 0, 8,
-          new int[] { 2, 1, 2, 1, 2, 1, 2, 1, 2 }, true);
+      int sum = addProducts(number, 0, 8, GEWICHTE_27, true);
       int crc = (10 - sum % 10) % 10;
-      ok = new PZRet((number[9] == crc));
+      ok = PZRet.of((number[9] == crc));
     }
     else
     {
-      int[][] trafo = new int[][] { { 0, 1, 5, 9, 3, 7, 4, 8, 2, 6 },
-          { 0, 1, 7, 6, 9, 8, 3, 2, 5, 4 }, { 0, 1, 8, 4, 6, 2, 9, 5, 7, 3 },
-          { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 } };
+      int[][] trafo = TRANSFORMATION_27;
 
       int sum = 0;
       for (int i = 0; i < 9; i++)
@@ -352,26 +306,23 @@ public class AccountCRCAlgs
       }
 
       int crc = (10 - (sum % 10)) % 10;
-      ok = new PZRet((number[9] == crc));
+      ok = PZRet.of((number[9] == crc));
     }
     return ok;
   }
 
   public static PZRet alg_28(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 6, new int[] { 8, 7, 6, 5, 4, 3, 2 },
-        false);
-    int crc = 11 - sum % 11;
-    if (crc > 9)
-      crc = 0;
-    return new PZRet(number[7] == crc);
+    return standard("28", blz, number);
   }
 
+  private static final int[][] TRANSFORMATION_29 = {
+      { 0, 1, 5, 9, 3, 7, 4, 8, 2, 6 }, { 0, 1, 7, 6, 9, 8, 3, 2, 5, 4 },
+      { 0, 1, 8, 4, 6, 2, 9, 5, 7, 3 }, { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 } };
+
   public static PZRet alg_29(int[] blz, int[] number)
   {
-    int[][] transform = new int[][] { { 0, 1, 5, 9, 3, 7, 4, 8, 2, 6 },
-        { 0, 1, 7, 6, 9, 8, 3, 2, 5, 4 }, { 0, 1, 8, 4, 6, 2, 9, 5, 7, 3 },
-        { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 } };
+    int[][] transform = TRANSFORMATION_29;
 
     int sum = 0;
     for (int i = 0; i < 9; i++)
@@ -379,130 +330,87 @@ public class AccountCRCAlgs
       sum += transform[i & 3][number[8 - i]];
     }
     int crc = (10 - (sum % 10)) % 10;
-    return new PZRet(number[9] == crc);
+    return PZRet.of(number[9] == crc);
   }
 
   public static PZRet alg_30(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8, new int[] { 2, 0, 0, 0, 0, 1, 2, 1, 2 },
-        false);
-    int crc = (10 - sum % 10) % 10;
-    return new PZRet(number[9] == crc);
+    return standard("30", blz, number);
   }
 
   public static PZRet alg_31(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8, new int[] { 1, 2, 3, 4, 5, 6, 7, 8, 9 },
-        false);
-    int crc = sum % 11;
-    return new PZRet(number[9] == crc);
+    return standard("31", blz, number);
   }
 
   public static PZRet alg_32(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 3, 8, new int[] { 7, 6, 5, 4, 3, 2 }, false);
-    int crc = 11 - sum % 11;
-    if (crc > 9)
-      crc = 0;
-    return new PZRet(number[9] == crc);
+    return standard("32", blz, number);
   }
 
   public static PZRet alg_33(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 4, 8, new int[] { 6, 5, 4, 3, 2 }, false);
-    int crc = 11 - (sum % 11);
-    if (crc > 9)
-      crc = 0;
-    return new PZRet(number[9] == crc);
+    return standard("33", blz, number);
   }
 
   public static PZRet alg_34(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 6, new int[] { 7, 9, 10, 5, 8, 4, 2 },
-        false);
-    int crc = 11 - sum % 11;
-    if (crc > 9)
-      crc = 0;
-    return new PZRet(number[7] == crc);
+    return standard("34", blz, number);
   }
 
   /** @author Heiner */
   public static PZRet alg_36(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 5, 8, new int[] { 5, 8, 4, 2 }, false);
-    int crc = 11 - sum % 11;
-    if (crc > 9)
-      crc = 0;
-    return new PZRet(number[9] == crc);
+    return standard("36", blz, number);
   }
 
   public static PZRet alg_38(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 3, 8, new int[] { 9, 10, 5, 8, 4, 2 }, false);
-    int crc = 11 - sum % 11;
-    if (crc > 9)
-      crc = 0;
-    return new PZRet(number[9] == crc);
+    return standard("38", blz, number);
   }
 
   /** @author Heiner */
   public static PZRet alg_40(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8,
-        new int[] { 6, 3, 7, 9, 10, 5, 8, 4, 2 }, false);
-
-    int crc = 11 - sum % 11;
-    if (crc > 9)
-      crc = 0;
-    return new PZRet(number[9] == crc, 10, "40");
+    return PZRet.of(standard("40", blz, number).isValid(), ERGEBNIS_10_40);
   }
 
+  private static final int[] GEWICHTE_41 = { 1, 2, 1, 2, 1, 2 };
+
+  private static final int[] GEWICHTE_41_2 = { 2, 1, 2, 1, 2, 1, 2, 1, 2 };
+
   /** @author AN */
   public static PZRet alg_41(int[] blz, int[] number)
   {
     int sum;
     if (number[3] == 9)
     {
-      sum = addProducts(number, 3, 8, new int[] { 1, 2, 1, 2, 1, 2 }, true);
+      sum = addProducts(number, 3, 8, GEWICHTE_41, true);
     }
     else
     {
-      sum = addProducts(number, 0, 8, new int[] { 2, 1, 2, 1, 2, 1, 2, 1, 2 },
-          true);
+      sum = addProducts(number, 0, 8, GEWICHTE_41_2, true);
     }
     int crc = (10 - sum % 10) % 10;
-    return new PZRet(number[9] == crc);
+    return PZRet.of(number[9] == crc);
   }
 
   /** @author AN */
   public static PZRet alg_42(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 1, 8, new int[] { 9, 8, 7, 6, 5, 4, 3, 2 },
-        false);
-    int crc = 11 - sum % 11;
-    if (crc > 9)
-      crc = 0;
-    return new PZRet(number[9] == crc);
+    return standard("42", blz, number);
   }
 
   /** @author AN */
   public static PZRet alg_43(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8, new int[] { 9, 8, 7, 6, 5, 4, 3, 2, 1 },
-        false);
-    int crc = (10 - sum % 10) % 10;
-    return new PZRet(number[9] == crc);
+    return standard("43", blz, number);
   }
 
   /** @author Heiner */
   public static PZRet alg_44(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8,
-        new int[] { 0, 0, 0, 0, 10, 5, 8, 4, 2 }, false);
-    int crc = 11 - (sum % 11);
-    if (crc > 9)
-      crc = 0;
-    return new PZRet(number[9] == crc);
+    return standard("44", blz, number);
   }
 
   /** @author Heiner */
@@ -518,21 +426,13 @@ public class AccountCRCAlgs
   /** @author Heiner */
   public static PZRet alg_46(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 2, 6, new int[] { 6, 5, 4, 3, 2 }, false);
-    int crc = 11 - sum % 11;
-    if (crc > 9)
-      crc = 0;
-    return new PZRet(number[7] == crc, 10, "46");
+    return PZRet.of(standard("46", blz, number).isValid(), ERGEBNIS_10_46);
   }
 
   /** @author Heiner */
   public static PZRet alg_48(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 2, 7, new int[] { 7, 6, 5, 4, 3, 2 }, false);
-    int crc = 11 - sum % 11;
-    if (crc > 9)
-      crc = 0;
-    return new PZRet(number[8] == crc, 10, "48");
+    return PZRet.of(standard("48", blz, number).isValid(), ERGEBNIS_10_48);
   }
 
   /** @author Heiner */
@@ -546,14 +446,16 @@ public class AccountCRCAlgs
     return alg_01(blz, number);
   }
 
+  private static final int[] GEWICHTE_50 = { 7, 6, 5, 4, 3, 2 };
+
   /** @author Heiner */
   public static PZRet alg_50(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 5, new int[] { 7, 6, 5, 4, 3, 2 }, false);
+    int sum = addProducts(number, 0, 5, GEWICHTE_50, false);
     int crc = 11 - sum % 11;
     if (crc > 9)
       crc = 0;
-    PZRet ret = new PZRet(number[6] == crc, 10, "50");
+    PZRet ret = PZRet.of(number[6] == crc, ERGEBNIS_10_50);
     if (ret.isValid())
     {
       return ret;
@@ -569,13 +471,23 @@ public class AccountCRCAlgs
     number[7] = 0;
     number[8] = 0;
     number[9] = 0;
-    sum = addProducts(number, 0, 5, new int[] { 7, 6, 5, 4, 3, 2 }, false);
+    sum = addProducts(number, 0, 5, GEWICHTE_50, false);
     crc = 11 - sum % 11;
     if (crc > 9)
       crc = 0;
-    return new PZRet(number[6] == crc, 10, "50");
+    return PZRet.of(number[6] == crc, ERGEBNIS_10_50);
   }
 
+  private static final int[] GEWICHTE_51 = { 7, 6, 5, 4, 3, 2 };
+
+  private static final int[] GEWICHTE_51_2 = { 6, 5, 4, 3, 2 };
+
+  private static final int[] GEWICHTE_51_3 = { 1, 2, 1, 2, 1, 2 };
+
+  private static final int[] GEWICHTE_51_4 = { 8, 7, 6, 5, 4, 3, 2 };
+
+  private static final int[] GEWICHTE_51_5 = { 10, 9, 8, 7, 6, 5, 4, 3, 2 };
+
   /** @author AN */
   public static PZRet alg_51(int[] blz, int[] number)
   {
@@ -583,29 +495,28 @@ public class AccountCRCAlgs
     if (number[2] != 9)
     {
       // Method A
-      int sum = addProducts(number, 3, 8, new int[] { 7, 6, 5, 4, 3, 2 },
-          false);
+      int sum = addProducts(number, 3, 8, GEWICHTE_51, false);
       int crc = 11 - sum % 11;
       if (crc > 9)
         crc = 0;
-      ok = new PZRet((number[9] == crc));
+      ok = PZRet.of((number[9] == crc));
 
       if (!ok.isValid())
       {
         // Method B
-        sum = addProducts(number, 4, 8, new int[] { 6, 5, 4, 3, 2 }, false);
+        sum = addProducts(number, 4, 8, GEWICHTE_51_2, false);
         crc = 11 - (sum % 11);
         if (crc > 9)
           crc = 0;
-        ok = new PZRet((number[9] == crc));
+        ok = PZRet.of((number[9] == crc));
       }
 
       if (!ok.isValid())
       {
         // Method C
-        sum = addProducts(number, 3, 8, new int[] { 1, 2, 1, 2, 1, 2 }, true);
+        sum = addProducts(number, 3, 8, GEWICHTE_51_3, true);
         crc = (10 - sum % 10) % 10;
-        ok = new PZRet((number[9] == crc));
+        ok = PZRet.of((number[9] == crc));
       }
 
       // Methode D
@@ -613,13 +524,13 @@ public class AccountCRCAlgs
       {
         if (number[9] >= 7)
         {
-          ok = new PZRet(false);
+          ok = PZRet.of(false);
         }
-        sum = addProducts(number, 4, 8, new int[] { 6, 5, 4, 3, 2 }, false);
+        sum = addProducts(number, 4, 8, GEWICHTE_51_2, false);
         crc = (7 - (sum % 7)) % 7;
         if (crc > 9)
           crc = 0;
-        ok = new PZRet((number[9] == crc));
+        ok = PZRet.of((number[9] == crc));
 
       }
     }
@@ -627,27 +538,28 @@ public class AccountCRCAlgs
     {
       // Sachkonten - Ausnahmen
       // Variante 1
-      int sum = addProducts(number, 2, 8, new int[] { 8, 7, 6, 5, 4, 3, 2 },
-          false);
+      int sum = addProducts(number, 2, 8, GEWICHTE_51_4, false);
       int crc = 11 - (sum % 11);
       if (crc > 9)
         crc = 0;
-      ok = new PZRet((number[9] == crc));
+      ok = PZRet.of((number[9] == crc));
 
       if (!ok.isValid())
       {
         // Variante 2
-        sum = addProducts(number, 0, 8,
-            new int[] { 10, 9, 8, 7, 6, 5, 4, 3, 2 }, false);
+        sum = addProducts(number, 0, 8, GEWICHTE_51_5, false);
         crc = 11 - (sum % 11);
         if (crc > 9)
           crc = 0;
-        ok = new PZRet((number[9] == crc));
+        ok = PZRet.of((number[9] == crc));
       }
     }
     return ok;
   }
 
+  private static final int[] GEWICHTE_52 = { 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4,
+      2 };
+
   /** @author AN */
   public static PZRet alg_52(int[] blz, int[] number)
   {
@@ -664,14 +576,14 @@ public class AccountCRCAlgs
       // Kontonummer faengt mit 0 an
       if (number[0] != 0 || number[1] != 0 || number[2] == 0)
       {
-        ok = new PZRet(false);
+        ok = PZRet.of(false);
       }
       else
       {
-        int[] weights = new int[] { 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4, 2 };
+        int[] weights = GEWICHTE_52;
 
-        // ESER-Nummer bauen
-        int[] eser = new int[12];
+        // ESER-Nummer bauen, die Produkte werden direkt summiert
+        int sum = 0;
 
         int knstartindex = 4;
         while (number[knstartindex] == 0)
@@ -683,23 +595,21 @@ public class AccountCRCAlgs
         int i = 11;
         for (int j = 9; j >= knstartindex; j--, i--)
         {
-          eser[i] = number[j];
+          sum += number[j] * weights[i];
         }
 
         // Pruefziffer number[3] muss 0 gesetzt werden
-        int indexOfPruefziffer = i;
-        eser[i--] = 0;
+        int indexOfPruefziffer = i--;
 
         // erste Stelle der Kontonummer;
-        eser[i--] = number[2];
+        sum += number[2] * weights[i--];
 
         for (int j = 7; j > 3; j--, i--)
         {
-          eser[i] = blz[j];
+          sum += blz[j] * weights[i];
         }
 
         // Ende Eser-Nummer bauen
-        int sum = addProducts(eser, 0, 11, weights, false);
         int crc = sum % 11;
 
         int factor = 0;
@@ -718,17 +628,20 @@ public class AccountCRCAlgs
 
         if (found && number[3] == crc)
         {
-          ok = new PZRet(true);
+          ok = PZRet.of(true);
         }
         else
         {
-          ok = new PZRet(false);
+          ok = PZRet.of(false);
         }
       }
     }
     return ok;
   }
 
+  private static final int[] GEWICHTE_53 = { 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4,
+      2 };
+
   /** @author AN */
   public static PZRet alg_53(int[] blz, int[] number)
   {
@@ -744,14 +657,14 @@ public class AccountCRCAlgs
       // Kontonummer faengt mit 0 an?)
       if (!(number[0] == 0 && number[1] != 0))
       {
-        ok = new PZRet(false);
+        ok = PZRet.of(false);
       }
       else
       {
-        int[] weights = new int[] { 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4, 2 };
+        int[] weights = GEWICHTE_53;
 
-        // ESER-Nummer bauen
-        int[] eser = new int[12];
+        // ESER-Nummer bauen, die Produkte werden direkt summiert
+        int sum = 0;
 
         int knstartindex = 4;
         while (number[knstartindex] == 0)
@@ -762,22 +675,20 @@ public class AccountCRCAlgs
         int i = 11;
         for (int j = 9; j >= knstartindex; j--, i--)
         {
-          eser[i] = number[j];
+          sum += number[j] * weights[i];
         }
         // Pruefziffer number[3] muss 0 gesetzt werden
-        int indexOfPruefziffer = i;
-        eser[i--] = 0;
+        int indexOfPruefziffer = i--;
 
         // erste Stelle der Kontonummer;
-        eser[i--] = number[1];
+        sum += number[1] * weights[i--];
 
-        eser[i--] = blz[7];
-        eser[i--] = number[2];
-        eser[i--] = blz[5];
-        eser[i--] = blz[4];
+        sum += blz[7] * weights[i--];
+        sum += number[2] * weights[i--];
+        sum += blz[5] * weights[i--];
+        sum += blz[4] * weights[i--];
         // Ende ESER-Nummer bauen
 
-        int sum = addProducts(eser, 0, 11, weights, false);
         int crc = sum % 11;
 
         int factor = 0;
@@ -794,11 +705,11 @@ public class AccountCRCAlgs
         }
         if (found && number[3] == crc)
         {
-          ok = new PZRet(true);
+          ok = PZRet.of(true);
         }
         else
         {
-          ok = new PZRet(false);
+          ok = PZRet.of(false);
         }
       }
     }
@@ -808,19 +719,15 @@ public class AccountCRCAlgs
   /** @author AN */
   public static PZRet alg_55(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8, new int[] { 8, 7, 8, 7, 6, 5, 4, 3, 2 },
-        false);
-    int crc = 11 - sum % 11;
-    if (crc > 9)
-      crc = 0;
-    return new PZRet(number[9] == crc);
+    return standard("55", blz, number);
   }
 
+  private static final int[] GEWICHTE_56 = { 4, 3, 2, 7, 6, 5, 4, 3, 2 };
+
   /** @author AN */
   public static PZRet alg_56(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8, new int[] { 4, 3, 2, 7, 6, 5, 4, 3, 2 },
-        false);
+    int sum = addProducts(number, 0, 8, GEWICHTE_56, false);
     int crc = 11 - sum % 11;
     if (crc > 9)
     {
@@ -829,9 +736,13 @@ public class AccountCRCAlgs
         crc = crc - 3;
       }
     }
-    return new PZRet(number[9] == crc);
+    return PZRet.of(number[9] == crc);
   }
 
+  private static final int[] GEWICHTE_57 = { 1, 2, 1, 2, 1, 2, 1, 2, 1 };
+
+  private static final int[] GEWICHTE_57_2 = { 1, 2, 0, 1, 2, 1, 2, 1, 2, 1 };
+
   public static PZRet alg_57(int[] blz, int[] number)
   {
     int first = number[0] * 10 + number[1];
@@ -839,32 +750,32 @@ public class AccountCRCAlgs
     // 00 am anfang ist ungültig
     if (first == 0)
     {
-      return new PZRet(false);
+      return PZRet.of(false);
     }
 
     // beginnend mit 777777 oder 888888 ist gültig
     int x = number[0];
     if (x == 7 || x == 8)
     {
-      PZRet ok = new PZRet(true);
+      PZRet ok = PZRet.of(true);
       for (int i = 1; i < 6; i++)
       {
         if (number[i] != x)
         {
-          ok = new PZRet(false);
+          ok = PZRet.of(false);
           break;
         }
       }
       if (ok.isValid())
       {
-        return new PZRet(true);
+        return PZRet.of(true);
       }
     }
 
     // beginnend mit 40, 50, 91, 99 immer OK
     if (first == 40 || first == 50 || first == 91 || first == 99)
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
 
     // pruefziffer an zehnter stelle
@@ -873,10 +784,9 @@ public class AccountCRCAlgs
         || first == 73 || (first >= 75 && first <= 82) || first == 88
         || first == 94 || first == 95)
     {
-      int sum = addProducts(number, 0, 8,
-          new int[] { 1, 2, 1, 2, 1, 2, 1, 2, 1 }, true);
+      int sum = addProducts(number, 0, 8, GEWICHTE_57, true);
       int crc = (10 - sum % 10) % 10;
-      return new PZRet(number[9] == crc);
+      return PZRet.of(number[9] == crc);
     }
 
     // pruefziffer an dritter stelle
@@ -887,36 +797,25 @@ public class AccountCRCAlgs
         || (first >= 83 && first <= 87) || first == 89 || first == 90
         || first == 92 || first == 93 || (first >= 96 && first <= 98))
     {
-      int sum = addProducts(number, 0, 9,
-          new int[] { 1, 2, 0, 1, 2, 1, 2, 1, 2, 1 }, true);
+      int sum = addProducts(number, 0, 9, GEWICHTE_57_2, true);
       int crc = (10 - sum % 10) % 10;
-      return new PZRet(number[2] == crc);
+      return PZRet.of(number[2] == crc);
     }
 
     // beginnend mit 01-31: 3-4 immer 01-12, 7-9 immer <500
     if (first >= 01 && first <= 31)
     {
       int second = number[2] * 10 + number[3];
-      return new PZRet(second >= 01 && second <= 12 && number[6] < 5);
+      return PZRet.of(second >= 01 && second <= 12 && number[6] < 5);
     }
 
-    StringBuffer n = new StringBuffer();
-    for (int i = 0; i < 10; i++)
-    {
-      n.append((char) (number[i] + '0'));
-    }
-    return new PZRet(n.toString().equals("0185125434"));
+    return PZRet.of(calculateIntFromNumber(number) == 185125434L);
   }
 
   /** @author Heiner */
   public static PZRet alg_58(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8, new int[] { 0, 0, 0, 0, 6, 5, 4, 3, 2 },
-        false);
-    int crc = 11 - (sum % 11);
-    if (crc == 11)
-      crc = 0;
-    return new PZRet(number[9] == crc);
+    return standard("58", blz, number);
   }
 
   /** @author Heiner */
@@ -932,51 +831,52 @@ public class AccountCRCAlgs
   /** @author AN */
   public static PZRet alg_60(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 2, 8, new int[] { 2, 1, 2, 1, 2, 1, 2 },
-        true);
-    int crc = (10 - sum % 10) % 10;
-    return new PZRet(number[9] == crc);
+    return standard("60", blz, number);
   }
 
+  private static final int[] GEWICHTE_61 = { 2, 1, 2, 1, 2, 1, 2, 0, 1, 2 };
+
+  private static final int[] GEWICHTE_61_2 = { 2, 1, 2, 1, 2, 1, 2 };
+
   public static PZRet alg_61(int[] blz, int[] number)
   {
     int crc;
 
     if (number[8] == 8)
     {
-      int sum = addProducts(number, 0, 9,
-          new int[] { 2, 1, 2, 1, 2, 1, 2, 0, 1, 2 }, true);
+      int sum = addProducts(number, 0, 9, GEWICHTE_61, true);
       crc = (10 - sum % 10) % 10;
     }
     else
     {
-      int sum = addProducts(number, 0, 6, new int[] { 2, 1, 2, 1, 2, 1, 2 },
-          true);
+      int sum = addProducts(number, 0, 6, GEWICHTE_61_2, true);
       crc = (10 - sum % 10) % 10;
     }
-    return new PZRet(number[7] == crc);
+    return PZRet.of(number[7] == crc);
   }
 
+  private static final int[] GEWICHTE_63 = { 1, 2, 1, 2, 1, 2 };
+
   public static PZRet alg_63(int[] blz, int[] number)
   {
     PZRet ok;
 
     if (number[0] != 0)
     {
-      ok = new PZRet(false);
+      ok = PZRet.of(false);
     }
     else
     {
-      int sum = addProducts(number, 1, 6, new int[] { 1, 2, 1, 2, 1, 2 }, true);
+      int sum = addProducts(number, 1, 6, GEWICHTE_63, true);
       int crc = (10 - sum % 10) % 10;
-      ok = new PZRet((number[7] == crc), 8, "63");
+      ok = PZRet.of((number[7] == crc), ERGEBNIS_8_63);
       if (!ok.isValid())
       {
         if (number[1] == 0 && number[2] == 0)
         {
-          sum = addProducts(number, 3, 8, new int[] { 1, 2, 1, 2, 1, 2 }, true);
+          sum = addProducts(number, 3, 8, GEWICHTE_63, true);
           crc = (10 - sum % 10) % 10;
-          ok = new PZRet((number[9] == crc), 10, "63");
+          ok = PZRet.of((number[9] == crc), ERGEBNIS_10_63);
         }
       }
     }
@@ -985,37 +885,36 @@ public class AccountCRCAlgs
 
   public static PZRet alg_64(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 5, new int[] { 9, 10, 5, 8, 4, 2 }, false);
-    int crc = 11 - sum % 11;
-    if (crc > 9)
-      crc = 0;
-    return new PZRet(number[6] == crc);
+    return standard("64", blz, number);
   }
 
+  private static final int[] GEWICHTE_65 = { 2, 1, 2, 1, 2, 1, 2, 0, 1, 2 };
+
+  private static final int[] GEWICHTE_65_2 = { 2, 1, 2, 1, 2, 1, 2 };
+
   public static PZRet alg_65(int[] blz, int[] number)
   {
     int crc;
 
     if (number[8] == 9)
     {
-      int sum = addProducts(number, 0, 9,
-          new int[] { 2, 1, 2, 1, 2, 1, 2, 0, 1, 2 }, true);
+      int sum = addProducts(number, 0, 9, GEWICHTE_65, true);
       crc = (10 - sum % 10) % 10;
     }
     else
     {
-      int sum = addProducts(number, 0, 6, new int[] { 2, 1, 2, 1, 2, 1, 2 },
-          true);
+      int sum = addProducts(number, 0, 6, GEWICHTE_65_2, true);
       crc = (10 - sum % 10) % 10;
     }
-    return new PZRet(number[7] == crc);
+    return PZRet.of(number[7] == crc);
   }
 
+  private static final int[] GEWICHTE_66 = { 7, 0, 0, 6, 5, 4, 3, 2 };
+
   /** @author Heiner */
   public static PZRet alg_66(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 1, 8, new int[] { 7, 0, 0, 6, 5, 4, 3, 2 },
-        false);
+    int sum = addProducts(number, 1, 8, GEWICHTE_66, false);
     int crc = (sum % 11);
     if (crc == 0)
     {
@@ -1029,18 +928,21 @@ public class AccountCRCAlgs
     {
       crc = 11 - crc;
     }
-    return new PZRet(number[9] == crc);
+    return PZRet.of(number[9] == crc);
   }
 
   /** @author Heiner */
   public static PZRet alg_67(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 6, new int[] { 2, 1, 2, 1, 2, 1, 2 },
-        true);
-    int crc = (10 - sum % 10) % 10;
-    return new PZRet(number[7] == crc);
+    return standard("67", blz, number);
   }
 
+  private static final int[] GEWICHTE_68 = { 1, 2, 1, 2, 1, 2 };
+
+  private static final int[] GEWICHTE_68_2 = { 1, 2, 1, 2, 1, 2, 1, 2 };
+
+  private static final int[] GEWICHTE_68_3 = { 1, 0, 0, 2, 1, 2, 1, 2 };
+
   /** @author AN */
   public static PZRet alg_68(int[] blz, int[] number)
   {
@@ -1049,18 +951,18 @@ public class AccountCRCAlgs
     {
       if (number[3] != 9)
       {
-        return new PZRet(false);
+        return PZRet.of(false);
       }
-      int sum = addProducts(number, 3, 8, new int[] { 1, 2, 1, 2, 1, 2 }, true);
+      int sum = addProducts(number, 3, 8, GEWICHTE_68, true);
       int crc = (10 - sum % 10) % 10;
-      return new PZRet(number[9] == crc);
+      return PZRet.of(number[9] == crc);
     }
 
     // 9-stellige Ausnahme (Ausnahme nur bei Variante 2??)
     if (number[1] == 4)
     {
       // nicht pruefbar
-      return new PZRet(true);
+      return PZRet.of(true);
     }
 
     // auf 6stelligkeit pruefen
@@ -1072,24 +974,25 @@ public class AccountCRCAlgs
     // mindestens 6-stellig
     if (sumfirstfive == 0)
     {
-      return new PZRet(false);
+      return PZRet.of(false);
     }
 
     // Variante 1
-    int sum = addProducts(number, 1, 8, new int[] { 1, 2, 1, 2, 1, 2, 1, 2 },
-        true);
+    int sum = addProducts(number, 1, 8, GEWICHTE_68_2, true);
     int crc = (10 - sum % 10) % 10;
     if (number[9] == crc)
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
 
     // Variante 2
-    sum = addProducts(number, 1, 8, new int[] { 1, 0, 0, 2, 1, 2, 1, 2 }, true);
+    sum = addProducts(number, 1, 8, GEWICHTE_68_3, true);
     crc = (10 - sum % 10) % 10;
-    return new PZRet(number[9] == crc);
+    return PZRet.of(number[9] == crc);
   }
 
+  private static final int[] GEWICHTE_69 = { 8, 7, 6, 5, 4, 3, 2 };
+
   public static PZRet alg_69(int[] blz, int[] number)
   {
     boolean variant1 = true;
@@ -1098,7 +1001,7 @@ public class AccountCRCAlgs
     {
       if (number[1] == 3)
       {
-        return new PZRet(true);
+        return PZRet.of(true);
       }
       else if (number[1] == 7)
       {
@@ -1108,8 +1011,7 @@ public class AccountCRCAlgs
 
     if (variant1)
     {
-      int sum = addProducts(number, 0, 6, new int[] { 8, 7, 6, 5, 4, 3, 2 },
-          false);
+      int sum = addProducts(number, 0, 6, GEWICHTE_69, false);
       int crc = 11 - sum % 11;
       if (crc > 9)
         crc = 0;
@@ -1117,7 +1019,7 @@ public class AccountCRCAlgs
       boolean ok = (number[7] == crc);
       if (ok)
       {
-        return new PZRet(true);
+        return PZRet.of(true);
       }
     }
 
@@ -1132,44 +1034,44 @@ public class AccountCRCAlgs
       sum += translated;
     }
     int crc = 10 - (sum % 10);
-    return new PZRet(number[9] == crc);
+    return PZRet.of(number[9] == crc);
   }
 
+  private static final int[] GEWICHTE_70 = { 7, 6, 5, 4, 3, 2 };
+
+  private static final int[] GEWICHTE_70_2 = { 4, 3, 2, 7, 6, 5, 4, 3, 2 };
+
   public static PZRet alg_70(int[] blz, int[] number)
   {
     int crc;
 
     if (number[3] == 5 || (number[3] == 6 && number[4] == 9))
     {
-      int sum = addProducts(number, 3, 8, new int[] { 7, 6, 5, 4, 3, 2 },
-          false);
+      int sum = addProducts(number, 3, 8, GEWICHTE_70, false);
       crc = 11 - (sum % 11);
       if (crc > 9)
         crc = 0;
     }
     else
     {
-      int sum = addProducts(number, 0, 8,
-          new int[] { 4, 3, 2, 7, 6, 5, 4, 3, 2 }, false);
+      int sum = addProducts(number, 0, 8, GEWICHTE_70_2, false);
       crc = 11 - (sum % 11);
       if (crc > 9)
         crc = 0;
     }
-    return new PZRet(number[9] == crc);
+    return PZRet.of(number[9] == crc);
   }
 
   /** @author Heiner */
   public static PZRet alg_71(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 1, 6, new int[] { 6, 5, 4, 3, 2, 1 }, false);
-    int crc = (11 - sum % 11);
-    if (crc == 10)
-    {
-      crc = 1;
-    }
-    return new PZRet(number[9] == crc);
+    return standard("71", blz, number);
   }
 
+  private static final int[] GEWICHTE_73 = { 1, 2, 1, 2, 1, 2 };
+
+  private static final int[] GEWICHTE_73_2 = { 2, 1, 2, 1, 2 };
+
   /** @author Heiner */
   public static PZRet alg_73(int[] blz, int[] number)
   {
@@ -1180,108 +1082,114 @@ public class AccountCRCAlgs
       return ret;
     }
     // Variante 1
-    int sum = addProducts(number, 3, 8, new int[] { 1, 2, 1, 2, 1, 2 }, true);
+    int sum = addProducts(number, 3, 8, GEWICHTE_73, true);
     int crc = (10 - sum % 10) % 10;
-    ret = new PZRet(number[9] == crc);
+    ret = PZRet.of(number[9] == crc);
     if (ret.isValid())
     {
       return ret;
     }
     // Variante 2
-    sum = addProducts(number, 4, 8, new int[] { 2, 1, 2, 1, 2 }, true);
+    sum = addProducts(number, 4, 8, GEWICHTE_73_2, true);
     crc = (10 - sum % 10) % 10;
-    ret = new PZRet(number[9] == crc);
+    ret = PZRet.of(number[9] == crc);
     if (ret.isValid())
     {
       return ret;
     }
     // Variante 3
-    sum = addProducts(number, 4, 8, new int[] { 2, 1, 2, 1, 2 }, true);
+    sum = addProducts(number, 4, 8, GEWICHTE_73_2, true);
     crc = (7 - sum % 7) % 7;
-    return new PZRet(number[9] == crc);
+    return PZRet.of(number[9] == crc);
   }
 
+  private static final int[] GEWICHTE_74 = { 2, 1, 2, 1, 2, 1, 2, 1, 2 };
+
   /** @author AN */
   public static PZRet alg_74(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8, new int[] { 2, 1, 2, 1, 2, 1, 2, 1, 2 },
-        true);
+    int sum = addProducts(number, 0, 8, GEWICHTE_74, true);
     int crc = (10 - sum % 10) % 10;
     if (number[9] == crc)
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
 
     if (number[0] + number[1] + number[2] + number[3] == 0 && number[4] != 0)
     {
       crc = (5 - sum % 5);
-      return new PZRet(number[9] == crc);
+      return PZRet.of(number[9] == crc);
     }
 
-    return new PZRet(false);
+    return PZRet.of(false);
   }
 
+  private static final int[] GEWICHTE_76 = { 5, 4, 3, 2 };
+
+  private static final int[] GEWICHTE_76_2 = { 6, 5, 4, 3, 2 };
+
+  private static final int[] GEWICHTE_76_3 = { 7, 6, 5, 4, 3, 2 };
+
   public static PZRet alg_76(int[] blz, int[] number)
   {
-    PZRet ok = new PZRet(false);
+    PZRet ok = PZRet.of(false);
 
     if (number[1] == 0 && number[2] == 0)
     {
-      int sum = addProducts(number, 3, 6, new int[] { 5, 4, 3, 2 }, false);
+      int sum = addProducts(number, 3, 6, GEWICHTE_76, false);
       int crc = sum % 11;
-      ok = new PZRet(number[7] == crc, 8, "76");
+      ok = PZRet.of(number[7] == crc, ERGEBNIS_8_76);
     }
     else if (number[1] == 0)
     {
-      int sum = addProducts(number, 2, 6, new int[] { 6, 5, 4, 3, 2 }, false);
+      int sum = addProducts(number, 2, 6, GEWICHTE_76_2, false);
       int crc = sum % 11;
-      ok = new PZRet(number[7] == crc, 8, "76");
+      ok = PZRet.of(number[7] == crc, ERGEBNIS_8_76);
     }
     else
     {
-      int sum = addProducts(number, 1, 6, new int[] { 7, 6, 5, 4, 3, 2 },
-          false);
+      int sum = addProducts(number, 1, 6, GEWICHTE_76_3, false);
       int crc = sum % 11;
-      ok = new PZRet(number[7] == crc, 8, "76");
+      ok = PZRet.of(number[7] == crc, ERGEBNIS_8_76);
     }
 
     if (!ok.isValid())
     {
       if (number[3] == 0 && number[4] == 0)
       {
-        int sum = addProducts(number, 5, 8, new int[] { 5, 4, 3, 2 }, false);
+        int sum = addProducts(number, 5, 8, GEWICHTE_76, false);
         int crc = sum % 11;
-        ok = new PZRet(number[9] == crc, 10, "76");
+        ok = PZRet.of(number[9] == crc, ERGEBNIS_10_76);
       }
       else if (number[3] == 0)
       {
-        int sum = addProducts(number, 4, 8, new int[] { 6, 5, 4, 3, 2 }, false);
+        int sum = addProducts(number, 4, 8, GEWICHTE_76_2, false);
         int crc = sum % 11;
-        ok = new PZRet(number[9] == crc, 10, "76");
+        ok = PZRet.of(number[9] == crc, ERGEBNIS_10_76);
       }
       else
       {
-        int sum = addProducts(number, 3, 8, new int[] { 7, 6, 5, 4, 3, 2 },
-            false);
+        int sum = addProducts(number, 3, 8, GEWICHTE_76_3, false);
         int crc = sum % 11;
-        ok = new PZRet(number[9] == crc, 10, "76");
+        ok = PZRet.of(number[9] == crc, ERGEBNIS_10_76);
       }
     }
     return ok;
   }
 
+  private static final int[] GEWICHTE_78 = { 2, 1, 2, 1, 2, 1, 2, 1, 2 };
+
   /** @author AN */
   public static PZRet alg_78(int[] blz, int[] number)
   {
     if (number[0] + number[1] == 0 && number[2] != 0)
     {
       // nicht pruefbar
-      return new PZRet(true);
+      return PZRet.of(true);
     }
-    int sum = addProducts(number, 0, 8, new int[] { 2, 1, 2, 1, 2, 1, 2, 1, 2 },
-        true);
+    int sum = addProducts(number, 0, 8, GEWICHTE_78, true);
     int crc = (10 - sum % 10) % 10;
-    return new PZRet(number[9] == crc);
+    return PZRet.of(number[9] == crc);
   }
 
   /** @author AN */
@@ -1304,6 +1212,10 @@ public class AccountCRCAlgs
     return alg_33(blz, number);
   }
 
+  private static final int[] GEWICHTE_84 = { 6, 5, 4, 3, 2 };
+
+  private static final int[] GEWICHTE_84_2 = { 2, 1, 2, 1, 2 };
+
   /** @author Heiner */
   public static PZRet alg_84(int[] blz, int[] number)
   {
@@ -1314,69 +1226,76 @@ public class AccountCRCAlgs
       return ret;
     }
     // Methode A
-    int sum = addProducts(number, 4, 8, new int[] { 6, 5, 4, 3, 2 }, false);
+    int sum = addProducts(number, 4, 8, GEWICHTE_84, false);
     int crc = 11 - sum % 11;
     if (crc > 9)
       crc = 0;
-    ret = new PZRet(number[9] == crc, 10, "84");
+    ret = PZRet.of(number[9] == crc, ERGEBNIS_10_84);
     if (ret.isValid())
     {
       return ret;
     }
     // Methode B
-    sum = addProducts(number, 4, 8, new int[] { 6, 5, 4, 3, 2 }, false);
+    sum = addProducts(number, 4, 8, GEWICHTE_84, false);
     crc = 7 - sum % 7;
     if (crc > 9)
       crc = 0;
-    ret = new PZRet(number[9] == crc, 10, "84");
+    ret = PZRet.of(number[9] == crc, ERGEBNIS_10_84);
     if (ret.isValid())
     {
       return ret;
     }
     // Methode C
-    sum = addProducts(number, 4, 8, new int[] { 2, 1, 2, 1, 2 }, false);
+    sum = addProducts(number, 4, 8, GEWICHTE_84_2, false);
     crc = 10 - sum % 10;
     if (crc > 9)
       crc = 0;
-    return new PZRet(number[9] == crc, 10, "84");
+    return PZRet.of(number[9] == crc, ERGEBNIS_10_84);
   }
 
+  private static final int[] GEWICHTE_85 = { 8, 7, 6, 5, 4, 3, 2 };
+
+  private static final int[] GEWICHTE_85_2 = { 7, 6, 5, 4, 3, 2 };
+
+  private static final int[] GEWICHTE_85_3 = { 6, 5, 4, 3, 2 };
+
   /** @author AN */
   public static PZRet alg_85(int[] blz, int[] number)
   {
     // Ausnahme
     if (number[2] == 9 && number[3] == 9)
     {
-      int sum = addProducts(number, 2, 8, new int[] { 8, 7, 6, 5, 4, 3, 2 },
-          false);
+      int sum = addProducts(number, 2, 8, GEWICHTE_85, false);
       int crc = 11 - (sum % 11);
       if (crc > 10)
         crc = 0;
-      return new PZRet(number[9] == crc);
+      return PZRet.of(number[9] == crc);
     }
 
     // Methode A
-    int sum = addProducts(number, 3, 8, new int[] { 7, 6, 5, 4, 3, 2 }, false);
+    int sum = addProducts(number, 3, 8, GEWICHTE_85_2, false);
     int crc = 11 - sum % 11;
     if (crc > 9)
       crc = 0;
     if (number[9] == crc)
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
 
     // Methode B
     if (alg_33(blz, number).isValid())
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
 
     // Methode C
-    sum = addProducts(number, 4, 8, new int[] { 6, 5, 4, 3, 2 }, false);
+    sum = addProducts(number, 4, 8, GEWICHTE_85_3, false);
     crc = (7 - (sum % 7)) % 7;
-    return new PZRet(number[9] == crc);
+    return PZRet.of(number[9] == crc);
   }
 
+  private static final int[] GEWICHTE_86 = { 1, 2, 1, 2, 1, 2 };
+
   /** @author AN */
   public static PZRet alg_86(int[] blz, int[] number)
   {
@@ -1387,30 +1306,35 @@ public class AccountCRCAlgs
     }
 
     // Methode A
-    int sum = addProducts(number, 3, 8, new int[] { 1, 2, 1, 2, 1, 2 }, true);
+    int sum = addProducts(number, 3, 8, GEWICHTE_86, true);
     int crc = (10 - sum % 10) % 10;
     if (number[9] == crc)
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
 
     // Methode B
     return alg_33(blz, number);
   }
 
+  private static final int[] TAB1_87 = { 0, 4, 3, 2, 6 };
+
+  private static final int[] TAB2_87 = { 7, 1, 5, 9, 8 };
+
+  private static final int[] GEWICHTE_87 = { 6, 5, 4, 3, 2 };
+
   /** @author AN */
   public static PZRet alg_87(int[] blz, int[] number)
   {
     // Ausnahme
-    int[] temp = number.clone();
     if (number[2] == 9)
     {
       return alg_51(blz, number);
     }
 
     // Methode A
-    int[] tab1 = new int[] { 0, 4, 3, 2, 6 };
-    int[] tab2 = new int[] { 7, 1, 5, 9, 8 };
+    int[] tab1 = TAB1_87;
+    int[] tab2 = TAB2_87;
 
     int i = 3;
     while (number[i] == 0)
@@ -1423,36 +1347,38 @@ public class AccountCRCAlgs
     int p;
     while (i < 9)
     {
-      switch (number[i])
+      // Umgewandelte Ziffer, number bleibt für Methode B unverändert
+      int z = number[i];
+      switch (z)
       {
         case 0:
-          number[i] = 5;
+          z = 5;
           break;
         case 1:
-          number[i] = 6;
+          z = 6;
           break;
         case 5:
-          number[i] = 10;
+          z = 10;
           break;
         case 6:
-          number[i] = 1;
+          z = 1;
           break;
       }
       if (c2 == d2)
       {
-        if (number[i] > 5)
+        if (z > 5)
         {
           if (c2 == 0 && d2 == 0)
           {
             c2 = 1;
             d2 = 1;
-            a5 = a5 + 6 - (number[i] - 6);
+            a5 = a5 + 6 - (z - 6);
           }
           else
           {
             c2 = 0;
             d2 = 0;
-            a5 = a5 + number[i];
+            a5 = a5 + z;
           }
         }
         else
@@ -1460,30 +1386,30 @@ public class AccountCRCAlgs
           if (c2 == 0 && d2 == 0)
           {
             c2 = 1;
-            a5 = a5 + number[i];
+            a5 = a5 + z;
           }
           else
           {
             c2 = 0;
-            a5 = a5 + number[i];
+            a5 = a5 + z;
           }
         }
       }
       else
       {
-        if (number[i] > 5)
+        if (z > 5)
         {
           if (c2 == 0)
           {
             c2 = 1;
             d2 = 0;
-            a5 = a5 - 6 + (number[i] - 6);
+            a5 = a5 - 6 + (z - 6);
           }
           else
           {
             c2 = 0;
             d2 = 1;
-            a5 = a5 - number[i];
+            a5 = a5 - z;
           }
         }
         else
@@ -1491,12 +1417,12 @@ public class AccountCRCAlgs
           if (c2 == 0)
           {
             c2 = 1;
-            a5 = a5 - number[i];
+            a5 = a5 - z;
           }
           else
           {
             c2 = 0;
-            a5 = a5 - number[i];
+            a5 = a5 - z;
           }
         }
       }
@@ -1526,7 +1452,7 @@ public class AccountCRCAlgs
 
     if (p == number[9])
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
 
     if (number[3] == 0)
@@ -1541,75 +1467,85 @@ public class AccountCRCAlgs
       }
       if (p == number[9])
       {
-        return new PZRet(true);
+        return PZRet.of(true);
       }
     }
     // Ende Methode A
 
-    number = temp;
     // Methode B
     if (alg_33(blz, number).isValid())
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
 
     // Methode C
-    int sum = addProducts(number, 4, 8, new int[] { 6, 5, 4, 3, 2 }, false);
+    int sum = addProducts(number, 4, 8, GEWICHTE_87, false);
     int crc = (7 - (sum % 7)) % 7;
-    return new PZRet(number[9] == crc);
+    return PZRet.of(number[9] == crc);
   }
 
+  private static final int[] GEWICHTE_88 = { 8, 7, 6, 5, 4, 3, 2 };
+
+  private static final int[] GEWICHTE_88_2 = { 7, 6, 5, 4, 3, 2 };
+
   public static PZRet alg_88(int[] blz, int[] number)
   {
     int sum = 0;
     if (number[2] == 9)
-      sum = addProducts(number, 2, 8, new int[] { 8, 7, 6, 5, 4, 3, 2 }, false);
+      sum = addProducts(number, 2, 8, GEWICHTE_88, false);
     else
-      sum = addProducts(number, 3, 8, new int[] { 7, 6, 5, 4, 3, 2 }, false);
+      sum = addProducts(number, 3, 8, GEWICHTE_88_2, false);
     int crc = 11 - sum % 11;
     if (crc > 9)
       crc = 0;
-    return new PZRet(number[9] == crc);
+    return PZRet.of(number[9] == crc);
   }
 
+  private static final int[] GEWICHTE_90 = { 8, 7, 6, 5, 4, 3, 2 };
+
+  private static final int[] GEWICHTE_90_2 = { 7, 6, 5, 4, 3, 2 };
+
+  private static final int[] GEWICHTE_90_3 = { 6, 5, 4, 3, 2 };
+
+  private static final int[] GEWICHTE_90_4 = { 2, 1, 2, 1, 2 };
+
   /** @author AN */
   public static PZRet alg_90(int[] blz, int[] number)
   {
     // Sachkonten: Methode F
     if (number[2] == 9)
     {
-      int sum = addProducts(number, 2, 8, new int[] { 8, 7, 6, 5, 4, 3, 2 },
-          false);
+      int sum = addProducts(number, 2, 8, GEWICHTE_90, false);
       int crc = 11 - sum % 11;
       if (crc > 9)
         crc = 0;
-      return new PZRet(number[9] == crc);
+      return PZRet.of(number[9] == crc);
     }
 
     // sonst Kundenkonto
     // Methode A
-    int sum = addProducts(number, 3, 8, new int[] { 7, 6, 5, 4, 3, 2 }, false);
+    int sum = addProducts(number, 3, 8, GEWICHTE_90_2, false);
     int crc = 11 - sum % 11;
     if (crc > 9)
       crc = 0;
     if (number[9] == crc)
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
 
     // Methode B
-    sum = addProducts(number, 4, 8, new int[] { 6, 5, 4, 3, 2 }, false);
+    sum = addProducts(number, 4, 8, GEWICHTE_90_3, false);
     crc = 11 - sum % 11;
     if (crc > 9)
       crc = 0;
     if (number[9] == crc)
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
 
     // Methode C
     /* TODO: einige kontonummern werden laut spez hier ausgeschlossen */
-    sum = addProducts(number, 4, 8, new int[] { 6, 5, 4, 3, 2 }, false);
+    sum = addProducts(number, 4, 8, GEWICHTE_90_3, false);
     crc = 7 - sum % 7;
     if (crc == 7)
     {
@@ -1617,11 +1553,11 @@ public class AccountCRCAlgs
     }
     if (number[9] == crc)
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
 
     // Methode D
-    sum = addProducts(number, 4, 8, new int[] { 6, 5, 4, 3, 2 }, false);
+    sum = addProducts(number, 4, 8, GEWICHTE_90_3, false);
     crc = 9 - sum % 9;
     if (crc == 9)
     {
@@ -1629,19 +1565,27 @@ public class AccountCRCAlgs
     }
     if (number[9] == crc && number[9] != 9)
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
 
     // Methode E
-    sum = addProducts(number, 4, 8, new int[] { 2, 1, 2, 1, 2 }, false);
+    sum = addProducts(number, 4, 8, GEWICHTE_90_4, false);
     crc = (10 - sum % 10) % 10;
-    return new PZRet(number[9] == crc);
+    return PZRet.of(number[9] == crc);
   }
 
+  private static final int[] GEWICHTE_91 = { 7, 6, 5, 4, 3, 2 };
+
+  private static final int[] GEWICHTE_91_2 = { 2, 3, 4, 5, 6, 7 };
+
+  private static final int[] GEWICHTE_91_3 = { 10, 9, 8, 7, 6, 5, 0, 4, 3, 2 };
+
+  private static final int[] GEWICHTE_91_4 = { 9, 10, 5, 8, 4, 2 };
+
   public static PZRet alg_91(int[] blz, int[] number)
   {
     // Variante 1
-    int sum = addProducts(number, 0, 5, new int[] { 7, 6, 5, 4, 3, 2 }, false);
+    int sum = addProducts(number, 0, 5, GEWICHTE_91, false);
     int crc = 11 - (sum % 11);
     if (crc > 9)
       crc = 0;
@@ -1649,7 +1593,7 @@ public class AccountCRCAlgs
     if (number[6] != crc)
     {
       // Variante 2
-      sum = addProducts(number, 0, 5, new int[] { 2, 3, 4, 5, 6, 7 }, false);
+      sum = addProducts(number, 0, 5, GEWICHTE_91_2, false);
       crc = 11 - (sum % 11);
       if (crc > 9)
         crc = 0;
@@ -1657,42 +1601,37 @@ public class AccountCRCAlgs
       if (number[6] != crc)
       {
         // Variante 3
-        sum = addProducts(number, 0, 9,
-            new int[] { 10, 9, 8, 7, 6, 5, 0, 4, 3, 2 }, false);
+        sum = addProducts(number, 0, 9, GEWICHTE_91_3, false);
         crc = 11 - (sum % 11);
         if (crc > 9)
           crc = 0;
         if (number[6] != crc)
         {
           // Variante 4
-          sum = addProducts(number, 0, 5, new int[] { 9, 10, 5, 8, 4, 2 },
-              false);
+          sum = addProducts(number, 0, 5, GEWICHTE_91_4, false);
           crc = 11 - (sum % 11);
           if (crc > 9)
             crc = 0;
         }
       }
     }
-    return new PZRet(number[6] == crc);
+    return PZRet.of(number[6] == crc);
   }
 
   /** @author AN */
   public static PZRet alg_92(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 3, 8, new int[] { 1, 7, 3, 1, 7, 3 }, false);
-    int crc = (10 - sum % 10) % 10;
-    return new PZRet(number[9] == crc);
+    return standard("92", blz, number);
   }
 
   /** @author Heiner */
   public static PZRet alg_94(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8, new int[] { 1, 2, 1, 2, 1, 2, 1, 2, 1 },
-        true);
-    int crc = (10 - sum % 10) % 10;
-    return new PZRet(number[9] == crc);
+    return standard("94", blz, number);
   }
 
+  private static final int[] GEWICHTE_95 = { 4, 3, 2, 7, 6, 5, 4, 3, 2 };
+
   public static PZRet alg_95(int[] blz, int[] number)
   {
     if (number[0] == 0)
@@ -1705,16 +1644,15 @@ public class AccountCRCAlgs
           || (bigint >= 700000000 && bigint <= 799999999)
           || (bigint >= 910000000 && bigint <= 989999999))
       {
-        return new PZRet(true);
+        return PZRet.of(true);
       }
     }
 
-    int sum = addProducts(number, 0, 8, new int[] { 4, 3, 2, 7, 6, 5, 4, 3, 2 },
-        false);
+    int sum = addProducts(number, 0, 8, GEWICHTE_95, false);
     int crc = 11 - sum % 11;
     if (crc > 9)
       crc = 0;
-    return new PZRet(number[9] == crc);
+    return PZRet.of(number[9] == crc);
   }
 
   public static PZRet alg_96(int[] blz, int[] number)
@@ -1729,16 +1667,17 @@ public class AccountCRCAlgs
       if (bigint >= 1300000 && bigint <= 99399999)
         ret = true;
     }
-    return new PZRet(ret);
+    return PZRet.of(ret);
   }
 
+  private static final int[] GEWICHTE_98 = { 3, 7, 1, 3, 7, 1, 3 };
+
   /** @author Heiner */
   public static PZRet alg_98(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 2, 8, new int[] { 3, 7, 1, 3, 7, 1, 3 },
-        false);
+    int sum = addProducts(number, 2, 8, GEWICHTE_98, false);
     int crc = (10 - sum % 10) % 10;
-    PZRet ret = new PZRet(number[9] == crc);
+    PZRet ret = PZRet.of(number[9] == crc);
     if (ret.isValid())
     {
       return ret;
@@ -1749,24 +1688,27 @@ public class AccountCRCAlgs
     }
   }
 
+  private static final int[] GEWICHTE_99 = { 4, 3, 2, 7, 6, 5, 4, 3, 2 };
+
   public static PZRet alg_99(int[] blz, int[] number)
   {
     long bigint = 0;
     if (number[0] == 0)
       bigint = calculateIntFromNumber(number);
-    PZRet ret = new PZRet(true);
+    PZRet ret = PZRet.of(true);
     if (bigint < 396000000 || bigint > 499999999)
     {
-      int sum = addProducts(number, 0, 8,
-          new int[] { 4, 3, 2, 7, 6, 5, 4, 3, 2 }, false);
+      int sum = addProducts(number, 0, 8, GEWICHTE_99, false);
       int crc = 11 - sum % 11;
       if (crc > 9)
         crc = 0;
-      ret = new PZRet(number[9] == crc);
+      ret = PZRet.of(number[9] == crc);
     }
     return ret;
   }
 
+  private static final int[] GEWICHTE_A0 = { 10, 5, 8, 4, 2 };
+
   /** @author AN */
   public static PZRet alg_A0(int[] blz, int[] number)
   {
@@ -1778,28 +1720,29 @@ public class AccountCRCAlgs
     }
     if (sumfirstseven == 0)
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
     // Ende Ausnahme
 
-    int sum = addProducts(number, 4, 8, new int[] { 10, 5, 8, 4, 2 }, false);
+    int sum = addProducts(number, 4, 8, GEWICHTE_A0, false);
     int crc = (11 - sum % 11);
     if (crc > 9)
       crc = 0;
-    return new PZRet(number[9] == crc);
+    return PZRet.of(number[9] == crc);
   }
 
+  private static final int[] GEWICHTE_A1 = { 0, 0, 2, 1, 2, 1, 2, 1, 2 };
+
   /** @author AN */
   public static PZRet alg_A1(int[] blz, int[] number)
   {
     if (number[0] != 0 || (number[0] == 0 && number[1] == 0 && number[2] != 0))
     {
-      int sum = addProducts(number, 0, 8,
-          new int[] { 0, 0, 2, 1, 2, 1, 2, 1, 2 }, true);
+      int sum = addProducts(number, 0, 8, GEWICHTE_A1, true);
       int crc = (10 - sum % 10) % 10;
-      return new PZRet(number[9] == crc);
+      return PZRet.of(number[9] == crc);
     }
-    return new PZRet(false);
+    return PZRet.of(false);
   }
 
   /** @author AN */
@@ -1808,7 +1751,7 @@ public class AccountCRCAlgs
     // Variante 1
     if (alg_00(blz, number).isValid())
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
     // Variante 2
     return alg_04(blz, number);
@@ -1820,7 +1763,7 @@ public class AccountCRCAlgs
     // Variante 1
     if (alg_00(blz, number).isValid())
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
     // Variante 2
     return alg_10(blz, number);
@@ -1832,11 +1775,11 @@ public class AccountCRCAlgs
     // Variante 1
     if (alg_00(blz, number).isValid())
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
     if (number[0] == 9)
     {
-      return new PZRet(false);
+      return PZRet.of(false);
     }
     // Variante 2
     return alg_10(blz, number);
@@ -1858,12 +1801,16 @@ public class AccountCRCAlgs
     // Variante 1
     if (alg_00(blz, number).isValid())
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
     // Variante 2
     return alg_03(blz, number);
   }
 
+  private static final int[] GEWICHTE_A8 = { 7, 6, 5, 4, 3, 2 };
+
+  private static final int[] GEWICHTE_A8_2 = { 1, 2, 1, 2, 1, 2 };
+
   /** @author AN */
   public static PZRet alg_A8(int[] blz, int[] number)
   {
@@ -1873,19 +1820,19 @@ public class AccountCRCAlgs
       return alg_51(blz, number);
     }
     // Variante 1
-    int sum = addProducts(number, 3, 8, new int[] { 7, 6, 5, 4, 3, 2 }, false);
+    int sum = addProducts(number, 3, 8, GEWICHTE_A8, false);
     int crc = 11 - sum % 11;
     if (crc > 9)
       crc = 0;
     if (number[9] == crc)
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
 
     // Variante 2
-    sum = addProducts(number, 3, 8, new int[] { 1, 2, 1, 2, 1, 2 }, true);
+    sum = addProducts(number, 3, 8, GEWICHTE_A8_2, true);
     crc = (10 - sum % 10) % 10;
-    return new PZRet(number[9] == crc);
+    return PZRet.of(number[9] == crc);
   }
 
   /** @author AN */
@@ -1894,7 +1841,7 @@ public class AccountCRCAlgs
     // Variante 1
     if (alg_01(blz, number).isValid())
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
     // Variante 2
     return alg_06(blz, number);
@@ -1906,7 +1853,7 @@ public class AccountCRCAlgs
     // Variante 1
     if (alg_05(blz, number).isValid())
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
     // Variante 2
     return alg_01(blz, number);
@@ -1938,7 +1885,7 @@ public class AccountCRCAlgs
     // Variante 1
     if (alg_05(blz, number).isValid())
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
     // Variante 2
     return alg_00(blz, number);
@@ -1949,9 +1896,9 @@ public class AccountCRCAlgs
   public static PZRet alg_B6(int[] blz, int[] number)
   {
     // Variante 1
-    String kontr = numberToString(number).substring(0, 5);
-    if (number[0] != 0
-        || (kontr.compareTo("02691") >= 0 && kontr.compareTo("02699") <= 0))
+    // Die ersten fünf Stellen
+    int kontr = (int) (calculateIntFromNumber(number) / 100000);
+    if (number[0] != 0 || (kontr >= 2691 && kontr <= 2699))
     {
       return alg_20(blz, number);
     }
@@ -1976,14 +1923,15 @@ public class AccountCRCAlgs
     return alg_09(blz, number);
   }
 
+  private static final int[] GEWICHTE_B8 = { 3, 9, 8, 7, 6, 5, 4, 3, 2 };
+
   public static PZRet alg_B8(int[] blz, int[] number)
   {
-    int sum = addProducts(number, 0, 8, new int[] { 3, 9, 8, 7, 6, 5, 4, 3, 2 },
-        false);
+    int sum = addProducts(number, 0, 8, GEWICHTE_B8, false);
     int crc = 11 - sum % 11;
     if (crc > 9)
       crc = 0;
-    PZRet ret = new PZRet((number[9] == crc));
+    PZRet ret = PZRet.of((number[9] == crc));
 
     if (!ret.isValid())
     {
@@ -1993,15 +1941,18 @@ public class AccountCRCAlgs
     return ret;
   }
 
+  private static final int[] GEWICHTE_B9 = { 1, 2, 3, 1, 2, 3, 1 };
+
+  private static final int[] GEWICHTE_B9_2 = { 6, 5, 4, 3, 2, 1 };
+
   /** @author Heiner */
   public static PZRet alg_B9(int[] blz, int[] number)
   {
     if (number[0] == 0 && number[1] == 0 && number[2] > 0)
     {
-      int summereste = computeB9(number, 2, 8,
-          new int[] { 1, 2, 3, 1, 2, 3, 1 });
+      int summereste = computeB9(number, 2, 8, GEWICHTE_B9);
       int crc = summereste % 10;
-      PZRet ret = new PZRet((number[9] == crc));
+      PZRet ret = PZRet.of((number[9] == crc));
       if (ret.isValid())
       {
         return ret;
@@ -2011,16 +1962,15 @@ public class AccountCRCAlgs
       {
         crc = crc - 10;
       }
-      return new PZRet((number[9] == crc));
+      return PZRet.of((number[9] == crc));
     }
     else if (number[0] == 0 && number[1] == 0 && number[2] == 0
         && number[3] >= 0)
     {
-      int sum = addProducts(number, 3, 8, new int[] { 6, 5, 4, 3, 2, 1 },
-          false);
+      int sum = addProducts(number, 3, 8, GEWICHTE_B9_2, false);
       int crc = sum % 11;
 
-      PZRet ret = new PZRet(number[9] == crc);
+      PZRet ret = PZRet.of(number[9] == crc);
       if (ret.isValid())
       {
         return ret;
@@ -2030,15 +1980,15 @@ public class AccountCRCAlgs
       {
         crc = crc - 10;
       }
-      return new PZRet(number[9] == crc);
+      return PZRet.of(number[9] == crc);
     }
-    return new PZRet(false);
+    return PZRet.of(false);
   }
 
   /** @author AN */
   public static PZRet alg_C0(int[] blz, int[] number)
   {
-    PZRet ok = new PZRet(false);
+    PZRet ok = PZRet.of(false);
     // Variante 1
     if (number[0] == 0 && number[1] == 0 && number[2] != 0)
     {
@@ -2046,13 +1996,15 @@ public class AccountCRCAlgs
     }
     if (ok.isValid())
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
 
     // Variante 2
     return alg_20(blz, number);
   }
 
+  private static final int[] GEWICHTE_C1 = { 1, 2, 1, 2, 1, 2, 1, 2, 1 };
+
   /** @author AN */
   public static PZRet alg_C1(int[] blz, int[] number)
   {
@@ -2063,11 +2015,10 @@ public class AccountCRCAlgs
     }
 
     // Variante 2
-    int sum = addProducts(number, 0, 8, new int[] { 1, 2, 1, 2, 1, 2, 1, 2, 1 },
-        true);
+    int sum = addProducts(number, 0, 8, GEWICHTE_C1, true);
     sum--;
     int crc = (10 - sum % 11) % 10;
-    return new PZRet(number[9] == crc);
+    return PZRet.of(number[9] == crc);
   }
 
   /** @author Heiner */
@@ -2107,6 +2058,8 @@ public class AccountCRCAlgs
     }
   }
 
+  private static final int[] GEWICHTE_C5 = { 2, 1, 2, 1, 2, 1 };
+
   /** @autor Heiner */
   public static PZRet alg_C5(int[] blz, int[] number)
   {
@@ -2115,22 +2068,22 @@ public class AccountCRCAlgs
     {
       if (number[4] < 1 || number[4] > 8)
       {
-        return new PZRet(false);
+        return PZRet.of(false);
       }
-      int sum = addProducts(number, 4, 8, new int[] { 2, 1, 2, 1, 2, 1 }, true);
+      int sum = addProducts(number, 4, 8, GEWICHTE_C5, true);
       int crc = (10 - sum % 10) % 10;
-      return new PZRet(number[9] == crc);
+      return PZRet.of(number[9] == crc);
     }
     // Variante 2: 9stellige Kontonummern, Nummernkreis 100000000 bis 899999999
     if (number[0] == 0 && number[1] > 0)
     {
       if (number[1] > 8)
       {
-        return new PZRet(false);
+        return PZRet.of(false);
       }
-      int sum = addProducts(number, 1, 5, new int[] { 2, 1, 2, 1, 2, 1 }, true);
+      int sum = addProducts(number, 1, 5, GEWICHTE_C5, true);
       int crc = (10 - sum % 10) % 10;
-      return new PZRet(number[6] == crc);
+      return PZRet.of(number[6] == crc);
     }
 
     // Variante 2 Modulus 10, Iterierte Transformation
@@ -2154,7 +2107,7 @@ public class AccountCRCAlgs
     {
       return alg_09(blz, number);
     }
-    return new PZRet(false);
+    return PZRet.of(false);
   }
 
   /** @author AN */
@@ -2197,75 +2150,52 @@ public class AccountCRCAlgs
     // Variante 1
     if (alg_00(blz, number).isValid())
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
     // Variante 2
     return alg_07(blz, number);
   }
 
+  private static final int[] GEWICHTE_D0 = { 3, 9, 8, 7, 6, 5, 4, 3, 2 };
+
   public static PZRet alg_D0(int[] blz, int[] number)
   {
-    PZRet ok = new PZRet(false);
+    PZRet ok = PZRet.of(false);
 
     if (number[0] == 5 && number[1] == 7)
     {
-      ok = new PZRet(true);
+      ok = PZRet.of(true);
     }
     else
     {
-      int sum = addProducts(number, 0, 8,
-          new int[] { 3, 9, 8, 7, 6, 5, 4, 3, 2 }, false);
+      int sum = addProducts(number, 0, 8, GEWICHTE_D0, false);
       int crc = 11 - sum % 11;
       if (crc > 9)
         crc = 0;
-      ok = new PZRet((number[9] == crc));
+      ok = PZRet.of((number[9] == crc));
     }
 
     return ok;
   }
 
+  private static final int[] PRAEFIX_D1 = { 4, 3, 6, 3, 3, 8 };
+
   /** @author Heiner */
   public static PZRet alg_D1(int[] blz, int[] number)
   {
     if (number[0] == 8)
     {
-      return new PZRet(false);
-    }
-    int[] n = new int[15];
-    for (int i = 0; i < 8; i++)
-    {
-      n[i + 7] = number[i + 1];
-    }
-    n[0] = 4;
-    n[1] = 3;
-    n[2] = 6;
-    n[3] = 3;
-    n[4] = 3;
-    n[5] = 8;
-    n[6] = number[0];
-    int[] produkt = new int[15];
-    produkt[0] = n[0] * 2;
-    produkt[1] = n[1] * 1;
-    produkt[2] = n[2] * 2;
-    produkt[3] = n[3] * 1;
-    produkt[4] = n[4] * 2;
-    produkt[5] = n[5] * 1;
-    produkt[6] = n[6] * 2;
-    produkt[7] = n[7] * 1;
-    produkt[8] = n[8] * 2;
-    produkt[9] = n[9] * 1;
-    produkt[10] = n[10] * 2;
-    produkt[11] = n[11] * 1;
-    produkt[12] = n[12] * 2;
-    produkt[13] = n[13] * 1;
-    produkt[14] = n[14] * 2;
+      return PZRet.of(false);
+    }
+    // 436338 und die Kontonummer ohne Prüfziffer, Gewichte 2, 1, 2, ...
     int su = 0;
     for (int i = 0; i < 15; i++)
     {
-      su += quersumme(produkt[i], false);
+      int ziffer = i < 6 ? PRAEFIX_D1[i] : number[i - 6];
+      su += quersumme(ziffer * (i % 2 == 0 ? 2 : 1), false);
     }
     int crc = 10 - (su % 10);
-    return new PZRet(number[9] == crc);
+    return PZRet.of(number[9] == crc);
   }
 
   /** @author Heiner */
@@ -2274,12 +2204,12 @@ public class AccountCRCAlgs
     // Variante 1
     if (alg_95(blz, number).isValid())
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
     // Variante 2
     if (alg_00(blz, number).isValid())
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
     return alg_68(blz, number);
   }
@@ -2290,7 +2220,7 @@ public class AccountCRCAlgs
     // Variante 1
     if (alg_00(blz, number).isValid())
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
     // Variante 2
     return alg_27(blz, number);
@@ -2302,12 +2232,12 @@ public class AccountCRCAlgs
     // Variante 1
     if (alg_07(blz, number).isValid())
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
     // Variante 2
     if (alg_03(blz, number).isValid())
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
     // Variante 3
     return alg_00(blz, number);
@@ -2319,17 +2249,25 @@ public class AccountCRCAlgs
     // Variante 1
     if (alg_00(blz, number).isValid())
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
     // Variante 2
     if (alg_10(blz, number).isValid())
     {
-      return new PZRet(true);
+      return PZRet.of(true);
     }
 
     return alg_18(blz, number);
   }
 
+  /**
+   * Verfahren aus pruefziffernverfahren.txt, siehe Standardverfahren
+   */
+  private static PZRet standard(String alg, int[] blz, int[] number)
+  {
+    return Standardverfahren.get(alg).pruefe(blz, number);
+  }
+
   private static int addProducts(int[] number, int first, int last,
       int[] factors, boolean withChecksum)
   {
@@ -2384,42 +2322,36 @@ public class AccountCRCAlgs
     return bigint;
   }
 
-  private static String numberToString(int[] number)
-  {
-    StringBuffer sb = new StringBuffer();
-    for (int i : number)
-    {
-      sb.append(i);
-    }
-    return sb.toString();
-  }
-
   public static boolean checkIBAN(String iban)
   {
-    StringBuffer s = new StringBuffer();
-
-    s.append(iban.substring(4));
-    s.append(iban.substring(0, 4));
-
-    StringBuffer s2 = new StringBuffer();
-    for (int i = 0; i < s.length(); i++)
+    // Landeskennung und Prüfziffer werden ans Ende gestellt, der Rest modulo
+    // 97 wird Zeichen für Zeichen berechnet
+    int rest = 0;
+    int n = iban.length();
+    for (int k = 0; k < n; k++)
     {
-      char ch = s.charAt(i);
+      char ch = iban.charAt((k + 4) % n);
       if (ch >= '0' && ch <= '9')
       {
-        s2.append(ch);
+        rest = (rest * 10 + ch - '0') % 97;
+      }
+      else if (ch >= 'A' && ch <= 'Z')
+      {
+        rest = (rest * 100 + ch - 'A' + 10) % 97;
       }
       else
       {
-        s2.append(ch - 'A' + 10);
+        return false;
       }
     }
+    return rest == 1;
+  }
 
-    BigInteger x = new BigInteger(s2.toString());
-    BigInteger rest = x.mod(new BigInteger("97"));
 
-    return rest.intValue() == 1;
-  }
+  private static final int[] GEWICHTE_AUSNAHME51 = { 8, 7, 6, 5, 4, 3, 2 };
+
+  private static final int[] GEWICHTE_AUSNAHME51_2 = { 10, 9, 8, 7, 6, 5, 4, 3,
+      2 };
 
   /** @author Heiner */
   private static PZRet ausnahme51(int[] blz, int[] number)
@@ -2428,8 +2360,7 @@ public class AccountCRCAlgs
     if (number[2] == 9)
     {
       // Ausnahme 1
-      int sum = addProducts(number, 2, 8, new int[] { 8, 7, 6, 5, 4, 3, 2 },
-          false);
+      int sum = addProducts(number, 2, 8, GEWICHTE_AUSNAHME51, false);
       int crc = 11 - sum % 11;
       if (crc > 9)
       {
@@ -2439,14 +2370,13 @@ public class AccountCRCAlgs
       {
         crc = 0;
       }
-      PZRet ret = new PZRet(number[9] == crc, 10, "84");
+      PZRet ret = PZRet.of(number[9] == crc, ERGEBNIS_10_84);
       if (ret.isValid())
       {
         return ret;
       }
       // Ausnahme 2
-      sum = addProducts(number, 0, 8, new int[] { 10, 9, 8, 7, 6, 5, 4, 3, 2 },
-          false);
+      sum = addProducts(number, 0, 8, GEWICHTE_AUSNAHME51_2, false);
       crc = 11 - sum % 11;
       if (crc > 9)
       {
@@ -2456,7 +2386,7 @@ public class AccountCRCAlgs
       {
         crc = 0;
       }
-      ret = new PZRet(number[9] == crc, 10, "84");
+      ret = PZRet.of(number[9] == crc, ERGEBNIS_10_84);
       if (ret.isValid())
       {
         return ret;
@@ -4,28 +4,173 @@
  */
 package de.jost_net.OBanToo.PruefziffernCheck;
 
-import java.lang.reflect.Method;
-
 public final class KontoPruefziffernrechnung
 {
+  /**
+   * Implementierte Verfahren nach Kennzeichen, siehe
+   * Standardverfahren.index(). Programmierte Verfahren aus AccountCRCAlgs
+   * haben Vorrang, die übrigen kommen aus pruefziffernverfahren.txt.
+   */
+  private static final Pruefziffernmethode[] METHODEN =
+      new Pruefziffernmethode[15 * 10];
+  static
+  {
+    registriere("06", AccountCRCAlgs::alg_06);
+    registriere("08", AccountCRCAlgs::alg_08);
+    registriere("09", AccountCRCAlgs::alg_09);
+    registriere("12", AccountCRCAlgs::alg_12);
+    registriere("13", AccountCRCAlgs::alg_13);
+    registriere("16", AccountCRCAlgs::alg_16);
+    registriere("17", AccountCRCAlgs::alg_17);
+    registriere("21", AccountCRCAlgs::alg_21);
+    registriere("23", AccountCRCAlgs::alg_23);
+    registriere("24", AccountCRCAlgs::alg_24);
+    registriere("25", AccountCRCAlgs::alg_25);
+    registriere("26", AccountCRCAlgs::alg_26);
+    registriere("27", AccountCRCAlgs::alg_27);
+    registriere("29", AccountCRCAlgs::alg_29);
+    registriere("40", AccountCRCAlgs::alg_40);
+    registriere("41", AccountCRCAlgs::alg_41);
+    registriere("45", AccountCRCAlgs::alg_45);
+    registriere("46", AccountCRCAlgs::alg_46);
+    registriere("48", AccountCRCAlgs::alg_48);
+    registriere("49", AccountCRCAlgs::alg_49);
+    registriere("50", AccountCRCAlgs::alg_50);
+    registriere("51", AccountCRCAlgs::alg_51);
+    registriere("52", AccountCRCAlgs::alg_52);
+    registriere("53", AccountCRCAlgs::alg_53);
+    registriere("56", AccountCRCAlgs::alg_56);
+    registriere("57", AccountCRCAlgs::alg_57);
+    registriere("59", AccountCRCAlgs::alg_59);
+    registriere("61", AccountCRCAlgs::alg_61);
+    registriere("63", AccountCRCAlgs::alg_63);
+    registriere("65", AccountCRCAlgs::alg_65);
+    registriere("66", AccountCRCAlgs::alg_66);
+    registriere("68", AccountCRCAlgs::alg_68);
+    registriere("69", AccountCRCAlgs::alg_69);
+    registriere("70", AccountCRCAlgs::alg_70);
+    registriere("73", AccountCRCAlgs::alg_73);
+    registriere("74", AccountCRCAlgs::alg_74);
+    registriere("76", AccountCRCAlgs::alg_76);
+    registriere("78", AccountCRCAlgs::alg_78);
+    registriere("81", AccountCRCAlgs::alg_81);
+    registriere("82", AccountCRCAlgs::alg_82);
+    registriere("84", AccountCRCAlgs::alg_84);
+    registriere("85", AccountCRCAlgs::alg_85);
+    registriere("86", AccountCRCAlgs::alg_86);
+    registriere("87", AccountCRCAlgs::alg_87);
+    registriere("88", AccountCRCAlgs::alg_88);
+    registriere("90", AccountCRCAlgs::alg_90);
+    registriere("91", AccountCRCAlgs::alg_91);
+    registriere("95", AccountCRCAlgs::alg_95);
+    registriere("96", AccountCRCAlgs::alg_96);
+    registriere("98", AccountCRCAlgs::alg_98);
+    registriere("99", AccountCRCAlgs::alg_99);
+    registriere("A0", AccountCRCAlgs::alg_A0);
+    registriere("A1", AccountCRCAlgs::alg_A1);
+    registriere("A2", AccountCRCAlgs::alg_A2);
+    registriere("A3", AccountCRCAlgs::alg_A3);
+    registriere("A5", AccountCRCAlgs::alg_A5);
+    registriere("A6", AccountCRCAlgs::alg_A6);
+    registriere("A7", AccountCRCAlgs::alg_A7);
+    registriere("A8", AccountCRCAlgs::alg_A8);
+    registriere("A9", AccountCRCAlgs::alg_A9);
+    registriere("B1", AccountCRCAlgs::alg_B1);
+    registriere("B2", AccountCRCAlgs::alg_B2);
+    registriere("B3", AccountCRCAlgs::alg_B3);
+    registriere("B5", AccountCRCAlgs::alg_B5);
+    registriere("B6", AccountCRCAlgs::alg_B6);
+    registriere("B7", AccountCRCAlgs::alg_B7);
+    registriere("B8", AccountCRCAlgs::alg_B8);
+    registriere("B9", AccountCRCAlgs::alg_B9);
+    registriere("C0", AccountCRCAlgs::alg_C0);
+    registriere("C1", AccountCRCAlgs::alg_C1);
+    registriere("C2", AccountCRCAlgs::alg_C2);
+    registriere("C3", AccountCRCAlgs::alg_C3);
+    registriere("C4", AccountCRCAlgs::alg_C4);
+    registriere("C5", AccountCRCAlgs::alg_C5);
+    registriere("C7", AccountCRCAlgs::alg_C7);
+    registriere("C8", AccountCRCAlgs::alg_C8);
+    registriere("C9", AccountCRCAlgs::alg_C9);
+    registriere("D0", AccountCRCAlgs::alg_D0);
+    registriere("D1", AccountCRCAlgs::alg_D1);
+    registriere("D2", AccountCRCAlgs::alg_D2);
+    registriere("D3", AccountCRCAlgs::alg_D3);
+    registriere("D6", AccountCRCAlgs::alg_D6);
+    registriere("D9", AccountCRCAlgs::alg_D9);
+
+    for (Standardverfahren v : Standardverfahren.getVerfahren())
+    {
+      if (METHODEN[Standardverfahren.index(v.getKennzeichen())] == null)
+      {
+        registriere(v.getKennzeichen(), v);
+      }
+    }
+  }
+
+  /**
+   * Ziffern von BLZ und Kontonummer je Thread. Einige Verfahren verändern die
+   * Kontonummer; der Puffer wird vor jeder Prüfung neu gefüllt.
+   */
+  private static final ThreadLocal<int[][]> PUFFER = ThreadLocal
+      .withInitial(() -> new int[][] { new int[8], new int[10] });
+
+  private static void registriere(String alg, Pruefziffernmethode methode)
+  {
+    METHODEN[Standardverfahren.index(alg)] = methode;
+  }
+
+  /**
+   * Liefert das Prüfziffernverfahren zum Kennzeichen (z. B. "06", "A2").
+   * 
+   * @return null, wenn das Verfahren nicht implementiert ist
+   */
+  public static Pruefziffernmethode getMethode(String alg)
+  {
+    int i = Standardverfahren.index(alg);
+    return i >= 0 ? METHODEN[i] : null;
+  }
 
-  private static Method getAccountCRCMethodByAlg(String alg) throws Exception
+  /**
+   * Prüft die Kontonummer wie checkAccountCRCByAlg(), wirft aber keine
+   * Exception für nicht implementierte Verfahren.
+   * 
+   * @return PZRet.isImplementiert() == false, wenn das Verfahren fehlt;
+   *         isValid() == false auch bei Kontonummern mit mehr als 10 Stellen
+   */
+  public static PZRet pruefe(String alg, String blz, String number)
   {
-    Class<?> cl = null;
-    Method method = null;
+    return pruefe(getMethode(alg), blz, number);
+  }
 
+  /**
+   * Prüft mit einem bereits ermittelten Verfahren, z. B.
+   * Bank.getPruefverfahren().
+   * 
+   * @param methode
+   *          null, wenn das Verfahren nicht implementiert ist
+   */
+  public static PZRet pruefe(Pruefziffernmethode methode, String blz,
+      String number)
+  {
+    if (methode == null)
+    {
+      return PZRet.nichtImplementiert();
+    }
+    if (number.length() > 10)
+    {
+      return PZRet.of(false);
+    }
+    int[][] puffer = PUFFER.get();
     try
     {
-      cl = AccountCRCAlgs.class;
-      method = cl.getMethod("alg_" + alg,
-          new Class[] { int[].class, int[].class });
+      return methode.pruefe(string2Ints(blz, puffer[0]),
+          string2Ints(number, puffer[1]));
     }
-    catch (Exception e)
+    catch (RuntimeException e)
     {
-      throw new Exception("CRC algorithm " + alg + " not yet implemented");
+      return new PZRet(false, e);
     }
-
-    return method;
   }
 
   /**
@@ -89,41 +234,33 @@ public final class KontoPruefziffernrechnung
 
     if (number.length() <= 10)
     {
-      Method method = getAccountCRCMethodByAlg(alg);
-
-      if (method != null)
+      Pruefziffernmethode methode = getMethode(alg);
+      if (methode == null)
       {
-        try
-        {
-          int[] blz_digits = string2Ints(blz, 8);
-          int[] number_digits = string2Ints(number, 10);
-
-          Object[] args = new Object[] { blz_digits, number_digits };
-          ret = (PZRet) method.invoke(null, args);
-        }
-        catch (Exception e)
-        {
-          return new PZRet(false, e);
-        }
+        throw new Exception("CRC algorithm " + alg + " not yet implemented");
       }
+      ret = pruefe(methode, blz, number);
     }
     return ret;
   }
 
   /**
    * Used to convert a blz or an account number to an array of ints, one array
-   * element per digit.
+   * element per digit. The digits are right-aligned in numbers, leading
+   * elements are set to 0.
    */
-  private static int[] string2Ints(String st, int target_length)
+  private static int[] string2Ints(String st, int[] numbers)
   {
-    int[] numbers = new int[target_length];
+    int target_length = numbers.length;
     int st_len = st.length();
-    char ch;
 
+    for (int i = 0; i < target_length - st_len; i++)
+    {
+      numbers[i] = 0;
+    }
     for (int i = 0; i < st_len; i++)
     {
-      ch = st.charAt(i);
-      numbers[target_length - st_len + i] = ch - '0';
+      numbers[target_length - st_len + i] = st.charAt(i) - '0';
     }
 
     return numbers;
@@ -6,6 +6,10 @@ package de.jost_net.OBanToo.PruefziffernCheck;
 
 public class PZRet
 {
+  private static final PZRet GUELTIG = new PZRet(true);
+
+  private static final PZRet UNGUELTIG = new PZRet(false);
+
   private boolean valid;
 
   private int pos = -1;
@@ -14,6 +18,8 @@ public class PZRet
 
   private Exception exception = null;
 
+  private boolean implementiert = true;
+
   public PZRet(boolean valid)
   {
     this.valid = valid;
@@ -32,6 +38,48 @@ public class PZRet
     this.alg = alg;
   }
 
+  /**
+   * Gemeinsames Ergebnis ohne Position und Verfahren. PZRet ist
+   * unveränderlich, die Instanzen werden nicht für jede Prüfung neu erzeugt.
+   */
+  public static PZRet of(boolean valid)
+  {
+    return valid ? GUELTIG : UNGUELTIG;
+  }
+
+  /**
+   * Ungültiges und gültiges Ergebnis mit Position und Verfahren, für of()
+   */
+  static PZRet[] paar(int pos, String alg)
+  {
+    return new PZRet[] { new PZRet(false, pos, alg),
+        new PZRet(true, pos, alg) };
+  }
+
+  static PZRet of(boolean valid, PZRet[] paar)
+  {
+    return paar[valid ? 1 : 0];
+  }
+
+  /**
+   * Ergebnis für ein Prüfziffernverfahren, das nicht implementiert ist
+   */
+  public static PZRet nichtImplementiert()
+  {
+    PZRet ret = new PZRet(false);
+    ret.implementiert = false;
+    return ret;
+  }
+
+  /**
+   * false, wenn das Prüfziffernverfahren nicht implementiert ist. isValid()
+   * ist dann ebenfalls false.
+   */
+  public boolean isImplementiert()
+  {
+    return implementiert;
+  }
+
   public boolean isValid()
   {
     return valid;
@@ -0,0 +1,20 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.PruefziffernCheck;
+
+/**
+ * Prüfziffernverfahren der Deutschen Bundesbank, z. B. AccountCRCAlgs::alg_00
+ */
+@FunctionalInterface
+public interface Pruefziffernmethode
+{
+  /**
+   * @param blz
+   *          Bankleitzahl, 8 Ziffern
+   * @param number
+   *          Kontonummer, 10 Ziffern mit führenden Nullen
+   */
+  PZRet pruefe(int[] blz, int[] number);
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.PruefziffernCheck;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h1>Tabellengesteuertes Prüfziffernverfahren</h1>
+ * <p>
+ * Die regelmäßigen Verfahren (gewichtete Summe, optional Quersumme der
+ * Produkte, Modul, Abbildung des Rests auf die Prüfziffer) werden in der
+ * Datei pruefziffernverfahren.txt beschrieben und beim Laden übersetzt. Neue
+ * Verfahren dieser Art benötigen nur eine Zeile in der Datei.
+ * </p>
+ * <p>
+ * Übersetzt werden zwei Tabellen: der Beitrag jeder Ziffer an jeder
+ * gewichteten Stelle (Quersumme bereits angewendet) und die erwartete
+ * Prüfziffer je Rest. Die Prüfung besteht damit aus Tabellenzugriffen und
+ * einer Division, ohne Verzweigungen je Stelle.
+ * </p>
+ */
+final class Standardverfahren implements Pruefziffernmethode
+{
+  private static final String DATEI = "pruefziffernverfahren.txt";
+
+  /**
+   * Verfahren nach Kennzeichen, siehe index()
+   */
+  private static final Standardverfahren[] TABELLE =
+      new Standardverfahren[15 * 10];
+
+  private static final List<Standardverfahren> VERFAHREN;
+  static
+  {
+    InputStream is = Standardverfahren.class.getClassLoader()
+        .getResourceAsStream(DATEI);
+    if (is == null)
+    {
+      throw new IllegalStateException(DATEI + " fehlt");
+    }
+    try (BufferedReader r = new BufferedReader(
+        new InputStreamReader(is, StandardCharsets.UTF_8)))
+    {
+      VERFAHREN = lies(r, DATEI);
+    }
+    catch (IOException e)
+    {
+      throw new IllegalStateException(DATEI + " nicht lesbar", e);
+    }
+    for (Standardverfahren v : VERFAHREN)
+    {
+      TABELLE[index(v.kennzeichen)] = v;
+    }
+  }
+
+  private final String kennzeichen;
+
+  /**
+   * Erste gewichtete Stelle (ab 0)
+   */
+  private final int von;
+
+  /**
+   * Anzahl der gewichteten Stellen
+   */
+  private final int stellen;
+
+  /**
+   * beitrag[10 * i + ziffer]: Summand der Ziffer an der Stelle von + i
+   */
+  private final int[] beitrag;
+
+  private final int modul;
+
+  /**
+   * Stelle der Prüfziffer (ab 0)
+   */
+  private final int pruefstelle;
+
+  /**
+   * Erwartete Prüfziffer je Rest, -1 wenn keine Prüfziffer gültig ist
+   */
+  private final int[] pruefziffer;
+
+  private Standardverfahren(String kennzeichen, int von, int[] gewichte,
+      boolean quersumme, int modul, int pruefstelle, int[] pruefziffer)
+  {
+    this.kennzeichen = kennzeichen;
+    this.von = von;
+    this.stellen = gewichte.length;
+    this.beitrag = new int[10 * gewichte.length];
+    for (int i = 0; i < gewichte.length; i++)
+    {
+      for (int z = 0; z < 10; z++)
+      {
+        int p = z * gewichte[i];
+        beitrag[10 * i + z] = quersumme ? quersumme(p) : p;
+      }
+    }
+    this.modul = modul;
+    this.pruefstelle = pruefstelle;
+    this.pruefziffer = pruefziffer;
+  }
+
+  @Override
+  public PZRet pruefe(int[] blz, int[] number)
+  {
+    int sum = 0;
+    for (int i = 0; i < stellen; i++)
+    {
+      sum += beitrag[10 * i + number[von + i]];
+    }
+    return PZRet.of(pruefziffer[sum % modul] == number[pruefstelle]);
+  }
+
+  String getKennzeichen()
+  {
+    return kennzeichen;
+  }
+
+  /**
+   * @return Verfahren zum Kennzeichen oder null
+   */
+  static Standardverfahren get(String alg)
+  {
+    int i = index(alg);
+    return i >= 0 ? TABELLE[i] : null;
+  }
+
+  /**
+   * Alle Verfahren in der Reihenfolge der Datei
+   */
+  static List<Standardverfahren> getVerfahren()
+  {
+    return VERFAHREN;
+  }
+
+  /**
+   * Index des Kennzeichens 00..E9 oder -1
+   */
+  static int index(String alg)
+  {
+    if (alg == null || alg.length() != 2)
+    {
+      return -1;
+    }
+    char c1 = alg.charAt(0);
+    char c2 = alg.charAt(1);
+    int i1;
+    if (c1 >= '0' && c1 <= '9')
+    {
+      i1 = c1 - '0';
+    }
+    else if (c1 >= 'A' && c1 <= 'E')
+    {
+      i1 = c1 - 'A' + 10;
+    }
+    else
+    {
+      return -1;
+    }
+    if (c2 < '0' || c2 > '9')
+    {
+      return -1;
+    }
+    return i1 * 10 + c2 - '0';
+  }
+
+  /**
+   * Liest die Beschreibung der Verfahren. Leerzeilen und Zeilen mit # werden
+   * übergangen.
+   * 
+   * @param name
+   *          Name der Datei für Fehlermeldungen
+   * @throws IllegalStateException
+   *           mit Dateiname und Zeilennummer bei einer fehlerhaften Zeile oder
+   *           einem doppelten Kennzeichen
+   */
+  static List<Standardverfahren> lies(BufferedReader r, String name)
+      throws IOException
+  {
+    List<Standardverfahren> liste = new ArrayList<>();
+    boolean[] vorhanden = new boolean[TABELLE.length];
+    String zeile;
+    int nr = 0;
+    while ((zeile = r.readLine()) != null)
+    {
+      nr++;
+      zeile = zeile.trim();
+      if (zeile.length() == 0 || zeile.startsWith("#"))
+      {
+        continue;
+      }
+      try
+      {
+        Standardverfahren v = parse(zeile);
+        if (vorhanden[index(v.kennzeichen)])
+        {
+          throw new IllegalArgumentException("doppelt");
+        }
+        vorhanden[index(v.kennzeichen)] = true;
+        liste.add(v);
+      }
+      catch (RuntimeException e)
+      {
+        throw new IllegalStateException(
+            name + " Zeile " + nr + ": " + e.getMessage(), e);
+      }
+    }
+    return liste;
+  }
+
+  /**
+   * Übersetzt eine Zeile der Beschreibung, z. B.<br>
+   * <code>06 1-9 4,3,2,7,6,5,4,3,2 - 11 10 M-R &gt;9=0</code>
+   */
+  static Standardverfahren parse(String zeile)
+  {
+    String[] t = zeile.trim().split("\\s+");
+    if (t.length < 7)
+    {
+      throw new IllegalArgumentException("Spalten fehlen: " + zeile);
+    }
+    String kennzeichen = t[0];
+    if (index(kennzeichen) < 0)
+    {
+      throw new IllegalArgumentException("Ungültiges Kennzeichen " + t[0]);
+    }
+    String[] bereich = t[1].split("-");
+    int von = stelle(bereich[0]);
+    int bis = stelle(bereich[bereich.length - 1]);
+    String[] g = t[2].split(",");
+    if (g.length != bis - von + 1)
+    {
+      throw new IllegalArgumentException(
+          g.length + " Gewichte für " + (bis - von + 1) + " Stellen");
+    }
+    int[] gewichte = new int[g.length];
+    for (int i = 0; i < g.length; i++)
+    {
+      gewichte[i] = Integer.parseInt(g[i]);
+    }
+    if (!t[3].equals("Q") && !t[3].equals("-"))
+    {
+      throw new IllegalArgumentException("Quersumme Q oder -: " + t[3]);
+    }
+    int modul = Integer.parseInt(t[4]);
+    if (modul < 2)
+    {
+      throw new IllegalArgumentException("Ungültiger Modul " + modul);
+    }
+    int pruefstelle = stelle(t[5]);
+    boolean abzug;
+    if (t[6].equals("M-R"))
+    {
+      abzug = true;
+    }
+    else if (t[6].equals("R"))
+    {
+      abzug = false;
+    }
+    else
+    {
+      throw new IllegalArgumentException("Berechnung M-R oder R: " + t[6]);
+    }
+
+    int[] pruefziffer = new int[modul];
+    for (int rest = 0; rest < modul; rest++)
+    {
+      int wert = abzug ? modul - rest : rest;
+      for (int i = 7; i < t.length; i++)
+      {
+        boolean groesser = t[i].startsWith(">");
+        String[] e = t[i].substring(groesser ? 1 : 0).split("=");
+        if (e.length != 2)
+        {
+          throw new IllegalArgumentException("Ungültige Ersetzung " + t[i]);
+        }
+        int a = Integer.parseInt(e[0]);
+        if (groesser ? wert > a : wert == a)
+        {
+          wert = Integer.parseInt(e[1]);
+          break;
+        }
+      }
+      pruefziffer[rest] = wert <= 9 ? wert : -1;
+    }
+    return new Standardverfahren(kennzeichen, von, gewichte, t[3].equals("Q"),
+        modul, pruefstelle, pruefziffer);
+  }
+
+  /**
+   * Stelle 1..10 der Kontonummer als Index ab 0
+   */
+  private static int stelle(String s)
+  {
+    int i = Integer.parseInt(s);
+    if (i < 1 || i > 10)
+    {
+      throw new IllegalArgumentException("Ungültige Stelle " + s);
+    }
+    return i - 1;
+  }
+
+  private static int quersumme(int x)
+  {
+    int sum = 0;
+    while (x > 0)
+    {
+      sum += x % 10;
+      x /= 10;
+    }
+    return sum;
+  }
+}
@@ -12,6 +12,8 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.Vector;
 
+import de.jost_net.OBanToo.Tools.Kompression;
+
 /**
  * Parser für QIF-Dateien
  * <p>
@@ -22,6 +24,8 @@ import java.util.Vector;
  * Sollte die zu parsende QIF-Datei fehlerhaft sein, werden entsprechende
  * QIFExceptions geworfen.
  * <p>
+ * gzip- und ZIP-komprimierte Dateien werden beim Lesen entpackt.
+ * <p>
  * Mit dem Aufruf der next()-Methode werden die einzelen Buchungen
  * zurückgeliefert. Sobald alle Buchungen zurückgegeben wurden, wird null
  * zurückgeliefert.
@@ -58,7 +62,8 @@ public class QIFDateiParser
   public QIFDateiParser(InputStream is) throws IOException, QIFException
   {
     buchungen = new Vector<>();
-    BufferedReader br = new BufferedReader(new InputStreamReader(is));
+    BufferedReader br = new BufferedReader(
+        new InputStreamReader(Kompression.entpacke(is)));
     String line;
     line = br.readLine();
     if (!line.startsWith("!Type:Bank"))
@@ -9,6 +9,8 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Date;
 
+import de.jost_net.OBanToo.Tools.Ausgabe;
+
 /**
  * Erstellung von QIF-Dateien
  * <p>
@@ -50,6 +52,15 @@ public class QIFDateiWriter
     open();
   }
 
+  /**
+   * Ausgabe in ein beliebiges Ziel. close() schließt das Ziel nicht, das
+   * übernimmt der Aufrufer.
+   */
+  public QIFDateiWriter(Ausgabe ausgabe) throws IOException
+  {
+    this(ausgabe.getStream());
+  }
+
   private void open() throws IOException
   {
     dos.writeBytes("!Type:Bank\n");
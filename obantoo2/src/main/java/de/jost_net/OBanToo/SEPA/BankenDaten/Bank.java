@@ -4,6 +4,11 @@
  */
 package de.jost_net.OBanToo.SEPA.BankenDaten;
 
+import de.jost_net.OBanToo.PruefziffernCheck.KontoPruefziffernrechnung;
+import de.jost_net.OBanToo.PruefziffernCheck.PZRet;
+import de.jost_net.OBanToo.PruefziffernCheck.Pruefziffernmethode;
+import de.jost_net.OBanToo.SEPA.IBANRegeln;
+
 public class Bank
 {
   private String land;
@@ -20,6 +25,17 @@ public class Bank
 
   private String hinweisloeschung;
 
+  /**
+   * Beim Laden ermitteltes Prüfziffernverfahren, null wenn nicht
+   * implementiert
+   */
+  private final Pruefziffernmethode pruefverfahren;
+
+  /**
+   * Beim Laden ermittelte IBAN-Regel (nur DE), null wenn nicht implementiert
+   */
+  private final IBANRegeln.Regel regelverfahren;
+
   public Bank(String land, String bezeichnung, String blz, String bic,
       String pruefziffernmethode, String ibanregel, String hinweisloeschung)
   {
@@ -30,6 +46,10 @@ public class Bank
     this.pruefziffernmethode = pruefziffernmethode;
     this.ibanregel = ibanregel;
     this.hinweisloeschung = hinweisloeschung;
+    this.pruefverfahren = KontoPruefziffernrechnung
+        .getMethode(pruefziffernmethode);
+    this.regelverfahren = "DE".equals(land) ? IBANRegeln.get(ibanregel)
+        : null;
   }
 
   public String getLand()
@@ -67,6 +87,36 @@ public class Bank
     return hinweisloeschung;
   }
 
+  /**
+   * Prüfziffernverfahren zu getPruefziffernmethode(), null wenn es nicht
+   * implementiert ist
+   */
+  public Pruefziffernmethode getPruefverfahren()
+  {
+    return pruefverfahren;
+  }
+
+  /**
+   * IBAN-Regel zu getIBANRegel(), null wenn sie nicht implementiert ist oder
+   * die Bank nicht in Deutschland liegt. Die Regel wird mit dieser Bank
+   * aufgerufen.
+   */
+  public IBANRegeln.Regel getIBANRegelverfahren()
+  {
+    return regelverfahren;
+  }
+
+  /**
+   * Prüft eine Kontonummer dieser Bank mit dem gebundenen
+   * Prüfziffernverfahren.
+   * 
+   * @return PZRet.isImplementiert() == false, wenn das Verfahren fehlt
+   */
+  public PZRet pruefeKonto(String konto)
+  {
+    return KontoPruefziffernrechnung.pruefe(pruefverfahren, blz, konto);
+  }
+
   @Override
   public String toString()
   {
@@ -7,7 +7,11 @@ package de.jost_net.OBanToo.SEPA.BankenDaten;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 
 public class Banken
 {
@@ -17,13 +21,27 @@ public class Banken
 
   private static HashMap<String, Bank> bankcodeneu = new HashMap<>();
 
+  /**
+   * Prüfziffernmethoden und IBAN-Regeln aus dem Bankenverzeichnis ohne
+   * Implementierung
+   */
+  private static final Ladebericht ladebericht = new Ladebericht();
+
+  /**
+   * Prüfsumme über die geladenen Verzeichnisse
+   */
+  private static final CRC32 pruefsumme = new CRC32();
+
+  private static long version;
+
   static
   {
     try
     {
       // Deutschland
-      InputStream is = Banken.class.getClassLoader()
-          .getResourceAsStream("BLZ.txt");
+      InputStream is = new CheckedInputStream(
+          Banken.class.getClassLoader().getResourceAsStream("BLZ.txt"),
+          pruefsumme);
 
       BLZDatei blz = new BLZDatei(is);
       BLZSatz blzs = blz.getNext();
@@ -39,7 +57,9 @@ public class Banken
         blzs = blz.getNext();
       }
       // Österreich
-      is = Bank.class.getClassLoader().getResourceAsStream("oesterreich.csv");
+      is = new CheckedInputStream(
+          Bank.class.getClassLoader().getResourceAsStream("oesterreich.csv"),
+          pruefsumme);
       ATBankdatei atbd = new ATBankdatei(is);
       boolean eof = false;
       while (!eof)
@@ -62,6 +82,7 @@ public class Banken
     {
       e.printStackTrace();
     }
+    version = pruefsumme.getValue();
   }
 
   public static Bank getBankByBLZ(String blz)
@@ -80,6 +101,7 @@ public class Banken
   {
     Bank b = new Bank(kennzeichen, name, blz, bic, pruefziffernmethode,
         ibanregel, hinweisloeschung);
+    ladebericht.add(b);
     banken.add(b);
     bankcodealt.put(b.getBLZ(), b);
     bankcodeneu.put(b.getBIC(), b);
@@ -112,6 +134,37 @@ public class Banken
     return ret;
   }
 
+  /**
+   * IBAN-Regeln, die im Bankenverzeichnis verwendet werden, aber nicht
+   * implementiert sind. Die IBAN-Berechnung für Banken mit diesen Regeln
+   * schlägt mit IBANREGEL_NICHT_IMPLEMENTIERT fehl.
+   */
+  public static Set<String> getUnbekannteIBANRegeln()
+  {
+    return Collections
+        .unmodifiableSet(ladebericht.getUnbekannteIBANRegeln().keySet());
+  }
+
+  /**
+   * Bericht über das Laden: Banken, deren Prüfziffernmethode oder IBAN-Regel
+   * nicht implementiert ist. Für alle anderen Banken liefern
+   * Bank.getPruefverfahren() und Bank.getIBANRegelverfahren() die
+   * Implementierung ohne weitere Suche.
+   */
+  public static Ladebericht getLadebericht()
+  {
+    return ladebericht;
+  }
+
+  /**
+   * Version des Bankenverzeichnisses: CRC32 über BLZ.txt und oesterreich.csv.
+   * Ändert sich mit jeder neuen Fassung der Dateien.
+   */
+  public static long getVersion()
+  {
+    return version;
+  }
+
   public static ArrayList<Bank> getBanken()
   {
     return banken;
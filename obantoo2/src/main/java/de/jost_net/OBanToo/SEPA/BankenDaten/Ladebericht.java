@@ -0,0 +1,91 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA.BankenDaten;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <h1>Ergebnis des Ladens des Bankenverzeichnisses</h1>
+ * <p>
+ * Beim Laden werden jeder deutschen Bank ihr Prüfziffernverfahren und ihre
+ * IBAN-Regel zugeordnet. Kennzeichen ohne Implementierung werden hier mit der
+ * Anzahl der betroffenen Banken gesammelt.
+ * </p>
+ */
+public class Ladebericht
+{
+  private int banken;
+
+  private final TreeMap<String, Integer> pruefziffernmethoden =
+      new TreeMap<>();
+
+  private final TreeMap<String, Integer> ibanregeln = new TreeMap<>();
+
+  Ladebericht()
+  {
+  }
+
+  void add(Bank b)
+  {
+    if (!b.getLand().equals("DE"))
+    {
+      return;
+    }
+    banken++;
+    if (b.getPruefverfahren() == null)
+    {
+      pruefziffernmethoden.merge(b.getPruefziffernmethode(), 1, Integer::sum);
+    }
+    if (b.getIBANRegelverfahren() == null)
+    {
+      ibanregeln.merge(b.getIBANRegel(), 1, Integer::sum);
+    }
+  }
+
+  /**
+   * Anzahl der geladenen deutschen Banken
+   */
+  public int getAnzahlBanken()
+  {
+    return banken;
+  }
+
+  /**
+   * Nicht implementierte Prüfziffernmethoden und die Anzahl der Banken, die
+   * sie verwenden
+   */
+  public Map<String, Integer> getUnbekanntePruefziffernmethoden()
+  {
+    return Collections.unmodifiableMap(pruefziffernmethoden);
+  }
+
+  /**
+   * Nicht implementierte IBAN-Regeln und die Anzahl der Banken, die sie
+   * verwenden
+   */
+  public Map<String, Integer> getUnbekannteIBANRegeln()
+  {
+    return Collections.unmodifiableMap(ibanregeln);
+  }
+
+  /**
+   * @return true, wenn für alle deutschen Banken Prüfziffernverfahren und
+   *         IBAN-Regel implementiert sind
+   */
+  public boolean isVollstaendig()
+  {
+    return pruefziffernmethoden.isEmpty() && ibanregeln.isEmpty();
+  }
+
+  @Override
+  public String toString()
+  {
+    return banken + " Banken, Prüfziffernmethoden ohne Implementierung: "
+        + pruefziffernmethoden + ", IBAN-Regeln ohne Implementierung: "
+        + ibanregeln;
+  }
+}
@@ -4,26 +4,41 @@
  */
 package de.jost_net.OBanToo.SEPA.Basislastschrift;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map.Entry;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.stream.XMLStreamException;
 
 import de.jost_net.OBanToo.SEPA.IBAN;
 import de.jost_net.OBanToo.SEPA.SEPAException;
+import de.jost_net.OBanToo.SEPA.SEPAException.Fehler;
+import de.jost_net.OBanToo.SEPA.Datei.SEPADateityp;
+import de.jost_net.OBanToo.SEPA.Datei.SEPADublettenpruefung;
+import de.jost_net.OBanToo.SEPA.Datei.SEPAErgaenzung;
+import de.jost_net.OBanToo.SEPA.Datei.SEPAKopfdaten;
+import de.jost_net.OBanToo.SEPA.Datei.SEPAParallelWriter;
+import de.jost_net.OBanToo.SEPA.Datei.SEPAValidierung;
+import de.jost_net.OBanToo.SEPA.Datei.SEPAWertepool;
+import de.jost_net.OBanToo.SEPA.Datei.SEPAXMLWriter;
+import de.jost_net.OBanToo.SEPA.Datei.SEPAZahlungsblock;
 import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.AccountIdentificationSEPA;
 import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.ActiveOrHistoricCurrencyAndAmountSEPA;
 import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.ActiveOrHistoricCurrencyCodeEUR;
@@ -58,6 +73,8 @@ import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.SequenceType1Code;
 import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.ServiceLevelSEPA;
 import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.ServiceLevelSEPACode;
 import de.jost_net.OBanToo.StringLatin.Zeichen;
+import de.jost_net.OBanToo.Tools.Ausgabe;
+import de.jost_net.OBanToo.Tools.ExterneSortierung;
 
 /**
  * <h1>SEPA-Basislastschriften</h1>
@@ -178,6 +195,48 @@ public class Basislastschrift
    */
   private Date creationdatetime;
 
+  /**
+   * Prüfung gegen das XSD-Schema beim Schreiben
+   */
+  private boolean validierung = false;
+
+  /**
+   * Writer für das parallele Schreiben der Transaktionen (optional)
+   */
+  private SEPAParallelWriter parallelwriter = null;
+
+  /**
+   * Prüfung auf bereits eingereichte Lastschriften (optional)
+   */
+  private SEPADublettenpruefung dublettenpruefung = null;
+
+  /**
+   * Reihenfolge der Transaktionen (optional) und Speicherbudget der externen
+   * Sortierung
+   */
+  private Comparator<? super Zahler> sortierung = null;
+
+  private long sortierspeicher;
+
+  /**
+   * Sortierte Zahler des laufenden Schreibvorgangs. Sie werden beim Schreiben
+   * und beim Registrieren in der Dublettenprüfung aus der Sortierung gelesen.
+   */
+  private ExterneSortierung<Zahler> sortiert;
+
+  /**
+   * Gemeinsame Werte und Teilbäume des laufenden Schreibvorgangs. Sie werden
+   * in vorbereiten() einmal je Datei erzeugt und von allen Transaktionen
+   * genutzt.
+   */
+  private SEPAWertepool pool;
+
+  private PartyIdentificationSEPA3 glaeubigerschema;
+
+  private ServiceLevelSEPA servicelevel;
+
+  private LocalInstrumentSEPA lokalinstrument;
+
   public Basislastschrift()
   {
   }
@@ -207,10 +266,418 @@ public class Basislastschrift
 
   /**
    * Schreibt die SEPA-Datei. Vorher sind alle Werte über die set-Methoden sowie
-   * die add(Zahler)-Methode übergeben werden.
+   * die add(Zahler)-Methode übergeben werden. Die Datei wird erst nach allen
+   * Prüfungen ersetzt; schlägt eine Prüfung fehl, bleibt eine vorhandene Datei
+   * unverändert.
    */
   public void write(File file)
       throws DatatypeConfigurationException, SEPAException, JAXBException
+  {
+    try (Ausgabe ausgabe = Ausgabe.of(file.toPath()))
+    {
+      schreibe(ausgabe);
+    }
+    catch (IOException e)
+    {
+      schliesseSortierung();
+      throw new SEPAException(e.getMessage());
+    }
+    registriereDubletten();
+  }
+
+  /**
+   * Schreibt die SEPA-Datei in ein beliebiges Ziel (Stream, Channel,
+   * ByteBuffer). Pufferung und Schließen des Ziels liegen beim Aufrufer. Ist
+   * die Validierung eingeschaltet, wird die Datei beim Schreiben geprüft. Bei
+   * einem Fehler wird die Ausgabe verworfen (siehe Ausgabe.verwerfen()).
+   */
+  public void write(Ausgabe ausgabe)
+      throws DatatypeConfigurationException, SEPAException, JAXBException
+  {
+    schreibe(ausgabe);
+    registriereDubletten();
+  }
+
+  /**
+   * Prüft die Transaktionen und schreibt die Datei. Die Prüfungen laufen vor
+   * der ersten Ausgabe. Schlägt das Schreiben fehl, wird die Ausgabe
+   * verworfen.
+   */
+  private void schreibe(Ausgabe ausgabe)
+      throws DatatypeConfigurationException, SEPAException
+  {
+    boolean ok = false;
+    try
+    {
+      uebernehmeKomprimierte();
+      pruefeDubletten();
+      if (validierung)
+      {
+        try (SEPAValidierung v = new SEPAValidierung(ausgabe.getStream(),
+            SEPADateityp.PAIN_008_002_02))
+        {
+          schreibe(v.getStream());
+          v.pruefe();
+        }
+      }
+      else
+      {
+        schreibe(ausgabe.getStream());
+      }
+      ausgabe.flush();
+      ok = true;
+    }
+    catch (IOException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+    finally
+    {
+      if (!ok)
+      {
+        ausgabe.verwerfen();
+        schliesseSortierung();
+      }
+    }
+  }
+
+  private void schreibe(OutputStream os)
+      throws DatatypeConfigurationException, SEPAException, IOException
+  {
+    vorbereiten();
+    Document doc = new Document();
+    if (parallelwriter != null)
+    {
+      sortiere();
+      ArrayList<List<Zahler>> pmtinf = new ArrayList<>();
+      doc.setCstmrDrctDbtInitn(getCustumerDirectDebitInitiationV02(pmtinf));
+      ByteArrayOutputStream rahmen = new ByteArrayOutputStream();
+      write(rahmen, doc, false);
+      parallelwriter.write(os, SEPADateityp.PAIN_008_002_02,
+          rahmen.toByteArray(), pmtinf, (w, z) -> BasislastschriftSerialisierer
+              .write(w, getDirectDebitTransactionInformationSDD(z)));
+    }
+    else if (sortierung != null)
+    {
+      // Die Kopfdaten werden vor dem Sortieren aus allen Zahlern berechnet.
+      CustomerDirectDebitInitiationV02 cddi = getCustumerDirectDebitInitiationV02(
+          new ArrayList<>());
+      // Nach Sequenz vorsortiert ist jedes PmtInf-Element zusammenhängend.
+      sortiert = lagereAus(Zahler.NACH_SEQUENZ.thenComparing(sortierung));
+      schreibeSortiert(os, cddi);
+    }
+    else
+    {
+      doc.setCstmrDrctDbtInitn(getCustumerDirectDebitInitiationV02(null));
+      write(os, doc, true);
+    }
+  }
+
+  /**
+   * Bringt die Transaktionen mit der externen Sortierung in die eingestellte
+   * Reihenfolge und lädt sie wieder in zahlerarray. Wird für den
+   * ParallelWriter benötigt, der alle Transaktionen im Speicher erwartet.
+   */
+  private void sortiere() throws IOException
+  {
+    if (sortierung == null)
+    {
+      return;
+    }
+    try (ExterneSortierung<Zahler> s = lagereAus(sortierung))
+    {
+      s.ausgeben(zahlerarray::add);
+    }
+  }
+
+  /**
+   * Übergibt alle Zahler an eine externe Sortierung und leert zahlerarray.
+   */
+  private ExterneSortierung<Zahler> lagereAus(
+      Comparator<? super Zahler> reihenfolge) throws IOException
+  {
+    ExterneSortierung<Zahler> s = new ExterneSortierung<>(reihenfolge,
+        Zahler.FORMAT, sortierspeicher);
+    try
+    {
+      for (int i = 0; i < zahlerarray.size(); i++)
+      {
+        s.add(zahlerarray.get(i));
+        // Ausgelagerte Transaktionen werden nicht mehr gehalten.
+        zahlerarray.set(i, null);
+      }
+      zahlerarray.clear();
+      return s;
+    }
+    catch (IOException e)
+    {
+      s.close();
+      throw e;
+    }
+  }
+
+  private void schliesseSortierung()
+  {
+    if (sortiert != null)
+    {
+      sortiert.close();
+      sortiert = null;
+    }
+  }
+
+  /**
+   * Schreibt die Datei aus der sortierten Folge der Zahler. Jede Transaktion
+   * wird direkt nach dem Lesen aus der Sortierung ausgegeben, so dass nur das
+   * Speicherbudget der Sortierung belegt wird.
+   */
+  private void schreibeSortiert(OutputStream os,
+      CustomerDirectDebitInitiationV02 cddi) throws SEPAException, IOException
+  {
+    try
+    {
+      SEPAXMLWriter w = new SEPAXMLWriter(os, SEPADateityp.PAIN_008_002_02,
+          true);
+      w.writeAnfang(SEPADateityp.PAIN_008_002_02);
+      BasislastschriftSerialisierer.writeKopf(w, cddi);
+      PmtInfSenke senke = new PmtInfSenke(w, cddi.getPmtInf());
+      sortiert.durchlaufen(senke);
+      senke.beende();
+      w.end();
+      w.writeEnde();
+    }
+    catch (XMLStreamException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+  }
+
+  /**
+   * Schreibt die nach Sequenz geordneten Zahler. Bei jedem Wechsel der
+   * Sequenz wird das vorige PmtInf-Element geschlossen und der Kopf des
+   * nächsten geschrieben.
+   */
+  private final class PmtInfSenke
+      implements ExterneSortierung.Senke<Zahler, SEPAException>
+  {
+    private final SEPAXMLWriter w;
+
+    private final EnumMap<SequenceType1Code, PaymentInstructionInformationSDD> koepfe = new EnumMap<>(
+        SequenceType1Code.class);
+
+    private SequenceType1Code sequenz;
+
+    PmtInfSenke(SEPAXMLWriter w, List<PaymentInstructionInformationSDD> pmtinf)
+    {
+      this.w = w;
+      for (PaymentInstructionInformationSDD pii : pmtinf)
+      {
+        koepfe.put(pii.getPmtTpInf().getSeqTp(), pii);
+      }
+    }
+
+    @Override
+    public void verarbeite(Zahler z) throws SEPAException
+    {
+      try
+      {
+        SequenceType1Code seq = z.getMandatsequence().getCode();
+        if (seq != sequenz)
+        {
+          beende();
+          BasislastschriftSerialisierer.writeKopf(w, koepfe.get(seq));
+          sequenz = seq;
+        }
+        BasislastschriftSerialisierer.write(w,
+            getDirectDebitTransactionInformationSDD(z));
+      }
+      catch (XMLStreamException | DatatypeConfigurationException e)
+      {
+        throw new SEPAException(e.getMessage());
+      }
+    }
+
+    void beende() throws XMLStreamException
+    {
+      if (sequenz != null)
+      {
+        w.end();
+        sequenz = null;
+      }
+    }
+  }
+
+  /**
+   * Schreibt das Document mit dem BasislastschriftSerialisierer. Der
+   * JAXB-Marshaller wird dafür nicht benötigt.
+   */
+  private static void write(OutputStream os, Document doc, boolean formatiert)
+      throws SEPAException
+  {
+    try
+    {
+      SEPAXMLWriter w = new SEPAXMLWriter(os, SEPADateityp.PAIN_008_002_02,
+          formatiert);
+      w.writeAnfang(SEPADateityp.PAIN_008_002_02);
+      BasislastschriftSerialisierer.write(w, doc);
+      w.writeEnde();
+    }
+    catch (XMLStreamException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+  }
+
+  /**
+   * Fügt die Zahler in eine bestehende, mit write() erstellte Datei ein. Die
+   * Transaktionen werden an das PmtInf-Element mit gleicher Sequenz, gleichem
+   * Fälligkeitsdatum und gleicher Gläubiger-IBAN angehängt. Für die übrigen
+   * Zahler werden neue PmtInf-Elemente angefügt. NbOfTxs und CtrlSum werden
+   * angepasst, der restliche Inhalt der Datei wird unverändert übernommen.
+   */
+  public void append(File file)
+      throws DatatypeConfigurationException, SEPAException
+  {
+    uebernehmeKomprimierte();
+    pruefeDubletten();
+    vorbereiten();
+    SEPAErgaenzung erg = new SEPAErgaenzung(file);
+    if (erg.getTyp() != SEPADateityp.PAIN_008_002_02)
+    {
+      throw new SEPAException(
+          "Keine SEPA-Basislastschrift-Datei: " + file.getName());
+    }
+    SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
+    List<SEPAZahlungsblock> bloecke = erg.getZahlungsbloecke();
+    LinkedHashMap<String, List<Zahler>> neu = new LinkedHashMap<>();
+    for (Zahler z : zahlerarray)
+    {
+      String sequenz = z.getMandatsequence().getCode().value();
+      String datum = sdf.format(z.getFaelligkeit());
+      int block = -1;
+      for (int i = 0; i < bloecke.size() && block < 0; i++)
+      {
+        SEPAZahlungsblock b = bloecke.get(i);
+        if (sequenz.equals(b.getSequenz())
+            && b.getAusfuehrungsdatum() != null
+            && datum.equals(sdf.format(b.getAusfuehrungsdatum()))
+            && getIBAN().equals(b.getIBAN()))
+        {
+          block = i;
+        }
+      }
+      if (block >= 0)
+      {
+        DirectDebitTransactionInformationSDD ddti = getDirectDebitTransactionInformationSDD(
+            z);
+        erg.add(block, w -> BasislastschriftSerialisierer.write(w, ddti),
+            z.getBetrag());
+      }
+      else
+      {
+        neu.computeIfAbsent(sequenz + " " + datum, k -> new ArrayList<>())
+            .add(z);
+      }
+    }
+    for (List<Zahler> liste : neu.values())
+    {
+      PaymentInstructionInformationSDD pii = getPaymentInstructionInformationSDD(
+          liste.get(0).getMandatsequence().getCode(), liste, null);
+      erg.add(w -> BasislastschriftSerialisierer.write(w, pii), liste.size(),
+          pii.getCtrlSum());
+    }
+    erg.write();
+    registriereDubletten();
+  }
+
+  /**
+   * Erzeugt die für alle Transaktionen gleichen Teilbäume. JAXB schreibt
+   * mehrfach referenzierte Objekte an jeder Stelle vollständig aus.
+   */
+  private void vorbereiten()
+      throws DatatypeConfigurationException, SEPAException
+  {
+    pool = new SEPAWertepool();
+
+    RestrictedPersonIdentificationSchemeNameSEPA rpisn = new RestrictedPersonIdentificationSchemeNameSEPA();
+    rpisn.setPrtry(IdentificationSchemeNameSEPA.SEPA);
+    RestrictedPersonIdentificationSEPA rpi = new RestrictedPersonIdentificationSEPA();
+    rpi.setId(getGlaeubigerID());
+    rpi.setSchmeNm(rpisn);
+    PersonIdentificationSEPA2 pi2 = new PersonIdentificationSEPA2();
+    pi2.setOthr(rpi);
+    PartySEPA2 p2 = new PartySEPA2();
+    p2.setPrvtId(pi2);
+    glaeubigerschema = new PartyIdentificationSEPA3();
+    glaeubigerschema.setId(p2);
+
+    servicelevel = new ServiceLevelSEPA();
+    servicelevel.setCd(ServiceLevelSEPACode.SEPA);
+    lokalinstrument = new LocalInstrumentSEPA();
+    lokalinstrument.setCd(LocalInstrumentSEPACode.CORE);
+  }
+
+  /**
+   * Kennung der Lastschrift für die Dublettenprüfung
+   */
+  private String getKennung(Zahler z) throws SEPAException
+  {
+    return getGlaeubigerID() + "/" + z.getMandatid();
+  }
+
+  private void pruefeDubletten() throws SEPAException
+  {
+    if (dublettenpruefung == null)
+    {
+      return;
+    }
+    StringBuilder sb = new StringBuilder();
+    for (Zahler z : zahlerarray)
+    {
+      if (dublettenpruefung.isDublette(getKennung(z), z.getBetrag(),
+          z.getFaelligkeit()))
+      {
+        sb.append(sb.length() > 0 ? ", " : "");
+        sb.append(z.getMandatid());
+      }
+    }
+    if (sb.length() > 0)
+    {
+      throw new SEPAException(Fehler.DUBLETTE,
+          "Bereits eingereichte Lastschriften: " + sb);
+    }
+  }
+
+  private void registriereDubletten() throws SEPAException
+  {
+    try
+    {
+      if (dublettenpruefung == null)
+      {
+        return;
+      }
+      if (sortiert != null)
+      {
+        sortiert.durchlaufen(z -> dublettenpruefung.add(getKennung(z),
+            z.getBetrag(), z.getFaelligkeit()));
+        return;
+      }
+      for (Zahler z : zahlerarray)
+      {
+        dublettenpruefung.add(getKennung(z), z.getBetrag(),
+            z.getFaelligkeit());
+      }
+    }
+    catch (IOException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+    finally
+    {
+      schliesseSortierung();
+    }
+  }
+
+  private void uebernehmeKomprimierte()
   {
     if (komprimiert)
     {
@@ -221,31 +688,6 @@ public class Basislastschrift
         zahlerarray.add(zahler);
       }
     }
-    Document doc = new Document();
-    doc.setCstmrDrctDbtInitn(getCustumerDirectDebitInitiationV02());
-
-    /*
-     * Die standardmässig von xjc erzeugte Document-Klasse erzeugt beim
-     * marshall-Aufruf immer einen "ns2"-Zusatz. Durch hinzufügen eines
-     * 
-     * @XmlRootElementes in die Klasse document wird das vermieden.
-     * 
-     * @XmlRootElement(name="Document")
-     * 
-     * @XmlAccessorType(XmlAccessType.FIELD)
-     * 
-     * @XmlType(name = "Document", propOrder = {"cstmrDrctDbtInitn"
-     * 
-     * public class Document
-     */
-
-    JAXBContext context = JAXBContext.newInstance(Document.class);
-    Marshaller m = context.createMarshaller();
-    m.setProperty(Marshaller.JAXB_SCHEMA_LOCATION,
-        "urn:iso:std:iso:20022:tech:xsd:pain.008.002.02 pain.008.002.02.xsd");
-    m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-    // m.marshal(doc, System.out);
-    m.marshal(doc, file);
   }
 
   /**
@@ -254,59 +696,80 @@ public class Basislastschrift
    */
   public void read(File file) throws JAXBException, SEPAException
   {
-    JAXBContext jc = JAXBContext.newInstance(Document.class);
-    Unmarshaller u = jc.createUnmarshaller();
-    Document doc = (Document) u.unmarshal(file);
-    setMessageID(doc.getCstmrDrctDbtInitn().getGrpHdr().getMsgId());
-    setName(doc.getCstmrDrctDbtInitn().getPmtInf().get(0).getCdtr().getNm());
-    setIBAN(doc.getCstmrDrctDbtInitn().getPmtInf().get(0).getCdtrAcct().getId()
-        .getIBAN());
+    DatatypeFactory df;
+    try
+    {
+      df = DatatypeFactory.newInstance();
+    }
+    catch (DatatypeConfigurationException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+    SEPAKopfdaten k = new SEPAKopfdaten(file, (b, t) -> {
+      Zahler z = new Zahler();
+      z.setBetrag(t.getBetrag());
+      z.setBic(t.getBIC());
+      z.setIban(t.getIBAN());
+      String datum = t.getWert("DrctDbtTx/MndtRltdInf/DtOfSgntr");
+      if (datum != null)
+      {
+        z.setMandatdatum(df.newXMLGregorianCalendar(datum.trim())
+            .toGregorianCalendar().getTime());
+      }
+      z.setMandatid(t.getMandatID());
+      z.setMandatsequence(MandatSequence.fromString(b.getSequenz()));
+      z.setFaelligkeit(b.getAusfuehrungsdatum());
+      z.setName(t.getName());
+      z.setVerwendungszweck(t.getVerwendungszweck());
+      zahlerarray.add(z);
+      zahlermap.put(z.getMandatid(), z);
+      if (glaeubigerid == null)
+      {
+        String id = t.getWert("DrctDbtTx/CdtrSchmeId/Id/PrvtId/Othr/Id");
+        if (id != null)
+        {
+          setGlaeubigerID(id);
+        }
+      }
+    });
+    if (k.getTyp() != SEPADateityp.PAIN_008_002_02)
+    {
+      throw new SEPAException(
+          "Keine SEPA-Basislastschrift-Datei: " + file.getName());
+    }
+    setMessageID(k.getMessageID());
+    setCreationDateTime(k.getErstellungsdatum());
     int anzahlbuchungen = 0;
     BigDecimal kontrollsumme = new BigDecimal(0);
-    for (PaymentInstructionInformationSDD pii : doc.getCstmrDrctDbtInitn()
-        .getPmtInf())
-    {
-      anzahlbuchungen += Integer.parseInt(pii.getNbOfTxs());
-      setBIC(pii.getCdtrAgt().getFinInstnId().getBIC());
-      kontrollsumme = kontrollsumme.add(pii.getCtrlSum());
-      setCreationDateTime(doc.getCstmrDrctDbtInitn().getGrpHdr().getCreDtTm()
-          .toGregorianCalendar().getTime());
-      // setFaelligskeitsdatum(doc.getCstmrDrctDbtInitn().getPmtInf().get(0)
-      // .getReqdColltnDt().toGregorianCalendar().getTime());
-
-      // TODO
-      setGlaeubigerID(
-          pii.getCdtrSchmeId().getId().getPrvtId().getOthr().getId());
-
-      setGlaeubigerID(doc.getCstmrDrctDbtInitn().getGrpHdr().getInitgPty()
-          .getId().getPrvtId().getOthr().getId());
-      System.out
-          .println(pii.getCdtrSchmeId().getId().getPrvtId().getOthr().getId());
-
-      System.out.println(doc.getCstmrDrctDbtInitn().getGrpHdr().getInitgPty()
-          .getId().getPrvtId().getOthr().getId());
-
-      List<DirectDebitTransactionInformationSDD> liste = pii.getDrctDbtTxInf();
-      for (DirectDebitTransactionInformationSDD ddti : liste)
+    for (SEPAZahlungsblock b : k.getZahlungsbloecke())
+    {
+      if (b == k.getZahlungsbloecke().get(0))
       {
-        Zahler z = new Zahler();
-        z.setBetrag(ddti.getInstdAmt().getValue());
-        z.setBic(ddti.getDbtrAgt().getFinInstnId().getBIC());
-        z.setIban(ddti.getDbtrAcct().getId().getIBAN());
-        z.setMandatdatum(ddti.getDrctDbtTx().getMndtRltdInf().getDtOfSgntr()
-            .toGregorianCalendar().getTime());
-        z.setMandatid(ddti.getPmtId().getEndToEndId());
-        z.setName(ddti.getDbtr().getNm());
-        z.setVerwendungszweck(ddti.getRmtInf().getUstrd());
-        zahlerarray.add(z);
-        zahlermap.put(z.getMandatid(), z);
+        setName(b.getName());
+        setIBAN(b.getIBAN());
+      }
+      anzahlbuchungen += b.getAnzahlBuchungen();
+      setBIC(b.getBIC());
+      if (b.getKontrollsumme() != null)
+      {
+        kontrollsumme = kontrollsumme.add(b.getKontrollsumme());
+      }
+      if (b.getGlaeubigerID() != null)
+      {
+        setGlaeubigerID(b.getGlaeubigerID());
       }
     }
     setAnzahlBuchungen(anzahlbuchungen + "");
     setKontrollsumme(kontrollsumme);
   }
 
-  private CustomerDirectDebitInitiationV02 getCustumerDirectDebitInitiationV02()
+  /**
+   * @param pmtinf
+   *          null: Die Transaktionen werden in die PmtInf-Elemente eingefügt.
+   *          Sonst werden die Zahler je PmtInf-Element in der Liste abgelegt.
+   */
+  private CustomerDirectDebitInitiationV02 getCustumerDirectDebitInitiationV02(
+      List<List<Zahler>> pmtinf)
       throws DatatypeConfigurationException, SEPAException
   {
     CustomerDirectDebitInitiationV02 cddi = new CustomerDirectDebitInitiationV02();
@@ -317,11 +780,16 @@ public class Basislastschrift
     cddi.setGrpHdr(getGroupHeader());
     for (SequenceType1Code sequ : SequenceType1Code.values())
     {
+      ArrayList<Zahler> auswahl = pmtinf != null ? new ArrayList<>() : null;
       PaymentInstructionInformationSDD pmtinstinf = getPaymentInstructionInformationSDD(
-          sequ);
+          sequ, zahlerarray, auswahl);
       if (Integer.parseInt(pmtinstinf.getNbOfTxs()) > 0)
       {
         cddi.getPmtInf().add(pmtinstinf);
+        if (pmtinf != null)
+        {
+          pmtinf.add(auswahl);
+        }
       }
     }
     return cddi;
@@ -350,14 +818,14 @@ public class Basislastschrift
   }
 
   private PaymentInstructionInformationSDD getPaymentInstructionInformationSDD(
-      SequenceType1Code sequence)
+      SequenceType1Code sequence, List<Zahler> zahler, List<Zahler> auswahl)
       throws SEPAException, DatatypeConfigurationException
   {
     PaymentInstructionInformationSDD pii = new PaymentInstructionInformationSDD();
     pii.setBtchBookg(true); // true=Sammelbuchung, false=Einzelbuchung
 
     PartyIdentificationSEPA5 pi5 = new PartyIdentificationSEPA5();
-    pi5.setNm(Zeichen.convert(getName()));
+    pi5.setNm(pool.getKonvertiert(getName()));
     pii.setCdtr(pi5);
 
     CashAccountSEPA1 ca1 = new CashAccountSEPA1();
@@ -372,19 +840,7 @@ public class Basislastschrift
     bafii.setFinInstnId(fii);
     pii.setCdtrAgt(bafii);
 
-    PartySEPA2 p2 = new PartySEPA2();
-    RestrictedPersonIdentificationSEPA rpi = new RestrictedPersonIdentificationSEPA();
-    rpi.setId(getGlaeubigerID());
-    RestrictedPersonIdentificationSchemeNameSEPA rpisn = new RestrictedPersonIdentificationSchemeNameSEPA();
-    rpisn.setPrtry(IdentificationSchemeNameSEPA.SEPA);
-    rpi.setSchmeNm(rpisn);
-    PersonIdentificationSEPA2 pi2 = new PersonIdentificationSEPA2();
-    pi2.setOthr(rpi);
-    p2.setPrvtId(pi2);
-
-    // PartyIdentificationSEPA3 pi3 = new PartyIdentificationSEPA3();
-    // pi3.setId(p2);
-    // pii.setCdtrSchmeId(pi3);
+    // pii.setCdtrSchmeId(glaeubigerschema);
 
     pii.setChrgBr(ChargeBearerTypeSEPACode.SLEV);
     pii.setPmtInfId(getMessageID());
@@ -393,12 +849,19 @@ public class Basislastschrift
 
     BigDecimal seqKontrollsumme = new BigDecimal(0);
     int seqAnzahl = 0;
-    for (Zahler z : zahlerarray)
+    for (Zahler z : zahler)
     {
       if (z.getMandatsequence().getCode().compareTo(sequence) == 0)
       {
-        pii.setReqdColltnDt(getYYYMMDD(z.getFaelligkeit()));
-        pii.getDrctDbtTxInf().add(getDirectDebitTransactionInformationSDD(z));
+        pii.setReqdColltnDt(pool.getDatum(z.getFaelligkeit()));
+        if (auswahl == null)
+        {
+          pii.getDrctDbtTxInf().add(getDirectDebitTransactionInformationSDD(z));
+        }
+        else
+        {
+          auswahl.add(z);
+        }
         seqKontrollsumme = seqKontrollsumme.add(z.getBetrag());
         seqAnzahl++;
       }
@@ -408,22 +871,6 @@ public class Basislastschrift
     return pii;
   }
 
-  private static XMLGregorianCalendar getYYYMMDD(Date date)
-      throws DatatypeConfigurationException
-  {
-    GregorianCalendar gc = new GregorianCalendar();
-    gc.setTime(date);
-    XMLGregorianCalendar xmlgc = DatatypeFactory.newInstance()
-        .newXMLGregorianCalendar(gc);
-
-    XMLGregorianCalendar xmlGregorianCalendar = DatatypeFactory.newInstance()
-        .newXMLGregorianCalendar();
-    xmlGregorianCalendar.setDay(xmlgc.getDay());
-    xmlGregorianCalendar.setMonth(xmlgc.getMonth());
-    xmlGregorianCalendar.setYear(xmlgc.getYear());
-    return xmlGregorianCalendar;
-  }
-
   private static XMLGregorianCalendar getYYYMMDDHHMMSS(Date date)
       throws DatatypeConfigurationException
   {
@@ -458,36 +905,23 @@ public class Basislastschrift
     DirectDebitTransactionSDD ddt = new DirectDebitTransactionSDD();
     MandateRelatedInformationSDD mri = new MandateRelatedInformationSDD();
     mri.setMndtId(z.getMandatid());
-    mri.setDtOfSgntr(getYYYMMDD(z.getMandatdatum()));
+    mri.setDtOfSgntr(pool.getDatum(z.getMandatdatum()));
     mri.setAmdmntInd(false);
 
-    RestrictedPersonIdentificationSchemeNameSEPA rpisn = new RestrictedPersonIdentificationSchemeNameSEPA();
-    rpisn.setPrtry(IdentificationSchemeNameSEPA.SEPA);
-    RestrictedPersonIdentificationSEPA rpi = new RestrictedPersonIdentificationSEPA();
-    rpi.setId(getGlaeubigerID());
-    rpi.setSchmeNm(rpisn);
-    PersonIdentificationSEPA2 pi2 = new PersonIdentificationSEPA2();
-    pi2.setOthr(rpi);
-    PartySEPA2 p2 = new PartySEPA2();
-    p2.setPrvtId(pi2);
-
-    PartyIdentificationSEPA3 pi3 = new PartyIdentificationSEPA3();
-
-    pi3.setId(p2);
-    ddt.setCdtrSchmeId(pi3);
+    ddt.setCdtrSchmeId(glaeubigerschema);
 
     ddt.setMndtRltdInf(mri);
     ddti.setDrctDbtTx(ddt);
 
     BranchAndFinancialInstitutionIdentificationSEPA1 bafiis = new BranchAndFinancialInstitutionIdentificationSEPA1();
     FinancialInstitutionIdentificationSEPA1 fii = new FinancialInstitutionIdentificationSEPA1();
-    fii.setBIC(z.getBic());
+    fii.setBIC(pool.get(z.getBic()));
     bafiis.setFinInstnId(fii);
 
     ddti.setDbtrAgt(bafiis);
 
     PartyIdentificationSEPA2 pi22 = new PartyIdentificationSEPA2();
-    pi22.setNm(Zeichen.convert(z.getName()));
+    pi22.setNm(pool.getKonvertiert(z.getName()));
     ddti.setDbtr(pi22);
 
     CashAccountSEPA2 ca2 = new CashAccountSEPA2();
@@ -497,7 +931,7 @@ public class Basislastschrift
     ddti.setDbtrAcct(ca2);
 
     RemittanceInformationSEPA1Choice ris = new RemittanceInformationSEPA1Choice();
-    ris.setUstrd(z.getVerwendungszweck());
+    ris.setUstrd(pool.get(z.getVerwendungszweck()));
     ddti.setRmtInf(ris);
     return ddti;
   }
@@ -506,12 +940,8 @@ public class Basislastschrift
       SequenceType1Code sequence)
   {
     PaymentTypeInformationSDD pti = new PaymentTypeInformationSDD();
-    ServiceLevelSEPA sls = new ServiceLevelSEPA();
-    sls.setCd(ServiceLevelSEPACode.SEPA);
-    pti.setSvcLvl(sls);
-    LocalInstrumentSEPA lis = new LocalInstrumentSEPA();
-    lis.setCd(LocalInstrumentSEPACode.CORE);
-    pti.setLclInstrm(lis);
+    pti.setSvcLvl(servicelevel);
+    pti.setLclInstrm(lokalinstrument);
     pti.setSeqTp(sequence);
     return pti;
   }
@@ -640,6 +1070,56 @@ public class Basislastschrift
     this.komprimiert = komprimiert;
   }
 
+  /**
+   * Validierung. Ist sie eingeschaltet, wird die Datei während des Schreibens
+   * gegen das XSD-Schema geprüft (siehe SEPAValidierung). Verstöße führen zu
+   * einer SEPAException; die Ausgabe wird verworfen.
+   */
+  public void setValidierung(boolean validierung)
+  {
+    this.validierung = validierung;
+  }
+
+  /**
+   * Paralleles Schreiben. Ist ein ParallelWriter gesetzt, werden die
+   * Transaktionen blockweise in mehreren Threads erzeugt.
+   */
+  public void setParallelWriter(SEPAParallelWriter parallelwriter)
+  {
+    this.parallelwriter = parallelwriter;
+  }
+
+  /**
+   * Sortierung der Transaktionen vor dem Schreiben, z. B. nach
+   * Zahler.NACH_BIC_IBAN. Die Sortierung arbeitet mit dem angegebenen
+   * Speicherbudget (Bytes) und lagert größere Datenmengen in temporäre
+   * Dateien aus. Die sortierten Zahler werden direkt aus der Sortierung
+   * geschrieben und nicht wieder in den Speicher geladen; nach dem Schreiben
+   * ist getZahler() daher leer. Nur mit ParallelWriter werden alle Zahler
+   * wieder geladen, getZahler() enthält sie dann in sortierter Reihenfolge.
+   *
+   * @param sortierung
+   *          null: Reihenfolge der Übergabe
+   */
+  public void setSortierung(Comparator<? super Zahler> sortierung,
+      long speicher)
+  {
+    this.sortierung = sortierung;
+    this.sortierspeicher = speicher;
+  }
+
+  /**
+   * Dublettenprüfung. Ist sie gesetzt, wird vor dem Schreiben geprüft, ob
+   * Lastschriften mit gleicher Gläubiger-ID, Mandats-ID, gleichem Betrag und
+   * Fälligkeitsdatum bereits eingereicht wurden. In dem Fall wird eine
+   * SEPAException mit dem Fehler DUBLETTE geworfen. Nach dem Schreiben werden
+   * die Lastschriften registriert.
+   */
+  public void setDublettenpruefung(SEPADublettenpruefung dublettenpruefung)
+  {
+    this.dublettenpruefung = dublettenpruefung;
+  }
+
   /**
    * Wird nur intern beim einlesen einer Datei genutzt.
    */
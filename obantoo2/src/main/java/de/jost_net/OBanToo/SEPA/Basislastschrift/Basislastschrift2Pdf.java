@@ -5,8 +5,8 @@
 package de.jost_net.OBanToo.SEPA.Basislastschrift;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
@@ -26,6 +26,7 @@ import com.itextpdf.text.pdf.PdfWriter;
 
 import de.jost_net.OBanToo.Dtaus.HeaderFooter;
 import de.jost_net.OBanToo.SEPA.SEPAException;
+import de.jost_net.OBanToo.Tools.Ausgabe;
 import de.jost_net.OBanToo.Tools.Util;
 
 /**
@@ -65,11 +66,28 @@ public class Basislastschrift2Pdf
 
   public Basislastschrift2Pdf(Basislastschrift bl, String pdffile)
       throws IOException, SEPAException, DocumentException
+  {
+    try (Ausgabe ausgabe = Ausgabe.of(Paths.get(pdffile)))
+    {
+      erzeuge(bl, ausgabe);
+    }
+  }
+
+  /**
+   * Schreibt das PDF in ein beliebiges Ziel. Das Ziel wird nicht geschlossen.
+   */
+  public Basislastschrift2Pdf(Basislastschrift bl, Ausgabe ausgabe)
+      throws IOException, SEPAException, DocumentException
+  {
+    erzeuge(bl, ausgabe);
+  }
+
+  private void erzeuge(Basislastschrift bl, Ausgabe ausgabe)
+      throws IOException, SEPAException, DocumentException
   {
     Document doc = new Document();
-    FileOutputStream out = new FileOutputStream(pdffile);
 
-    PdfWriter writer = PdfWriter.getInstance(doc, out);
+    PdfWriter writer = PdfWriter.getInstance(doc, ausgabe.getStream());
     doc.setMargins(80, 30, 20, 30); // links, rechts, oben, unten
     doc.addAuthor("OBanToo");
     doc.addTitle("Basislastschrift2PDF");
@@ -127,7 +145,6 @@ public class Basislastschrift2Pdf
     doc.add(table);
 
     doc.close();
-    out.close();
   }
 
   private void outputHeader(Basislastschrift bl, Document doc)
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA.Basislastschrift;
+
+import javax.xml.stream.XMLStreamException;
+
+import de.jost_net.OBanToo.SEPA.Datei.SEPAXMLWriter;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.BranchAndFinancialInstitutionIdentificationSEPA1;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.CashAccountSEPA1;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.CashAccountSEPA2;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.CustomerDirectDebitInitiationV02;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.DirectDebitTransactionInformationSDD;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.DirectDebitTransactionSDD;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.Document;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.GroupHeaderSDD;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.MandateRelatedInformationSDD;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.PartyIdentificationSEPA1;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.PartyIdentificationSEPA2;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.PartyIdentificationSEPA3;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.PartyIdentificationSEPA5;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.PaymentInstructionInformationSDD;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.PaymentTypeInformationSDD;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.PostalAddressSEPA;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.RestrictedPersonIdentificationSEPA;
+
+/**
+ * Schreibt die JAXB-Objekte einer pain.008.002.02-Datei ohne Marshaller. Die
+ * Elemente werden in der Reihenfolge des Schemas (propOrder) ausgegeben.
+ * Abgedeckt sind die Elemente, die Basislastschrift erzeugt, sowie die
+ * einfachen optionalen Elemente. Ist ein nicht abgedecktes Element gefüllt,
+ * wird eine XMLStreamException geworfen, damit keine Daten verloren gehen.
+ */
+final class BasislastschriftSerialisierer
+{
+  private BasislastschriftSerialisierer()
+  {
+  }
+
+  /**
+   * Schreibt das Document zwischen writeAnfang() und writeEnde().
+   */
+  static void write(SEPAXMLWriter w, Document doc) throws XMLStreamException
+  {
+    CustomerDirectDebitInitiationV02 cddi = doc.getCstmrDrctDbtInitn();
+    writeKopf(w, cddi);
+    for (PaymentInstructionInformationSDD pii : cddi.getPmtInf())
+    {
+      write(w, pii);
+    }
+    w.end();
+  }
+
+  /**
+   * Öffnet das CstmrDrctDbtInitn-Element und schreibt den GrpHdr. Die
+   * PmtInf-Elemente und das Schließen mit w.end() übernimmt der Aufrufer.
+   */
+  static void writeKopf(SEPAXMLWriter w, CustomerDirectDebitInitiationV02 cddi)
+      throws XMLStreamException
+  {
+    w.start("CstmrDrctDbtInitn");
+    write(w, cddi.getGrpHdr());
+  }
+
+  private static void write(SEPAXMLWriter w, GroupHeaderSDD grH)
+      throws XMLStreamException
+  {
+    w.start("GrpHdr");
+    w.element("MsgId", grH.getMsgId());
+    w.element("CreDtTm", grH.getCreDtTm());
+    w.element("NbOfTxs", grH.getNbOfTxs());
+    w.element("CtrlSum", grH.getCtrlSum());
+    write(w, "InitgPty", grH.getInitgPty());
+    w.end();
+  }
+
+  static void write(SEPAXMLWriter w, PaymentInstructionInformationSDD pii)
+      throws XMLStreamException
+  {
+    writeKopf(w, pii);
+    for (DirectDebitTransactionInformationSDD ddti : pii.getDrctDbtTxInf())
+    {
+      write(w, ddti);
+    }
+    w.end();
+  }
+
+  /**
+   * Öffnet das PmtInf-Element und schreibt seine Kopfdaten. Die Transaktionen
+   * und das Schließen mit w.end() übernimmt der Aufrufer.
+   */
+  static void writeKopf(SEPAXMLWriter w, PaymentInstructionInformationSDD pii)
+      throws XMLStreamException
+  {
+    w.start("PmtInf");
+    w.element("PmtInfId", pii.getPmtInfId());
+    w.element("PmtMtd",
+        pii.getPmtMtd() != null ? pii.getPmtMtd().value() : null);
+    w.element("BtchBookg", pii.isBtchBookg());
+    w.element("NbOfTxs", pii.getNbOfTxs());
+    w.element("CtrlSum", pii.getCtrlSum());
+    write(w, pii.getPmtTpInf());
+    w.element("ReqdColltnDt", pii.getReqdColltnDt());
+    PartyIdentificationSEPA5 cdtr = pii.getCdtr();
+    if (cdtr != null)
+    {
+      w.start("Cdtr");
+      w.element("Nm", cdtr.getNm());
+      write(w, cdtr.getPstlAdr());
+      w.end();
+    }
+    write(w, "CdtrAcct", pii.getCdtrAcct());
+    write(w, "CdtrAgt", pii.getCdtrAgt());
+    write(w, "UltmtCdtr", pii.getUltmtCdtr());
+    w.element("ChrgBr",
+        pii.getChrgBr() != null ? pii.getChrgBr().value() : null);
+    write(w, "CdtrSchmeId", pii.getCdtrSchmeId());
+  }
+
+  private static void write(SEPAXMLWriter w, PaymentTypeInformationSDD pti)
+      throws XMLStreamException
+  {
+    if (pti == null)
+    {
+      return;
+    }
+    w.start("PmtTpInf");
+    if (pti.getSvcLvl() != null)
+    {
+      w.start("SvcLvl");
+      w.element("Cd", pti.getSvcLvl().getCd().value());
+      w.end();
+    }
+    if (pti.getLclInstrm() != null)
+    {
+      w.start("LclInstrm");
+      w.element("Cd", pti.getLclInstrm().getCd().value());
+      w.end();
+    }
+    w.element("SeqTp",
+        pti.getSeqTp() != null ? pti.getSeqTp().value() : null);
+    if (pti.getCtgyPurp() != null)
+    {
+      w.start("CtgyPurp");
+      w.element("Cd", pti.getCtgyPurp().getCd());
+      w.end();
+    }
+    w.end();
+  }
+
+  /**
+   * Schreibt eine Transaktion. Wird auch für die Fragmente des
+   * SEPAParallelWriter genutzt.
+   */
+  static void write(SEPAXMLWriter w, DirectDebitTransactionInformationSDD ddti)
+      throws XMLStreamException
+  {
+    w.start("DrctDbtTxInf");
+    if (ddti.getPmtId() != null)
+    {
+      w.start("PmtId");
+      w.element("InstrId", ddti.getPmtId().getInstrId());
+      w.element("EndToEndId", ddti.getPmtId().getEndToEndId());
+      w.end();
+    }
+    if (ddti.getInstdAmt() != null)
+    {
+      w.betrag("InstdAmt",
+          ddti.getInstdAmt().getCcy() != null
+              ? ddti.getInstdAmt().getCcy().value()
+              : null,
+          ddti.getInstdAmt().getValue());
+    }
+    w.element("ChrgBr",
+        ddti.getChrgBr() != null ? ddti.getChrgBr().value() : null);
+    DirectDebitTransactionSDD ddt = ddti.getDrctDbtTx();
+    if (ddt != null)
+    {
+      w.start("DrctDbtTx");
+      MandateRelatedInformationSDD mri = ddt.getMndtRltdInf();
+      if (mri != null)
+      {
+        w.start("MndtRltdInf");
+        w.element("MndtId", mri.getMndtId());
+        w.element("DtOfSgntr", mri.getDtOfSgntr());
+        w.element("AmdmntInd", mri.isAmdmntInd());
+        nichtUnterstuetzt("AmdmntInfDtls", mri.getAmdmntInfDtls());
+        w.element("ElctrncSgntr", mri.getElctrncSgntr());
+        w.end();
+      }
+      write(w, "CdtrSchmeId", ddt.getCdtrSchmeId());
+      w.end();
+    }
+    write(w, "UltmtCdtr", ddti.getUltmtCdtr());
+    write(w, "DbtrAgt", ddti.getDbtrAgt());
+    write(w, "Dbtr", ddti.getDbtr());
+    write(w, "DbtrAcct", ddti.getDbtrAcct());
+    write(w, "UltmtDbtr", ddti.getUltmtDbtr());
+    if (ddti.getPurp() != null)
+    {
+      w.start("Purp");
+      w.element("Cd", ddti.getPurp().getCd());
+      w.end();
+    }
+    if (ddti.getRmtInf() != null)
+    {
+      w.start("RmtInf");
+      w.element("Ustrd", ddti.getRmtInf().getUstrd());
+      nichtUnterstuetzt("Strd", ddti.getRmtInf().getStrd());
+      w.end();
+    }
+    w.end();
+  }
+
+  private static void write(SEPAXMLWriter w, String name,
+      PartyIdentificationSEPA1 pi) throws XMLStreamException
+  {
+    if (pi == null)
+    {
+      return;
+    }
+    w.start(name);
+    w.element("Nm", pi.getNm());
+    nichtUnterstuetzt(name + "/Id", pi.getId());
+    w.end();
+  }
+
+  private static void write(SEPAXMLWriter w, String name,
+      PartyIdentificationSEPA2 pi) throws XMLStreamException
+  {
+    if (pi == null)
+    {
+      return;
+    }
+    w.start(name);
+    w.element("Nm", pi.getNm());
+    write(w, pi.getPstlAdr());
+    nichtUnterstuetzt(name + "/Id", pi.getId());
+    w.end();
+  }
+
+  /**
+   * Gläubiger-Identifikation (CdtrSchmeId)
+   */
+  private static void write(SEPAXMLWriter w, String name,
+      PartyIdentificationSEPA3 pi) throws XMLStreamException
+  {
+    if (pi == null)
+    {
+      return;
+    }
+    RestrictedPersonIdentificationSEPA rpi = pi.getId().getPrvtId().getOthr();
+    w.start(name);
+    w.start("Id");
+    w.start("PrvtId");
+    w.start("Othr");
+    w.element("Id", rpi.getId());
+    if (rpi.getSchmeNm() != null)
+    {
+      w.start("SchmeNm");
+      w.element("Prtry", rpi.getSchmeNm().getPrtry().value());
+      w.end();
+    }
+    w.end();
+    w.end();
+    w.end();
+    w.end();
+  }
+
+  private static void write(SEPAXMLWriter w, String name, CashAccountSEPA1 ca)
+      throws XMLStreamException
+  {
+    if (ca == null)
+    {
+      return;
+    }
+    w.start(name);
+    w.start("Id");
+    w.element("IBAN", ca.getId().getIBAN());
+    w.end();
+    w.element("Ccy", ca.getCcy());
+    w.end();
+  }
+
+  private static void write(SEPAXMLWriter w, String name, CashAccountSEPA2 ca)
+      throws XMLStreamException
+  {
+    if (ca == null)
+    {
+      return;
+    }
+    w.start(name);
+    w.start("Id");
+    w.element("IBAN", ca.getId().getIBAN());
+    w.end();
+    w.end();
+  }
+
+  private static void write(SEPAXMLWriter w, String name,
+      BranchAndFinancialInstitutionIdentificationSEPA1 bafii)
+      throws XMLStreamException
+  {
+    if (bafii == null)
+    {
+      return;
+    }
+    w.start(name);
+    w.start("FinInstnId");
+    w.element("BIC", bafii.getFinInstnId().getBIC());
+    w.end();
+    w.end();
+  }
+
+  private static void write(SEPAXMLWriter w, PostalAddressSEPA adr)
+      throws XMLStreamException
+  {
+    if (adr == null)
+    {
+      return;
+    }
+    w.start("PstlAdr");
+    w.element("Ctry", adr.getCtry());
+    for (String zeile : adr.getAdrLine())
+    {
+      w.element("AdrLine", zeile);
+    }
+    w.end();
+  }
+
+  private static void nichtUnterstuetzt(String name, Object wert)
+      throws XMLStreamException
+  {
+    if (wert != null)
+    {
+      throw new XMLStreamException(
+          "Element " + name + " wird vom Serialisierer nicht unterstützt");
+    }
+  }
+}
@@ -4,8 +4,12 @@
  */
 package de.jost_net.OBanToo.SEPA.Basislastschrift;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.text.MessageFormat;
+import java.util.Comparator;
 import java.util.Date;
 
 import de.jost_net.OBanToo.SEPA.BIC;
@@ -13,6 +17,7 @@ import de.jost_net.OBanToo.SEPA.IBAN;
 import de.jost_net.OBanToo.SEPA.SEPAException;
 import de.jost_net.OBanToo.SEPA.Nachricht.pain_008_002_02.SequenceType1Code;
 import de.jost_net.OBanToo.StringLatin.Zeichen;
+import de.jost_net.OBanToo.Tools.ExterneSortierung;
 
 public class Zahler
 {
@@ -46,6 +51,67 @@ public class Zahler
    */
   private int verwendungszwecke = 0;
 
+  /**
+   * Reihenfolge nach BIC und IBAN des Zahlungspflichtigen, z. B. für
+   * Basislastschrift.setSortierung()
+   */
+  public static final Comparator<Zahler> NACH_BIC_IBAN = Comparator
+      .comparing((Zahler z) -> z.bic, Comparator.nullsFirst(
+          Comparator.<String> naturalOrder()))
+      .thenComparing(z -> z.iban,
+          Comparator.nullsFirst(Comparator.<String> naturalOrder()));
+
+  /**
+   * Reihenfolge nach Sequenz wie die PmtInf-Elemente der Basislastschrift.
+   * Die Sequenz muss gesetzt sein.
+   */
+  static final Comparator<Zahler> NACH_SEQUENZ = Comparator
+      .comparing((Zahler z) -> z.mandatsequence.getCode());
+
+  /**
+   * Binärformat für die Auslagerung bei der externen Sortierung
+   */
+  static final ExterneSortierung.Satzformat<Zahler> FORMAT = new ExterneSortierung.Satzformat<Zahler>()
+  {
+    @Override
+    public void schreibe(DataOutput out, Zahler z) throws IOException
+    {
+      ExterneSortierung.schreibeText(out, z.mandatid);
+      ExterneSortierung.schreibeDatum(out, z.mandatdatum);
+      ExterneSortierung.schreibeText(out, z.bic);
+      ExterneSortierung.schreibeText(out, z.name);
+      ExterneSortierung.schreibeText(out, z.nameorig);
+      ExterneSortierung.schreibeText(out, z.iban);
+      ExterneSortierung.schreibeText(out, z.verwendungszweck);
+      ExterneSortierung.schreibeText(out, z.verwendungszweckorig);
+      ExterneSortierung.schreibeBetrag(out, z.betrag);
+      out.writeByte(
+          z.mandatsequence != null ? z.mandatsequence.ordinal() : -1);
+      ExterneSortierung.schreibeDatum(out, z.faelligkeit);
+      out.writeInt(z.verwendungszwecke);
+    }
+
+    @Override
+    public Zahler lese(DataInput in) throws IOException
+    {
+      Zahler z = new Zahler();
+      z.mandatid = ExterneSortierung.leseText(in);
+      z.mandatdatum = ExterneSortierung.leseDatum(in);
+      z.bic = ExterneSortierung.leseText(in);
+      z.name = ExterneSortierung.leseText(in);
+      z.nameorig = ExterneSortierung.leseText(in);
+      z.iban = ExterneSortierung.leseText(in);
+      z.verwendungszweck = ExterneSortierung.leseText(in);
+      z.verwendungszweckorig = ExterneSortierung.leseText(in);
+      z.betrag = ExterneSortierung.leseBetrag(in);
+      int seq = in.readByte();
+      z.mandatsequence = seq >= 0 ? MandatSequence.values()[seq] : null;
+      z.faelligkeit = ExterneSortierung.leseDatum(in);
+      z.verwendungszwecke = in.readInt();
+      return z;
+    }
+  };
+
   /**
    * Gibt die Mandats-ID zurück
    */
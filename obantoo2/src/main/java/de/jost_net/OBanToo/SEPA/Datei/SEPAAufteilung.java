@@ -0,0 +1,530 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA.Datei;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import de.jost_net.OBanToo.SEPA.SEPAException;
+
+/**
+ * <h1>Aufteilen von SEPA-Dateien</h1>
+ * <p>
+ * Teilt eine pain.001- oder pain.008-Datei anhand eines Schlüssels auf
+ * mehrere Dateien auf, z. B. nach Sequenz (FRST/RCUR), Fälligkeitsdatum oder
+ * BIC der Zahlerbank. Der Schlüssel wird für jede Transaktion aus den
+ * Kopfdaten des PmtInf-Elementes und den Werten der Transaktion ermittelt.
+ * Jede Ausgabedatei erhält einen eigenen Gruppenkopf mit neuer Message-ID
+ * (Message-ID der Eingabe mit angehängter laufender Nummer) und eigene
+ * Kontrollsummen. Die PmtInf-Elemente behalten ihre Kopfdaten.
+ * </p>
+ * <p>
+ * Die Eingabe wird einmal mit StAX gelesen. Da NbOfTxs und CtrlSum vor den
+ * Transaktionen stehen, werden die Transaktionen aller Ausgaben in eine
+ * gemeinsame temporäre Datei geschrieben und am Ende hinter die Kopfdaten
+ * kopiert. Im Speicher werden nur die Kopfdaten der PmtInf-Elemente gehalten,
+ * geöffnet ist unabhängig von der Anzahl der Schlüssel nur eine Datei.
+ * </p>
+ * <code>
+ * SEPAAufteilung a = new SEPAAufteilung(SEPAAufteilung.SEQUENZ);<br>
+ * a.write(new File("gesamt.xml"),<br>
+ *     s -&gt; new FileOutputStream("lastschrift-" + s + ".xml"));<br>
+ * </code>
+ */
+public class SEPAAufteilung
+{
+  /**
+   * Ermittelt den Schlüssel der Ausgabedatei für eine Transaktion.
+   */
+  @FunctionalInterface
+  public interface Schluessel
+  {
+    String get(SEPAZahlungsblock block, SEPATransaktion transaktion);
+  }
+
+  /**
+   * Liefert den Ausgabestream zu einem Schlüssel. Der Stream wird nach dem
+   * Schreiben geschlossen.
+   */
+  @FunctionalInterface
+  public interface Ziel
+  {
+    OutputStream get(String schluessel) throws IOException;
+  }
+
+  /**
+   * Aufteilung nach Sequenz (FRST, RCUR, OOFF, FNAL)
+   */
+  public static final Schluessel SEQUENZ = (b, t) -> b.getSequenz();
+
+  /**
+   * Aufteilung nach Fälligkeits- bzw. Ausführungsdatum im Format yyyy-MM-dd
+   */
+  public static final Schluessel DATUM = (b, t) -> new SimpleDateFormat(
+      "yyyy-MM-dd").format(b.getAusfuehrungsdatum());
+
+  /**
+   * Aufteilung nach BIC der Bank des Zahlers bzw. Empfängers
+   */
+  public static final Schluessel BIC = (b, t) -> t.getBIC();
+
+  /**
+   * Kopfdaten eines PmtInf-Elementes der Eingabe als XML-Fragment ohne
+   * NbOfTxs und CtrlSum
+   */
+  private static final class Kopf
+  {
+    byte[] daten;
+
+    int anzahl = -1;
+
+    int summe = -1;
+  }
+
+  /**
+   * Transaktionen eines PmtInf-Elementes in einer Ausgabe
+   */
+  private static final class Abschnitt
+  {
+    final Kopf kopf;
+
+    int anzahl;
+
+    BigDecimal summe = BigDecimal.ZERO;
+
+    /**
+     * Position des ersten und letzten Eintrags in der temporären Datei
+     */
+    long erster = -1;
+
+    long letzter = -1;
+
+    Abschnitt(Kopf kopf)
+    {
+      this.kopf = kopf;
+    }
+  }
+
+  private static final class Ausgabe
+  {
+    final ArrayList<Abschnitt> abschnitte = new ArrayList<>();
+
+    int anzahl;
+
+    BigDecimal summe = BigDecimal.ZERO;
+  }
+
+  /**
+   * Puffer einer Transaktion, der ohne Kopie in den Spool geschrieben wird
+   */
+  private static final class Puffer extends ByteArrayOutputStream
+  {
+    byte[] getDaten()
+    {
+      return buf;
+    }
+  }
+
+  /**
+   * Gemeinsame temporäre Datei für die Transaktionen aller Ausgaben. Jeder
+   * Eintrag beginnt mit der Position des nächsten Eintrags desselben
+   * Abschnitts (-1 am Ende) und seiner Länge. Die Position wird nachgetragen,
+   * sobald der nächste Eintrag geschrieben ist. Je Abschnitt werden so nur
+   * der erste und der letzte Eintrag gemerkt.
+   */
+  private static final class Spool implements Closeable
+  {
+    private static final int KOPF = 12;
+
+    private final File file;
+
+    private final FileChannel channel;
+
+    private final ByteBuffer puffer = ByteBuffer.allocate(65536);
+
+    /**
+     * Dateiposition des Pufferanfangs
+     */
+    private long basis;
+
+    Spool() throws IOException
+    {
+      file = File.createTempFile("obantoo", ".tmp");
+      channel = FileChannel.open(file.toPath(), StandardOpenOption.READ,
+          StandardOpenOption.WRITE);
+    }
+
+    void add(Abschnitt ab, Puffer daten) throws IOException
+    {
+      int laenge = daten.size();
+      if (puffer.remaining() < KOPF + laenge)
+      {
+        flush();
+      }
+      long pos = basis + puffer.position();
+      if (puffer.remaining() < KOPF + laenge)
+      {
+        // Größer als der Puffer: direkt schreiben
+        ByteBuffer kopf = ByteBuffer.allocate(KOPF);
+        kopf.putLong(-1).putInt(laenge).flip();
+        schreibe(kopf, pos);
+        schreibe(ByteBuffer.wrap(daten.getDaten(), 0, laenge), pos + KOPF);
+        basis = pos + KOPF + laenge;
+      }
+      else
+      {
+        puffer.putLong(-1).putInt(laenge).put(daten.getDaten(), 0, laenge);
+      }
+      if (ab.letzter < 0)
+      {
+        ab.erster = pos;
+      }
+      else if (ab.letzter >= basis)
+      {
+        puffer.putLong((int) (ab.letzter - basis), pos);
+      }
+      else
+      {
+        ByteBuffer naechster = ByteBuffer.allocate(8);
+        naechster.putLong(pos).flip();
+        schreibe(naechster, ab.letzter);
+      }
+      ab.letzter = pos;
+    }
+
+    void flush() throws IOException
+    {
+      puffer.flip();
+      long pos = basis + puffer.remaining();
+      schreibe(puffer, basis);
+      puffer.clear();
+      basis = pos;
+    }
+
+    /**
+     * Kopiert die Einträge des Abschnitts in der Reihenfolge ihres
+     * Hinzufügens.
+     */
+    void kopiere(Abschnitt ab, OutputStream os) throws IOException
+    {
+      ByteBuffer kopf = ByteBuffer.allocate(KOPF);
+      byte[] daten = new byte[8192];
+      long pos = ab.erster;
+      while (pos >= 0)
+      {
+        kopf.clear();
+        lies(kopf, pos);
+        kopf.flip();
+        long naechster = kopf.getLong();
+        int laenge = kopf.getInt();
+        long p = pos + KOPF;
+        while (laenge > 0)
+        {
+          ByteBuffer bb = ByteBuffer.wrap(daten, 0,
+              Math.min(daten.length, laenge));
+          lies(bb, p);
+          os.write(daten, 0, bb.position());
+          p += bb.position();
+          laenge -= bb.position();
+        }
+        pos = naechster;
+      }
+    }
+
+    private void schreibe(ByteBuffer bb, long pos) throws IOException
+    {
+      while (bb.hasRemaining())
+      {
+        pos += channel.write(bb, pos);
+      }
+    }
+
+    private void lies(ByteBuffer bb, long pos) throws IOException
+    {
+      while (bb.hasRemaining())
+      {
+        int n = channel.read(bb, pos);
+        if (n < 0)
+        {
+          throw new IOException("Unerwartetes Ende der temporären Datei");
+        }
+        pos += n;
+      }
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+      try
+      {
+        channel.close();
+      }
+      finally
+      {
+        Files.deleteIfExists(file.toPath());
+      }
+    }
+  }
+
+  private final Schluessel schluessel;
+
+  public SEPAAufteilung(Schluessel schluessel)
+  {
+    this.schluessel = schluessel;
+  }
+
+  /**
+   * @return Schlüssel der geschriebenen Dateien in der Reihenfolge ihres
+   *         ersten Auftretens
+   */
+  public List<String> write(File file, Ziel ziel) throws SEPAException
+  {
+    try (InputStream is = new BufferedInputStream(new FileInputStream(file)))
+    {
+      return write(is, ziel);
+    }
+    catch (IOException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+  }
+
+  /**
+   * Teilt die Datei auf. Der Eingabestream wird nicht geschlossen.
+   *
+   * @return Schlüssel der geschriebenen Dateien in der Reihenfolge ihres
+   *         ersten Auftretens
+   */
+  public List<String> write(InputStream is, Ziel ziel) throws SEPAException
+  {
+    LinkedHashMap<String, Ausgabe> ausgaben = new LinkedHashMap<>();
+    XMLStreamReader r = null;
+    try (Spool spool = new Spool())
+    {
+      DatatypeFactory df = DatatypeFactory.newInstance();
+      XMLOutputFactory factory = XMLOutputFactory.newInstance();
+      r = SEPAXML.createReader(is);
+      SEPADateityp typ = SEPAXML.getTyp(r);
+      String ns = typ.getNamespace();
+      r.nextTag();
+      String nachricht = r.getLocalName();
+      HashMap<String, String> gruppenkopf = new HashMap<>();
+
+      ByteArrayOutputStream kopfbos = new ByteArrayOutputStream();
+      Puffer txbos = new Puffer();
+      XMLStreamWriter txw = factory.createXMLStreamWriter(txbos, "UTF-8");
+      txw.setDefaultNamespace(ns);
+      HashMap<String, String> werte = new HashMap<>();
+
+      while (r.nextTag() == XMLStreamConstants.START_ELEMENT)
+      {
+        if (r.getLocalName().equals("GrpHdr"))
+        {
+          while (r.nextTag() == XMLStreamConstants.START_ELEMENT)
+          {
+            SEPAXML.kopiere(r, null, gruppenkopf);
+          }
+          continue;
+        }
+        if (!r.getLocalName().equals("PmtInf"))
+        {
+          SEPAXML.skip(r);
+          continue;
+        }
+        SEPAZahlungsblock block = new SEPAZahlungsblock();
+        Kopf kopf = new Kopf();
+        kopfbos.reset();
+        XMLStreamWriter kopfw = factory.createXMLStreamWriter(kopfbos,
+            "UTF-8");
+        kopfw.setDefaultNamespace(ns);
+        werte.clear();
+        while (r.nextTag() == XMLStreamConstants.START_ELEMENT)
+        {
+          String name = r.getLocalName();
+          if (name.equals("DrctDbtTxInf") || name.equals("CdtTrfTxInf"))
+          {
+            if (kopf.daten == null)
+            {
+              kopfw.flush();
+              kopf.daten = kopfbos.toByteArray();
+              for (Map.Entry<String, String> e : werte.entrySet())
+              {
+                if (SEPAZahlungsblock.isWert(e.getKey()))
+                {
+                  block.setWert(e.getKey(), e.getValue(), df);
+                }
+              }
+            }
+            SEPATransaktion t = new SEPATransaktion();
+            txbos.reset();
+            txw.writeStartElement(ns, name);
+            while (r.nextTag() == XMLStreamConstants.START_ELEMENT)
+            {
+              SEPAXML.kopiere(r, txw, t.getWerte());
+            }
+            txw.writeEndElement();
+            txw.writeCharacters("\n");
+            txw.flush();
+            BigDecimal betrag = t.getBetrag();
+            if (betrag == null)
+            {
+              throw new SEPAException(
+                  "Transaktion ohne Betrag: " + t.getEndToEndId());
+            }
+            String s = schluessel.get(block, t);
+            Ausgabe a = ausgaben.get(s);
+            if (a == null)
+            {
+              a = new Ausgabe();
+              ausgaben.put(s, a);
+            }
+            Abschnitt ab = a.abschnitte.isEmpty() ? null
+                : a.abschnitte.get(a.abschnitte.size() - 1);
+            if (ab == null || ab.kopf != kopf)
+            {
+              ab = new Abschnitt(kopf);
+              a.abschnitte.add(ab);
+            }
+            spool.add(ab, txbos);
+            ab.anzahl++;
+            ab.summe = ab.summe.add(betrag);
+            a.anzahl++;
+            a.summe = a.summe.add(betrag);
+          }
+          else if (kopf.daten != null)
+          {
+            SEPAXML.skip(r);
+          }
+          else if (name.equals("NbOfTxs"))
+          {
+            SEPAXML.skip(r);
+            kopfw.flush();
+            kopf.anzahl = kopfbos.size();
+          }
+          else if (name.equals("CtrlSum"))
+          {
+            SEPAXML.skip(r);
+            kopfw.flush();
+            kopf.summe = kopfbos.size();
+          }
+          else
+          {
+            SEPAXML.kopiere(r, kopfw, werte);
+          }
+        }
+      }
+
+      spool.flush();
+      ArrayList<String> schluesselliste = new ArrayList<>();
+      int nr = 0;
+      for (Map.Entry<String, Ausgabe> e : ausgaben.entrySet())
+      {
+        Ausgabe a = e.getValue();
+        try (OutputStream os = new BufferedOutputStream(
+            ziel.get(e.getKey())))
+        {
+          XMLStreamWriter w = factory.createXMLStreamWriter(os, "UTF-8");
+          SEPAXML.writeAnfang(w, typ, nachricht,
+              getMessageID(gruppenkopf.get("MsgId"), ++nr), a.anzahl,
+              a.summe, gruppenkopf.get("InitgPty/Nm"));
+          // Ab hier wird direkt in den Stream geschrieben.
+          w.flush();
+          for (Abschnitt ab : a.abschnitte)
+          {
+            write(os, "<PmtInf>");
+            writeKopf(os, ab);
+            spool.kopiere(ab, os);
+            write(os, "</PmtInf>\n");
+          }
+          write(os, "</" + nachricht + "></Document>\n");
+        }
+        schluesselliste.add(e.getKey());
+      }
+      return schluesselliste;
+    }
+    catch (XMLStreamException e)
+    {
+      throw new SEPAException("Ungültige SEPA-Datei: " + e.getMessage());
+    }
+    catch (IllegalArgumentException e)
+    {
+      // Ungültige Zahlen und Datumsangaben
+      throw new SEPAException("Ungültige SEPA-Datei: " + e.getMessage());
+    }
+    catch (IOException | DatatypeConfigurationException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+    finally
+    {
+      SEPAXML.close(r);
+    }
+  }
+
+  /**
+   * Message-ID der Eingabe mit laufender Nummer, gekürzt auf 35 Stellen
+   */
+  private static String getMessageID(String messageid, int nr)
+  {
+    String nummer = "-" + nr;
+    if (messageid.length() + nummer.length() > 35)
+    {
+      messageid = messageid.substring(0, 35 - nummer.length());
+    }
+    return messageid + nummer;
+  }
+
+  private static void writeKopf(OutputStream os, Abschnitt ab)
+      throws IOException
+  {
+    Kopf k = ab.kopf;
+    int pos = 0;
+    if (k.anzahl >= 0)
+    {
+      os.write(k.daten, pos, k.anzahl - pos);
+      write(os, "<NbOfTxs>" + ab.anzahl + "</NbOfTxs>");
+      pos = k.anzahl;
+    }
+    if (k.summe >= 0)
+    {
+      os.write(k.daten, pos, k.summe - pos);
+      write(os, "<CtrlSum>" + ab.summe.toPlainString() + "</CtrlSum>");
+      pos = k.summe;
+    }
+    os.write(k.daten, pos, k.daten.length - pos);
+  }
+
+  private static void write(OutputStream os, String text) throws IOException
+  {
+    os.write(text.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA.Datei;
+
+/**
+ * Die von OBanToo unterstützten SEPA-Nachrichtentypen mit Namespace und
+ * zugehöriger Schema-Datei.
+ */
+public enum SEPADateityp
+{
+  /**
+   * SEPA-Überweisung
+   */
+  PAIN_001_003_03("urn:iso:std:iso:20022:tech:xsd:pain.001.003.03",
+      "pain.001.003.03.xsd"), //
+  /**
+   * SEPA-Basislastschrift
+   */
+  PAIN_008_002_02("urn:iso:std:iso:20022:tech:xsd:pain.008.002.02",
+      "pain.008.002.02.xsd");
+
+  private final String namespace;
+
+  private final String schemadatei;
+
+  private SEPADateityp(String namespace, String schemadatei)
+  {
+    this.namespace = namespace;
+    this.schemadatei = schemadatei;
+  }
+
+  public String getNamespace()
+  {
+    return namespace;
+  }
+
+  public String getSchemaDatei()
+  {
+    return schemadatei;
+  }
+
+  /**
+   * Wert für das Attribut xsi:schemaLocation
+   */
+  public String getSchemaLocation()
+  {
+    return namespace + " " + schemadatei;
+  }
+
+  /**
+   * Ermittelt den Dateityp anhand des Namespaces des Document-Elementes.
+   *
+   * @return Dateityp oder null, wenn der Namespace nicht unterstützt wird.
+   */
+  public static SEPADateityp fromNamespace(String namespace)
+  {
+    for (SEPADateityp typ : SEPADateityp.values())
+    {
+      if (typ.namespace.equals(namespace))
+      {
+        return typ;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,554 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA.Datei;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import de.jost_net.OBanToo.SEPA.SEPAException;
+
+/**
+ * <h1>Erkennung doppelt eingereichter Transaktionen</h1>
+ * <p>
+ * Merkt sich eingereichte Transaktionen über mehrere Programmläufe hinweg.
+ * Eine Transaktion wird durch ihre Kennung (z. B. Gläubiger-ID und
+ * Mandats-ID bzw. Auftraggeber-IBAN und EndToEndId), den Betrag und das
+ * Fälligkeits- bzw. Ausführungsdatum identifiziert.
+ * </p>
+ * <p>
+ * Im Verzeichnis werden zwei Dateien angelegt, die über Memory-Mapping
+ * gelesen und geschrieben werden:
+ * <ul>
+ * <li>dubletten.bloom - Bloom-Filter. Ist eine Transaktion dort nicht
+ * enthalten, ist sie sicher neu.</li>
+ * <li>dubletten.hash - Hash-Tabelle mit 128-Bit-Fingerabdrücken aller
+ * Transaktionen. Sie wird nur bei einem Treffer im Bloom-Filter zur
+ * Bestätigung gelesen.</li>
+ * </ul>
+ * Die Größe des Bloom-Filters wird beim Anlegen aus der erwarteten Anzahl
+ * festgelegt. Wird sie überschritten, steigt nur die Zahl der Bestätigungen
+ * über die Hash-Tabelle. Die Hash-Tabelle wächst bei Bedarf; die größere
+ * Tabelle wird als neue Generation (dubletten.hash.1, dubletten.hash.2, ...)
+ * angelegt, deren Nummer im Kopf des Bloom-Filters steht. Eine noch
+ * abgebildete Datei muss so nie umbenannt werden, was unter Windows nicht
+ * möglich ist.
+ * </p>
+ * <p>
+ * Die Dateien werden beim Öffnen gesperrt und dürfen nur von einem Prozess
+ * gleichzeitig verwendet werden. Die Prüfung wird über
+ * Basislastschrift.setDublettenpruefung() bzw.
+ * Ueberweisung.setDublettenpruefung() eingebunden.
+ * </p>
+ * <code>
+ * try (SEPADublettenpruefung d = new SEPADublettenpruefung(<br>
+ *     new File("historie"), 10000000))<br>
+ * {<br>
+ *   bl.setDublettenpruefung(d);<br>
+ *   bl.write(new File("lastschrift.xml"));<br>
+ * }<br>
+ * </code>
+ */
+public class SEPADublettenpruefung implements Closeable
+{
+  private static final long MAGIC_BLOOM = 0x4f42546f6f426c6fL;
+
+  private static final long MAGIC_HASH = 0x4f42546f6f486173L;
+
+  private static final int KOPF = 64;
+
+  /**
+   * Maximale Belegung der Hash-Tabelle, bevor sie vergrößert wird
+   */
+  private static final double BELEGUNG = 0.7;
+
+  /**
+   * Fehlerrate des Bloom-Filters bei der erwarteten Anzahl
+   */
+  private static final double FEHLERRATE = 0.001;
+
+  private final File verzeichnis;
+
+  private final Abbildung bloom;
+
+  private final long bits;
+
+  private final int hashfunktionen;
+
+  private Abbildung hash;
+
+  /**
+   * Generation der Hash-Tabelle, steht im Kopf des Bloom-Filters
+   */
+  private long generation;
+
+  private long kapazitaet;
+
+  private long anzahl;
+
+  private final MessageDigest digest;
+
+  private final SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMdd");
+
+  private long bestaetigungen;
+
+  /**
+   * Öffnet die Dateien im Verzeichnis oder legt sie an.
+   *
+   * @param erwarteteAnzahl
+   *          Anzahl der Transaktionen, für die der Bloom-Filter ausgelegt
+   *          wird. Wird nur beim Anlegen verwendet.
+   */
+  public SEPADublettenpruefung(File verzeichnis, long erwarteteAnzahl)
+      throws SEPAException
+  {
+    this.verzeichnis = verzeichnis;
+    try
+    {
+      digest = MessageDigest.getInstance("SHA-256");
+    }
+    catch (NoSuchAlgorithmException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+    if (!verzeichnis.isDirectory() && !verzeichnis.mkdirs())
+    {
+      throw new SEPAException(
+          "Verzeichnis kann nicht angelegt werden: " + verzeichnis);
+    }
+    erwarteteAnzahl = Math.max(erwarteteAnzahl, 1000);
+    Abbildung b = null;
+    boolean neu = false;
+    try
+    {
+      File bloomdatei = new File(verzeichnis, "dubletten.bloom");
+      if (bloomdatei.exists())
+      {
+        b = new Abbildung(bloomdatei, -1);
+        pruefeKopf(b, MAGIC_BLOOM, bloomdatei);
+      }
+      else
+      {
+        long m = (long) Math.ceil(-erwarteteAnzahl * Math.log(FEHLERRATE)
+            / (Math.log(2) * Math.log(2)));
+        m = (m + 63) & ~63L;
+        int k = (int) Math.max(1,
+            Math.round((double) m / erwarteteAnzahl * Math.log(2)));
+        b = new Abbildung(bloomdatei, KOPF + m / 8);
+        neu = true;
+        b.putLong(0, MAGIC_BLOOM);
+        b.putLong(8, m);
+        b.putLong(16, k);
+      }
+      bloom = b;
+      bits = bloom.getLong(8);
+      hashfunktionen = (int) bloom.getLong(16);
+      generation = neu ? getLetzteGeneration() : bloom.getLong(24);
+      bloom.putLong(24, generation);
+      entferneAlteGenerationen();
+
+      File hashdatei = getHashdatei(generation);
+      if (hashdatei.exists())
+      {
+        hash = new Abbildung(hashdatei, -1);
+        pruefeKopf(hash, MAGIC_HASH, hashdatei);
+        kapazitaet = hash.getLong(8);
+        anzahl = hash.getLong(16);
+        if (neu)
+        {
+          // Bloom-Filter aus der Hash-Tabelle wiederherstellen
+          for (long slot = 0; slot < kapazitaet; slot++)
+          {
+            long[] h = new long[] { hash.getLong(KOPF + slot * 16),
+                hash.getLong(KOPF + slot * 16 + 8) };
+            if (h[0] != 0 || h[1] != 0)
+            {
+              setBits(h);
+            }
+          }
+        }
+      }
+      else
+      {
+        kapazitaet = getKapazitaet(erwarteteAnzahl);
+        hash = neueTabelle(hashdatei, kapazitaet);
+      }
+    }
+    catch (IOException e)
+    {
+      if (b != null)
+      {
+        b.close();
+      }
+      throw new SEPAException(e.getMessage());
+    }
+  }
+
+  private File getHashdatei(long gen)
+  {
+    return new File(verzeichnis,
+        gen == 0 ? "dubletten.hash" : "dubletten.hash." + gen);
+  }
+
+  /**
+   * Höchste vorhandene Generation der Hash-Tabelle. Wird nur benötigt, wenn
+   * der Bloom-Filter fehlt und neu aufgebaut wird.
+   */
+  private long getLetzteGeneration()
+  {
+    long gen = 0;
+    while (getHashdatei(gen + 1).exists())
+    {
+      gen++;
+    }
+    return gen;
+  }
+
+  /**
+   * Löscht Hash-Tabellen anderer Generationen. Sie bleiben zurück, wenn die
+   * alte Tabelle beim Vergrößern noch abgebildet war oder das Vergrößern
+   * abgebrochen wurde.
+   */
+  private void entferneAlteGenerationen()
+  {
+    File[] dateien = verzeichnis
+        .listFiles((d, name) -> name.matches("dubletten\\.hash(\\.\\d+)?"));
+    if (dateien == null)
+    {
+      return;
+    }
+    File aktuell = getHashdatei(generation);
+    for (File f : dateien)
+    {
+      if (!f.equals(aktuell))
+      {
+        f.delete();
+      }
+    }
+  }
+
+  private static void pruefeKopf(Abbildung a, long magic, File file)
+      throws IOException
+  {
+    if (a.groesse < KOPF || a.getLong(0) != magic)
+    {
+      a.close();
+      throw new IOException("Ungültige Datei: " + file);
+    }
+  }
+
+  private static long getKapazitaet(long anzahl)
+  {
+    long kapazitaet = 1024;
+    while (kapazitaet * BELEGUNG < anzahl)
+    {
+      kapazitaet *= 2;
+    }
+    return kapazitaet;
+  }
+
+  private static Abbildung neueTabelle(File file, long kapazitaet)
+      throws IOException
+  {
+    Abbildung a = new Abbildung(file, KOPF + kapazitaet * 16);
+    a.putLong(0, MAGIC_HASH);
+    a.putLong(8, kapazitaet);
+    a.putLong(16, 0);
+    return a;
+  }
+
+  /**
+   * Prüft, ob die Transaktion bereits registriert wurde.
+   */
+  public synchronized boolean isDublette(String kennung, BigDecimal betrag,
+      Date datum)
+  {
+    long[] h = getHash(kennung, betrag, datum);
+    return isImFilter(h) && suche(h) >= 0;
+  }
+
+  /**
+   * Registriert die Transaktion.
+   *
+   * @return false, wenn die Transaktion bereits registriert war
+   */
+  public synchronized boolean add(String kennung, BigDecimal betrag,
+      Date datum) throws SEPAException
+  {
+    long[] h = getHash(kennung, betrag, datum);
+    if (isImFilter(h) && suche(h) >= 0)
+    {
+      return false;
+    }
+    try
+    {
+      if (anzahl + 1 > kapazitaet * BELEGUNG)
+      {
+        vergroessern();
+      }
+    }
+    catch (IOException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+    long slot = -suche(h) - 1;
+    hash.putLong(KOPF + slot * 16, h[0]);
+    hash.putLong(KOPF + slot * 16 + 8, h[1]);
+    anzahl++;
+    hash.putLong(16, anzahl);
+    setBits(h);
+    return true;
+  }
+
+  private void setBits(long[] h)
+  {
+    for (int i = 0; i < hashfunktionen; i++)
+    {
+      long bit = getBit(h, i);
+      long pos = KOPF + (bit >>> 3);
+      bloom.putByte(pos, (byte) (bloom.getByte(pos) | (1 << (bit & 7))));
+    }
+  }
+
+  /**
+   * Anzahl der registrierten Transaktionen
+   */
+  public synchronized long getAnzahl()
+  {
+    return anzahl;
+  }
+
+  /**
+   * Anzahl der Treffer im Bloom-Filter, die über die Hash-Tabelle bestätigt
+   * bzw. verworfen wurden
+   */
+  public synchronized long getBestaetigungen()
+  {
+    return bestaetigungen;
+  }
+
+  /**
+   * Schreibt die Änderungen auf die Platte und gibt die Dateien frei.
+   */
+  @Override
+  public synchronized void close()
+  {
+    bloom.close();
+    hash.close();
+  }
+
+  /**
+   * 128-Bit-Fingerabdruck der Transaktion. Er ist zugleich die Basis für den
+   * Bloom-Filter und die Position in der Hash-Tabelle.
+   */
+  private long[] getHash(String kennung, BigDecimal betrag, Date datum)
+  {
+    String s = kennung + '\0' + betrag.stripTrailingZeros().toPlainString()
+        + '\0' + (datum != null ? sdf.format(datum) : "");
+    ByteBuffer bb = ByteBuffer
+        .wrap(digest.digest(s.getBytes(StandardCharsets.UTF_8)));
+    long[] h = new long[] { bb.getLong(), bb.getLong() };
+    if (h[0] == 0 && h[1] == 0)
+    {
+      // 0/0 kennzeichnet einen freien Platz
+      h[1] = 1;
+    }
+    return h;
+  }
+
+  private long getBit(long[] h, int i)
+  {
+    return Long.remainderUnsigned(h[0] + i * h[1], bits);
+  }
+
+  private boolean isImFilter(long[] h)
+  {
+    for (int i = 0; i < hashfunktionen; i++)
+    {
+      long bit = getBit(h, i);
+      if ((bloom.getByte(KOPF + (bit >>> 3)) & (1 << (bit & 7))) == 0)
+      {
+        return false;
+      }
+    }
+    bestaetigungen++;
+    return true;
+  }
+
+  /**
+   * Lineares Sondieren in der Hash-Tabelle.
+   *
+   * @return Platz des Fingerabdrucks oder (-Platz - 1) des ersten freien
+   *         Platzes
+   */
+  private long suche(long[] h)
+  {
+    return suche(hash, kapazitaet, h[0], h[1]);
+  }
+
+  private static long suche(Abbildung tabelle, long kapazitaet, long h0,
+      long h1)
+  {
+    long maske = kapazitaet - 1;
+    long slot = (h0 ^ Long.rotateLeft(h1, 32)) & maske;
+    while (true)
+    {
+      long a = tabelle.getLong(KOPF + slot * 16);
+      long b = tabelle.getLong(KOPF + slot * 16 + 8);
+      if (a == 0 && b == 0)
+      {
+        return -slot - 1;
+      }
+      if (a == h0 && b == h1)
+      {
+        return slot;
+      }
+      slot = (slot + 1) & maske;
+    }
+  }
+
+  /**
+   * Verdoppelt die Hash-Tabelle. Die Position wird aus dem Fingerabdruck
+   * abgeleitet, die Kennungen selbst werden nicht gespeichert. Die neue
+   * Tabelle wird unter der nächsten Generation angelegt und erst nach dem
+   * Schreiben im Bloom-Filter eingetragen; bis dahin bleibt die alte Tabelle
+   * gültig.
+   */
+  private void vergroessern() throws IOException
+  {
+    File alt = getHashdatei(generation);
+    long gen = generation + 1;
+    long neu = kapazitaet * 2;
+    Abbildung t = neueTabelle(getHashdatei(gen), neu);
+    for (long slot = 0; slot < kapazitaet; slot++)
+    {
+      long a = hash.getLong(KOPF + slot * 16);
+      long b = hash.getLong(KOPF + slot * 16 + 8);
+      if (a == 0 && b == 0)
+      {
+        continue;
+      }
+      long ziel = -suche(t, neu, a, b) - 1;
+      t.putLong(KOPF + ziel * 16, a);
+      t.putLong(KOPF + ziel * 16 + 8, b);
+    }
+    t.putLong(16, anzahl);
+    t.force();
+    bloom.putLong(24, gen);
+    bloom.force();
+    hash.close();
+    hash = t;
+    generation = gen;
+    kapazitaet = neu;
+    // Solange die Abbildung nicht freigegeben ist, scheitert das Löschen
+    // unter Windows; die Datei wird dann beim nächsten Öffnen entfernt.
+    alt.delete();
+  }
+
+  /**
+   * Über Memory-Mapping abgebildete Datei. Die Abbildung erfolgt in Segmenten,
+   * damit auch Dateien über 2 GB verarbeitet werden können. Die Zugriffe auf
+   * long-Werte müssen an 8 Bytes ausgerichtet sein.
+   */
+  private static final class Abbildung
+  {
+    private static final int SEGMENT = 1 << 30;
+
+    private final FileChannel channel;
+
+    private final FileLock lock;
+
+    private final MappedByteBuffer[] segmente;
+
+    final long groesse;
+
+    /**
+     * @param groesse
+     *          Größe der neuen Datei, -1 für eine bestehende Datei
+     */
+    Abbildung(File file, long groesse) throws IOException
+    {
+      channel = FileChannel.open(file.toPath(), StandardOpenOption.READ,
+          StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+      lock = channel.tryLock();
+      if (lock == null)
+      {
+        channel.close();
+        throw new IOException("Datei ist gesperrt: " + file);
+      }
+      if (groesse < 0)
+      {
+        groesse = channel.size();
+      }
+      else
+      {
+        // Reste einer abgebrochenen Vergrößerung
+        channel.truncate(0);
+      }
+      this.groesse = groesse;
+      int anzahl = (int) ((groesse + SEGMENT - 1) / SEGMENT);
+      segmente = new MappedByteBuffer[anzahl];
+      for (int i = 0; i < anzahl; i++)
+      {
+        long von = (long) i * SEGMENT;
+        segmente[i] = channel.map(FileChannel.MapMode.READ_WRITE, von,
+            Math.min(SEGMENT, groesse - von));
+      }
+    }
+
+    long getLong(long pos)
+    {
+      return segmente[(int) (pos / SEGMENT)].getLong((int) (pos % SEGMENT));
+    }
+
+    void putLong(long pos, long wert)
+    {
+      segmente[(int) (pos / SEGMENT)].putLong((int) (pos % SEGMENT), wert);
+    }
+
+    byte getByte(long pos)
+    {
+      return segmente[(int) (pos / SEGMENT)].get((int) (pos % SEGMENT));
+    }
+
+    void putByte(long pos, byte wert)
+    {
+      segmente[(int) (pos / SEGMENT)].put((int) (pos % SEGMENT), wert);
+    }
+
+    void force()
+    {
+      for (MappedByteBuffer mbb : segmente)
+      {
+        mbb.force();
+      }
+    }
+
+    void close()
+    {
+      force();
+      try
+      {
+        lock.release();
+        channel.close();
+      }
+      catch (IOException e)
+      {
+        // ignorieren
+      }
+    }
+  }
+}
@@ -0,0 +1,701 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA.Datei;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import de.jost_net.OBanToo.SEPA.SEPAException;
+import de.jost_net.OBanToo.Tools.Kompression;
+
+/**
+ * <h1>Ergänzen einer bestehenden SEPA-Datei</h1>
+ * <p>
+ * Fügt Transaktionen in bestehende PmtInf-Elemente oder neue PmtInf-Elemente
+ * in eine SEPA-Datei ein, ohne die Datei vollständig einzulesen. Beim Öffnen
+ * wird die Datei einmal auf Byte-Ebene nach den Positionen der Kopfdaten
+ * durchsucht. Beim Schreiben werden die unveränderten Bereiche direkt
+ * zwischen den Dateikanälen kopiert, nur die neuen Elemente werden mit dem
+ * SEPAXMLWriter geschrieben. NbOfTxs und CtrlSum im GrpHdr und in den
+ * betroffenen PmtInf-Elementen werden angepasst.
+ * </p>
+ * <p>
+ * Die Datei wird in eine temporäre Datei im selben Verzeichnis geschrieben und
+ * anschließend ersetzt. Das Einfügen für Basislastschriften erfolgt über
+ * Basislastschrift.append(File).
+ * </p>
+ */
+public class SEPAErgaenzung
+{
+  /**
+   * Schreibt ein einzufügendes Element (Transaktion oder PmtInf), z. B. mit
+   * dem Serialisierer der Basislastschrift.
+   */
+  @FunctionalInterface
+  public interface Element
+  {
+    void write(SEPAXMLWriter w) throws XMLStreamException;
+  }
+
+  /**
+   * Position eines Textinhaltes in der Datei
+   */
+  private static final class Wert
+  {
+    long von;
+
+    long bis;
+
+    String text;
+  }
+
+  private static final class Block
+  {
+    final SEPAZahlungsblock kopf = new SEPAZahlungsblock();
+
+    Wert anzahl;
+
+    Wert summe;
+
+    /**
+     * Position des End-Tags des PmtInf-Elementes
+     */
+    long ende;
+
+    final ArrayList<Element> transaktionen = new ArrayList<>();
+
+    BigDecimal betrag = BigDecimal.ZERO;
+  }
+
+  private static final class Aenderung
+  {
+    final long von;
+
+    final long bis;
+
+    final byte[] daten;
+
+    Aenderung(long von, long bis, byte[] daten)
+    {
+      this.von = von;
+      this.bis = bis;
+      this.daten = daten;
+    }
+  }
+
+  private final File file;
+
+  private final SEPADateityp typ;
+
+  private boolean praefix;
+
+  private Wert anzahl;
+
+  private Wert summe;
+
+  /**
+   * Position des End-Tags von CstmrDrctDbtInitn bzw. CstmrCdtTrfInitn
+   */
+  private long ende = -1;
+
+  private final ArrayList<Block> bloecke = new ArrayList<>();
+
+  private final ArrayList<SEPAZahlungsblock> zahlungsbloecke = new ArrayList<>();
+
+  private final ArrayList<Element> neuebloecke = new ArrayList<>();
+
+  private int neueanzahl;
+
+  private BigDecimal neuebetraege = BigDecimal.ZERO;
+
+  /**
+   * Öffnet die Datei und ermittelt die Positionen der Kopfdaten.
+   */
+  public SEPAErgaenzung(File file) throws SEPAException
+  {
+    this.file = file;
+    try (InputStream is = new BufferedInputStream(new FileInputStream(file)))
+    {
+      if (Kompression.getFormat(is) != Kompression.Format.KEINE)
+      {
+        // Die Ergänzung schreibt an Positionen der unkomprimierten Datei.
+        throw new SEPAException(
+            "Komprimierte Dateien können nicht ergänzt werden");
+      }
+      XMLStreamReader reader = SEPAXML.createReader(is);
+      try
+      {
+        typ = SEPAXML.getTyp(reader);
+      }
+      finally
+      {
+        SEPAXML.close(reader);
+      }
+    }
+    catch (IOException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+    catch (XMLStreamException e)
+    {
+      throw new SEPAException("Ungültige SEPA-Datei: " + e.getMessage());
+    }
+    try (InputStream is = new FileInputStream(file))
+    {
+      scan(new Leser(is));
+    }
+    catch (IOException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+    if (anzahl == null || ende < 0)
+    {
+      throw new SEPAException("Ungültige SEPA-Datei: GrpHdr/NbOfTxs fehlt");
+    }
+    for (Block b : bloecke)
+    {
+      if (b.anzahl == null)
+      {
+        throw new SEPAException("Ungültige SEPA-Datei: PmtInf/NbOfTxs fehlt");
+      }
+      zahlungsbloecke.add(b.kopf);
+    }
+  }
+
+  public SEPADateityp getTyp()
+  {
+    return typ;
+  }
+
+  /**
+   * Kopfdaten der bestehenden PmtInf-Elemente. Der Index wird bei
+   * add(int, Element, BigDecimal) angegeben.
+   */
+  public List<SEPAZahlungsblock> getZahlungsbloecke()
+  {
+    return Collections.unmodifiableList(zahlungsbloecke);
+  }
+
+  /**
+   * Fügt eine Transaktion am Ende eines bestehenden PmtInf-Elementes ein.
+   *
+   * @param block
+   *          Index aus getZahlungsbloecke()
+   * @param transaktion
+   *          Ausgabe der Transaktion (z. B. DrctDbtTxInf)
+   * @param betrag
+   *          Betrag der Transaktion für die Kontrollsummen
+   */
+  public void add(int block, Element transaktion, BigDecimal betrag)
+  {
+    Block b = bloecke.get(block);
+    b.transaktionen.add(transaktion);
+    b.betrag = b.betrag.add(betrag);
+    neueanzahl++;
+    neuebetraege = neuebetraege.add(betrag);
+  }
+
+  /**
+   * Fügt ein vollständiges PmtInf-Element mit seinen Transaktionen am Ende der
+   * Datei ein.
+   *
+   * @param pmtinf
+   *          Ausgabe des PmtInf-Elementes
+   * @param anzahl
+   *          Anzahl der enthaltenen Transaktionen
+   * @param betrag
+   *          Summe der enthaltenen Transaktionen
+   */
+  public void add(Element pmtinf, int anzahl, BigDecimal betrag)
+  {
+    neuebloecke.add(pmtinf);
+    neueanzahl += anzahl;
+    neuebetraege = neuebetraege.add(betrag);
+  }
+
+  /**
+   * Schreibt die ergänzte Datei. Anschließend ist das Objekt nicht mehr zu
+   * verwenden, für weitere Ergänzungen ist die Datei neu zu öffnen.
+   */
+  public void write() throws SEPAException
+  {
+    ArrayList<Aenderung> aenderungen = new ArrayList<>();
+    try
+    {
+      XMLOutputFactory factory = XMLOutputFactory.newInstance();
+      aenderungen.add(ersetze(anzahl, Integer.parseInt(anzahl.text.trim())
+          + neueanzahl + ""));
+      if (summe != null)
+      {
+        aenderungen.add(ersetze(summe, new BigDecimal(summe.text.trim())
+            .add(neuebetraege).toPlainString()));
+      }
+      for (Block b : bloecke)
+      {
+        if (b.transaktionen.isEmpty())
+        {
+          continue;
+        }
+        aenderungen.add(ersetze(b.anzahl,
+            b.kopf.getAnzahlBuchungen() + b.transaktionen.size() + ""));
+        if (b.summe != null)
+        {
+          aenderungen.add(ersetze(b.summe,
+              b.kopf.getKontrollsumme().add(b.betrag).toPlainString()));
+        }
+        aenderungen.add(new Aenderung(b.ende, b.ende,
+            serialisiere(factory, b.transaktionen)));
+      }
+      if (!neuebloecke.isEmpty())
+      {
+        aenderungen.add(new Aenderung(ende, ende,
+            serialisiere(factory, neuebloecke)));
+      }
+    }
+    catch (XMLStreamException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+    catch (NumberFormatException e)
+    {
+      throw new SEPAException("Ungültige SEPA-Datei: " + e.getMessage());
+    }
+    // Die Sortierung ist stabil, Einfügungen an derselben Stelle behalten ihre
+    // Reihenfolge.
+    aenderungen.sort((a, b) -> Long.compare(a.von, b.von));
+    try
+    {
+      kopiere(aenderungen);
+    }
+    catch (IOException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+  }
+
+  private static Aenderung ersetze(Wert wert, String text)
+  {
+    return new Aenderung(wert.von, wert.bis,
+        text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private byte[] serialisiere(XMLOutputFactory factory,
+      List<Element> elemente) throws XMLStreamException
+  {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    SEPAXMLWriter w = new SEPAXMLWriter(
+        factory.createXMLStreamWriter(bos, "UTF-8"), typ, false);
+    // Ist der Namespace im Document-Element nur mit Präfix deklariert, trägt
+    // jedes eingefügte Element seine eigene Deklaration.
+    w.setNamespaceDeklarieren(praefix);
+    for (Element e : elemente)
+    {
+      e.write(w);
+      w.zeilenende();
+    }
+    w.close();
+    return bos.toByteArray();
+  }
+
+  private void kopiere(List<Aenderung> aenderungen) throws IOException
+  {
+    File tmp = File.createTempFile("obantoo", ".tmp",
+        file.getAbsoluteFile().getParentFile());
+    try
+    {
+      try (FileChannel in = FileChannel.open(file.toPath(),
+          StandardOpenOption.READ);
+          FileChannel out = FileChannel.open(tmp.toPath(),
+              StandardOpenOption.WRITE,
+              StandardOpenOption.TRUNCATE_EXISTING))
+      {
+        long pos = 0;
+        for (Aenderung a : aenderungen)
+        {
+          transfer(in, pos, a.von - pos, out);
+          ByteBuffer bb = ByteBuffer.wrap(a.daten);
+          while (bb.hasRemaining())
+          {
+            out.write(bb);
+          }
+          pos = a.bis;
+        }
+        transfer(in, pos, in.size() - pos, out);
+      }
+      Files.move(tmp.toPath(), file.toPath(),
+          StandardCopyOption.REPLACE_EXISTING);
+    }
+    finally
+    {
+      Files.deleteIfExists(tmp.toPath());
+    }
+  }
+
+  private static void transfer(FileChannel in, long pos, long laenge,
+      FileChannel out) throws IOException
+  {
+    while (laenge > 0)
+    {
+      long n = in.transferTo(pos, laenge, out);
+      pos += n;
+      laenge -= n;
+    }
+  }
+
+  /**
+   * Durchsucht die Datei nach den Tags. Innerhalb der Transaktionen wird nur
+   * die Tiefe mitgezählt.
+   */
+  private void scan(Leser l) throws IOException, SEPAException
+  {
+    DatatypeFactory df;
+    try
+    {
+      df = DatatypeFactory.newInstance();
+    }
+    catch (DatatypeConfigurationException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+    String[] pfad = new String[16];
+    int tiefe = 0;
+    // Tiefe, ab der nur noch gezählt wird
+    int ueberlesen = Integer.MAX_VALUE;
+    boolean gruppenkopf = false;
+    Block block = null;
+    Wert wert = null;
+    ByteArrayOutputStream text = new ByteArrayOutputStream();
+    int b;
+    while ((b = l.read()) >= 0)
+    {
+      if (b != '<')
+      {
+        if (wert != null)
+        {
+          text.write(b);
+        }
+        continue;
+      }
+      long tag = l.position() - 1;
+      b = l.read();
+      if (b == '?')
+      {
+        l.skip("?>");
+        continue;
+      }
+      if (b == '!')
+      {
+        b = l.read();
+        l.skip(b == '-' ? "-->" : b == '[' ? "]]>" : ">");
+        continue;
+      }
+      if (b == '/')
+      {
+        l.skipName();
+        l.skip(">");
+        if (wert != null)
+        {
+          wert.bis = tag;
+          wert.text = new String(text.toByteArray(),
+              StandardCharsets.UTF_8);
+          zuweisen(df, block, pfad, tiefe, wert);
+          wert = null;
+        }
+        if (tiefe == 2)
+        {
+          ende = tag;
+        }
+        if (tiefe == 3)
+        {
+          if (block != null)
+          {
+            block.ende = tag;
+          }
+          gruppenkopf = false;
+          block = null;
+        }
+        if (tiefe == ueberlesen)
+        {
+          ueberlesen = Integer.MAX_VALUE;
+        }
+        tiefe--;
+        continue;
+      }
+      String name = null;
+      if (tiefe < ueberlesen && tiefe + 1 < pfad.length)
+      {
+        name = l.readName(b);
+        int doppelpunkt = name.indexOf(':');
+        if (tiefe == 0)
+        {
+          praefix = doppelpunkt >= 0;
+        }
+        name = name.substring(doppelpunkt + 1);
+      }
+      boolean leer = l.skipTag();
+      if (leer)
+      {
+        continue;
+      }
+      tiefe++;
+      if (name == null)
+      {
+        continue;
+      }
+      pfad[tiefe] = name;
+      if (tiefe == 3)
+      {
+        gruppenkopf = name.equals("GrpHdr");
+        if (name.equals("PmtInf"))
+        {
+          block = new Block();
+          bloecke.add(block);
+        }
+        else if (!gruppenkopf)
+        {
+          ueberlesen = tiefe;
+        }
+        continue;
+      }
+      if (tiefe > 3 && !gruppenkopf && block == null
+          || name.equals("DrctDbtTxInf") || name.equals("CdtTrfTxInf"))
+      {
+        ueberlesen = tiefe;
+        continue;
+      }
+      if (tiefe > 3 && SEPAZahlungsblock.isWert(getPfad(pfad, tiefe)))
+      {
+        wert = new Wert();
+        wert.von = l.position();
+        text.reset();
+        if (gruppenkopf)
+        {
+          if (name.equals("NbOfTxs") && tiefe == 4)
+          {
+            anzahl = wert;
+          }
+          else if (name.equals("CtrlSum") && tiefe == 4)
+          {
+            summe = wert;
+          }
+        }
+      }
+    }
+  }
+
+  private static void zuweisen(DatatypeFactory df, Block block, String[] pfad,
+      int tiefe, Wert wert) throws SEPAException
+  {
+    if (block == null)
+    {
+      return;
+    }
+    String p = getPfad(pfad, tiefe);
+    if (p.equals("NbOfTxs"))
+    {
+      block.anzahl = wert;
+    }
+    else if (p.equals("CtrlSum"))
+    {
+      block.summe = wert;
+    }
+    try
+    {
+      block.kopf.setWert(p, wert.text, df);
+    }
+    catch (IllegalArgumentException e)
+    {
+      throw new SEPAException("Ungültige SEPA-Datei: " + e.getMessage());
+    }
+  }
+
+  private static String getPfad(String[] pfad, int tiefe)
+  {
+    StringBuilder sb = new StringBuilder(pfad[4]);
+    for (int i = 5; i <= tiefe; i++)
+    {
+      sb.append('/');
+      sb.append(pfad[i]);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Gepuffertes Lesen einzelner Bytes mit Zählung der Position
+   */
+  private static final class Leser
+  {
+    private final InputStream is;
+
+    private final byte[] puffer = new byte[65536];
+
+    private int pos;
+
+    private int laenge;
+
+    private long basis;
+
+    Leser(InputStream is)
+    {
+      this.is = is;
+    }
+
+    int read() throws IOException
+    {
+      if (pos == laenge)
+      {
+        basis += laenge;
+        pos = 0;
+        laenge = Math.max(is.read(puffer), 0);
+        if (laenge == 0)
+        {
+          return -1;
+        }
+      }
+      return puffer[pos++] & 0xff;
+    }
+
+    /**
+     * Position hinter dem zuletzt gelesenen Byte
+     */
+    long position()
+    {
+      return basis + pos;
+    }
+
+    /**
+     * Liest bis einschließlich der Zeichenfolge. Bei einer Abweichung wird
+     * wie bei Knuth-Morris-Pratt mit dem längsten passenden Anfang
+     * weitergesucht, damit z. B. "]]]>" das Ende "]]>" enthält.
+     */
+    void skip(String bis) throws IOException
+    {
+      // rueck[i]: Länge des längsten echten Anfangs, der auch Ende von
+      // bis[0..i] ist
+      int[] rueck = new int[bis.length()];
+      for (int i = 1, k = 0; i < bis.length(); i++)
+      {
+        while (k > 0 && bis.charAt(i) != bis.charAt(k))
+        {
+          k = rueck[k - 1];
+        }
+        if (bis.charAt(i) == bis.charAt(k))
+        {
+          k++;
+        }
+        rueck[i] = k;
+      }
+      int treffer = 0;
+      while (treffer < bis.length())
+      {
+        int b = read();
+        if (b < 0)
+        {
+          throw new IOException("Unerwartetes Dateiende");
+        }
+        while (treffer > 0 && b != bis.charAt(treffer))
+        {
+          treffer = rueck[treffer - 1];
+        }
+        if (b == bis.charAt(treffer))
+        {
+          treffer++;
+        }
+      }
+    }
+
+    String readName(int erstes) throws IOException
+    {
+      StringBuilder sb = new StringBuilder();
+      int b = erstes;
+      while (!isEnde(b))
+      {
+        sb.append((char) b);
+        b = read();
+      }
+      zurueck(b);
+      return sb.toString();
+    }
+
+    void skipName() throws IOException
+    {
+      int b = read();
+      while (!isEnde(b))
+      {
+        b = read();
+      }
+      zurueck(b);
+    }
+
+    /**
+     * Überliest die Attribute bis zum Ende des Start-Tags.
+     *
+     * @return true bei einem leeren Element
+     */
+    boolean skipTag() throws IOException
+    {
+      int vorher = 0;
+      int quote = 0;
+      while (true)
+      {
+        int b = read();
+        if (b < 0)
+        {
+          throw new IOException("Unerwartetes Dateiende");
+        }
+        if (quote != 0)
+        {
+          if (b == quote)
+          {
+            quote = 0;
+          }
+        }
+        else if (b == '"' || b == '\'')
+        {
+          quote = b;
+        }
+        else if (b == '>')
+        {
+          return vorher == '/';
+        }
+        vorher = b;
+      }
+    }
+
+    private void zurueck(int b)
+    {
+      if (b >= 0)
+      {
+        pos--;
+      }
+    }
+
+    private static boolean isEnde(int b)
+    {
+      return b < 0 || b == '>' || b == '/' || b == ' ' || b == '\t'
+          || b == '\r' || b == '\n';
+    }
+  }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA.Datei;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import de.jost_net.OBanToo.SEPA.SEPAException;
+
+/**
+ * <h1>Kopfdaten einer SEPA-Datei</h1>
+ * <p>
+ * Liest aus einer pain.001- oder pain.008-Datei nur den Gruppenkopf (GrpHdr)
+ * und die Kopfdaten der PmtInf-Elemente. Die Transaktionen (DrctDbtTxInf bzw.
+ * CdtTrfTxInf) werden mit StAX überlesen, ohne dass Objekte erzeugt werden,
+ * oder einzeln an eine Verarbeitung (Transaktionen) übergeben. Die Datei wird
+ * nicht gegen das Schema geprüft.
+ * </p>
+ * <p>
+ * Für die Kopfdaten der PmtInf-Elemente muss die Datei bis zum Ende gelesen
+ * werden. Werden nur die Daten des Gruppenkopfes benötigt, kann das Lesen mit
+ * dem Parameter nurGruppenkopf nach dem GrpHdr-Element beendet werden. Die
+ * Laufzeit ist dann unabhängig von der Größe der Datei.
+ * </p>
+ * <code>
+ * SEPAKopfdaten k = new SEPAKopfdaten(new File("test.xml"));<br>
+ * System.out.println(k.getMessageID() + " " + k.getKontrollsumme());<br>
+ * for (SEPAZahlungsblock b : k.getZahlungsbloecke())<br>
+ * {<br>
+ *   System.out.println(b);<br>
+ * }<br>
+ * </code>
+ */
+public class SEPAKopfdaten
+{
+  /**
+   * Verarbeitung der Transaktionen beim Lesen. Der Zahlungsblock enthält beim
+   * Aufruf bereits alle Kopfdaten des PmtInf-Elementes.
+   */
+  @FunctionalInterface
+  public interface Transaktionen
+  {
+    void add(SEPAZahlungsblock block, SEPATransaktion transaktion)
+        throws SEPAException;
+  }
+
+  private SEPADateityp typ;
+
+  private String messageid;
+
+  private Date erstellungsdatum;
+
+  private int anzahlbuchungen;
+
+  private BigDecimal kontrollsumme;
+
+  private String initiator;
+
+  private boolean nurgruppenkopf;
+
+  private Transaktionen transaktionen;
+
+  private final ArrayList<SEPAZahlungsblock> zahlungsbloecke = new ArrayList<>();
+
+  private final DatatypeFactory datatypefactory;
+
+  public SEPAKopfdaten(File file) throws SEPAException
+  {
+    this(file, false);
+  }
+
+  public SEPAKopfdaten(File file, boolean nurGruppenkopf)
+      throws SEPAException
+  {
+    this(open(file), nurGruppenkopf, null, true);
+  }
+
+  /**
+   * Liest die Kopfdaten und übergibt jede Transaktion an die Verarbeitung. Die
+   * Transaktionen werden nicht gespeichert, der Speicherbedarf hängt nicht von
+   * ihrer Anzahl ab.
+   */
+  public SEPAKopfdaten(File file, Transaktionen transaktionen)
+      throws SEPAException
+  {
+    this(open(file), false, transaktionen, true);
+  }
+
+  /**
+   * Liest die Kopfdaten aus dem Stream. Der Stream wird nicht geschlossen.
+   */
+  public SEPAKopfdaten(InputStream is, boolean nurGruppenkopf)
+      throws SEPAException
+  {
+    this(is, nurGruppenkopf, null, false);
+  }
+
+  private SEPAKopfdaten(InputStream is, boolean nurGruppenkopf,
+      Transaktionen transaktionen, boolean schliessen) throws SEPAException
+  {
+    this.nurgruppenkopf = nurGruppenkopf;
+    this.transaktionen = transaktionen;
+    try
+    {
+      datatypefactory = DatatypeFactory.newInstance();
+    }
+    catch (DatatypeConfigurationException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+    XMLStreamReader reader = null;
+    try
+    {
+      reader = SEPAXML.createReader(is);
+      parse(reader);
+    }
+    catch (XMLStreamException e)
+    {
+      throw new SEPAException("Ungültige SEPA-Datei: " + e.getMessage());
+    }
+    catch (IllegalArgumentException e)
+    {
+      // Ungültige Zahlen und Datumsangaben
+      throw new SEPAException("Ungültige SEPA-Datei: " + e.getMessage());
+    }
+    finally
+    {
+      SEPAXML.close(reader);
+      if (schliessen)
+      {
+        try
+        {
+          is.close();
+        }
+        catch (IOException e)
+        {
+          // ignorieren
+        }
+      }
+    }
+  }
+
+  private static InputStream open(File file) throws SEPAException
+  {
+    try
+    {
+      return new BufferedInputStream(new FileInputStream(file));
+    }
+    catch (IOException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+  }
+
+  private void parse(XMLStreamReader reader)
+      throws XMLStreamException, SEPAException
+  {
+    typ = SEPAXML.getTyp(reader);
+    // Ebene 1: Document, 2: CstmrDrctDbtInitn/CstmrCdtTrfInitn, 3: GrpHdr und
+    // PmtInf
+    String[] pfad = new String[16];
+    int tiefe = 1;
+    boolean gruppenkopf = false;
+    SEPAZahlungsblock block = null;
+    while (reader.hasNext())
+    {
+      int event = reader.next();
+      if (event == XMLStreamConstants.END_ELEMENT)
+      {
+        if (tiefe == 3)
+        {
+          if (gruppenkopf && nurgruppenkopf)
+          {
+            return;
+          }
+          gruppenkopf = false;
+          block = null;
+        }
+        tiefe--;
+        continue;
+      }
+      if (event != XMLStreamConstants.START_ELEMENT)
+      {
+        continue;
+      }
+      tiefe++;
+      if (tiefe == 2)
+      {
+        continue;
+      }
+      String name = reader.getLocalName();
+      if (tiefe == 3)
+      {
+        gruppenkopf = name.equals("GrpHdr");
+        if (name.equals("PmtInf"))
+        {
+          block = new SEPAZahlungsblock();
+          zahlungsbloecke.add(block);
+        }
+        continue;
+      }
+      boolean transaktion = name.equals("DrctDbtTxInf")
+          || name.equals("CdtTrfTxInf");
+      if (transaktion && block != null && transaktionen != null)
+      {
+        SEPATransaktion t = new SEPATransaktion();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT)
+        {
+          SEPAXML.kopiere(reader, null, t.getWerte());
+        }
+        tiefe--;
+        transaktionen.add(block, t);
+        continue;
+      }
+      if ((!gruppenkopf && block == null) || tiefe >= pfad.length
+          || transaktion)
+      {
+        SEPAXML.skip(reader);
+        tiefe--;
+        continue;
+      }
+      pfad[tiefe] = name;
+      String p = getPfad(pfad, tiefe);
+      boolean gelesen = false;
+      if (gruppenkopf)
+      {
+        gelesen = gruppenkopf(reader, p);
+      }
+      else if (SEPAZahlungsblock.isWert(p))
+      {
+        block.setWert(p, reader.getElementText(), datatypefactory);
+        gelesen = true;
+      }
+      if (gelesen)
+      {
+        // getElementText() steht auf dem Ende des Elementes
+        tiefe--;
+      }
+    }
+  }
+
+  private static String getPfad(String[] pfad, int tiefe)
+  {
+    if (tiefe == 4)
+    {
+      return pfad[4];
+    }
+    StringBuilder sb = new StringBuilder(pfad[4]);
+    for (int i = 5; i <= tiefe; i++)
+    {
+      sb.append('/');
+      sb.append(pfad[i]);
+    }
+    return sb.toString();
+  }
+
+  private boolean gruppenkopf(XMLStreamReader reader, String pfad)
+      throws XMLStreamException
+  {
+    switch (pfad)
+    {
+      case "MsgId":
+        messageid = reader.getElementText();
+        return true;
+      case "CreDtTm":
+        erstellungsdatum = getDatum(reader.getElementText());
+        return true;
+      case "NbOfTxs":
+        anzahlbuchungen = Integer.parseInt(reader.getElementText().trim());
+        return true;
+      case "CtrlSum":
+        kontrollsumme = new BigDecimal(reader.getElementText().trim());
+        return true;
+      case "InitgPty/Nm":
+        initiator = reader.getElementText();
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private Date getDatum(String text)
+  {
+    return datatypefactory.newXMLGregorianCalendar(text.trim())
+        .toGregorianCalendar().getTime();
+  }
+
+  public SEPADateityp getTyp()
+  {
+    return typ;
+  }
+
+  public String getMessageID()
+  {
+    return messageid;
+  }
+
+  /**
+   * Erstellungszeitpunkt laut CreDtTm
+   */
+  public Date getErstellungsdatum()
+  {
+    return erstellungsdatum;
+  }
+
+  /**
+   * Anzahl der Buchungen laut NbOfTxs des Gruppenkopfes
+   */
+  public int getAnzahlBuchungen()
+  {
+    return anzahlbuchungen;
+  }
+
+  /**
+   * Summe der Beträge laut CtrlSum des Gruppenkopfes
+   */
+  public BigDecimal getKontrollsumme()
+  {
+    return kontrollsumme;
+  }
+
+  /**
+   * Name des Initiators (InitgPty/Nm)
+   */
+  public String getInitiator()
+  {
+    return initiator;
+  }
+
+  /**
+   * Kopfdaten der PmtInf-Elemente in der Reihenfolge der Datei. Leer, wenn nur
+   * der Gruppenkopf gelesen wurde.
+   */
+  public List<SEPAZahlungsblock> getZahlungsbloecke()
+  {
+    return zahlungsbloecke;
+  }
+}
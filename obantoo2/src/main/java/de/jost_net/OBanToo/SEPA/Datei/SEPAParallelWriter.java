@@ -0,0 +1,235 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA.Datei;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+
+import de.jost_net.OBanToo.SEPA.SEPAException;
+
+/**
+ * <h1>Paralleles Schreiben von SEPA-Dateien</h1>
+ * <p>
+ * Die Transaktionen (DrctDbtTxInf bzw. CdtTrfTxInf) einer SEPA-Datei sind
+ * voneinander unabhängig. Der ParallelWriter teilt die Transaktionen in Blöcke
+ * auf und lässt jeden Block von einem Thread des Executors in einen
+ * XML-Fragment-Puffer schreiben. Jeder Thread schreibt die Transaktionen mit
+ * einem Fragment direkt in einen eigenen SEPAXMLWriter. Die Fragmente werden
+ * in der ursprünglichen Reihenfolge zwischen Kopf und Ende der PmtInf-Elemente
+ * ausgegeben.
+ * </p>
+ * <p>
+ * Die Ausgabe ist nicht formatiert. Der Executor wird vom Aufrufer verwaltet
+ * und kann für mehrere Dateien genutzt werden.
+ * </p>
+ * <code>
+ * ExecutorService executor = Executors.newFixedThreadPool(16);
+ * bl.setParallelWriter(new SEPAParallelWriter(executor, 16));
+ * bl.write(new File("test.xml"));
+ * </code>
+ */
+public class SEPAParallelWriter
+{
+  /**
+   * Schreibt zu einem Eintrag (Zahler, Empfänger) die Transaktion direkt mit
+   * dem SEPAXMLWriter. Wird in den Threads des Executors aufgerufen.
+   */
+  @FunctionalInterface
+  public interface Fragment<Q>
+  {
+    void write(SEPAXMLWriter w, Q quelle) throws SEPAException,
+        DatatypeConfigurationException, XMLStreamException;
+  }
+
+  private static final byte[] PMTINF_ENDE = "</PmtInf>"
+      .getBytes(StandardCharsets.UTF_8);
+
+  private final ExecutorService executor;
+
+  private final int parallelitaet;
+
+  /**
+   * Anzahl Transaktionen je Fragment
+   */
+  private int blockgroesse = 500;
+
+  /**
+   * XMLOutputFactory je Thread
+   */
+  private final ThreadLocal<XMLOutputFactory> outputfactory = ThreadLocal
+      .withInitial(XMLOutputFactory::newInstance);
+
+  /**
+   * @param executor
+   *          Executor, in dem die Fragmente erzeugt werden
+   * @param parallelitaet
+   *          Anzahl gleichzeitig zu erzeugender Fragmente. Sinnvoll ist die
+   *          Anzahl der Threads des Executors.
+   */
+  public SEPAParallelWriter(ExecutorService executor, int parallelitaet)
+  {
+    if (parallelitaet < 1)
+    {
+      throw new IllegalArgumentException("Parallelität muss >= 1 sein");
+    }
+    this.executor = executor;
+    this.parallelitaet = parallelitaet;
+  }
+
+  /**
+   * Anzahl der Transaktionen, die ein Thread in einem Fragment erzeugt.
+   * Standard: 500
+   */
+  public void setBlockgroesse(int blockgroesse)
+  {
+    if (blockgroesse < 1)
+    {
+      throw new IllegalArgumentException("Blockgröße muss >= 1 sein");
+    }
+    this.blockgroesse = blockgroesse;
+  }
+
+  public int getBlockgroesse()
+  {
+    return blockgroesse;
+  }
+
+  /**
+   * Schreibt die SEPA-Datei. Der Stream wird nicht geschlossen.
+   *
+   * @param rahmen
+   *          die mit dem SEPAXMLWriter geschriebene Datei ohne Transaktionen
+   * @param pmtinf
+   *          je PmtInf-Element des Rahmens die Einträge in der auszugebenden
+   *          Reihenfolge
+   * @param fragment
+   *          Ausgabe der Transaktion zu einem Eintrag
+   */
+  public <Q> void write(OutputStream os, SEPADateityp typ, byte[] rahmen,
+      List<? extends List<Q>> pmtinf, Fragment<Q> fragment)
+      throws SEPAException, IOException
+  {
+    ArrayDeque<Future<byte[]>> teile = new ArrayDeque<>();
+    try
+    {
+      int pos = 0;
+      int suche = 0;
+      for (List<Q> liste : pmtinf)
+      {
+        int ende = indexOf(rahmen, PMTINF_ENDE, suche);
+        if (ende < 0)
+        {
+          throw new SEPAException(
+              "Anzahl der PmtInf-Elemente passt nicht zu den Transaktionen");
+        }
+        add(teile, CompletableFuture
+            .completedFuture(Arrays.copyOfRange(rahmen, pos, ende)), os);
+        for (int von = 0; von < liste.size(); von += blockgroesse)
+        {
+          List<Q> block = liste.subList(von,
+              Math.min(von + blockgroesse, liste.size()));
+          add(teile, executor.submit(() -> serialisiere(typ, block, fragment)),
+              os);
+        }
+        pos = ende;
+        suche = ende + PMTINF_ENDE.length;
+      }
+      add(teile, CompletableFuture.completedFuture(
+          Arrays.copyOfRange(rahmen, pos, rahmen.length)), os);
+      while (!teile.isEmpty())
+      {
+        os.write(get(teile.poll()));
+      }
+    }
+    finally
+    {
+      for (Future<byte[]> f : teile)
+      {
+        f.cancel(true);
+      }
+    }
+  }
+
+  /**
+   * Stellt ein Teil in die Warteschlange. Ist das Fenster voll, werden die
+   * ältesten Teile ausgegeben.
+   */
+  private void add(ArrayDeque<Future<byte[]>> teile, Future<byte[]> teil,
+      OutputStream os) throws SEPAException, IOException
+  {
+    teile.add(teil);
+    while (teile.size() > 2 * parallelitaet)
+    {
+      os.write(get(teile.poll()));
+    }
+  }
+
+  private static byte[] get(Future<byte[]> teil) throws SEPAException
+  {
+    try
+    {
+      return teil.get();
+    }
+    catch (InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SEPAException("Schreiben der SEPA-Datei abgebrochen");
+    }
+    catch (ExecutionException e)
+    {
+      Throwable th = e.getCause();
+      if (th instanceof SEPAException)
+      {
+        throw (SEPAException) th;
+      }
+      throw new SEPAException(th.toString());
+    }
+  }
+
+  private <Q> byte[] serialisiere(SEPADateityp typ, List<Q> block,
+      Fragment<Q> fragment) throws SEPAException,
+      DatatypeConfigurationException, XMLStreamException
+  {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream(block.size() * 800);
+    SEPAXMLWriter w = new SEPAXMLWriter(
+        outputfactory.get().createXMLStreamWriter(bos, "UTF-8"), typ, false);
+    for (Q q : block)
+    {
+      fragment.write(w, q);
+      w.zeilenende();
+    }
+    w.close();
+    return bos.toByteArray();
+  }
+
+  private static int indexOf(byte[] daten, byte[] muster, int ab)
+  {
+    aussen: for (int i = ab; i <= daten.length - muster.length; i++)
+    {
+      for (int j = 0; j < muster.length; j++)
+      {
+        if (daten[i + j] != muster[j])
+        {
+          continue aussen;
+        }
+      }
+      return i;
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA.Datei;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+
+/**
+ * Werte einer Transaktion (DrctDbtTxInf bzw. CdtTrfTxInf) beim Lesen einer
+ * SEPA-Datei. Name, IBAN und BIC beziehen sich bei Lastschriften auf den
+ * Zahler (Dbtr), bei Überweisungen auf den Empfänger (Cdtr).
+ */
+public class SEPATransaktion
+{
+  private final HashMap<String, String> werte = new HashMap<>();
+
+  SEPATransaktion()
+  {
+  }
+
+  HashMap<String, String> getWerte()
+  {
+    return werte;
+  }
+
+  /**
+   * Text eines Elementes.
+   *
+   * @param pfad
+   *          Pfad relativ zur Transaktion, z. B. "RmtInf/Ustrd"
+   * @return Text oder null, wenn das Element nicht vorhanden ist
+   */
+  public String getWert(String pfad)
+  {
+    return werte.get(pfad);
+  }
+
+  public String getEndToEndId()
+  {
+    return werte.get("PmtId/EndToEndId");
+  }
+
+  public BigDecimal getBetrag()
+  {
+    String betrag = werte.get("InstdAmt");
+    if (betrag == null)
+    {
+      betrag = werte.get("Amt/InstdAmt");
+    }
+    return betrag != null ? new BigDecimal(betrag.trim()) : null;
+  }
+
+  public String getName()
+  {
+    return oder("Dbtr/Nm", "Cdtr/Nm");
+  }
+
+  public String getIBAN()
+  {
+    return oder("DbtrAcct/Id/IBAN", "CdtrAcct/Id/IBAN");
+  }
+
+  public String getBIC()
+  {
+    return oder("DbtrAgt/FinInstnId/BIC", "CdtrAgt/FinInstnId/BIC");
+  }
+
+  /**
+   * Mandats-ID. Bei Überweisungen null.
+   */
+  public String getMandatID()
+  {
+    return werte.get("DrctDbtTx/MndtRltdInf/MndtId");
+  }
+
+  public String getVerwendungszweck()
+  {
+    return werte.get("RmtInf/Ustrd");
+  }
+
+  private String oder(String pfad1, String pfad2)
+  {
+    String wert = werte.get(pfad1);
+    return wert != null ? wert : werte.get(pfad2);
+  }
+
+  @Override
+  public String toString()
+  {
+    return "EndToEndId=" + getEndToEndId() + ", Betrag=" + getBetrag()
+        + ", Name=" + getName() + ", IBAN=" + getIBAN() + ", BIC=" + getBIC();
+  }
+}
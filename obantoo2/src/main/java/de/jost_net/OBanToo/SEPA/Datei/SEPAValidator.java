@@ -0,0 +1,186 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA.Datei;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.text.MessageFormat;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.stax.StAXSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Validator;
+import javax.xml.validation.ValidatorHandler;
+
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+import de.jost_net.OBanToo.SEPA.SEPAException;
+
+/**
+ * <h1>Validierung von SEPA-Dateien gegen das XSD-Schema</h1>
+ * <p>
+ * Die Schemas werden beim ersten Zugriff aus dem Klassenpfad (Verzeichnis
+ * <code>xsd</code>) übersetzt und anschließend wiederverwendet. Die Prüfung
+ * erfolgt über einen StAX-Reader in einem Durchlauf, ohne dass ein DOM-Baum
+ * aufgebaut wird. Der Dateityp wird anhand des Namespaces des
+ * Document-Elementes erkannt.
+ * </p>
+ * <code>
+ * SEPADateityp typ = SEPAValidator.validate(new File("test.xml"));
+ * </code>
+ * <p>
+ * Soll bereits beim Schreiben geprüft werden, leitet SEPAValidierung die
+ * Ausgabe zusätzlich an diese Prüfung (siehe
+ * Basislastschrift.setValidierung(boolean)). Alternativ kann das Schema über
+ * getSchema() an einen Marshaller übergeben oder ein ValidatorHandler als
+ * SAX-Ziel genutzt werden.
+ * </p>
+ */
+public class SEPAValidator
+{
+  private static final ConcurrentHashMap<SEPADateityp, Schema> schemas = new ConcurrentHashMap<>();
+
+  private SEPAValidator()
+  {
+  }
+
+  /**
+   * Liefert das übersetzte Schema für den Dateityp. Das Schema ist
+   * thread-sicher und wird nur einmal je Dateityp erzeugt.
+   */
+  public static Schema getSchema(SEPADateityp typ) throws SEPAException
+  {
+    Schema schema = schemas.get(typ);
+    if (schema == null)
+    {
+      schema = compile(typ);
+      Schema vorhanden = schemas.putIfAbsent(typ, schema);
+      if (vorhanden != null)
+      {
+        schema = vorhanden;
+      }
+    }
+    return schema;
+  }
+
+  private static Schema compile(SEPADateityp typ) throws SEPAException
+  {
+    URL url = SEPAValidator.class.getClassLoader()
+        .getResource("xsd/" + typ.getSchemaDatei());
+    if (url == null)
+    {
+      throw new SEPAException(
+          "Schema-Datei nicht gefunden: " + typ.getSchemaDatei());
+    }
+    try
+    {
+      SchemaFactory sf = SchemaFactory
+          .newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+      return sf.newSchema(url);
+    }
+    catch (SAXException e)
+    {
+      throw new SEPAException("Schema-Datei " + typ.getSchemaDatei()
+          + " kann nicht gelesen werden: " + e.getMessage());
+    }
+  }
+
+  /**
+   * ValidatorHandler, der als SAX-ContentHandler parallel zum Schreiben mit
+   * den Ereignissen der Ausgabe versorgt werden kann.
+   */
+  public static ValidatorHandler getValidatorHandler(SEPADateityp typ)
+      throws SEPAException
+  {
+    return getSchema(typ).newValidatorHandler();
+  }
+
+  /**
+   * Prüft die Datei gegen das zum Namespace passende Schema.
+   *
+   * @return erkannter Dateityp
+   * @throws SEPAException
+   *           wenn die Datei nicht gelesen werden kann oder nicht dem Schema
+   *           entspricht.
+   */
+  public static SEPADateityp validate(File file) throws SEPAException
+  {
+    try (InputStream is = new BufferedInputStream(new FileInputStream(file)))
+    {
+      return validate(is);
+    }
+    catch (IOException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+  }
+
+  /**
+   * Prüft den Stream gegen das zum Namespace passende Schema. Der Stream wird
+   * nicht geschlossen.
+   *
+   * @return erkannter Dateityp
+   */
+  public static SEPADateityp validate(InputStream is) throws SEPAException
+  {
+    XMLStreamReader reader = null;
+    try
+    {
+      reader = SEPAXML.createReader(is);
+      // Der StAXSource kann auf dem Document-Element aufsetzen.
+      SEPADateityp typ = SEPAXML.getTyp(reader);
+      validate(reader, typ);
+      return typ;
+    }
+    catch (XMLStreamException e)
+    {
+      throw new SEPAException("Ungültige SEPA-Datei: " + e.getMessage());
+    }
+    finally
+    {
+      SEPAXML.close(reader);
+    }
+  }
+
+  /**
+   * Prüft die Ereignisse des Readers gegen das Schema des Dateityps. Der Reader
+   * muss auf START_DOCUMENT oder dem Document-Element stehen.
+   */
+  public static void validate(XMLStreamReader reader, SEPADateityp typ)
+      throws SEPAException
+  {
+    Validator validator = getSchema(typ).newValidator();
+    try
+    {
+      validator.validate(new StAXSource(reader));
+    }
+    catch (SAXException | IOException e)
+    {
+      // Die Schemafehler kommen beim StAXSource verpackt an.
+      Throwable th = e;
+      while (th != null && !(th instanceof SAXParseException))
+      {
+        th = th.getCause();
+      }
+      if (th == null)
+      {
+        throw new SEPAException("Ungültige SEPA-Datei: " + e.getMessage());
+      }
+      SAXParseException spe = (SAXParseException) th;
+      throw new SEPAException(MessageFormat.format(
+          "Ungültige SEPA-Datei. Zeile {0,number,#}, Spalte {1,number,#}: {2}",
+          spe.getLineNumber(), spe.getColumnNumber(), spe.getMessage()));
+    }
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA.Datei;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+
+import de.jost_net.OBanToo.SEPA.SEPAException;
+
+/**
+ * <h1>Validierung während des Schreibens</h1>
+ * <p>
+ * Die geschriebenen Bytes gehen unverändert an das Ziel und zusätzlich über
+ * eine Pipe an einen Prüf-Thread, der sie mit
+ * SEPAValidator.validate(InputStream) gegen das Schema prüft. Die Datei wird
+ * so in einem Durchlauf geschrieben und geprüft, ohne sie im Speicher zu
+ * halten oder erneut zu lesen. Ob die Ausgabe übernommen wird, entscheidet
+ * der Aufrufer anhand von pruefe().
+ * </p>
+ * <code>
+ * try (SEPAValidierung v = new SEPAValidierung(os, SEPADateityp.PAIN_008_002_02))
+ * {
+ *   schreibe(v.getStream());
+ *   v.pruefe();
+ * }
+ * </code>
+ * <p>
+ * Wird ein Schemafehler erkannt, bricht der nächste Schreibzugriff mit einer
+ * IOException ab.
+ * </p>
+ */
+public class SEPAValidierung implements Closeable
+{
+  private final OutputStream ziel;
+
+  private final SEPADateityp typ;
+
+  private final PipedOutputStream pipe;
+
+  private final OutputStream pruefung;
+
+  private final Thread thread;
+
+  private final OutputStream stream;
+
+  private volatile Exception fehler;
+
+  private boolean beendet;
+
+  public SEPAValidierung(OutputStream ziel, SEPADateityp typ)
+      throws SEPAException, IOException
+  {
+    this.ziel = ziel;
+    this.typ = typ;
+    // Das Schema wird im Thread des Aufrufers übersetzt, damit Fehler in der
+    // Schema-Datei sofort gemeldet werden.
+    SEPAValidator.getSchema(typ);
+    PipedInputStream in = new PipedInputStream(65536);
+    pipe = new PipedOutputStream(in);
+    pruefung = new BufferedOutputStream(pipe, 65536);
+    thread = new Thread(() -> pruefe(in), "SEPAValidierung");
+    thread.setDaemon(true);
+    thread.start();
+    stream = new OutputStream()
+    {
+      @Override
+      public void write(int b) throws IOException
+      {
+        pruefeFehler();
+        ziel.write(b);
+        pruefung.write(b);
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException
+      {
+        pruefeFehler();
+        ziel.write(b, off, len);
+        pruefung.write(b, off, len);
+      }
+
+      @Override
+      public void flush() throws IOException
+      {
+        ziel.flush();
+      }
+
+      @Override
+      public void close()
+      {
+        // Das Ziel gehört dem Aufrufer.
+      }
+    };
+  }
+
+  private void pruefe(InputStream in)
+  {
+    try
+    {
+      SEPADateityp erkannt = SEPAValidator.validate(in);
+      if (erkannt != typ)
+      {
+        fehler = new SEPAException("Ungültige SEPA-Datei: Dateityp " + erkannt
+            + " statt " + typ);
+      }
+    }
+    catch (SEPAException | RuntimeException e)
+    {
+      fehler = e;
+    }
+    // Restliche Bytes lesen, damit der schreibende Thread nie blockiert.
+    byte[] puffer = new byte[8192];
+    try
+    {
+      while (in.read(puffer) >= 0)
+      {
+        // verwerfen
+      }
+    }
+    catch (IOException e)
+    {
+      // Pipe wurde geschlossen.
+    }
+  }
+
+  private void pruefeFehler() throws IOException
+  {
+    Exception e = fehler;
+    if (e != null)
+    {
+      throw new IOException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Stream, in den die SEPA-Datei geschrieben wird. Das Schließen dieses
+   * Streams schließt das Ziel nicht.
+   */
+  public OutputStream getStream()
+  {
+    return stream;
+  }
+
+  /**
+   * Beendet die Eingabe und wartet auf das Ergebnis der Prüfung.
+   *
+   * @throws SEPAException
+   *           wenn die geschriebenen Daten nicht dem Schema entsprechen.
+   */
+  public void pruefe() throws SEPAException, IOException
+  {
+    beende();
+    Exception e = fehler;
+    if (e instanceof SEPAException)
+    {
+      throw (SEPAException) e;
+    }
+    if (e != null)
+    {
+      throw new SEPAException("Ungültige SEPA-Datei: " + e.getMessage());
+    }
+  }
+
+  private void beende() throws IOException
+  {
+    if (beendet)
+    {
+      return;
+    }
+    beendet = true;
+    try
+    {
+      pruefung.close();
+    }
+    finally
+    {
+      try
+      {
+        thread.join();
+      }
+      catch (InterruptedException e)
+      {
+        Thread.currentThread().interrupt();
+        throw new IOException("Validierung unterbrochen");
+      }
+    }
+  }
+
+  /**
+   * Beendet die Prüfung, falls pruefe() nicht aufgerufen wurde, z. B. nach
+   * einem Fehler beim Schreiben.
+   */
+  @Override
+  public void close() throws IOException
+  {
+    beende();
+  }
+}
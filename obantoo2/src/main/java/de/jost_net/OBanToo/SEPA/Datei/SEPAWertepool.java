@@ -0,0 +1,97 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA.Datei;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeConstants;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import de.jost_net.OBanToo.StringLatin.Zeichen;
+
+/**
+ * <h1>Gemeinsame Werte eines Schreibvorgangs</h1>
+ * <p>
+ * Beim Aufbau der JAXB-Objekte einer SEPA-Datei wiederholen sich viele Werte:
+ * Namen, BICs, Verwendungszwecke und vor allem Datumswerte. Der Pool liefert
+ * für gleiche Werte dieselbe Instanz, so dass sie je Datei nur einmal erzeugt
+ * werden. Die gelieferten Objekte dürfen nicht verändert werden.
+ * </p>
+ * <p>
+ * Der Pool ist threadsicher und kann vom SEPAParallelWriter genutzt werden. Er
+ * ist für einen Schreibvorgang gedacht und wächst mit der Anzahl
+ * unterschiedlicher Werte.
+ * </p>
+ */
+public class SEPAWertepool
+{
+  private final ConcurrentHashMap<String, String> texte = new ConcurrentHashMap<>();
+
+  private final ConcurrentHashMap<String, String> konvertiert = new ConcurrentHashMap<>();
+
+  /**
+   * Schlüssel ist der Kalendertag als yyyymmdd, damit verschiedene Uhrzeiten
+   * desselben Tages einen Eintrag teilen
+   */
+  private final ConcurrentHashMap<Integer, XMLGregorianCalendar> tage = new ConcurrentHashMap<>();
+
+  /**
+   * Kalender je Thread für die Zerlegung des Datums
+   */
+  private final ThreadLocal<GregorianCalendar> kalender = ThreadLocal
+      .withInitial(GregorianCalendar::new);
+
+  private final DatatypeFactory df;
+
+  public SEPAWertepool() throws DatatypeConfigurationException
+  {
+    df = DatatypeFactory.newInstance();
+  }
+
+  /**
+   * Liefert die gemeinsame Instanz des Textes.
+   */
+  public String get(String text)
+  {
+    if (text == null)
+    {
+      return null;
+    }
+    String vorhanden = texte.putIfAbsent(text, text);
+    return vorhanden != null ? vorhanden : text;
+  }
+
+  /**
+   * Liefert den mit Zeichen.convert() umgesetzten Text. Die Umsetzung erfolgt
+   * je unterschiedlichem Text nur einmal.
+   */
+  public String getKonvertiert(String text)
+  {
+    if (text == null)
+    {
+      return null;
+    }
+    return konvertiert.computeIfAbsent(text, t -> get(Zeichen.convert(t)));
+  }
+
+  /**
+   * Datum im Format yyyy-MM-dd (ohne Uhrzeit und Zeitzone).
+   */
+  public XMLGregorianCalendar getDatum(Date date)
+  {
+    GregorianCalendar gc = kalender.get();
+    gc.setTime(date);
+    int tag = gc.get(Calendar.YEAR) * 10000
+        + (gc.get(Calendar.MONTH) + 1) * 100 + gc.get(Calendar.DAY_OF_MONTH);
+    return tage.computeIfAbsent(tag,
+        t -> df.newXMLGregorianCalendarDate(t / 10000, t / 100 % 100,
+            t % 100, DatatypeConstants.FIELD_UNDEFINED));
+  }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA.Datei;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Map;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import de.jost_net.OBanToo.SEPA.SEPAException;
+import de.jost_net.OBanToo.Tools.Kompression;
+
+/**
+ * Gemeinsame StAX-Hilfsmethoden für das Lesen und Kopieren von SEPA-Dateien.
+ */
+final class SEPAXML
+{
+  private static final XMLInputFactory inputfactory = XMLInputFactory
+      .newInstance();
+
+  static
+  {
+    inputfactory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+    inputfactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES,
+        Boolean.FALSE);
+  }
+
+  private SEPAXML()
+  {
+  }
+
+  /**
+   * Reader auf dem Stream. gzip- und ZIP-komprimierte Dateien werden beim
+   * Lesen entpackt.
+   */
+  static XMLStreamReader createReader(InputStream is)
+      throws XMLStreamException
+  {
+    try
+    {
+      return inputfactory.createXMLStreamReader(Kompression.entpacke(is));
+    }
+    catch (IOException e)
+    {
+      throw new XMLStreamException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Liest bis zum Document-Element vor und ermittelt den Dateityp anhand des
+   * Namespaces. Der Reader steht anschließend auf dem Document-Element.
+   */
+  static SEPADateityp getTyp(XMLStreamReader reader)
+      throws XMLStreamException, SEPAException
+  {
+    while (reader.getEventType() != XMLStreamConstants.START_ELEMENT)
+    {
+      if (!reader.hasNext())
+      {
+        throw new SEPAException("Leere SEPA-Datei");
+      }
+      reader.next();
+    }
+    SEPADateityp typ = SEPADateityp.fromNamespace(reader.getNamespaceURI());
+    if (typ == null)
+    {
+      throw new SEPAException(
+          "Nicht unterstützter Namespace: " + reader.getNamespaceURI());
+    }
+    return typ;
+  }
+
+  /**
+   * Überliest das Element, auf dessen Anfang der Reader steht, einschließlich
+   * aller Unterelemente. Der Reader steht anschließend auf dem Ende des
+   * Elementes.
+   */
+  static void skip(XMLStreamReader reader) throws XMLStreamException
+  {
+    int tiefe = 1;
+    while (tiefe > 0)
+    {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT)
+      {
+        tiefe++;
+      }
+      else if (event == XMLStreamConstants.END_ELEMENT)
+      {
+        tiefe--;
+      }
+    }
+  }
+
+  /**
+   * Kopiert das Element, auf dessen Anfang der Reader steht, mit allen
+   * Unterelementen in den Writer. Leerraum zwischen den Elementen wird nicht
+   * übernommen. Der Reader steht anschließend auf dem Ende des Elementes.
+   */
+  static void kopiere(XMLStreamReader reader, XMLStreamWriter writer)
+      throws XMLStreamException
+  {
+    kopiere(reader, writer, null);
+  }
+
+  /**
+   * Wie kopiere(XMLStreamReader, XMLStreamWriter). Zusätzlich werden die Texte
+   * der Elemente ohne Unterelemente mit ihrem Pfad ab dem kopierten Element
+   * (z. B. "PmtTpInf/SeqTp") in werte abgelegt. Ist writer null, werden nur
+   * die Werte gelesen.
+   */
+  static void kopiere(XMLStreamReader reader, XMLStreamWriter writer,
+      Map<String, String> werte) throws XMLStreamException
+  {
+    int tiefe = 0;
+    StringBuilder pfad = new StringBuilder();
+    int[] laengen = new int[32];
+    StringBuilder text = new StringBuilder();
+    do
+    {
+      switch (reader.getEventType())
+      {
+        case XMLStreamConstants.START_ELEMENT:
+          tiefe++;
+          if (werte != null && tiefe < laengen.length)
+          {
+            laengen[tiefe] = pfad.length();
+            if (tiefe > 1)
+            {
+              pfad.append('/');
+            }
+            pfad.append(reader.getLocalName());
+            text.setLength(0);
+          }
+          if (writer == null)
+          {
+            break;
+          }
+          writer.writeStartElement(reader.getNamespaceURI(),
+              reader.getLocalName());
+          for (int i = 0; i < reader.getAttributeCount(); i++)
+          {
+            String ns = reader.getAttributeNamespace(i);
+            if (ns == null || ns.isEmpty())
+            {
+              writer.writeAttribute(reader.getAttributeLocalName(i),
+                  reader.getAttributeValue(i));
+            }
+            else
+            {
+              writer.writeAttribute(reader.getAttributePrefix(i), ns,
+                  reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+            }
+          }
+          break;
+        case XMLStreamConstants.END_ELEMENT:
+          if (werte != null && tiefe < laengen.length)
+          {
+            if (text.length() > 0)
+            {
+              werte.putIfAbsent(pfad.toString(), text.toString());
+              text.setLength(0);
+            }
+            pfad.setLength(laengen[tiefe]);
+          }
+          tiefe--;
+          if (writer != null)
+          {
+            writer.writeEndElement();
+          }
+          break;
+        case XMLStreamConstants.CHARACTERS:
+        case XMLStreamConstants.CDATA:
+          if (!reader.isWhiteSpace())
+          {
+            if (writer != null)
+            {
+              writer.writeCharacters(reader.getText());
+            }
+            if (werte != null)
+            {
+              text.append(reader.getText());
+            }
+          }
+          break;
+        default:
+          break;
+      }
+      if (tiefe > 0)
+      {
+        reader.next();
+      }
+    }
+    while (tiefe > 0);
+  }
+
+  /**
+   * Schreibt ein Element mit Textinhalt.
+   */
+  static void writeElement(XMLStreamWriter writer, String namespace,
+      String name, String text) throws XMLStreamException
+  {
+    writer.writeStartElement(namespace, name);
+    writer.writeCharacters(text);
+    writer.writeEndElement();
+  }
+
+  /**
+   * Schreibt den Anfang einer SEPA-Datei bis einschließlich des GrpHdr. Das
+   * Element der Nachricht (z. B. CstmrDrctDbtInitn) bleibt offen.
+   */
+  static void writeAnfang(XMLStreamWriter writer, SEPADateityp typ,
+      String nachricht, String messageid, int anzahl, BigDecimal summe,
+      String initiator) throws XMLStreamException
+  {
+    String ns = typ.getNamespace();
+    writer.setDefaultNamespace(ns);
+    writer.writeStartDocument("UTF-8", "1.0");
+    writer.writeCharacters("\n");
+    writer.writeStartElement(ns, "Document");
+    writer.writeDefaultNamespace(ns);
+    writer.writeNamespace("xsi", XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI);
+    writer.writeAttribute("xsi", XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI,
+        "schemaLocation", typ.getSchemaLocation());
+    writer.writeCharacters("\n");
+    writer.writeStartElement(ns, nachricht);
+    writer.writeStartElement(ns, "GrpHdr");
+    writeElement(writer, ns, "MsgId", messageid);
+    writeElement(writer, ns, "CreDtTm",
+        new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss").format(new Date()));
+    writeElement(writer, ns, "NbOfTxs", anzahl + "");
+    writeElement(writer, ns, "CtrlSum", summe.toPlainString());
+    writer.writeStartElement(ns, "InitgPty");
+    writeElement(writer, ns, "Nm", initiator);
+    writer.writeEndElement();
+    writer.writeEndElement();
+    writer.writeCharacters("\n");
+  }
+
+  static void close(XMLStreamReader reader)
+  {
+    if (reader != null)
+    {
+      try
+      {
+        reader.close();
+      }
+      catch (XMLStreamException e)
+      {
+        // ignorieren
+      }
+    }
+  }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA.Datei;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+
+import javax.xml.XMLConstants;
+import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * <h1>Schreiben von SEPA-Elementen ohne JAXB-Marshaller</h1>
+ * <p>
+ * Dünne Schicht über einem XMLStreamWriter, mit der die Serialisierer von
+ * Basislastschrift und Ueberweisung die pain-Elemente direkt ausgeben. Alle
+ * Elemente liegen im Namespace des Dateityps. Leere Werte (null) werden nicht
+ * ausgegeben. Die Formatierung entspricht der Ausgabe des JAXB-Marshallers
+ * mit JAXB_FORMATTED_OUTPUT.
+ * </p>
+ */
+public class SEPAXMLWriter
+{
+  private static final XMLOutputFactory outputfactory = XMLOutputFactory
+      .newInstance();
+
+  private static final char[] EINRUECKUNG = "\n                                "
+      .toCharArray();
+
+  private final XMLStreamWriter writer;
+
+  private final String ns;
+
+  private final boolean formatiert;
+
+  private int tiefe;
+
+  private boolean deklarieren;
+
+  /**
+   * Writer für eine vollständige Datei. Das Document-Element wird mit
+   * writeAnfang() geöffnet.
+   */
+  public SEPAXMLWriter(OutputStream os, SEPADateityp typ, boolean formatiert)
+      throws XMLStreamException
+  {
+    this(outputfactory.createXMLStreamWriter(os, "UTF-8"), typ, formatiert);
+  }
+
+  /**
+   * Writer für Fragmente, deren Namespace in einem umgebenden Element
+   * deklariert ist.
+   */
+  public SEPAXMLWriter(XMLStreamWriter writer, SEPADateityp typ,
+      boolean formatiert) throws XMLStreamException
+  {
+    this.writer = writer;
+    this.ns = typ.getNamespace();
+    this.formatiert = formatiert;
+    writer.setDefaultNamespace(ns);
+  }
+
+  /**
+   * Deklariert den Namespace als Default-Namespace an jedem Element der
+   * obersten Ebene. Für Fragmente, deren umgebendes Element den Namespace nur
+   * mit einem Präfix deklariert.
+   */
+  public void setNamespaceDeklarieren(boolean deklarieren)
+  {
+    this.deklarieren = deklarieren;
+  }
+
+  /**
+   * XML-Deklaration und Document-Element mit Namespace und Schema-Location.
+   */
+  public void writeAnfang(SEPADateityp typ) throws XMLStreamException
+  {
+    writer.writeStartDocument("UTF-8", "1.0");
+    writer.writeCharacters("\n");
+    writer.writeStartElement(ns, "Document");
+    writer.writeDefaultNamespace(ns);
+    writer.writeNamespace("xsi", XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI);
+    writer.writeAttribute("xsi", XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI,
+        "schemaLocation", typ.getSchemaLocation());
+    tiefe++;
+  }
+
+  /**
+   * Schließt das Document-Element und den Writer. Der Stream wird nicht
+   * geschlossen.
+   */
+  public void writeEnde() throws XMLStreamException
+  {
+    end();
+    writer.writeCharacters("\n");
+    writer.writeEndDocument();
+    close();
+  }
+
+  public void start(String name) throws XMLStreamException
+  {
+    einruecken();
+    writer.writeStartElement(ns, name);
+    if (deklarieren && tiefe == 0)
+    {
+      writer.writeDefaultNamespace(ns);
+    }
+    tiefe++;
+  }
+
+  public void end() throws XMLStreamException
+  {
+    tiefe--;
+    einruecken();
+    writer.writeEndElement();
+  }
+
+  public void element(String name, String text) throws XMLStreamException
+  {
+    if (text == null)
+    {
+      return;
+    }
+    einruecken();
+    writer.writeStartElement(ns, name);
+    writer.writeCharacters(text);
+    writer.writeEndElement();
+  }
+
+  public void element(String name, BigDecimal wert) throws XMLStreamException
+  {
+    element(name, wert != null ? wert.toPlainString() : null);
+  }
+
+  public void element(String name, Boolean wert) throws XMLStreamException
+  {
+    element(name, wert != null ? wert.toString() : null);
+  }
+
+  public void element(String name, XMLGregorianCalendar wert)
+      throws XMLStreamException
+  {
+    element(name, wert != null ? wert.toXMLFormat() : null);
+  }
+
+  /**
+   * Betrag mit Währungsattribut, z. B. &lt;InstdAmt Ccy="EUR"&gt;
+   */
+  public void betrag(String name, String waehrung, BigDecimal wert)
+      throws XMLStreamException
+  {
+    if (wert == null)
+    {
+      return;
+    }
+    einruecken();
+    writer.writeStartElement(ns, name);
+    if (waehrung != null)
+    {
+      writer.writeAttribute("Ccy", waehrung);
+    }
+    writer.writeCharacters(wert.toPlainString());
+    writer.writeEndElement();
+  }
+
+  /**
+   * Zeilenumbruch zwischen zwei Fragmenten
+   */
+  public void zeilenende() throws XMLStreamException
+  {
+    writer.writeCharacters("\n");
+  }
+
+  public void flush() throws XMLStreamException
+  {
+    writer.flush();
+  }
+
+  public void close() throws XMLStreamException
+  {
+    writer.close();
+  }
+
+  private void einruecken() throws XMLStreamException
+  {
+    if (!formatiert)
+    {
+      return;
+    }
+    int laenge = 1 + 4 * tiefe;
+    if (laenge <= EINRUECKUNG.length)
+    {
+      writer.writeCharacters(EINRUECKUNG, 0, laenge);
+      return;
+    }
+    StringBuilder sb = new StringBuilder("\n");
+    for (int i = 0; i < tiefe; i++)
+    {
+      sb.append("    ");
+    }
+    writer.writeCharacters(sb.toString());
+  }
+}
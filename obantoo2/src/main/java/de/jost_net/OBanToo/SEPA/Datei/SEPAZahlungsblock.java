@@ -0,0 +1,246 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA.Datei;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import javax.xml.datatype.DatatypeFactory;
+
+/**
+ * Kopfdaten eines PmtInf-Elementes einer SEPA-Datei. Name, IBAN und BIC
+ * beziehen sich bei Lastschriften auf den Gläubiger (Cdtr), bei Überweisungen
+ * auf den Auftraggeber (Dbtr).
+ */
+public class SEPAZahlungsblock
+{
+  private String pmtinfid;
+
+  private int anzahlbuchungen;
+
+  private BigDecimal kontrollsumme;
+
+  private String sequenz;
+
+  private String lokalinstrument;
+
+  private Date ausfuehrungsdatum;
+
+  private String name;
+
+  private String iban;
+
+  private String bic;
+
+  private String glaeubigerid;
+
+  SEPAZahlungsblock()
+  {
+  }
+
+  /**
+   * Prüft, ob der Pfad (relativ zum PmtInf-Element) zu den Kopfdaten gehört.
+   */
+  static boolean isWert(String pfad)
+  {
+    switch (pfad)
+    {
+      case "PmtInfId":
+      case "NbOfTxs":
+      case "CtrlSum":
+      case "PmtTpInf/SeqTp":
+      case "PmtTpInf/LclInstrm/Cd":
+      case "ReqdColltnDt":
+      case "ReqdExctnDt":
+      case "Cdtr/Nm":
+      case "Dbtr/Nm":
+      case "CdtrAcct/Id/IBAN":
+      case "DbtrAcct/Id/IBAN":
+      case "CdtrAgt/FinInstnId/BIC":
+      case "DbtrAgt/FinInstnId/BIC":
+      case "CdtrSchmeId/Id/PrvtId/Othr/Id":
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Übernimmt den Text des Elementes zum Pfad. Ungültige Zahlen und
+   * Datumsangaben führen zu einer IllegalArgumentException.
+   */
+  void setWert(String pfad, String text, DatatypeFactory df)
+  {
+    text = text.trim();
+    switch (pfad)
+    {
+      case "PmtInfId":
+        pmtinfid = text;
+        break;
+      case "NbOfTxs":
+        anzahlbuchungen = Integer.parseInt(text);
+        break;
+      case "CtrlSum":
+        kontrollsumme = new BigDecimal(text);
+        break;
+      case "PmtTpInf/SeqTp":
+        sequenz = text;
+        break;
+      case "PmtTpInf/LclInstrm/Cd":
+        lokalinstrument = text;
+        break;
+      case "ReqdColltnDt":
+      case "ReqdExctnDt":
+        ausfuehrungsdatum = df.newXMLGregorianCalendar(text)
+            .toGregorianCalendar().getTime();
+        break;
+      case "Cdtr/Nm":
+      case "Dbtr/Nm":
+        name = text;
+        break;
+      case "CdtrAcct/Id/IBAN":
+      case "DbtrAcct/Id/IBAN":
+        iban = text;
+        break;
+      case "CdtrAgt/FinInstnId/BIC":
+      case "DbtrAgt/FinInstnId/BIC":
+        bic = text;
+        break;
+      case "CdtrSchmeId/Id/PrvtId/Othr/Id":
+        glaeubigerid = text;
+        break;
+      default:
+        break;
+    }
+  }
+
+  public String getPmtInfId()
+  {
+    return pmtinfid;
+  }
+
+  void setPmtInfId(String pmtinfid)
+  {
+    this.pmtinfid = pmtinfid;
+  }
+
+  /**
+   * Anzahl der Buchungen laut NbOfTxs
+   */
+  public int getAnzahlBuchungen()
+  {
+    return anzahlbuchungen;
+  }
+
+  void setAnzahlBuchungen(int anzahlbuchungen)
+  {
+    this.anzahlbuchungen = anzahlbuchungen;
+  }
+
+  /**
+   * Summe der Beträge laut CtrlSum
+   */
+  public BigDecimal getKontrollsumme()
+  {
+    return kontrollsumme;
+  }
+
+  void setKontrollsumme(BigDecimal kontrollsumme)
+  {
+    this.kontrollsumme = kontrollsumme;
+  }
+
+  /**
+   * Sequenz der Lastschriften (FRST, RCUR, OOFF, FNAL). Bei Überweisungen null.
+   */
+  public String getSequenz()
+  {
+    return sequenz;
+  }
+
+  void setSequenz(String sequenz)
+  {
+    this.sequenz = sequenz;
+  }
+
+  /**
+   * Lastschriftart (CORE, COR1, B2B). Bei Überweisungen null.
+   */
+  public String getLokalinstrument()
+  {
+    return lokalinstrument;
+  }
+
+  void setLokalinstrument(String lokalinstrument)
+  {
+    this.lokalinstrument = lokalinstrument;
+  }
+
+  /**
+   * Fälligkeitsdatum (ReqdColltnDt) bzw. Ausführungsdatum (ReqdExctnDt)
+   */
+  public Date getAusfuehrungsdatum()
+  {
+    return ausfuehrungsdatum;
+  }
+
+  void setAusfuehrungsdatum(Date ausfuehrungsdatum)
+  {
+    this.ausfuehrungsdatum = ausfuehrungsdatum;
+  }
+
+  public String getName()
+  {
+    return name;
+  }
+
+  void setName(String name)
+  {
+    this.name = name;
+  }
+
+  public String getIBAN()
+  {
+    return iban;
+  }
+
+  void setIBAN(String iban)
+  {
+    this.iban = iban;
+  }
+
+  public String getBIC()
+  {
+    return bic;
+  }
+
+  void setBIC(String bic)
+  {
+    this.bic = bic;
+  }
+
+  /**
+   * Gläubiger-Identifikationsnummer, sofern sie im PmtInf-Element angegeben
+   * ist. Steht sie nur in den Transaktionen, ist der Wert null.
+   */
+  public String getGlaeubigerID()
+  {
+    return glaeubigerid;
+  }
+
+  void setGlaeubigerID(String glaeubigerid)
+  {
+    this.glaeubigerid = glaeubigerid;
+  }
+
+  @Override
+  public String toString()
+  {
+    return "PmtInfId=" + pmtinfid + ", Anzahl=" + anzahlbuchungen
+        + ", Kontrollsumme=" + kontrollsumme + ", Sequenz=" + sequenz
+        + ", Datum=" + ausfuehrungsdatum + ", Name=" + name + ", IBAN=" + iban
+        + ", BIC=" + bic + ", Gläubiger-ID=" + glaeubigerid;
+  }
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA.Datei;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import de.jost_net.OBanToo.SEPA.SEPAException;
+import de.jost_net.OBanToo.Tools.Ausgabe;
+
+/**
+ * <h1>Zusammenführen von SEPA-Dateien</h1>
+ * <p>
+ * Führt mehrere SEPA-Dateien desselben Typs zu einer Datei zusammen.
+ * PmtInf-Elemente mit gleichem Auftraggeber bzw. Gläubiger (Name,
+ * Gläubiger-ID), gleichem Konto (IBAN, BIC), gleicher Lastschriftart und
+ * Sequenz sowie gleichem Fälligkeits- bzw. Ausführungsdatum werden zu einem
+ * PmtInf-Element zusammengefasst. NbOfTxs und CtrlSum werden neu berechnet,
+ * die Datei erhält eine neue Message-ID.
+ * </p>
+ * <p>
+ * Im ersten Durchlauf werden nur die Kopfdaten der Dateien gelesen (siehe
+ * SEPAKopfdaten). Im zweiten Durchlauf ist für jede Eingabedatei ein
+ * StAX-Reader geöffnet, die Transaktionen werden einzeln in die Ausgabe
+ * kopiert. Der Speicherbedarf hängt damit nur von der Anzahl der
+ * PmtInf-Elemente ab, nicht von der Anzahl der Transaktionen. Die Ausgabe ist
+ * nicht formatiert.
+ * </p>
+ * <code>
+ * SEPAZusammenfuehrung z = new SEPAZusammenfuehrung("20130501");<br>
+ * z.add(new File("verein.xml"));<br>
+ * z.add(new File("jugend.xml"));<br>
+ * z.write(new File("gesamt.xml"));<br>
+ * </code>
+ */
+public class SEPAZusammenfuehrung
+{
+  /**
+   * PmtInf-Element einer Eingabedatei
+   */
+  private static final class Teil
+  {
+    final int datei;
+
+    final int block;
+
+    Teil(int datei, int block)
+    {
+      this.datei = datei;
+      this.block = block;
+    }
+  }
+
+  private static final class Gruppe
+  {
+    final ArrayList<Teil> teile = new ArrayList<>();
+
+    int anzahl;
+
+    BigDecimal summe = BigDecimal.ZERO;
+  }
+
+  private final String messageid;
+
+  private final ArrayList<File> dateien = new ArrayList<>();
+
+  private final ArrayList<SEPAKopfdaten> kopfdaten = new ArrayList<>();
+
+  private final LinkedHashMap<String, Gruppe> gruppen = new LinkedHashMap<>();
+
+  private SEPADateityp typ;
+
+  private int anzahl;
+
+  private BigDecimal summe = BigDecimal.ZERO;
+
+  /**
+   * @param messageid
+   *          Message-ID der zusammengeführten Datei
+   */
+  public SEPAZusammenfuehrung(String messageid)
+  {
+    this.messageid = messageid;
+  }
+
+  /**
+   * Fügt eine Eingabedatei hinzu. Dabei werden die Kopfdaten gelesen.
+   */
+  public void add(File file) throws SEPAException
+  {
+    SEPAKopfdaten k = new SEPAKopfdaten(file);
+    if (typ == null)
+    {
+      typ = k.getTyp();
+    }
+    else if (typ != k.getTyp())
+    {
+      throw new SEPAException("Dateityp " + k.getTyp() + " von "
+          + file.getName() + " passt nicht zu " + typ);
+    }
+    int datei = dateien.size();
+    dateien.add(file);
+    kopfdaten.add(k);
+    SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
+    List<SEPAZahlungsblock> bloecke = k.getZahlungsbloecke();
+    for (int i = 0; i < bloecke.size(); i++)
+    {
+      SEPAZahlungsblock b = bloecke.get(i);
+      if (b.getKontrollsumme() == null)
+      {
+        throw new SEPAException(
+            "PmtInf ohne CtrlSum in " + file.getName() + ": " + b.getPmtInfId());
+      }
+      String schluessel = b.getName() + "|" + b.getGlaeubigerID() + "|"
+          + b.getIBAN() + "|" + b.getBIC() + "|"
+          + b.getLokalinstrument() + "|" + b.getSequenz() + "|"
+          + (b.getAusfuehrungsdatum() != null
+              ? sdf.format(b.getAusfuehrungsdatum())
+              : null);
+      Gruppe g = gruppen.computeIfAbsent(schluessel, s -> new Gruppe());
+      g.teile.add(new Teil(datei, i));
+      g.anzahl += b.getAnzahlBuchungen();
+      g.summe = g.summe.add(b.getKontrollsumme());
+      anzahl += b.getAnzahlBuchungen();
+      summe = summe.add(b.getKontrollsumme());
+    }
+  }
+
+  /**
+   * Anzahl der PmtInf-Elemente der zusammengeführten Datei
+   */
+  public int getAnzahlZahlungsbloecke()
+  {
+    return gruppen.size();
+  }
+
+  public int getAnzahlBuchungen()
+  {
+    return anzahl;
+  }
+
+  public BigDecimal getKontrollsumme()
+  {
+    return summe;
+  }
+
+  /**
+   * Schreibt die zusammengeführte Datei. Sie wird erst ersetzt, wenn alle
+   * Quellen gelesen sind; schlägt das Zusammenführen fehl, bleibt eine
+   * vorhandene Datei unverändert. Die Zieldatei darf keine der Eingabedateien
+   * sein.
+   */
+  public void write(File file) throws SEPAException
+  {
+    try
+    {
+      if (file.exists())
+      {
+        for (File d : dateien)
+        {
+          if (Files.isSameFile(d.toPath(), file.toPath()))
+          {
+            throw new SEPAException(
+                "Zieldatei " + file.getName() + " ist eine Eingabedatei");
+          }
+        }
+      }
+      try (Ausgabe ausgabe = Ausgabe.of(file.toPath()))
+      {
+        try
+        {
+          write(ausgabe.getStream());
+        }
+        catch (SEPAException e)
+        {
+          ausgabe.verwerfen();
+          throw e;
+        }
+      }
+    }
+    catch (IOException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+  }
+
+  /**
+   * Schreibt die zusammengeführte Datei. Der Stream wird nicht geschlossen.
+   */
+  public void write(OutputStream os) throws SEPAException
+  {
+    if (typ == null)
+    {
+      throw new SEPAException("Keine Dateien zum Zusammenführen");
+    }
+    Quelle[] quellen = new Quelle[dateien.size()];
+    for (int i = 0; i < quellen.length; i++)
+    {
+      quellen[i] = new Quelle(dateien.get(i));
+    }
+    try
+    {
+      String ns = typ.getNamespace();
+      XMLStreamWriter w = XMLOutputFactory.newInstance()
+          .createXMLStreamWriter(os, "UTF-8");
+      SEPAXML.writeAnfang(w, typ, getNachricht(), messageid, anzahl, summe,
+          kopfdaten.get(0).getInitiator());
+      for (Gruppe g : gruppen.values())
+      {
+        w.writeStartElement(ns, "PmtInf");
+        boolean kopf = true;
+        for (Teil t : g.teile)
+        {
+          XMLStreamReader r = quellen[t.datei].getBlock(t.block);
+          while (r.nextTag() == XMLStreamConstants.START_ELEMENT)
+          {
+            String name = r.getLocalName();
+            if (name.equals("DrctDbtTxInf") || name.equals("CdtTrfTxInf"))
+            {
+              kopf = false;
+              SEPAXML.kopiere(r, w);
+              w.writeCharacters("\n");
+            }
+            else if (!kopf)
+            {
+              SEPAXML.skip(r);
+            }
+            else if (name.equals("PmtInfId"))
+            {
+              SEPAXML.skip(r);
+              SEPAXML.writeElement(w, ns, name, messageid);
+            }
+            else if (name.equals("NbOfTxs"))
+            {
+              SEPAXML.skip(r);
+              SEPAXML.writeElement(w, ns, name, g.anzahl + "");
+            }
+            else if (name.equals("CtrlSum"))
+            {
+              SEPAXML.skip(r);
+              SEPAXML.writeElement(w, ns, name, g.summe.toPlainString());
+            }
+            else
+            {
+              SEPAXML.kopiere(r, w);
+            }
+          }
+          kopf = false;
+        }
+        w.writeEndElement();
+        w.writeCharacters("\n");
+      }
+      w.writeEndDocument();
+      w.close();
+    }
+    catch (XMLStreamException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+    finally
+    {
+      for (Quelle q : quellen)
+      {
+        q.close();
+      }
+    }
+  }
+
+  private String getNachricht()
+  {
+    return typ == SEPADateityp.PAIN_008_002_02 ? "CstmrDrctDbtInitn"
+        : "CstmrCdtTrfInitn";
+  }
+
+  /**
+   * StAX-Reader auf eine Eingabedatei. Die PmtInf-Elemente werden in der Regel
+   * in der Reihenfolge der Datei benötigt. Wird ein früheres Element
+   * angefordert, wird die Datei erneut geöffnet.
+   */
+  private static final class Quelle
+  {
+    private final File file;
+
+    private InputStream is;
+
+    private XMLStreamReader reader;
+
+    /**
+     * Index des nächsten PmtInf-Elementes im Reader
+     */
+    private int naechster;
+
+    Quelle(File file)
+    {
+      this.file = file;
+    }
+
+    /**
+     * Positioniert den Reader auf dem Anfang des PmtInf-Elementes.
+     */
+    XMLStreamReader getBlock(int block)
+        throws XMLStreamException, SEPAException
+    {
+      if (reader == null || block < naechster)
+      {
+        close();
+        try
+        {
+          is = new BufferedInputStream(new FileInputStream(file));
+        }
+        catch (IOException e)
+        {
+          throw new SEPAException(e.getMessage());
+        }
+        reader = SEPAXML.createReader(is);
+        naechster = 0;
+      }
+      while (reader.hasNext())
+      {
+        if (reader.next() != XMLStreamConstants.START_ELEMENT)
+        {
+          continue;
+        }
+        String name = reader.getLocalName();
+        if (name.equals("PmtInf"))
+        {
+          if (naechster++ == block)
+          {
+            return reader;
+          }
+          SEPAXML.skip(reader);
+        }
+        else if (name.equals("GrpHdr"))
+        {
+          SEPAXML.skip(reader);
+        }
+      }
+      throw new SEPAException(
+          "PmtInf " + block + " in " + file.getName() + " nicht gefunden");
+    }
+
+    void close()
+    {
+      SEPAXML.close(reader);
+      reader = null;
+      if (is != null)
+      {
+        try
+        {
+          is.close();
+        }
+        catch (IOException e)
+        {
+          // ignorieren
+        }
+        is = null;
+      }
+    }
+  }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import de.jost_net.OBanToo.SEPA.BankenDaten.Banken;
+
+/**
+ * <h1>Cache für die IBAN-Berechnung aus Kontonummer und Bankleitzahl</h1>
+ * <p>
+ * Speichert das vollständige Ergebnis von new IBAN(kontoNr, blz, land), also
+ * IBAN, BIC und IBANCode. Abgelehnte Eingaben (SEPAException) werden
+ * ebenfalls gespeichert und bei jedem Treffer erneut geworfen.
+ * </p>
+ * <p>
+ * Der Cache ist threadsicher und in Segmente aufgeteilt, die jeweils die am
+ * längsten nicht verwendeten Einträge verdrängen. Der Schlüssel enthält die
+ * Version des Bankenverzeichnisses (Banken.getVersion()); Ergebnisse eines
+ * anderen Verzeichnisses werden nie geliefert.
+ * </p>
+ * <code>
+ * IBAN.setCache(new IBANCache(100000));<br>
+ * IBAN i = new IBAN("1234567890", "70090100", "DE");<br>
+ * </code>
+ */
+public class IBANCache
+{
+  private static final int SEGMENTE = 16;
+
+  private final Segment[] segmente;
+
+  private final LongAdder treffer = new LongAdder();
+
+  private final LongAdder fehlversuche = new LongAdder();
+
+  /**
+   * Segment mit LRU-Verdrängung. Zugriffe sind über das Segment
+   * synchronisiert.
+   */
+  private static final class Segment
+      extends LinkedHashMap<Schluessel, Ergebnis>
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final int max;
+
+    Segment(int max)
+    {
+      super(16, 0.75f, true);
+      this.max = max;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Schluessel, Ergebnis> e)
+    {
+      return size() > max;
+    }
+  }
+
+  private static final class Schluessel
+  {
+    final long version;
+
+    final String land;
+
+    final String blz;
+
+    final String konto;
+
+    final int hash;
+
+    Schluessel(long version, String land, String blz, String konto)
+    {
+      this.version = version;
+      this.land = land;
+      this.blz = blz;
+      this.konto = konto;
+      int h = Long.hashCode(version);
+      h = 31 * h + land.hashCode();
+      h = 31 * h + blz.hashCode();
+      this.hash = 31 * h + konto.hashCode();
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+      if (!(o instanceof Schluessel))
+      {
+        return false;
+      }
+      Schluessel s = (Schluessel) o;
+      return version == s.version && konto.equals(s.konto)
+          && blz.equals(s.blz) && land.equals(s.land);
+    }
+  }
+
+  /**
+   * Ergebnis einer Berechnung: IBANRet (null bei Ländern ohne IBAN-Regeln)
+   * oder die abgelehnte Eingabe
+   */
+  private static final class Ergebnis
+  {
+    final IBANRet ret;
+
+    final SEPAException fehler;
+
+    Ergebnis(IBANRet ret, SEPAException fehler)
+    {
+      this.ret = ret;
+      this.fehler = fehler;
+    }
+
+    IBANRet liefere() throws SEPAException
+    {
+      if (fehler != null)
+      {
+        throw new SEPAException(fehler.getFehler(), fehler.getMessage());
+      }
+      return ret;
+    }
+  }
+
+  /**
+   * @param maxgroesse
+   *          Höchstzahl der Einträge
+   */
+  public IBANCache(int maxgroesse)
+  {
+    if (maxgroesse <= 0)
+    {
+      throw new IllegalArgumentException(
+          "Ungültige Cachegröße: " + maxgroesse);
+    }
+    int anzahl = Math.min(SEGMENTE, maxgroesse);
+    segmente = new Segment[anzahl];
+    for (int i = 0; i < anzahl; i++)
+    {
+      // Die Segmente teilen sich die Größe; die Summe bleibt maxgroesse.
+      segmente[i] = new Segment(
+          maxgroesse / anzahl + (i < maxgroesse % anzahl ? 1 : 0));
+    }
+  }
+
+  /**
+   * Ergebnis aus dem Cache oder neu berechnet
+   */
+  IBANRet get(String kontoNr, String blz, String landkennzeichen)
+      throws SEPAException
+  {
+    if (kontoNr == null || blz == null || landkennzeichen == null)
+    {
+      return IBAN.berechne(kontoNr, blz, landkennzeichen);
+    }
+    Schluessel k = new Schluessel(Banken.getVersion(), landkennzeichen, blz,
+        ohneFuehrendeNullen(kontoNr));
+    Segment s = segmente[(k.hash & 0x7fffffff) % segmente.length];
+    Ergebnis e;
+    synchronized (s)
+    {
+      e = s.get(k);
+    }
+    if (e != null)
+    {
+      treffer.increment();
+      return e.liefere();
+    }
+    fehlversuche.increment();
+    // Berechnung außerhalb der Sperre. Bei gleichzeitigen Anfragen wird
+    // dasselbe Ergebnis eventuell mehrfach berechnet.
+    try
+    {
+      IBANRet ret = IBAN.berechne(kontoNr, blz, landkennzeichen);
+      speichere(s, k, new Ergebnis(ret, null));
+      return ret;
+    }
+    catch (SEPAException ex)
+    {
+      speichere(s, k, new Ergebnis(null, ex));
+      throw ex;
+    }
+  }
+
+  private static void speichere(Segment s, Schluessel k, Ergebnis e)
+  {
+    synchronized (s)
+    {
+      s.put(k, e);
+    }
+  }
+
+  public long getTreffer()
+  {
+    return treffer.sum();
+  }
+
+  public long getFehlversuche()
+  {
+    return fehlversuche.sum();
+  }
+
+  /**
+   * Anzahl der gespeicherten Ergebnisse
+   */
+  public int getAnzahl()
+  {
+    int n = 0;
+    for (Segment s : segmente)
+    {
+      synchronized (s)
+      {
+        n += s.size();
+      }
+    }
+    return n;
+  }
+
+  /**
+   * Leert den Cache. Die Zähler bleiben erhalten.
+   */
+  public void clear()
+  {
+    for (Segment s : segmente)
+    {
+      synchronized (s)
+      {
+        s.clear();
+      }
+    }
+  }
+
+  private static String ohneFuehrendeNullen(String konto)
+  {
+    int i = 0;
+    while (i < konto.length() && konto.charAt(i) == '0')
+    {
+      i++;
+    }
+    return konto.substring(i);
+  }
+}
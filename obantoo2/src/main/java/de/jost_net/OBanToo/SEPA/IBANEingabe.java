@@ -0,0 +1,303 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA;
+
+import de.jost_net.OBanToo.SEPA.Land.SEPALaender;
+import de.jost_net.OBanToo.SEPA.Land.SEPALand;
+
+/**
+ * <h1>Prüfung einer IBAN während der Eingabe</h1>
+ * <p>
+ * Die IBAN wird Zeichen für Zeichen übergeben. Jedes angefügte oder
+ * entfernte Zeichen wird in konstanter Zeit verarbeitet: Die Landeskennung
+ * wird gegen SEPALaender geprüft, jede Position der BBAN gegen das Format des
+ * Landes, und der Rest modulo 97 wird laufend mitgeführt. Leerzeichen werden
+ * überlesen, Kleinbuchstaben in Großbuchstaben umgesetzt.
+ * </p>
+ * <p>
+ * Geprüft werden Aufbau und Prüfziffer. Die Bankleitzahl wird nicht gegen das
+ * Bankenverzeichnis geprüft; dafür ist die vollständige IBAN mit new IBAN()
+ * zu prüfen. Ein Objekt ist nicht threadsicher und wird je Eingabefeld
+ * verwendet.
+ * </p>
+ * <code>
+ * IBANEingabe e = new IBANEingabe();<br>
+ * for (char c : "DE89 3704".toCharArray())<br>
+ * {<br>
+ * &nbsp;&nbsp;e.add(c);<br>
+ * }<br>
+ * e.getStatus(); // UNVOLLSTAENDIG<br>
+ * </code>
+ */
+public class IBANEingabe
+{
+  public enum Status
+  {
+    /**
+     * Bisher gültig, es fehlen noch Zeichen
+     */
+    UNVOLLSTAENDIG,
+    /**
+     * Vollständig und gültig
+     */
+    GUELTIG,
+    /**
+     * Ungültig ab getFehlerposition()
+     */
+    UNGUELTIG
+  }
+
+  /**
+   * Längste IBAN nach ISO 13616
+   */
+  private static final int MAXLAENGE = 34;
+
+  /**
+   * Inverse von 10 und 100 modulo 97 zum Entfernen eines Zeichens
+   */
+  private static final int INV10 = 68;
+
+  private static final int INV100 = 65;
+
+  /**
+   * Erste Buchstaben der Landeskennungen
+   */
+  private static final boolean[] ersterBuchstabe = new boolean[26];
+
+  static
+  {
+    for (SEPALand l : SEPALaender.getLaender())
+    {
+      ersterBuchstabe[l.getKennzeichen().charAt(0) - 'A'] = true;
+    }
+  }
+
+  private final char[] zeichen = new char[MAXLAENGE + 1];
+
+  private int laenge;
+
+  /**
+   * Anzahl der Zeichen hinter der Maximallänge. Sie werden nicht gespeichert,
+   * aber gezählt, damit entfernen() zuerst sie wieder abbaut.
+   */
+  private int ueberlauf;
+
+  private SEPALand land;
+
+  /**
+   * Rest modulo 97 der gültigen BBAN-Zeichen
+   */
+  private int rest;
+
+  /**
+   * Position des ersten ungültigen Zeichens, -1: keines
+   */
+  private int fehler = -1;
+
+  /**
+   * Fügt ein Zeichen an. Zeichen hinter der längsten möglichen IBAN werden
+   * nur gezählt; die Eingabe bleibt ungültig, bis sie wieder entfernt sind.
+   */
+  public Status add(char c)
+  {
+    if (c == ' ')
+    {
+      return getStatus();
+    }
+    if (c >= 'a' && c <= 'z')
+    {
+      c = (char) (c - 32);
+    }
+    if (laenge == zeichen.length)
+    {
+      // Der Fehler liegt spätestens auf dem letzten gespeicherten Zeichen.
+      ueberlauf++;
+      return getStatus();
+    }
+    int pos = laenge;
+    zeichen[laenge++] = c;
+    if (fehler < 0)
+    {
+      if (!isZulaessig(pos, c))
+      {
+        fehler = pos;
+      }
+      else if (pos >= 4)
+      {
+        rest = IBANPruefung.weiter(rest, IBANPruefung.wert(c));
+      }
+    }
+    return getStatus();
+  }
+
+  /**
+   * Fügt alle Zeichen an.
+   */
+  public Status add(CharSequence text)
+  {
+    for (int i = 0; i < text.length(); i++)
+    {
+      add(text.charAt(i));
+    }
+    return getStatus();
+  }
+
+  /**
+   * Entfernt das zuletzt angefügte Zeichen (Leerzeichen zählen nicht).
+   */
+  public Status entfernen()
+  {
+    if (ueberlauf > 0)
+    {
+      ueberlauf--;
+      return getStatus();
+    }
+    if (laenge == 0)
+    {
+      return getStatus();
+    }
+    int pos = --laenge;
+    if (fehler == pos)
+    {
+      fehler = -1;
+    }
+    else if (fehler < 0)
+    {
+      if (pos >= 4)
+      {
+        int w = IBANPruefung.wert(zeichen[pos]);
+        int r = ((rest - w) % 97 + 97) % 97;
+        rest = r * (w < 10 ? INV10 : INV100) % 97;
+      }
+      else if (pos == 1)
+      {
+        land = null;
+      }
+    }
+    return getStatus();
+  }
+
+  /**
+   * Setzt die Eingabe zurück.
+   */
+  public void clear()
+  {
+    laenge = 0;
+    ueberlauf = 0;
+    land = null;
+    rest = 0;
+    fehler = -1;
+  }
+
+  public Status getStatus()
+  {
+    if (fehler >= 0)
+    {
+      return Status.UNGUELTIG;
+    }
+    if (land == null || laenge < land.getLaenge())
+    {
+      return Status.UNVOLLSTAENDIG;
+    }
+    return isPruefzifferRichtig() ? Status.GUELTIG : Status.UNGUELTIG;
+  }
+
+  /**
+   * Position (ab 0, ohne Leerzeichen) des ersten ungültigen Zeichens. Bei
+   * falscher Prüfziffer einer vollständigen IBAN wird 2 geliefert, ohne Fehler
+   * -1.
+   */
+  public int getFehlerposition()
+  {
+    if (fehler >= 0)
+    {
+      return fehler;
+    }
+    return getStatus() == Status.UNGUELTIG ? 2 : -1;
+  }
+
+  /**
+   * Erwartete Länge der IBAN. 0, solange das Land nicht bekannt ist.
+   */
+  public int getErwarteteLaenge()
+  {
+    return land != null ? land.getLaenge() : 0;
+  }
+
+  /**
+   * Anzahl der erfassten Zeichen ohne Leerzeichen, einschließlich der Zeichen
+   * hinter der Maximallänge
+   */
+  public int getLaenge()
+  {
+    return laenge + ueberlauf;
+  }
+
+  /**
+   * Land der Eingabe, sobald die Landeskennung vollständig ist
+   */
+  public SEPALand getLand()
+  {
+    return land;
+  }
+
+  /**
+   * Bisherige Eingabe ohne Leerzeichen in Großbuchstaben. Zeichen hinter der
+   * Maximallänge sind nicht enthalten.
+   */
+  @Override
+  public String toString()
+  {
+    return new String(zeichen, 0, laenge);
+  }
+
+  private boolean isZulaessig(int pos, char c)
+  {
+    switch (pos)
+    {
+      case 0:
+        return c >= 'A' && c <= 'Z' && ersterBuchstabe[c - 'A'];
+      case 1:
+        if (c < 'A' || c > 'Z')
+        {
+          return false;
+        }
+        land = SEPALaender.getLand(new String(zeichen, 0, 2));
+        return land != null;
+      case 2:
+      case 3:
+        return c >= '0' && c <= '9';
+      default:
+        if (pos >= land.getLaenge())
+        {
+          return false;
+        }
+        switch (land.getZeichenart(pos - 4))
+        {
+          case 'n':
+            return c >= '0' && c <= '9';
+          case 'a':
+            return c >= 'A' && c <= 'Z';
+          default:
+            return (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+        }
+    }
+  }
+
+  private boolean isPruefzifferRichtig()
+  {
+    int pz = (zeichen[2] - '0') * 10 + (zeichen[3] - '0');
+    if (pz < 2 || pz > 98)
+    {
+      return false;
+    }
+    int r = rest;
+    for (int i = 0; i < 4; i++)
+    {
+      r = IBANPruefung.weiter(r, IBANPruefung.wert(zeichen[i]));
+    }
+    return r == 1;
+  }
+}
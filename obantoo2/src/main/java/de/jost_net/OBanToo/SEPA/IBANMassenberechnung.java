@@ -0,0 +1,359 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import de.jost_net.OBanToo.SEPA.SEPAException.Fehler;
+import de.jost_net.OBanToo.SEPA.BankenDaten.Bank;
+import de.jost_net.OBanToo.SEPA.BankenDaten.Banken;
+import de.jost_net.OBanToo.SEPA.Land.SEPALaender;
+import de.jost_net.OBanToo.SEPA.Land.SEPALand;
+
+/**
+ * <h1>IBAN-Berechnung für große Kontenbestände</h1>
+ * <p>
+ * Berechnet IBAN und BIC für viele deutsche Bankverbindungen (BLZ,
+ * Kontonummer). Die Zeilen werden nach Bankleitzahl gruppiert; Bank und
+ * IBAN-Regel werden je Gruppe einmal ermittelt. Die Gruppen werden in
+ * Blöcken im Executor des Aufrufers berechnet. Das Ergebnis steht in der
+ * Reihenfolge der Eingabe.
+ * </p>
+ * <p>
+ * Jede Zeile liefert dasselbe wie new IBAN(konto, blz, "DE"). Abgelehnte
+ * Zeilen werfen keine SEPAException, sondern liefern den Fehler und einen
+ * passenden IBANCode.
+ * </p>
+ * <code>
+ * ExecutorService executor = Executors.newFixedThreadPool(8);<br>
+ * IBANMassenberechnung.Ergebnis[] e = new IBANMassenberechnung(executor)<br>
+ * &nbsp;&nbsp;.berechne(blz, konto);<br>
+ * </code>
+ */
+public class IBANMassenberechnung
+{
+  /**
+   * Mindestanzahl der Zeilen eines Blocks. Kleine Gruppen werden
+   * zusammengefasst.
+   */
+  private static final int BLOCK = 8192;
+
+  private final ExecutorService executor;
+
+  /**
+   * Ergebnis einer Zeile
+   */
+  public static final class Ergebnis
+  {
+    private final IBANCode code;
+
+    private final String iban;
+
+    private final String bic;
+
+    private final Fehler fehler;
+
+    Ergebnis(IBANCode code, String iban, String bic, Fehler fehler)
+    {
+      this.code = code;
+      this.iban = iban;
+      this.bic = bic;
+      this.fehler = fehler;
+    }
+
+    public IBANCode getCode()
+    {
+      return code;
+    }
+
+    /**
+     * IBAN oder null, wenn keine berechnet werden konnte
+     */
+    public String getIBAN()
+    {
+      return iban;
+    }
+
+    public String getBIC()
+    {
+      return bic;
+    }
+
+    /**
+     * Fehler, mit dem new IBAN() die Zeile abgelehnt hätte, sonst null
+     */
+    public Fehler getFehler()
+    {
+      return fehler;
+    }
+  }
+
+  /**
+   * Bankleitzahl mit den einmal ermittelten Daten
+   */
+  private static final class Gruppe
+  {
+    final String blz;
+
+    /**
+     * Fehler, der jede Zeile der Gruppe betrifft (außer Konto leer)
+     */
+    Fehler fehler;
+
+    Bank bank;
+
+    IBANRegeln.Regel regel;
+
+    int anzahl;
+
+    int start;
+
+    Gruppe(String blz, SEPALand land)
+    {
+      this.blz = blz;
+      if (blz == null || blz.trim().length() == 0)
+      {
+        fehler = Fehler.BLZ_LEER;
+      }
+      else if (blz.length() != land.getBankIdentifierLength().intValue())
+      {
+        fehler = Fehler.BLZ_UNGUELTIGE_LAENGE;
+      }
+      else
+      {
+        bank = Banken.getBankByBLZ(blz);
+        if (bank == null)
+        {
+          fehler = Fehler.BLZ_UNGUELTIG;
+        }
+        else
+        {
+          regel = bank.getIBANRegelverfahren();
+          if (regel == null)
+          {
+            fehler = Fehler.IBANREGEL_NICHT_IMPLEMENTIERT;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * @param executor
+   *          Executor für die Blöcke. null: Berechnung im aufrufenden Thread
+   */
+  public IBANMassenberechnung(ExecutorService executor)
+  {
+    this.executor = executor;
+  }
+
+  /**
+   * Berechnet alle Zeilen aus Paaren { BLZ, Kontonummer }.
+   */
+  public Ergebnis[] berechne(Stream<String[]> paare) throws SEPAException
+  {
+    String[][] a = paare.toArray(String[][]::new);
+    String[] blz = new String[a.length];
+    String[] konto = new String[a.length];
+    for (int i = 0; i < a.length; i++)
+    {
+      blz[i] = a[i][0];
+      konto[i] = a[i][1];
+    }
+    return berechne(blz, konto);
+  }
+
+  /**
+   * Berechnet alle Zeilen. blz[i] und konto[i] bilden eine Zeile.
+   */
+  public Ergebnis[] berechne(String[] blz, String[] konto)
+      throws SEPAException
+  {
+    if (blz.length != konto.length)
+    {
+      throw new IllegalArgumentException(
+          "Anzahl BLZ und Kontonummern verschieden");
+    }
+    SEPALand land = SEPALaender.getLand("DE");
+
+    // Gruppieren: Gruppe je Zeile, dann Zeilen je Gruppe (Zählsortierung)
+    HashMap<String, Gruppe> index = new HashMap<>();
+    ArrayList<Gruppe> gruppen = new ArrayList<>();
+    Gruppe[] gruppeJeZeile = new Gruppe[blz.length];
+    for (int i = 0; i < blz.length; i++)
+    {
+      Gruppe g = index.get(blz[i]);
+      if (g == null)
+      {
+        g = new Gruppe(blz[i], land);
+        index.put(blz[i], g);
+        gruppen.add(g);
+      }
+      g.anzahl++;
+      gruppeJeZeile[i] = g;
+    }
+    int pos = 0;
+    for (Gruppe g : gruppen)
+    {
+      g.start = pos;
+      pos += g.anzahl;
+      g.anzahl = 0;
+    }
+    int[] zeilen = new int[blz.length];
+    for (int i = 0; i < blz.length; i++)
+    {
+      Gruppe g = gruppeJeZeile[i];
+      zeilen[g.start + g.anzahl++] = i;
+    }
+    gruppeJeZeile = null;
+
+    Ergebnis[] ergebnis = new Ergebnis[blz.length];
+    ArrayList<Future<?>> bloecke = new ArrayList<>();
+    List<Gruppe> block = new ArrayList<>();
+    int zeilenImBlock = 0;
+    try
+    {
+      for (Gruppe g : gruppen)
+      {
+        block.add(g);
+        zeilenImBlock += g.anzahl;
+        if (zeilenImBlock >= BLOCK)
+        {
+          bloecke.add(starte(block, zeilen, konto, land, ergebnis));
+          block = new ArrayList<>();
+          zeilenImBlock = 0;
+        }
+      }
+      if (!block.isEmpty())
+      {
+        bloecke.add(starte(block, zeilen, konto, land, ergebnis));
+      }
+      for (Future<?> f : bloecke)
+      {
+        warte(f);
+      }
+    }
+    finally
+    {
+      for (Future<?> f : bloecke)
+      {
+        f.cancel(true);
+      }
+    }
+    return ergebnis;
+  }
+
+  private Future<?> starte(List<Gruppe> block, int[] zeilen, String[] konto,
+      SEPALand land, Ergebnis[] ergebnis)
+  {
+    Runnable r = () -> {
+      for (Gruppe g : block)
+      {
+        for (int i = g.start; i < g.start + g.anzahl; i++)
+        {
+          int zeile = zeilen[i];
+          ergebnis[zeile] = berechne(g, konto[zeile], land);
+        }
+      }
+    };
+    if (executor == null)
+    {
+      r.run();
+      return CompletableFuture.completedFuture(null);
+    }
+    return executor.submit(r);
+  }
+
+  /**
+   * Entspricht new IBAN(kontoNr, g.blz, "DE") mit den Daten der Gruppe.
+   */
+  private static Ergebnis berechne(Gruppe g, String kontoNr, SEPALand land)
+  {
+    if (g.fehler == Fehler.BLZ_LEER)
+    {
+      return fehler(Fehler.BLZ_LEER);
+    }
+    if (kontoNr == null)
+    {
+      return fehler(Fehler.KONTO_LEER);
+    }
+    // Führende Nullen aus der Kontonummer entfernen
+    int n = 0;
+    while (n < kontoNr.length() && kontoNr.charAt(n) == '0')
+    {
+      n++;
+    }
+    String konto = n > 0 ? kontoNr.substring(n) : kontoNr;
+    if (konto.trim().length() == 0)
+    {
+      return fehler(Fehler.KONTO_LEER);
+    }
+    if (g.fehler == Fehler.BLZ_UNGUELTIGE_LAENGE)
+    {
+      return fehler(g.fehler);
+    }
+    if (konto.length() > land.getAccountLength().intValue())
+    {
+      return fehler(Fehler.KONTO_UNGUELTIGE_LAENGE);
+    }
+    if (g.fehler != null)
+    {
+      return fehler(g.fehler);
+    }
+    try
+    {
+      IBANRet ret = g.regel.berechne(g.bank, konto, land);
+      return new Ergebnis(ret.getCode(), ret.getIban(), ret.getBic(), null);
+    }
+    catch (Exception e)
+    {
+      return fehler(Fehler.KONTO_PRUEFZIFFERNREGEL_NICHT_IMPLEMENTIERT);
+    }
+  }
+
+  private static Ergebnis fehler(Fehler f)
+  {
+    IBANCode code;
+    switch (f)
+    {
+      case BLZ_LEER:
+      case BLZ_UNGUELTIGE_LAENGE:
+      case BLZ_UNGUELTIG:
+        code = IBANCode.BLZUNGUELTIG;
+        break;
+      case KONTO_LEER:
+      case KONTO_UNGUELTIGE_LAENGE:
+        code = IBANCode.KONTONUMMERUNGUELTIG;
+        break;
+      default:
+        code = IBANCode.IBANBERECHNUNGNICHTMOEGLICH;
+    }
+    return new Ergebnis(code, null, null, f);
+  }
+
+  private static void warte(Future<?> f) throws SEPAException
+  {
+    try
+    {
+      f.get();
+    }
+    catch (InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SEPAException("IBAN-Berechnung abgebrochen");
+    }
+    catch (ExecutionException e)
+    {
+      throw new SEPAException(e.getCause().toString());
+    }
+  }
+}
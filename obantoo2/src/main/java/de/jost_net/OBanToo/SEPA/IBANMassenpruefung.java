@@ -0,0 +1,203 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
+/**
+ * <h1>Prüfziffernprüfung für große IBAN-Bestände</h1>
+ * <p>
+ * Prüft viele IBANs, die als Sätze fester Länge hintereinander in einem
+ * byte[] oder ByteBuffer (auch außerhalb des Heaps) stehen. Jeder Satz
+ * enthält eine IBAN im ASCII-Format, rechts mit Leerzeichen aufgefüllt.
+ * Geliefert wird ein BitSet mit den Nummern der fehlerhaften Sätze.
+ * </p>
+ * <p>
+ * Ein Satz ist fehlerhaft, wenn IBANPruefung.pruefe(daten, off, satzlaenge)
+ * nicht GUELTIG liefert. Der Rest modulo 97 wird in einem long gesammelt und
+ * nur reduziert, wenn er groß wird, statt nach jedem Zeichen.
+ * </p>
+ * <code>
+ * BitSet fehler = IBANMassenpruefung.pruefe(daten, 34);<br>
+ * </code>
+ */
+public final class IBANMassenpruefung
+{
+  /**
+   * Ab diesem Wert wird der Rest reduziert. Auch nach zwei weiteren Stellen
+   * (Buchstabe) bleibt er unter Long.MAX_VALUE.
+   */
+  private static final long GRENZE = 1_000_000_000_000_000L;
+
+  /**
+   * Sätze je Block beim Lesen aus einem ByteBuffer
+   */
+  private static final int BLOCK = 4096;
+
+  /**
+   * Wert je ASCII-Zeichen: Ziffern 0..9, Buchstaben 10..35
+   */
+  private static final byte[] WERT = new byte[256];
+  static
+  {
+    for (int c = 0; c < 256; c++)
+    {
+      WERT[c] = (byte) IBANPruefung.wert((char) c);
+    }
+  }
+
+  private IBANMassenpruefung()
+  {
+  }
+
+  /**
+   * @param daten
+   *          Sätze fester Länge, Anzahl = daten.length / satzlaenge
+   * @return Nummern (ab 0) der Sätze mit ungültiger IBAN
+   */
+  public static BitSet pruefe(byte[] daten, int satzlaenge)
+  {
+    int anzahl = anzahl(daten.length, satzlaenge);
+    BitSet fehler = new BitSet(anzahl);
+    pruefe(daten, 0, anzahl, satzlaenge, fehler, 0);
+    return fehler;
+  }
+
+  /**
+   * Prüft die Sätze zwischen position und limit des Puffers. Die Position
+   * des Puffers wird nicht verändert.
+   *
+   * @return Nummern (ab 0, bezogen auf position) der Sätze mit ungültiger
+   *         IBAN
+   */
+  public static BitSet pruefe(ByteBuffer daten, int satzlaenge)
+  {
+    int anzahl = anzahl(daten.remaining(), satzlaenge);
+    BitSet fehler = new BitSet(anzahl);
+    if (daten.hasArray())
+    {
+      pruefe(daten.array(), daten.arrayOffset() + daten.position(), anzahl,
+          satzlaenge, fehler, 0);
+      return fehler;
+    }
+    // Blockweise in den Heap kopieren, der Kern arbeitet auf byte[]
+    ByteBuffer b = daten.duplicate();
+    byte[] block = new byte[Math.min(anzahl, BLOCK) * satzlaenge];
+    for (int erster = 0; erster < anzahl; erster += BLOCK)
+    {
+      int n = Math.min(BLOCK, anzahl - erster);
+      b.get(block, 0, n * satzlaenge);
+      pruefe(block, 0, n, satzlaenge, fehler, erster);
+    }
+    return fehler;
+  }
+
+  private static void pruefe(byte[] daten, int off, int anzahl,
+      int satzlaenge, BitSet fehler, int erster)
+  {
+    for (int i = 0; i < anzahl; i++)
+    {
+      int von = off + i * satzlaenge;
+      if (!gueltig(daten, von, von + satzlaenge))
+      {
+        fehler.set(erster + i);
+      }
+    }
+  }
+
+  /**
+   * Entspricht IBANPruefung.pruefe(daten, von, bis - von) == GUELTIG.
+   */
+  static boolean gueltig(byte[] daten, int von, int bis)
+  {
+    // Landeskennung und Prüfziffer, sie werden ans Ende gestellt
+    int l1 = 0;
+    int l2 = 0;
+    int p1 = 0;
+    int p2 = 0;
+    int i = von;
+    for (int n = 0; n < 4; i++)
+    {
+      if (i >= bis)
+      {
+        return false;
+      }
+      int w = WERT[daten[i] & 0xff];
+      if (w == IBANPruefung.LEER)
+      {
+        continue;
+      }
+      if (w < 0)
+      {
+        return false;
+      }
+      switch (n++)
+      {
+        case 0:
+          l1 = w;
+          break;
+        case 1:
+          l2 = w;
+          break;
+        case 2:
+          p1 = w;
+          break;
+        default:
+          p2 = w;
+      }
+    }
+    long rest = 0;
+    boolean bban = false;
+    for (; i < bis; i++)
+    {
+      int w = WERT[daten[i] & 0xff];
+      if (w >= 10)
+      {
+        rest = rest * 100 + w;
+      }
+      else if (w >= 0)
+      {
+        rest = rest * 10 + w;
+      }
+      else if (w == IBANPruefung.LEER)
+      {
+        continue;
+      }
+      else
+      {
+        return false;
+      }
+      bban = true;
+      if (rest >= GRENZE)
+      {
+        rest %= 97;
+      }
+    }
+    if (!bban || l1 < 10 || l2 < 10)
+    {
+      return false;
+    }
+    // Prüfziffern außerhalb 02..98 werden nie vergeben
+    int pz = p1 * 10 + p2;
+    if (p1 > 9 || p2 > 9 || pz < 2 || pz > 98)
+    {
+      return false;
+    }
+    int r = (int) (rest % 97);
+    r = IBANPruefung.weiter(IBANPruefung.weiter(r, l1), l2);
+    return IBANPruefung.weiter(IBANPruefung.weiter(r, p1), p2) == 1;
+  }
+
+  private static int anzahl(int laenge, int satzlaenge)
+  {
+    if (satzlaenge <= 0 || laenge % satzlaenge != 0)
+    {
+      throw new IllegalArgumentException(
+          "Ungültige Satzlänge " + satzlaenge + " bei " + laenge + " Bytes");
+    }
+    return laenge / satzlaenge;
+  }
+}
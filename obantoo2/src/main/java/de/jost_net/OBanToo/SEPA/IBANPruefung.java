@@ -0,0 +1,196 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA;
+
+/**
+ * <h1>Prüfung der IBAN-Prüfziffer nach ISO 13616 (Modulo 97-10)</h1>
+ * <p>
+ * Die Prüfung arbeitet direkt auf einer CharSequence oder einem byte[]
+ * (ASCII). Leerzeichen werden überlesen, Kleinbuchstaben wie Großbuchstaben
+ * behandelt. Der Rest modulo 97 wird Zeichen für Zeichen mit int-Arithmetik
+ * berechnet; es werden keine Objekte erzeugt.
+ * </p>
+ * <code>
+ * Ergebnis e = IBANPruefung.pruefe("de08 7009 0100 1234 5678 90");<br>
+ * </code>
+ */
+public final class IBANPruefung
+{
+  public enum Ergebnis
+  {
+    GUELTIG,
+    /**
+     * Weniger als Landeskennung, Prüfziffer und ein Zeichen BBAN
+     */
+    ZU_KURZ,
+    /**
+     * Zeichen außer Ziffern, Buchstaben und Leerzeichen
+     */
+    UNGUELTIGES_ZEICHEN, PRUEFZIFFER_FALSCH
+  }
+
+  static final int UNGUELTIG = -1;
+
+  static final int LEER = -2;
+
+  private IBANPruefung()
+  {
+  }
+
+  /**
+   * Prüft Länge, Zeichen und Prüfziffer der IBAN. Landeskennung und
+   * Länderregeln werden nicht geprüft.
+   */
+  public static Ergebnis pruefe(CharSequence iban)
+  {
+    return pruefe(iban, null, 0, iban.length());
+  }
+
+  /**
+   * Prüfung einer IBAN im ASCII-Format
+   */
+  public static Ergebnis pruefe(byte[] iban, int off, int len)
+  {
+    return pruefe(null, iban, off, off + len);
+  }
+
+  private static Ergebnis pruefe(CharSequence cs, byte[] b, int von, int bis)
+  {
+    // Landeskennung und Prüfziffer werden ans Ende gestellt
+    int l1 = 0;
+    int l2 = 0;
+    int p1 = 0;
+    int p2 = 0;
+    int n = 0;
+    int rest = 0;
+    for (int i = von; i < bis; i++)
+    {
+      int w = wert(cs != null ? cs.charAt(i) : (char) (b[i] & 0xff));
+      if (w == LEER)
+      {
+        continue;
+      }
+      if (w == UNGUELTIG)
+      {
+        return Ergebnis.UNGUELTIGES_ZEICHEN;
+      }
+      switch (n++)
+      {
+        case 0:
+          l1 = w;
+          break;
+        case 1:
+          l2 = w;
+          break;
+        case 2:
+          p1 = w;
+          break;
+        case 3:
+          p2 = w;
+          break;
+        default:
+          rest = weiter(rest, w);
+      }
+    }
+    if (n < 5)
+    {
+      return Ergebnis.ZU_KURZ;
+    }
+    if (l1 < 10 || l2 < 10)
+    {
+      return Ergebnis.UNGUELTIGES_ZEICHEN;
+    }
+    // Prüfziffern außerhalb 02..98 werden nie vergeben
+    int pz = p1 * 10 + p2;
+    if (p1 > 9 || p2 > 9 || pz < 2 || pz > 98)
+    {
+      return Ergebnis.PRUEFZIFFER_FALSCH;
+    }
+    rest = weiter(weiter(weiter(weiter(rest, l1), l2), p1), p2);
+    return rest == 1 ? Ergebnis.GUELTIG : Ergebnis.PRUEFZIFFER_FALSCH;
+  }
+
+  /**
+   * Berechnet die Prüfziffer (2..98) zu BBAN und Landeskennung.
+   *
+   * @return -1, wenn die BBAN oder die Landeskennung ungültige Zeichen
+   *         enthält
+   */
+  public static int getPruefziffer(CharSequence bban, CharSequence land)
+  {
+    int rest = 0;
+    for (int t = 0; t < 2; t++)
+    {
+      CharSequence cs = t == 0 ? bban : land;
+      for (int i = 0; i < cs.length(); i++)
+      {
+        int w = wert(cs.charAt(i));
+        if (w == LEER)
+        {
+          continue;
+        }
+        if (w == UNGUELTIG)
+        {
+          return -1;
+        }
+        rest = weiter(rest, w);
+      }
+    }
+    // Prüfziffer 00
+    rest = rest * 100 % 97;
+    return 98 - rest;
+  }
+
+  /**
+   * Liefert die IBAN ohne Leerzeichen in Großbuchstaben. Ist sie bereits in
+   * dieser Form, wird dieselbe Instanz geliefert.
+   */
+  public static String kompakt(String iban)
+  {
+    for (int i = 0; i < iban.length(); i++)
+    {
+      char c = iban.charAt(i);
+      if (c == ' ' || (c >= 'a' && c <= 'z'))
+      {
+        StringBuilder sb = new StringBuilder(iban.length());
+        for (int j = 0; j < iban.length(); j++)
+        {
+          char d = iban.charAt(j);
+          if (d != ' ')
+          {
+            sb.append(d >= 'a' && d <= 'z' ? (char) (d - 32) : d);
+          }
+        }
+        return sb.toString();
+      }
+    }
+    return iban;
+  }
+
+  static int weiter(int rest, int w)
+  {
+    return (w < 10 ? rest * 10 + w : rest * 100 + w) % 97;
+  }
+
+  /**
+   * Ziffern 0..9, Buchstaben 10..35
+   */
+  static int wert(char c)
+  {
+    if (c >= '0' && c <= '9')
+    {
+      return c - '0';
+    }
+    if (c >= 'A' && c <= 'Z')
+    {
+      return c - 'A' + 10;
+    }
+    if (c >= 'a' && c <= 'z')
+    {
+      return c - 'a' + 10;
+    }
+    return c == ' ' ? LEER : UNGUELTIG;
+  }
+}
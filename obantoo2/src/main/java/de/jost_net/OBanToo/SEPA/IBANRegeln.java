@@ -0,0 +1,134 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import de.jost_net.OBanToo.SEPA.BankenDaten.Bank;
+import de.jost_net.OBanToo.SEPA.Land.SEPALand;
+
+/**
+ * <h1>Tabelle der IBAN-Regeln der Deutschen Bundesbank</h1>
+ * <p>
+ * Die Implementierungen IBAN.ibanRegel_XXXXYY werden einmalig unter ihrem
+ * Regelcode (Regel und Version, z. B. 000503) eingetragen. Die Tabelle ist
+ * unveränderlich; eine IBAN-Berechnung kommt ohne Reflection aus. Neue Regeln
+ * müssen hier eingetragen werden. Eine Regel erhält die bereits ermittelte
+ * Bank; die Bankdaten werden nur für eine von der Regel ersetzte
+ * Bankleitzahl erneut gesucht.
+ * </p>
+ */
+public final class IBANRegeln
+{
+  @FunctionalInterface
+  public interface Regel
+  {
+    IBANRet berechne(Bank bank, String konto, SEPALand land)
+        throws Exception;
+  }
+
+  private static final Map<String, Regel> regeln;
+
+  static
+  {
+    HashMap<String, Regel> m = new HashMap<>();
+    m.put("000000", IBAN::ibanRegel_000000);
+    m.put("000100", IBAN::ibanRegel_000100);
+    m.put("000200", IBAN::ibanRegel_000200);
+    m.put("000300", IBAN::ibanRegel_000300);
+    m.put("000400", IBAN::ibanRegel_000400);
+    m.put("000501", IBAN::ibanRegel_000501);
+    m.put("000502", IBAN::ibanRegel_000502);
+    m.put("000503", IBAN::ibanRegel_000503);
+    m.put("000600", IBAN::ibanRegel_000600);
+    m.put("000700", IBAN::ibanRegel_000700);
+    m.put("000800", IBAN::ibanRegel_000800);
+    m.put("000900", IBAN::ibanRegel_000900);
+    m.put("001000", IBAN::ibanRegel_001000);
+    m.put("001001", IBAN::ibanRegel_001001);
+    m.put("001100", IBAN::ibanRegel_001100);
+    m.put("001201", IBAN::ibanRegel_001201);
+    m.put("001301", IBAN::ibanRegel_001301);
+    m.put("001400", IBAN::ibanRegel_001400);
+    m.put("001500", IBAN::ibanRegel_001500);
+    m.put("001501", IBAN::ibanRegel_001501);
+    m.put("001600", IBAN::ibanRegel_001600);
+    m.put("001700", IBAN::ibanRegel_001700);
+    m.put("001800", IBAN::ibanRegel_001800);
+    m.put("001900", IBAN::ibanRegel_001900);
+    m.put("002001", IBAN::ibanRegel_002001);
+    m.put("002002", IBAN::ibanRegel_002002);
+    m.put("002101", IBAN::ibanRegel_002101);
+    m.put("002200", IBAN::ibanRegel_002200);
+    m.put("002300", IBAN::ibanRegel_002300);
+    m.put("002400", IBAN::ibanRegel_002400);
+    m.put("002500", IBAN::ibanRegel_002500);
+    m.put("002600", IBAN::ibanRegel_002600);
+    m.put("002700", IBAN::ibanRegel_002700);
+    m.put("002800", IBAN::ibanRegel_002800);
+    m.put("002900", IBAN::ibanRegel_002900);
+    m.put("003000", IBAN::ibanRegel_003000);
+    m.put("003101", IBAN::ibanRegel_003101);
+    m.put("003200", IBAN::ibanRegel_003200);
+    m.put("003301", IBAN::ibanRegel_003301);
+    m.put("003400", IBAN::ibanRegel_003400);
+    m.put("003501", IBAN::ibanRegel_003501);
+    m.put("003600", IBAN::ibanRegel_003600);
+    m.put("003700", IBAN::ibanRegel_003700);
+    m.put("003800", IBAN::ibanRegel_003800);
+    m.put("003900", IBAN::ibanRegel_003900);
+    m.put("004001", IBAN::ibanRegel_004001);
+    m.put("004100", IBAN::ibanRegel_004100);
+    m.put("004200", IBAN::ibanRegel_004200);
+    m.put("004300", IBAN::ibanRegel_004300);
+    m.put("004301", IBAN::ibanRegel_004301);
+    m.put("004400", IBAN::ibanRegel_004400);
+    m.put("004500", IBAN::ibanRegel_004500);
+    m.put("004501", IBAN::ibanRegel_004501);
+    m.put("004600", IBAN::ibanRegel_004600);
+    m.put("004700", IBAN::ibanRegel_004700);
+    m.put("004800", IBAN::ibanRegel_004800);
+    m.put("004900", IBAN::ibanRegel_004900);
+    m.put("005000", IBAN::ibanRegel_005000);
+    m.put("005100", IBAN::ibanRegel_005100);
+    m.put("005200", IBAN::ibanRegel_005200);
+    m.put("005300", IBAN::ibanRegel_005300);
+    m.put("005400", IBAN::ibanRegel_005400);
+    m.put("005401", IBAN::ibanRegel_005401);
+    m.put("005500", IBAN::ibanRegel_005500);
+    m.put("005600", IBAN::ibanRegel_005600);
+    m.put("005700", IBAN::ibanRegel_005700);
+    regeln = Collections.unmodifiableMap(m);
+  }
+
+  private IBANRegeln()
+  {
+  }
+
+  /**
+   * Liefert die Regel zum Regelcode oder null, wenn sie nicht implementiert
+   * ist.
+   */
+  public static Regel get(String code)
+  {
+    return code != null ? regeln.get(code) : null;
+  }
+
+  public static boolean isImplementiert(String code)
+  {
+    return get(code) != null;
+  }
+
+  /**
+   * Codes aller implementierten Regeln
+   */
+  public static Set<String> getCodes()
+  {
+    return regeln.keySet();
+  }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA;
+
+/**
+ * <h1>Unveränderliche Tabelle der IBAN-Regeln</h1>
+ * <p>
+ * Ordnet Kontonummern (oder Bankleitzahl und Kontonummer) eine Ersetzung zu.
+ * Die Tabellen werden einmal beim Laden von IBAN aufgebaut; eine Abfrage
+ * erzeugt keine Objekte.
+ * </p>
+ * <p>
+ * Schlüssel sind Ziffernfolgen bis 18 Stellen. Sie werden mit einer
+ * vorangestellten 1 als long abgelegt, damit "0135" und "135" verschiedene
+ * Schlüssel bleiben. Gesucht wird mit offener Adressierung (lineares
+ * Sondieren).
+ * </p>
+ */
+final class IBANTabelle
+{
+  /**
+   * Längste kodierbare Ziffernfolge. 1 + 18 Ziffern passen in einen long.
+   */
+  private static final int MAXSTELLEN = 18;
+
+  /**
+   * Freier Platz. Kodierte Schlüssel sind immer größer als 0.
+   */
+  private static final long FREI = 0;
+
+  private final long[] schluessel;
+
+  private final String[] werte;
+
+  private final int maske;
+
+  private IBANTabelle(String[] paare, boolean menge)
+  {
+    int anzahl = menge ? paare.length : paare.length / 2;
+    int groesse = Integer.highestOneBit(Math.max(anzahl, 1) * 2) << 1;
+    schluessel = new long[groesse];
+    werte = new String[groesse];
+    maske = groesse - 1;
+    for (int i = 0; i < anzahl; i++)
+    {
+      String s = menge ? paare[i] : paare[2 * i];
+      long k = kodiere(s, null);
+      if (k < 0)
+      {
+        throw new IllegalArgumentException("Ungültiger Schlüssel: " + s);
+      }
+      int pos = position(k);
+      while (schluessel[pos] != FREI && schluessel[pos] != k)
+      {
+        pos = (pos + 1) & maske;
+      }
+      if (schluessel[pos] == k)
+      {
+        throw new IllegalArgumentException("Doppelter Schlüssel: " + s);
+      }
+      schluessel[pos] = k;
+      werte[pos] = menge ? s : paare[2 * i + 1];
+    }
+  }
+
+  /**
+   * Tabelle aus Paaren von Schlüssel und Ersetzung
+   */
+  static IBANTabelle of(String... paare)
+  {
+    if (paare.length % 2 != 0)
+    {
+      throw new IllegalArgumentException("Ersetzung fehlt");
+    }
+    return new IBANTabelle(paare, false);
+  }
+
+  /**
+   * Menge von Schlüsseln ohne Ersetzung
+   */
+  static IBANTabelle menge(String... schluessel)
+  {
+    return new IBANTabelle(schluessel, true);
+  }
+
+  /**
+   * Ersetzung zur Ziffernfolge oder null
+   */
+  String get(CharSequence konto)
+  {
+    return get(null, konto);
+  }
+
+  /**
+   * Ersetzung zur Ziffernfolge blz + konto oder null
+   */
+  String get(CharSequence blz, CharSequence konto)
+  {
+    long k = kodiere(konto, blz);
+    if (k < 0)
+    {
+      return null;
+    }
+    int pos = position(k);
+    while (schluessel[pos] != FREI)
+    {
+      if (schluessel[pos] == k)
+      {
+        return werte[pos];
+      }
+      pos = (pos + 1) & maske;
+    }
+    return null;
+  }
+
+  boolean contains(CharSequence konto)
+  {
+    return get(null, konto) != null;
+  }
+
+  /**
+   * Kodiert vorsatz + text. -1, wenn ein Zeichen keine Ziffer ist oder die
+   * Folge zu lang ist.
+   */
+  private static long kodiere(CharSequence text, CharSequence vorsatz)
+  {
+    int lv = vorsatz != null ? vorsatz.length() : 0;
+    if (lv + text.length() > MAXSTELLEN)
+    {
+      return -1;
+    }
+    long k = 1;
+    for (int i = 0; i < lv + text.length(); i++)
+    {
+      char c = i < lv ? vorsatz.charAt(i) : text.charAt(i - lv);
+      if (c < '0' || c > '9')
+      {
+        return -1;
+      }
+      k = k * 10 + (c - '0');
+    }
+    return k;
+  }
+
+  private int position(long k)
+  {
+    long h = k * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32)) & maske;
+  }
+
+  /**
+   * <h1>Kontonummernbereiche</h1>
+   * <p>
+   * Sortierte, überschneidungsfreie Intervalle [von, bis]. Die Suche erfolgt
+   * binär.
+   * </p>
+   */
+  static final class Bereiche
+  {
+    private final long[] von;
+
+    private final long[] bis;
+
+    /**
+     * @param grenzen
+     *          von1, bis1, von2, bis2, ... aufsteigend
+     */
+    Bereiche(long... grenzen)
+    {
+      if (grenzen.length % 2 != 0)
+      {
+        throw new IllegalArgumentException("Obergrenze fehlt");
+      }
+      von = new long[grenzen.length / 2];
+      bis = new long[grenzen.length / 2];
+      for (int i = 0; i < von.length; i++)
+      {
+        von[i] = grenzen[2 * i];
+        bis[i] = grenzen[2 * i + 1];
+        if (von[i] > bis[i] || (i > 0 && von[i] <= bis[i - 1]))
+        {
+          throw new IllegalArgumentException(
+              "Bereiche nicht aufsteigend: " + von[i] + "-" + bis[i]);
+        }
+      }
+    }
+
+    boolean enthaelt(long wert)
+    {
+      int u = 0;
+      int o = von.length - 1;
+      while (u <= o)
+      {
+        int m = (u + o) >>> 1;
+        if (wert < von[m])
+        {
+          o = m - 1;
+        }
+        else if (wert > bis[m])
+        {
+          u = m + 1;
+        }
+        else
+        {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA;
+
+/**
+ * <h1>IBAN als kompakter, unveränderlicher Wert</h1>
+ * <p>
+ * Die IBAN wird ohne Leerzeichen in drei long gepackt. Jedes long enthält
+ * zwölf Zeichen als Ziffern zur Basis 37: 0 steht für "kein Zeichen", 1..10
+ * für 0..9 und 11..36 für A..Z. 37^12 ist kleiner als 2^63, die Werte sind
+ * also nie negativ. Damit entspricht der Vergleich der drei long dem
+ * Vergleich der IBAN als Zeichenkette.
+ * </p>
+ * <p>
+ * Landeskennung, Prüfziffer und bis zu 30 Zeichen BBAN (zusammen höchstens
+ * 34 Zeichen nach ISO 13616) belegen 24 Bytes. In KompakteIBANMenge und
+ * KompakteIBANMap werden nur diese 24 Bytes je IBAN gespeichert, ohne
+ * Objekt.
+ * </p>
+ * <code>
+ * KompakteIBAN k = KompakteIBAN.of("DE89 3704 0044 0532 0130 00");<br>
+ * k.toString(); // DE89370400440532013000<br>
+ * </code>
+ */
+public final class KompakteIBAN implements Comparable<KompakteIBAN>
+{
+  static final int MAXLAENGE = 34;
+
+  /**
+   * Zeichen je long
+   */
+  private static final int ZEICHEN = 12;
+
+  private static final int BASIS = 37;
+
+  private final long t0;
+
+  private final long t1;
+
+  private final long t2;
+
+  KompakteIBAN(long t0, long t1, long t2)
+  {
+    this.t0 = t0;
+    this.t1 = t1;
+    this.t2 = t2;
+  }
+
+  /**
+   * Packt eine IBAN. Leerzeichen und Kleinbuchstaben sind zulässig.
+   *
+   * @throws SEPAException
+   *           wenn Aufbau oder Prüfziffer falsch sind
+   */
+  public static KompakteIBAN of(String iban) throws SEPAException
+  {
+    if (iban == null)
+    {
+      throw new SEPAException("IBAN ist leer");
+    }
+    if (IBANPruefung.pruefe(iban) != IBANPruefung.Ergebnis.GUELTIG)
+    {
+      throw new SEPAException("Ungültige IBAN: " + iban);
+    }
+    long t0 = teil(iban, 0);
+    if (t0 < 0)
+    {
+      throw new SEPAException("IBAN zu lang: " + iban);
+    }
+    return new KompakteIBAN(t0, teil(iban, 1), teil(iban, 2));
+  }
+
+  public static KompakteIBAN of(IBAN iban) throws SEPAException
+  {
+    return of(iban.getIBAN());
+  }
+
+  /**
+   * Landeskennung, z. B. DE
+   */
+  public String getLand()
+  {
+    // Die ersten beiden Ziffern von t0
+    long p = t0;
+    for (int i = 2; i < ZEICHEN; i++)
+    {
+      p /= BASIS;
+    }
+    return new String(new char[] { zeichen((int) (p / BASIS)),
+        zeichen((int) (p % BASIS)) });
+  }
+
+  /**
+   * IBAN ohne Leerzeichen
+   */
+  @Override
+  public String toString()
+  {
+    char[] c = new char[3 * ZEICHEN];
+    int n = entpacke(t0, c, 0);
+    if (n == ZEICHEN)
+    {
+      n += entpacke(t1, c, n);
+    }
+    if (n == 2 * ZEICHEN)
+    {
+      n += entpacke(t2, c, n);
+    }
+    return new String(c, 0, n);
+  }
+
+  @Override
+  public boolean equals(Object o)
+  {
+    if (!(o instanceof KompakteIBAN))
+    {
+      return false;
+    }
+    KompakteIBAN k = (KompakteIBAN) o;
+    return t0 == k.t0 && t1 == k.t1 && t2 == k.t2;
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return streue(t0, t1, t2);
+  }
+
+  @Override
+  public int compareTo(KompakteIBAN k)
+  {
+    int c = Long.compare(t0, k.t0);
+    if (c == 0)
+    {
+      c = Long.compare(t1, k.t1);
+    }
+    return c != 0 ? c : Long.compare(t2, k.t2);
+  }
+
+  long getTeil0()
+  {
+    return t0;
+  }
+
+  long getTeil1()
+  {
+    return t1;
+  }
+
+  long getTeil2()
+  {
+    return t2;
+  }
+
+  /**
+   * Streuwert für Hashtabellen
+   */
+  static int streue(long t0, long t1, long t2)
+  {
+    long h = t0 * 0x9E3779B97F4A7C15L;
+    h = (h ^ t1) * 0xC2B2AE3D27D4EB4FL;
+    h = (h ^ t2) * 0x165667B19E3779F9L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  /**
+   * Packt die Zeichen 12*nr bis 12*nr+11 (ohne Leerzeichen, Kleinbuchstaben
+   * wie Großbuchstaben). Erzeugt keine Objekte.
+   *
+   * @return -1 bei ungültigen Zeichen oder mehr als 34 Zeichen
+   */
+  static long teil(CharSequence iban, int nr)
+  {
+    long t = 0;
+    int pos = 0;
+    int von = nr * ZEICHEN;
+    for (int i = 0; i < iban.length(); i++)
+    {
+      int w = IBANPruefung.wert(iban.charAt(i));
+      if (w == IBANPruefung.LEER)
+      {
+        continue;
+      }
+      if (w == IBANPruefung.UNGUELTIG || pos >= MAXLAENGE)
+      {
+        return -1;
+      }
+      if (pos >= von && pos < von + ZEICHEN)
+      {
+        t = t * BASIS + w + 1;
+      }
+      pos++;
+    }
+    // Auffüllen mit "kein Zeichen"
+    for (int p = Math.max(pos, von); p < von + ZEICHEN; p++)
+    {
+      t *= BASIS;
+    }
+    return t;
+  }
+
+  /**
+   * Zeichen zur Ziffer 1..36, 0 für "kein Zeichen"
+   */
+  private static char zeichen(int z)
+  {
+    if (z == 0)
+    {
+      return 0;
+    }
+    return (char) (z <= 10 ? '0' + z - 1 : 'A' + z - 11);
+  }
+
+  /**
+   * Schreibt die zwölf Zeichen von t nach c und liefert die Anzahl ohne
+   * "kein Zeichen" am Ende.
+   */
+  private static int entpacke(long t, char[] c, int off)
+  {
+    for (int i = ZEICHEN - 1; i >= 0; i--)
+    {
+      c[off + i] = zeichen((int) (t % BASIS));
+      t /= BASIS;
+    }
+    int n = 0;
+    while (n < ZEICHEN && c[off + n] != 0)
+    {
+      n++;
+    }
+    return n;
+  }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA;
+
+import java.util.function.BiConsumer;
+
+/**
+ * <h1>Map mit KompakteIBAN als Schlüssel</h1>
+ * <p>
+ * Die Schlüssel liegen gepackt in einem long[] (drei long je Platz), nicht als
+ * Objekte. Gesucht wird mit offener Adressierung und linearem Sondieren;
+ * beim Entfernen werden die nachfolgenden Einträge zurückgeschoben. Die
+ * Tabelle ist höchstens zu drei Vierteln belegt.
+ * </p>
+ * <p>
+ * Abfragen mit einer CharSequence erzeugen keine Objekte. Die Map ist nicht
+ * threadsicher.
+ * </p>
+ */
+public class KompakteIBANMap<V>
+{
+  private static final int MINDESTGROESSE = 16;
+
+  /**
+   * t0, t1, t2 je Platz. t0 == 0: Platz frei (eine IBAN beginnt immer mit
+   * einem Buchstaben, t0 ist dann größer als 0).
+   */
+  private long[] schluessel;
+
+  /**
+   * Werte je Platz, null bei KompakteIBANMenge
+   */
+  private Object[] werte;
+
+  private final boolean mitWerten;
+
+  private int maske;
+
+  private int anzahl;
+
+  public KompakteIBANMap()
+  {
+    this(MINDESTGROESSE);
+  }
+
+  /**
+   * @param erwarteteAnzahl
+   *          Anzahl der Einträge, die ohne Vergrößerung Platz finden
+   */
+  public KompakteIBANMap(int erwarteteAnzahl)
+  {
+    this(erwarteteAnzahl, true);
+  }
+
+  KompakteIBANMap(int erwarteteAnzahl, boolean mitWerten)
+  {
+    this.mitWerten = mitWerten;
+    anlegen(kapazitaet(erwarteteAnzahl));
+  }
+
+  public int size()
+  {
+    return anzahl;
+  }
+
+  public boolean isEmpty()
+  {
+    return anzahl == 0;
+  }
+
+  public boolean containsKey(KompakteIBAN iban)
+  {
+    return suche(iban.getTeil0(), iban.getTeil1(), iban.getTeil2()) >= 0;
+  }
+
+  /**
+   * Sucht die IBAN als Zeichenkette (Leerzeichen und Kleinbuchstaben
+   * zulässig). Die Prüfziffer wird nicht geprüft.
+   */
+  public boolean containsKey(CharSequence iban)
+  {
+    return suche(iban) >= 0;
+  }
+
+  public V get(KompakteIBAN iban)
+  {
+    return wert(suche(iban.getTeil0(), iban.getTeil1(), iban.getTeil2()));
+  }
+
+  public V get(CharSequence iban)
+  {
+    return wert(suche(iban));
+  }
+
+  /**
+   * @return bisheriger Wert oder null
+   */
+  public V put(KompakteIBAN iban, V wert)
+  {
+    int p = einfuegen(iban.getTeil0(), iban.getTeil1(), iban.getTeil2());
+    if (p < 0)
+    {
+      p = -p - 1;
+      if (mitWerten)
+      {
+        werte[p] = wert;
+      }
+      return null;
+    }
+    V alt = wert(p);
+    if (mitWerten)
+    {
+      werte[p] = wert;
+    }
+    return alt;
+  }
+
+  /**
+   * @return bisheriger Wert oder null
+   */
+  public V remove(KompakteIBAN iban)
+  {
+    int p = suche(iban.getTeil0(), iban.getTeil1(), iban.getTeil2());
+    if (p < 0)
+    {
+      return null;
+    }
+    V alt = wert(p);
+    entfernen(p);
+    return alt;
+  }
+
+  public void clear()
+  {
+    anlegen(kapazitaet(0));
+    anzahl = 0;
+  }
+
+  /**
+   * Übergibt alle Einträge in nicht festgelegter Reihenfolge.
+   */
+  public void forEach(BiConsumer<KompakteIBAN, ? super V> aktion)
+  {
+    for (int p = 0; p <= maske; p++)
+    {
+      if (schluessel[3 * p] != 0)
+      {
+        aktion.accept(new KompakteIBAN(schluessel[3 * p],
+            schluessel[3 * p + 1], schluessel[3 * p + 2]), wert(p));
+      }
+    }
+  }
+
+  /**
+   * @return true, wenn der Schlüssel neu ist
+   */
+  boolean add(KompakteIBAN iban)
+  {
+    return einfuegen(iban.getTeil0(), iban.getTeil1(), iban.getTeil2()) < 0;
+  }
+
+  private int suche(CharSequence iban)
+  {
+    long t0 = KompakteIBAN.teil(iban, 0);
+    if (t0 <= 0)
+    {
+      return -1;
+    }
+    return suche(t0, KompakteIBAN.teil(iban, 1), KompakteIBAN.teil(iban, 2));
+  }
+
+  /**
+   * @return Platz oder -1
+   */
+  private int suche(long t0, long t1, long t2)
+  {
+    int p = KompakteIBAN.streue(t0, t1, t2) & maske;
+    while (schluessel[3 * p] != 0)
+    {
+      if (schluessel[3 * p] == t0 && schluessel[3 * p + 1] == t1
+          && schluessel[3 * p + 2] == t2)
+      {
+        return p;
+      }
+      p = (p + 1) & maske;
+    }
+    return -1;
+  }
+
+  /**
+   * @return Platz eines vorhandenen Schlüssels oder -(Platz + 1) eines neu
+   *         eingefügten
+   */
+  private int einfuegen(long t0, long t1, long t2)
+  {
+    int p = suche(t0, t1, t2);
+    if (p >= 0)
+    {
+      return p;
+    }
+    if ((anzahl + 1) * 4L > (maske + 1) * 3L)
+    {
+      vergroessern();
+    }
+    p = KompakteIBAN.streue(t0, t1, t2) & maske;
+    while (schluessel[3 * p] != 0)
+    {
+      p = (p + 1) & maske;
+    }
+    schluessel[3 * p] = t0;
+    schluessel[3 * p + 1] = t1;
+    schluessel[3 * p + 2] = t2;
+    anzahl++;
+    return -p - 1;
+  }
+
+  /**
+   * Entfernt den Eintrag und schiebt nachfolgende Einträge derselben
+   * Sondierungskette zurück, damit sie gefunden werden.
+   */
+  private void entfernen(int p)
+  {
+    int frei = p;
+    int i = p;
+    while (true)
+    {
+      i = (i + 1) & maske;
+      if (schluessel[3 * i] == 0)
+      {
+        break;
+      }
+      int ziel = KompakteIBAN.streue(schluessel[3 * i], schluessel[3 * i + 1],
+          schluessel[3 * i + 2]) & maske;
+      // Bleibt stehen, wenn der Zielplatz zyklisch in (frei, i] liegt.
+      boolean bleibt = frei <= i ? (frei < ziel && ziel <= i)
+          : (frei < ziel || ziel <= i);
+      if (!bleibt)
+      {
+        System.arraycopy(schluessel, 3 * i, schluessel, 3 * frei, 3);
+        if (mitWerten)
+        {
+          werte[frei] = werte[i];
+        }
+        frei = i;
+      }
+    }
+    schluessel[3 * frei] = 0;
+    schluessel[3 * frei + 1] = 0;
+    schluessel[3 * frei + 2] = 0;
+    if (mitWerten)
+    {
+      werte[frei] = null;
+    }
+    anzahl--;
+  }
+
+  private void vergroessern()
+  {
+    if (maske + 1 >= 1 << 29)
+    {
+      throw new IllegalStateException("Zu viele Einträge: " + anzahl);
+    }
+    long[] alt = schluessel;
+    Object[] altwerte = werte;
+    anlegen((maske + 1) * 2);
+    for (int q = 0; q < alt.length / 3; q++)
+    {
+      if (alt[3 * q] == 0)
+      {
+        continue;
+      }
+      int p = KompakteIBAN.streue(alt[3 * q], alt[3 * q + 1], alt[3 * q + 2])
+          & maske;
+      while (schluessel[3 * p] != 0)
+      {
+        p = (p + 1) & maske;
+      }
+      System.arraycopy(alt, 3 * q, schluessel, 3 * p, 3);
+      if (mitWerten)
+      {
+        werte[p] = altwerte[q];
+      }
+    }
+  }
+
+  private void anlegen(int kapazitaet)
+  {
+    schluessel = new long[3 * kapazitaet];
+    werte = mitWerten ? new Object[kapazitaet] : null;
+    maske = kapazitaet - 1;
+  }
+
+  /**
+   * Zweierpotenz, bei der die erwartete Anzahl höchstens drei Viertel belegt
+   */
+  private static int kapazitaet(int erwarteteAnzahl)
+  {
+    long n = Math.max(MINDESTGROESSE, (erwarteteAnzahl * 4L + 2) / 3);
+    if (n > 1 << 29)
+    {
+      throw new IllegalArgumentException(
+          "Zu viele Einträge: " + erwarteteAnzahl);
+    }
+    return Integer.highestOneBit((int) n - 1) << 1;
+  }
+
+  @SuppressWarnings("unchecked")
+  private V wert(int p)
+  {
+    return p >= 0 && mitWerten ? (V) werte[p] : null;
+  }
+}
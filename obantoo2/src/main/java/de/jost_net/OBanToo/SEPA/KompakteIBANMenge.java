@@ -0,0 +1,93 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA;
+
+import java.util.function.Consumer;
+
+/**
+ * <h1>Menge von IBANs in gepackter Form</h1>
+ * <p>
+ * Speichert je IBAN nur die drei long der KompakteIBAN (24 Bytes zuzüglich
+ * freier Plätze der Hashtabelle). Die Menge ist nicht threadsicher.
+ * </p>
+ * <code>
+ * KompakteIBANMenge m = new KompakteIBANMenge(1000000);<br>
+ * m.add(KompakteIBAN.of(iban));<br>
+ * m.contains("DE89370400440532013000");<br>
+ * </code>
+ */
+public class KompakteIBANMenge
+{
+  private final KompakteIBANMap<Void> map;
+
+  public KompakteIBANMenge()
+  {
+    this(0);
+  }
+
+  /**
+   * @param erwarteteAnzahl
+   *          Anzahl der IBANs, die ohne Vergrößerung Platz finden
+   */
+  public KompakteIBANMenge(int erwarteteAnzahl)
+  {
+    map = new KompakteIBANMap<>(erwarteteAnzahl, false);
+  }
+
+  /**
+   * @return true, wenn die IBAN neu ist
+   */
+  public boolean add(KompakteIBAN iban)
+  {
+    return map.add(iban);
+  }
+
+  public boolean contains(KompakteIBAN iban)
+  {
+    return map.containsKey(iban);
+  }
+
+  /**
+   * Sucht die IBAN als Zeichenkette (Leerzeichen und Kleinbuchstaben
+   * zulässig), ohne Objekte zu erzeugen. Die Prüfziffer wird nicht geprüft.
+   */
+  public boolean contains(CharSequence iban)
+  {
+    return map.containsKey(iban);
+  }
+
+  /**
+   * @return true, wenn die IBAN enthalten war
+   */
+  public boolean remove(KompakteIBAN iban)
+  {
+    boolean enthalten = map.containsKey(iban);
+    map.remove(iban);
+    return enthalten;
+  }
+
+  public int size()
+  {
+    return map.size();
+  }
+
+  public boolean isEmpty()
+  {
+    return map.isEmpty();
+  }
+
+  public void clear()
+  {
+    map.clear();
+  }
+
+  /**
+   * Übergibt alle IBANs in nicht festgelegter Reihenfolge.
+   */
+  public void forEach(Consumer<KompakteIBAN> aktion)
+  {
+    map.forEach((iban, wert) -> aktion.accept(iban));
+  }
+}
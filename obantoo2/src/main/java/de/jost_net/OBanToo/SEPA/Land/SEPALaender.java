@@ -5,14 +5,17 @@
 package de.jost_net.OBanToo.SEPA.Land;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
 
 public class SEPALaender
 {
   private static ArrayList<SEPALand> laender = new ArrayList<>();
 
-  private static HashMap<String, SEPALand> laendermap = new HashMap<>();
+  /**
+   * Länder nach Landeskennung, Index (1. Buchstabe - 'A') * 26 + (2.
+   * Buchstabe - 'A')
+   */
+  private static SEPALand[] tabelle = new SEPALand[26 * 26];
   static
   {
     laender.add(getDeutschland());
@@ -62,13 +65,35 @@ public class SEPALaender
 
     for (SEPALand land : laender)
     {
-      laendermap.put(land.getKennzeichen(), land);
+      tabelle[index(land.getKennzeichen())] = land;
     }
   }
 
+  /**
+   * @return Land zur Landeskennung (zwei Großbuchstaben) oder null
+   */
   public static SEPALand getLand(String kennzeichen)
   {
-    return laendermap.get(kennzeichen);
+    if (kennzeichen == null || kennzeichen.length() != 2)
+    {
+      return null;
+    }
+    int i = index(kennzeichen);
+    return i >= 0 ? tabelle[i] : null;
+  }
+
+  /**
+   * @return Index in der Ländertabelle oder -1
+   */
+  private static int index(String kennzeichen)
+  {
+    int a = kennzeichen.charAt(0) - 'A';
+    int b = kennzeichen.charAt(1) - 'A';
+    if (a < 0 || a >= 26 || b < 0 || b >= 26)
+    {
+      return -1;
+    }
+    return a * 26 + b;
   }
 
   public static ArrayList<SEPALand> getLaender()
@@ -253,7 +278,7 @@ public class SEPALaender
 
   private static SEPALand getPolen()
   {
-    return new SEPALand("PL", "Polen", "2!n8!n16!n",
+    return new SEPALand("PL", "Polen", "8!n16!n",
         "PL61109010140000071219812874");
   }
 
@@ -11,6 +11,29 @@ import de.jost_net.OBanToo.SEPA.SEPAException;
 
 public class SEPALand
 {
+  /**
+   * Zeichenklassen für den Aufbau: Ziffer, Großbuchstabe
+   */
+  private static final byte ZIFFER = 1;
+
+  private static final byte BUCHSTABE = 2;
+
+  /**
+   * Klasse je ASCII-Zeichen, 0 für alle anderen Zeichen
+   */
+  private static final byte[] KLASSE = new byte[128];
+  static
+  {
+    for (char c = '0'; c <= '9'; c++)
+    {
+      KLASSE[c] = ZIFFER;
+    }
+    for (char c = 'A'; c <= 'Z'; c++)
+    {
+      KLASSE[c] = BUCHSTABE;
+    }
+  }
+
   private String kennzeichen;
 
   private ArrayList<Element> elements;
@@ -25,6 +48,18 @@ public class SEPALand
 
   private String ibansample;
 
+  /**
+   * Zeichenart je Position der BBAN: 'n' numerisch, 'a' Großbuchstabe, 'c'
+   * Großbuchstabe oder Ziffer
+   */
+  private char[] format;
+
+  /**
+   * Zulässige Zeichenklassen je Position der gesamten IBAN (Landeskennung,
+   * Prüfziffer, BBAN)
+   */
+  private byte[] aufbau;
+
   public SEPALand(String kennzeichen, String bezeichnung, String ibanclass,
       String ibansample)
   {
@@ -42,6 +77,25 @@ public class SEPALand
     }
     bankidentfierlength = elements.get(0).lae;
     accountlength = elements.get(1).lae;
+    format = new char[gesamtlaenge - 4];
+    int pos = 0;
+    for (Element element : elements)
+    {
+      for (int i = 0; i < element.getLaenge(); i++)
+      {
+        format[pos++] = element.typ.charAt(0);
+      }
+    }
+    aufbau = new byte[gesamtlaenge];
+    aufbau[0] = BUCHSTABE;
+    aufbau[1] = BUCHSTABE;
+    aufbau[2] = ZIFFER;
+    aufbau[3] = ZIFFER;
+    for (int i = 0; i < format.length; i++)
+    {
+      aufbau[i + 4] = format[i] == 'n' ? ZIFFER
+          : format[i] == 'a' ? BUCHSTABE : ZIFFER | BUCHSTABE;
+    }
   }
 
   public String getKennzeichen()
@@ -84,43 +138,57 @@ public class SEPALand
     return this.ibansample;
   }
 
+  /**
+   * Länge der IBAN einschließlich Landeskennung und Prüfziffer
+   */
+  public int getLaenge()
+  {
+    return gesamtlaenge;
+  }
+
+  /**
+   * Zeichenart an einer Position der BBAN (ab 0): 'n' numerisch, 'a'
+   * Großbuchstabe, 'c' Großbuchstabe oder Ziffer
+   */
+  public char getZeichenart(int bbanposition)
+  {
+    return format[bbanposition];
+  }
+
+  /**
+   * Prüft Länge und Zeichenarten einer IBAN ohne Leerzeichen in
+   * Großbuchstaben. Die Prüfziffer wird nicht berechnet.
+   * 
+   * @return -1, wenn der Aufbau stimmt, sonst die erste falsche Position (ab
+   *         0). Ist die IBAN zu kurz oder zu lang, ist das die Länge der
+   *         kürzeren von IBAN und Vorgabe.
+   */
+  public int pruefeAufbau(CharSequence iban)
+  {
+    int n = Math.min(iban.length(), gesamtlaenge);
+    for (int i = 0; i < n; i++)
+    {
+      char c = iban.charAt(i);
+      if (c >= 128 || (KLASSE[c] & aufbau[i]) == 0)
+      {
+        return i;
+      }
+    }
+    return iban.length() != gesamtlaenge ? n : -1;
+  }
+
   public boolean check(String iban) throws SEPAException
   {
-    if (iban.length() != gesamtlaenge)
+    int pos = pruefeAufbau(iban);
+    if (pos < 0)
     {
-      throw new SEPAException("Ung�ltige L�nge der IBAN");
+      return true;
     }
-    int pos = 3;
-    for (Element element : elements)
+    if (pos == iban.length() || pos == gesamtlaenge)
     {
-      for (int i = pos; i <= pos + element.getLaenge(); i++)
-      {
-        char c = iban.charAt(i);
-        if (element.isNumeric())
-        {
-          if (c < '0' || c > '9')
-          {
-            throw new SEPAException("Ung�ltiges Zeichen an Position " + i + 1);
-          }
-        }
-        if (element.isAlpha())
-        {
-          if (c < 'A' || c > 'Z')
-          {
-            throw new SEPAException("Ung�ltiges Zeichen an Position " + i + 1);
-          }
-        }
-        if (element.isCharacter())
-        {
-          if (!(c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'))
-          {
-            throw new SEPAException("Ung�ltiges Zeichen an Position " + i + 1);
-          }
-        }
-      }
-      pos += element.getLaenge();
+      throw new SEPAException("Ungültige Länge der IBAN");
     }
-    return true;
+    throw new SEPAException("Ungültiges Zeichen an Position " + (pos + 1));
   }
 
   private class Element
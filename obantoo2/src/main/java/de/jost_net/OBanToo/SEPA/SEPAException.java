@@ -10,7 +10,7 @@ public class SEPAException extends Exception
 
   public static enum Fehler
   {
-    BLZ_LEER, BLZ_UNGUELTIGE_LAENGE, BLZ_UNGUELTIG, KONTO_LEER, KONTO_UNGUELTIGE_LAENGE, KONTO_PRUEFZIFFER_FALSCH, KONTO_PRUEFZIFFERNREGEL_NICHT_IMPLEMENTIERT, IBANREGEL_NICHT_IMPLEMENTIERT, UNGUELTIGES_LAND
+    BLZ_LEER, BLZ_UNGUELTIGE_LAENGE, BLZ_UNGUELTIG, KONTO_LEER, KONTO_UNGUELTIGE_LAENGE, KONTO_PRUEFZIFFER_FALSCH, KONTO_PRUEFZIFFERNREGEL_NICHT_IMPLEMENTIERT, IBANREGEL_NICHT_IMPLEMENTIERT, UNGUELTIGES_LAND, DUBLETTE
   }
 
   private Fehler f = null;
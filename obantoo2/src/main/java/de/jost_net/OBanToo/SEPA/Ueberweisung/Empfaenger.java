@@ -4,14 +4,19 @@
  */
 package de.jost_net.OBanToo.SEPA.Ueberweisung;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.text.MessageFormat;
+import java.util.Comparator;
 import java.util.Date;
 
 import de.jost_net.OBanToo.SEPA.BIC;
 import de.jost_net.OBanToo.SEPA.IBAN;
 import de.jost_net.OBanToo.SEPA.SEPAException;
 import de.jost_net.OBanToo.StringLatin.Zeichen;
+import de.jost_net.OBanToo.Tools.ExterneSortierung;
 
 public class Empfaenger
 {
@@ -34,6 +39,50 @@ public class Empfaenger
 
   private static final BigDecimal nu = new BigDecimal("0.00");
 
+  /**
+   * Reihenfolge nach BIC und IBAN des Empfängers, z. B. für
+   * Ueberweisung.setSortierung()
+   */
+  public static final Comparator<Empfaenger> NACH_BIC_IBAN = Comparator
+      .comparing((Empfaenger e) -> e.bic, Comparator.nullsFirst(
+          Comparator.<String> naturalOrder()))
+      .thenComparing(e -> e.iban,
+          Comparator.nullsFirst(Comparator.<String> naturalOrder()));
+
+  /**
+   * Binärformat für die Auslagerung bei der externen Sortierung
+   */
+  static final ExterneSortierung.Satzformat<Empfaenger> FORMAT = new ExterneSortierung.Satzformat<Empfaenger>()
+  {
+    @Override
+    public void schreibe(DataOutput out, Empfaenger e) throws IOException
+    {
+      ExterneSortierung.schreibeText(out, e.bic);
+      ExterneSortierung.schreibeText(out, e.name);
+      ExterneSortierung.schreibeText(out, e.nameorig);
+      ExterneSortierung.schreibeText(out, e.iban);
+      ExterneSortierung.schreibeText(out, e.verwendungszweck);
+      ExterneSortierung.schreibeText(out, e.verwendungszweckorig);
+      ExterneSortierung.schreibeBetrag(out, e.betrag);
+      ExterneSortierung.schreibeText(out, e.referenz);
+    }
+
+    @Override
+    public Empfaenger lese(DataInput in) throws IOException
+    {
+      Empfaenger e = new Empfaenger();
+      e.bic = ExterneSortierung.leseText(in);
+      e.name = ExterneSortierung.leseText(in);
+      e.nameorig = ExterneSortierung.leseText(in);
+      e.iban = ExterneSortierung.leseText(in);
+      e.verwendungszweck = ExterneSortierung.leseText(in);
+      e.verwendungszweckorig = ExterneSortierung.leseText(in);
+      e.betrag = ExterneSortierung.leseBetrag(in);
+      e.referenz = ExterneSortierung.leseText(in);
+      return e;
+    }
+  };
+
   /**
    * BIC zurückgeben
    */
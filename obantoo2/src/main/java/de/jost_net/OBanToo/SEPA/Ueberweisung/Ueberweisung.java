@@ -5,24 +5,33 @@
 package de.jost_net.OBanToo.SEPA.Ueberweisung;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.List;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.stream.XMLStreamException;
 
 import de.jost_net.OBanToo.SEPA.IBAN;
 import de.jost_net.OBanToo.SEPA.SEPAException;
+import de.jost_net.OBanToo.SEPA.SEPAException.Fehler;
+import de.jost_net.OBanToo.SEPA.Datei.SEPADateityp;
+import de.jost_net.OBanToo.SEPA.Datei.SEPADublettenpruefung;
+import de.jost_net.OBanToo.SEPA.Datei.SEPAParallelWriter;
+import de.jost_net.OBanToo.SEPA.Datei.SEPAValidierung;
+import de.jost_net.OBanToo.SEPA.Datei.SEPAWertepool;
+import de.jost_net.OBanToo.SEPA.Datei.SEPAXMLWriter;
 import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.AccountIdentificationSEPA;
 import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.ActiveOrHistoricCurrencyAndAmountSEPA;
 import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.ActiveOrHistoricCurrencyCodeEUR;
@@ -47,6 +56,8 @@ import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.PaymentTypeInformation
 import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.RemittanceInformationSEPA1Choice;
 import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.ServiceLevelSEPA;
 import de.jost_net.OBanToo.StringLatin.Zeichen;
+import de.jost_net.OBanToo.Tools.Ausgabe;
+import de.jost_net.OBanToo.Tools.ExterneSortierung;
 
 public class Ueberweisung
 {
@@ -101,6 +112,41 @@ public class Ueberweisung
    */
   private Date dateofexecution;
 
+  /**
+   * Prüfung gegen das XSD-Schema beim Schreiben
+   */
+  private boolean validierung = false;
+
+  /**
+   * Writer für das parallele Schreiben der Transaktionen (optional)
+   */
+  private SEPAParallelWriter parallelwriter = null;
+
+  /**
+   * Prüfung auf bereits eingereichte Überweisungen (optional)
+   */
+  private SEPADublettenpruefung dublettenpruefung = null;
+
+  /**
+   * Reihenfolge der Transaktionen (optional) und Speicherbudget der externen
+   * Sortierung
+   */
+  private Comparator<? super Empfaenger> sortierung = null;
+
+  private long sortierspeicher;
+
+  /**
+   * Sortierte Empfänger des laufenden Schreibvorgangs. Sie werden beim
+   * Schreiben und beim Registrieren in der Dublettenprüfung aus der Sortierung
+   * gelesen.
+   */
+  private ExterneSortierung<Empfaenger> sortiert;
+
+  /**
+   * Gemeinsame Werte des laufenden Schreibvorgangs
+   */
+  private SEPAWertepool pool;
+
   public Ueberweisung()
   {
   }
@@ -118,48 +164,86 @@ public class Ueberweisung
     this.sammelbuchung = sammelbuchung;
   }
 
+  /**
+   * Validierung. Ist sie eingeschaltet, wird die Datei während des Schreibens
+   * gegen das XSD-Schema geprüft (siehe SEPAValidierung). Verstöße führen zu
+   * einer SEPAException; die Ausgabe wird verworfen.
+   */
+  public void setValidierung(boolean validierung)
+  {
+    this.validierung = validierung;
+  }
+
+  /**
+   * Paralleles Schreiben. Ist ein ParallelWriter gesetzt, werden die
+   * Transaktionen blockweise in mehreren Threads erzeugt.
+   */
+  public void setParallelWriter(SEPAParallelWriter parallelwriter)
+  {
+    this.parallelwriter = parallelwriter;
+  }
+
+  /**
+   * Sortierung der Transaktionen vor dem Schreiben, z. B. nach
+   * Empfaenger.NACH_BIC_IBAN. Die Sortierung arbeitet mit dem angegebenen
+   * Speicherbudget (Bytes) und lagert größere Datenmengen in temporäre
+   * Dateien aus. Die sortierten Empfänger werden direkt aus der Sortierung
+   * geschrieben und nicht wieder in den Speicher geladen; nach dem Schreiben
+   * ist getZahler() daher leer. Nur mit ParallelWriter werden alle Empfänger
+   * wieder geladen, getZahler() enthält sie dann in sortierter Reihenfolge.
+   *
+   * @param sortierung
+   *          null: Reihenfolge der Übergabe
+   */
+  public void setSortierung(Comparator<? super Empfaenger> sortierung,
+      long speicher)
+  {
+    this.sortierung = sortierung;
+    this.sortierspeicher = speicher;
+  }
+
+  /**
+   * Dublettenprüfung. Ist sie gesetzt, wird vor dem Schreiben geprüft, ob
+   * Überweisungen mit gleicher Auftraggeber-IBAN, Referenz (EndToEndId),
+   * gleichem Betrag und Ausführungsdatum bereits eingereicht wurden. In dem
+   * Fall wird eine SEPAException mit dem Fehler DUBLETTE geworfen. Nach dem
+   * Schreiben werden die Überweisungen registriert.
+   */
+  public void setDublettenpruefung(SEPADublettenpruefung dublettenpruefung)
+  {
+    this.dublettenpruefung = dublettenpruefung;
+  }
+
   /**
    * Schreibt die SEPA-Datei. Vorher sind alle Werte über die set-Methoden sowie
-   * die add(Zahler)-Methode übergeben werden.
-   * 
+   * die add(Zahler)-Methode übergeben werden. Die Datei wird erst nach allen
+   * Prüfungen ersetzt; schlägt eine Prüfung fehl, bleibt eine vorhandene Datei
+   * unverändert.
    */
   public void write(File file) throws DatatypeConfigurationException,
       SEPAException, JAXBException, FileNotFoundException
   {
-    write(new BufferedOutputStream(new FileOutputStream(file)));
+    try (Ausgabe ausgabe = Ausgabe.of(file.toPath()))
+    {
+      schreibe(ausgabe);
+    }
+    catch (IOException e)
+    {
+      schliesseSortierung();
+      throw new SEPAException(e.getMessage());
+    }
+    registriereDubletten();
   }
 
+  /**
+   * Schreibt die SEPA-Datei in den Stream und schließt ihn.
+   */
   public void write(BufferedOutputStream bos)
       throws JAXBException, DatatypeConfigurationException, SEPAException
   {
-    Document doc = new Document();
-    doc.setCstmrCdtTrfInitn(getCustumerCreditTransferInitiationV03());
-
-    /*
-     * Die standardmäßig von xjc erzeugte Document-Klasse erzeugt beim
-     * marshall-Aufruf immer einen "ns2"-Zusatz. Durch hinzufügen eines
-     * 
-     * @XmlRootElementes in die Klasse document wird das vermieden.
-     * 
-     * @XmlRootElement(name="Document")
-     * 
-     * @XmlAccessorType(XmlAccessType.FIELD)
-     * 
-     * @XmlType(name = "Document", propOrder = {"cstmrDrctDbtInitn"
-     * 
-     * public class Document
-     */
-
-    JAXBContext context = JAXBContext.newInstance(Document.class);
-    Marshaller m = context.createMarshaller();
-
-    m.setProperty(Marshaller.JAXB_SCHEMA_LOCATION,
-        "urn:iso:std:iso:20022:tech:xsd:pain.001.003.03 pain.001.003.03.xsd");
-
-    m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
     try
     {
-      m.marshal(doc, bos);
+      write(Ausgabe.of(bos));
     }
     finally
     {
@@ -174,6 +258,263 @@ public class Ueberweisung
     }
   }
 
+  /**
+   * Schreibt die SEPA-Datei in ein beliebiges Ziel (Stream, Channel,
+   * ByteBuffer). Pufferung und Schließen des Ziels liegen beim Aufrufer. Ist
+   * die Validierung eingeschaltet, wird die Datei beim Schreiben geprüft. Bei
+   * einem Fehler wird die Ausgabe verworfen (siehe Ausgabe.verwerfen()).
+   */
+  public void write(Ausgabe ausgabe)
+      throws JAXBException, DatatypeConfigurationException, SEPAException
+  {
+    schreibe(ausgabe);
+    registriereDubletten();
+  }
+
+  /**
+   * Prüft die Transaktionen und schreibt die Datei. Die Prüfungen laufen vor
+   * der ersten Ausgabe. Schlägt das Schreiben fehl, wird die Ausgabe
+   * verworfen.
+   */
+  private void schreibe(Ausgabe ausgabe)
+      throws DatatypeConfigurationException, SEPAException
+  {
+    boolean ok = false;
+    try
+    {
+      pruefeDubletten();
+      if (validierung)
+      {
+        try (SEPAValidierung v = new SEPAValidierung(ausgabe.getStream(),
+            SEPADateityp.PAIN_001_003_03))
+        {
+          schreibe(v.getStream());
+          v.pruefe();
+        }
+      }
+      else
+      {
+        schreibe(ausgabe.getStream());
+      }
+      ausgabe.flush();
+      ok = true;
+    }
+    catch (IOException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+    finally
+    {
+      if (!ok)
+      {
+        ausgabe.verwerfen();
+        schliesseSortierung();
+      }
+    }
+  }
+
+  private void schreibe(OutputStream os)
+      throws DatatypeConfigurationException, SEPAException, IOException
+  {
+    pool = new SEPAWertepool();
+    Document doc = new Document();
+    if (parallelwriter != null)
+    {
+      sortiere();
+      ArrayList<List<Empfaenger>> pmtinf = new ArrayList<>();
+      doc.setCstmrCdtTrfInitn(getCustumerCreditTransferInitiationV03(pmtinf));
+      ByteArrayOutputStream rahmen = new ByteArrayOutputStream();
+      write(rahmen, doc, false);
+      parallelwriter.write(os, SEPADateityp.PAIN_001_003_03,
+          rahmen.toByteArray(), pmtinf, (w, e) -> UeberweisungSerialisierer
+              .write(w, getCreditTransferTransactionInformationSCT(e)));
+    }
+    else if (sortierung != null)
+    {
+      // Die Kopfdaten werden vor dem Sortieren aus allen Empfängern berechnet.
+      CustomerCreditTransferInitiationV03 ccti = getCustumerCreditTransferInitiationV03(
+          new ArrayList<>());
+      sortiert = lagereAus(sortierung);
+      schreibeSortiert(os, ccti);
+    }
+    else
+    {
+      doc.setCstmrCdtTrfInitn(getCustumerCreditTransferInitiationV03(null));
+      write(os, doc, true);
+    }
+  }
+
+  /**
+   * Bringt die Transaktionen mit der externen Sortierung in die eingestellte
+   * Reihenfolge und lädt sie wieder in empfaengerarray. Wird für den
+   * ParallelWriter benötigt, der alle Transaktionen im Speicher erwartet.
+   */
+  private void sortiere() throws IOException
+  {
+    if (sortierung == null)
+    {
+      return;
+    }
+    try (ExterneSortierung<Empfaenger> s = lagereAus(sortierung))
+    {
+      s.ausgeben(empfaengerarray::add);
+    }
+  }
+
+  /**
+   * Übergibt alle Empfänger an eine externe Sortierung und leert
+   * empfaengerarray.
+   */
+  private ExterneSortierung<Empfaenger> lagereAus(
+      Comparator<? super Empfaenger> reihenfolge) throws IOException
+  {
+    ExterneSortierung<Empfaenger> s = new ExterneSortierung<>(reihenfolge,
+        Empfaenger.FORMAT, sortierspeicher);
+    try
+    {
+      for (int i = 0; i < empfaengerarray.size(); i++)
+      {
+        s.add(empfaengerarray.get(i));
+        // Ausgelagerte Transaktionen werden nicht mehr gehalten.
+        empfaengerarray.set(i, null);
+      }
+      empfaengerarray.clear();
+      return s;
+    }
+    catch (IOException e)
+    {
+      s.close();
+      throw e;
+    }
+  }
+
+  private void schliesseSortierung()
+  {
+    if (sortiert != null)
+    {
+      sortiert.close();
+      sortiert = null;
+    }
+  }
+
+  /**
+   * Schreibt die Datei aus der sortierten Folge der Empfänger. Jede
+   * Transaktion wird direkt nach dem Lesen aus der Sortierung ausgegeben, so
+   * dass nur das Speicherbudget der Sortierung belegt wird.
+   */
+  private void schreibeSortiert(OutputStream os,
+      CustomerCreditTransferInitiationV03 ccti)
+      throws SEPAException, IOException
+  {
+    try
+    {
+      SEPAXMLWriter w = new SEPAXMLWriter(os, SEPADateityp.PAIN_001_003_03,
+          true);
+      w.writeAnfang(SEPADateityp.PAIN_001_003_03);
+      UeberweisungSerialisierer.writeKopf(w, ccti);
+      UeberweisungSerialisierer.writeKopf(w, ccti.getPmtInf().get(0));
+      sortiert.durchlaufen(e -> {
+        try
+        {
+          UeberweisungSerialisierer.write(w,
+              getCreditTransferTransactionInformationSCT(e));
+        }
+        catch (XMLStreamException ex)
+        {
+          throw new SEPAException(ex.getMessage());
+        }
+      });
+      w.end();
+      w.end();
+      w.writeEnde();
+    }
+    catch (XMLStreamException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+  }
+
+  /**
+   * Schreibt das Document mit dem UeberweisungSerialisierer. Der
+   * JAXB-Marshaller wird dafür nicht benötigt.
+   */
+  private static void write(OutputStream os, Document doc, boolean formatiert)
+      throws SEPAException
+  {
+    try
+    {
+      SEPAXMLWriter w = new SEPAXMLWriter(os, SEPADateityp.PAIN_001_003_03,
+          formatiert);
+      w.writeAnfang(SEPADateityp.PAIN_001_003_03);
+      UeberweisungSerialisierer.write(w, doc);
+      w.writeEnde();
+    }
+    catch (XMLStreamException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+  }
+
+  /**
+   * Kennung der Überweisung für die Dublettenprüfung
+   */
+  private String getKennung(Empfaenger e) throws SEPAException
+  {
+    return getIBAN() + "/" + e.getReferenz();
+  }
+
+  private void pruefeDubletten() throws SEPAException
+  {
+    if (dublettenpruefung == null)
+    {
+      return;
+    }
+    StringBuilder sb = new StringBuilder();
+    for (Empfaenger e : empfaengerarray)
+    {
+      if (dublettenpruefung.isDublette(getKennung(e), e.getBetrag(),
+          dateofexecution))
+      {
+        sb.append(sb.length() > 0 ? ", " : "");
+        sb.append(e.getReferenz());
+      }
+    }
+    if (sb.length() > 0)
+    {
+      throw new SEPAException(Fehler.DUBLETTE,
+          "Bereits eingereichte Überweisungen: " + sb);
+    }
+  }
+
+  private void registriereDubletten() throws SEPAException
+  {
+    try
+    {
+      if (dublettenpruefung == null)
+      {
+        return;
+      }
+      if (sortiert != null)
+      {
+        sortiert.durchlaufen(e -> dublettenpruefung.add(getKennung(e),
+            e.getBetrag(), dateofexecution));
+        return;
+      }
+      for (Empfaenger e : empfaengerarray)
+      {
+        dublettenpruefung.add(getKennung(e), e.getBetrag(), dateofexecution);
+      }
+    }
+    catch (IOException e)
+    {
+      throw new SEPAException(e.getMessage());
+    }
+    finally
+    {
+      schliesseSortierung();
+    }
+  }
+
   /**
    * SEPA-Datei einlesen. Nach dem Methodenaufruf können die Werte über die
    * get-Methoden abgefragt werden.
@@ -231,7 +572,13 @@ public class Ueberweisung
   // setAnzahlBuchungen(anzahlbuchungen + "");
   // setKontrollsumme(kontrollsumme);
   // }
-  private CustomerCreditTransferInitiationV03 getCustumerCreditTransferInitiationV03()
+  /**
+   * @param pmtinf
+   *          null: Die Transaktionen werden in das PmtInf-Element eingefügt.
+   *          Sonst werden die Empfänger in der Liste abgelegt.
+   */
+  private CustomerCreditTransferInitiationV03 getCustumerCreditTransferInitiationV03(
+      List<List<Empfaenger>> pmtinf)
       throws DatatypeConfigurationException, SEPAException
   {
     CustomerCreditTransferInitiationV03 cddi = new CustomerCreditTransferInitiationV03();
@@ -241,7 +588,11 @@ public class Ueberweisung
     }
     cddi.setGrpHdr(getGroupHeader());
 
-    cddi.getPmtInf().add(getPaymentInstructionInformationSCT());
+    cddi.getPmtInf().add(getPaymentInstructionInformationSCT(pmtinf == null));
+    if (pmtinf != null)
+    {
+      pmtinf.add(empfaengerarray);
+    }
     return cddi;
   }
 
@@ -266,7 +617,8 @@ public class Ueberweisung
     return grH;
   }
 
-  private PaymentInstructionInformationSCT getPaymentInstructionInformationSCT()
+  private PaymentInstructionInformationSCT getPaymentInstructionInformationSCT(
+      boolean mitTransaktionen)
       throws SEPAException, DatatypeConfigurationException
   {
     PaymentInstructionInformationSCT pii = new PaymentInstructionInformationSCT();
@@ -284,7 +636,7 @@ public class Ueberweisung
     pii.setNbOfTxs(seqAnzahl + ""); // Anzahl der Buchungen
 
     PartyIdentificationSEPA2 pi2 = new PartyIdentificationSEPA2();
-    pi2.setNm(Zeichen.convert(getName())); // Name des �berweisenden
+    pi2.setNm(pool.getKonvertiert(getName())); // Name des �berweisenden
     pii.setDbtr(pi2);
 
     AccountIdentificationSEPA ai = new AccountIdentificationSEPA();
@@ -305,32 +657,19 @@ public class Ueberweisung
 
     pii.setPmtTpInf(getPaymentTypeInformationSCT1());
 
-    pii.setReqdExctnDt(getYYYMMDD(dateofexecution));
+    pii.setReqdExctnDt(pool.getDatum(dateofexecution));
 
-    for (Empfaenger e : empfaengerarray)
+    if (mitTransaktionen)
     {
-      pii.getCdtTrfTxInf().add(getCreditTransferTransactionInformationSCT(e));
+      for (Empfaenger e : empfaengerarray)
+      {
+        pii.getCdtTrfTxInf().add(getCreditTransferTransactionInformationSCT(e));
+      }
     }
 
     return pii;
   }
 
-  private static XMLGregorianCalendar getYYYMMDD(Date date)
-      throws DatatypeConfigurationException
-  {
-    GregorianCalendar gc = new GregorianCalendar();
-    gc.setTime(date);
-    XMLGregorianCalendar xmlgc = DatatypeFactory.newInstance()
-        .newXMLGregorianCalendar(gc);
-
-    XMLGregorianCalendar xmlGregorianCalendar = DatatypeFactory.newInstance()
-        .newXMLGregorianCalendar();
-    xmlGregorianCalendar.setDay(xmlgc.getDay());
-    xmlGregorianCalendar.setMonth(xmlgc.getMonth());
-    xmlGregorianCalendar.setYear(xmlgc.getYear());
-    return xmlGregorianCalendar;
-  }
-
   private static XMLGregorianCalendar getYYYMMDDHHMMSS(Date date)
       throws DatatypeConfigurationException
   {
@@ -364,7 +703,7 @@ public class Ueberweisung
     ctti.setAmt(at);
 
     PartyIdentificationSEPA2 pis2 = new PartyIdentificationSEPA2();
-    pis2.setNm(e.getName());
+    pis2.setNm(pool.get(e.getName()));
     ctti.setCdtr(pis2);
 
     CashAccountSEPA2 ca = new CashAccountSEPA2();
@@ -375,7 +714,7 @@ public class Ueberweisung
 
     BranchAndFinancialInstitutionIdentificationSEPA1 bafiis = new BranchAndFinancialInstitutionIdentificationSEPA1();
     FinancialInstitutionIdentificationSEPA1 fii = new FinancialInstitutionIdentificationSEPA1();
-    fii.setBIC(e.getBic());
+    fii.setBIC(pool.get(e.getBic()));
     bafiis.setFinInstnId(fii);
     ctti.setCdtrAgt(bafiis);
 
@@ -383,7 +722,7 @@ public class Ueberweisung
     pis.setEndToEndId(e.getReferenz());
     ctti.setPmtId(pis);
     RemittanceInformationSEPA1Choice ri = new RemittanceInformationSEPA1Choice();
-    ri.setUstrd(e.getVerwendungszweck());
+    ri.setUstrd(pool.get(e.getVerwendungszweck()));
     ctti.setRmtInf(ri);
     return ctti;
   }
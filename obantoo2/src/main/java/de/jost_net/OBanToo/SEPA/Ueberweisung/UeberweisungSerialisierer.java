@@ -0,0 +1,293 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.SEPA.Ueberweisung;
+
+import javax.xml.stream.XMLStreamException;
+
+import de.jost_net.OBanToo.SEPA.Datei.SEPAXMLWriter;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.BranchAndFinancialInstitutionIdentificationSEPA1;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.BranchAndFinancialInstitutionIdentificationSEPA3;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.CashAccountSEPA1;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.CashAccountSEPA2;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.CategoryPurposeSEPA;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.CreditTransferTransactionInformationSCT;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.CustomerCreditTransferInitiationV03;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.Document;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.FinancialInstitutionIdentificationSEPA3;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.GroupHeaderSCT;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.PartyIdentificationSEPA1;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.PartyIdentificationSEPA2;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.PaymentInstructionInformationSCT;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.PaymentTypeInformationSCT1;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.PostalAddressSEPA;
+import de.jost_net.OBanToo.SEPA.Nachricht.pain_001_003_03.ServiceLevelSEPA;
+
+/**
+ * Schreibt die JAXB-Objekte einer pain.001.003.03-Datei ohne Marshaller. Die
+ * Elemente werden in der Reihenfolge des Schemas (propOrder) ausgegeben.
+ * Abgedeckt sind die Elemente, die Ueberweisung erzeugt, sowie die einfachen
+ * optionalen Elemente. Ist ein nicht abgedecktes Element gefüllt, wird eine
+ * XMLStreamException geworfen, damit keine Daten verloren gehen.
+ */
+final class UeberweisungSerialisierer
+{
+  private UeberweisungSerialisierer()
+  {
+  }
+
+  /**
+   * Schreibt das Document zwischen writeAnfang() und writeEnde().
+   */
+  static void write(SEPAXMLWriter w, Document doc) throws XMLStreamException
+  {
+    CustomerCreditTransferInitiationV03 ccti = doc.getCstmrCdtTrfInitn();
+    writeKopf(w, ccti);
+    for (PaymentInstructionInformationSCT pii : ccti.getPmtInf())
+    {
+      write(w, pii);
+    }
+    w.end();
+  }
+
+  /**
+   * Öffnet das CstmrCdtTrfInitn-Element und schreibt den GrpHdr. Die
+   * PmtInf-Elemente und das Schließen mit w.end() übernimmt der Aufrufer.
+   */
+  static void writeKopf(SEPAXMLWriter w,
+      CustomerCreditTransferInitiationV03 ccti) throws XMLStreamException
+  {
+    w.start("CstmrCdtTrfInitn");
+    write(w, ccti.getGrpHdr());
+  }
+
+  private static void write(SEPAXMLWriter w, GroupHeaderSCT grH)
+      throws XMLStreamException
+  {
+    w.start("GrpHdr");
+    w.element("MsgId", grH.getMsgId());
+    w.element("CreDtTm", grH.getCreDtTm());
+    w.element("NbOfTxs", grH.getNbOfTxs());
+    w.element("CtrlSum", grH.getCtrlSum());
+    write(w, "InitgPty", grH.getInitgPty());
+    w.end();
+  }
+
+  private static void write(SEPAXMLWriter w,
+      PaymentInstructionInformationSCT pii) throws XMLStreamException
+  {
+    writeKopf(w, pii);
+    for (CreditTransferTransactionInformationSCT ctti : pii.getCdtTrfTxInf())
+    {
+      write(w, ctti);
+    }
+    w.end();
+  }
+
+  /**
+   * Öffnet das PmtInf-Element und schreibt seine Kopfdaten. Die Transaktionen
+   * und das Schließen mit w.end() übernimmt der Aufrufer.
+   */
+  static void writeKopf(SEPAXMLWriter w, PaymentInstructionInformationSCT pii)
+      throws XMLStreamException
+  {
+    w.start("PmtInf");
+    w.element("PmtInfId", pii.getPmtInfId());
+    w.element("PmtMtd",
+        pii.getPmtMtd() != null ? pii.getPmtMtd().value() : null);
+    w.element("BtchBookg", pii.isBtchBookg());
+    w.element("NbOfTxs", pii.getNbOfTxs());
+    w.element("CtrlSum", pii.getCtrlSum());
+    PaymentTypeInformationSCT1 pti = pii.getPmtTpInf();
+    if (pti != null)
+    {
+      w.start("PmtTpInf");
+      w.element("InstrPrty",
+          pti.getInstrPrty() != null ? pti.getInstrPrty().value() : null);
+      write(w, pti.getSvcLvl());
+      write(w, pti.getCtgyPurp());
+      w.end();
+    }
+    w.element("ReqdExctnDt", pii.getReqdExctnDt());
+    write(w, "Dbtr", pii.getDbtr());
+    CashAccountSEPA1 ca = pii.getDbtrAcct();
+    if (ca != null)
+    {
+      w.start("DbtrAcct");
+      w.start("Id");
+      w.element("IBAN", ca.getId().getIBAN());
+      w.end();
+      w.element("Ccy", ca.getCcy());
+      w.end();
+    }
+    BranchAndFinancialInstitutionIdentificationSEPA3 bafii = pii.getDbtrAgt();
+    if (bafii != null)
+    {
+      FinancialInstitutionIdentificationSEPA3 fii = bafii.getFinInstnId();
+      w.start("DbtrAgt");
+      w.start("FinInstnId");
+      w.element("BIC", fii.getBIC());
+      if (fii.getOthr() != null)
+      {
+        w.start("Othr");
+        w.element("Id", fii.getOthr().getId().value());
+        w.end();
+      }
+      w.end();
+      w.end();
+    }
+    write(w, "UltmtDbtr", pii.getUltmtDbtr());
+    w.element("ChrgBr",
+        pii.getChrgBr() != null ? pii.getChrgBr().value() : null);
+  }
+
+  /**
+   * Schreibt eine Transaktion. Wird auch für die Fragmente des
+   * SEPAParallelWriter genutzt.
+   */
+  static void write(SEPAXMLWriter w, CreditTransferTransactionInformationSCT ctti)
+      throws XMLStreamException
+  {
+    w.start("CdtTrfTxInf");
+    if (ctti.getPmtId() != null)
+    {
+      w.start("PmtId");
+      w.element("InstrId", ctti.getPmtId().getInstrId());
+      w.element("EndToEndId", ctti.getPmtId().getEndToEndId());
+      w.end();
+    }
+    if (ctti.getPmtTpInf() != null)
+    {
+      w.start("PmtTpInf");
+      write(w, ctti.getPmtTpInf().getSvcLvl());
+      write(w, ctti.getPmtTpInf().getCtgyPurp());
+      w.end();
+    }
+    if (ctti.getAmt() != null && ctti.getAmt().getInstdAmt() != null)
+    {
+      w.start("Amt");
+      w.betrag("InstdAmt",
+          ctti.getAmt().getInstdAmt().getCcy() != null
+              ? ctti.getAmt().getInstdAmt().getCcy().value()
+              : null,
+          ctti.getAmt().getInstdAmt().getValue());
+      w.end();
+    }
+    w.element("ChrgBr",
+        ctti.getChrgBr() != null ? ctti.getChrgBr().value() : null);
+    write(w, "UltmtDbtr", ctti.getUltmtDbtr());
+    BranchAndFinancialInstitutionIdentificationSEPA1 bafii = ctti
+        .getCdtrAgt();
+    if (bafii != null)
+    {
+      w.start("CdtrAgt");
+      w.start("FinInstnId");
+      w.element("BIC", bafii.getFinInstnId().getBIC());
+      w.end();
+      w.end();
+    }
+    write(w, "Cdtr", ctti.getCdtr());
+    CashAccountSEPA2 ca = ctti.getCdtrAcct();
+    if (ca != null)
+    {
+      w.start("CdtrAcct");
+      w.start("Id");
+      w.element("IBAN", ca.getId().getIBAN());
+      w.end();
+      w.end();
+    }
+    write(w, "UltmtCdtr", ctti.getUltmtCdtr());
+    if (ctti.getPurp() != null)
+    {
+      w.start("Purp");
+      w.element("Cd", ctti.getPurp().getCd());
+      w.end();
+    }
+    if (ctti.getRmtInf() != null)
+    {
+      w.start("RmtInf");
+      w.element("Ustrd", ctti.getRmtInf().getUstrd());
+      nichtUnterstuetzt("Strd", ctti.getRmtInf().getStrd());
+      w.end();
+    }
+    w.end();
+  }
+
+  private static void write(SEPAXMLWriter w, ServiceLevelSEPA sls)
+      throws XMLStreamException
+  {
+    if (sls == null)
+    {
+      return;
+    }
+    w.start("SvcLvl");
+    w.element("Cd", sls.getCd());
+    w.end();
+  }
+
+  private static void write(SEPAXMLWriter w, CategoryPurposeSEPA cp)
+      throws XMLStreamException
+  {
+    if (cp == null)
+    {
+      return;
+    }
+    w.start("CtgyPurp");
+    w.element("Cd", cp.getCd());
+    w.end();
+  }
+
+  private static void write(SEPAXMLWriter w, String name,
+      PartyIdentificationSEPA1 pi) throws XMLStreamException
+  {
+    if (pi == null)
+    {
+      return;
+    }
+    w.start(name);
+    w.element("Nm", pi.getNm());
+    nichtUnterstuetzt(name + "/Id", pi.getId());
+    w.end();
+  }
+
+  private static void write(SEPAXMLWriter w, String name,
+      PartyIdentificationSEPA2 pi) throws XMLStreamException
+  {
+    if (pi == null)
+    {
+      return;
+    }
+    w.start(name);
+    w.element("Nm", pi.getNm());
+    write(w, pi.getPstlAdr());
+    nichtUnterstuetzt(name + "/Id", pi.getId());
+    w.end();
+  }
+
+  private static void write(SEPAXMLWriter w, PostalAddressSEPA adr)
+      throws XMLStreamException
+  {
+    if (adr == null)
+    {
+      return;
+    }
+    w.start("PstlAdr");
+    w.element("Ctry", adr.getCtry());
+    for (String zeile : adr.getAdrLine())
+    {
+      w.element("AdrLine", zeile);
+    }
+    w.end();
+  }
+
+  private static void nichtUnterstuetzt(String name, Object wert)
+      throws XMLStreamException
+  {
+    if (wert != null)
+    {
+      throw new XMLStreamException(
+          "Element " + name + " wird vom Serialisierer nicht unterstützt");
+    }
+  }
+}
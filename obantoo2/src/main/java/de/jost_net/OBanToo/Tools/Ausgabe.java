@@ -0,0 +1,301 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.Tools;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <h1>Ziel einer Ausgabe</h1>
+ * <p>
+ * Gemeinsames Ausgabeziel der Writer (DTAUS, SEPA, QIF, PDF). Unterstützt
+ * werden OutputStream, WritableByteChannel, Path und ByteBuffer. Die Writer
+ * schreiben in getStream() und schließen diesen Stream nie; sie rufen
+ * höchstens flush() auf.
+ * </p>
+ * <p>
+ * Der Aufrufer bestimmt Pufferung und Lebensdauer: Übergebene Streams und
+ * Channels werden weder gepuffert noch geschlossen. close() schließt nur das,
+ * was die Ausgabe selbst geöffnet hat (die Datei bei Path).
+ * </p>
+ * <p>
+ * Eine Datei wird zunächst als temporäre Datei im selben Verzeichnis
+ * geschrieben und erst von close() an ihren Platz verschoben. Stellt ein
+ * Writer einen Fehler fest, ruft er verwerfen() auf; eine vorhandene Datei
+ * bleibt dann unverändert.
+ * </p>
+ * <p>
+ * Mit komprimiert() wird jede Ausgabe gzip- oder ZIP-gepackt.
+ * </p>
+ * <code>
+ * ByteBuffer puffer = ByteBuffer.allocateDirect(1 &lt;&lt; 20);<br>
+ * bl.write(Ausgabe.of(puffer));<br>
+ * puffer.flip();<br>
+ * </code>
+ */
+public final class Ausgabe implements Closeable
+{
+  private final OutputStream stream;
+
+  private final Closeable eigener;
+
+  /**
+   * Bei Path: Zieldatei und temporäre Datei, in die geschrieben wird
+   */
+  private Path datei;
+
+  private Path temp;
+
+  /**
+   * Aktion beim Verwerfen (ByteBuffer zurücksetzen, inneres Ziel verwerfen)
+   */
+  private Runnable ruecknahme;
+
+  private boolean verworfen;
+
+  private Ausgabe(OutputStream ziel, Closeable eigener)
+  {
+    this.stream = new FilterOutputStream(ziel)
+    {
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException
+      {
+        out.write(b, off, len);
+      }
+
+      @Override
+      public void close() throws IOException
+      {
+        flush();
+      }
+    };
+    this.eigener = eigener;
+  }
+
+  /**
+   * Ausgabe in einen Stream. Der Stream bleibt nach dem Schreiben offen.
+   */
+  public static Ausgabe of(OutputStream os)
+  {
+    return new Ausgabe(os, null);
+  }
+
+  /**
+   * Ausgabe in einen Channel. Der Channel bleibt nach dem Schreiben offen.
+   */
+  public static Ausgabe of(WritableByteChannel channel)
+  {
+    return new Ausgabe(Channels.newOutputStream(channel), null);
+  }
+
+  /**
+   * Ausgabe in eine Datei. Die Datei wird gepuffert in eine temporäre Datei
+   * im selben Verzeichnis geschrieben. close() ersetzt damit die Datei in
+   * einem Schritt, nach verwerfen() wird die temporäre Datei gelöscht.
+   */
+  public static Ausgabe of(Path path) throws IOException
+  {
+    Path temp = neueTempDatei(path);
+    OutputStream os = new BufferedOutputStream(Files.newOutputStream(temp),
+        65536);
+    Ausgabe a = new Ausgabe(os, os);
+    a.datei = path;
+    a.temp = temp;
+    return a;
+  }
+
+  /**
+   * Ausgabe in einen (auch direkten) ByteBuffer ab dessen Position. Reicht der
+   * Platz nicht aus, wird eine IOException geworfen. Nach dem Schreiben steht
+   * die Position hinter den geschriebenen Daten.
+   */
+  public static Ausgabe of(ByteBuffer buffer)
+  {
+    int anfang = buffer.position();
+    Ausgabe a = new Ausgabe(new OutputStream()
+    {
+      @Override
+      public void write(int b) throws IOException
+      {
+        try
+        {
+          buffer.put((byte) b);
+        }
+        catch (BufferOverflowException e)
+        {
+          throw ueberlauf(buffer, 1);
+        }
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException
+      {
+        try
+        {
+          buffer.put(b, off, len);
+        }
+        catch (BufferOverflowException e)
+        {
+          throw ueberlauf(buffer, len);
+        }
+      }
+    }, null);
+    a.ruecknahme = () -> buffer.position(anfang);
+    return a;
+  }
+
+  /**
+   * Packt die Ausgabe im angegebenen Format in das Ziel. Bei ZIP wird ein
+   * Eintrag mit dem angegebenen Namen angelegt. close() schließt das
+   * komprimierte Format ab und danach das Ziel.
+   */
+  public static Ausgabe komprimiert(Ausgabe ziel, Kompression.Format format,
+      String name) throws IOException
+  {
+    OutputStream os = Kompression.packe(ziel.getStream(), format, name);
+    Ausgabe a = new Ausgabe(os, () -> {
+      try
+      {
+        os.close();
+      }
+      finally
+      {
+        ziel.close();
+      }
+    });
+    a.ruecknahme = ziel::verwerfen;
+    return a;
+  }
+
+  /**
+   * Freier Name neben der Zieldatei für die temporäre Datei. Sie wird ohne
+   * createTempFile() angelegt, damit sie die üblichen Zugriffsrechte erhält.
+   */
+  private static Path neueTempDatei(Path path) throws IOException
+  {
+    while (true)
+    {
+      Path temp = path.resolveSibling("." + path.getFileName() + "."
+          + Long.toHexString(ThreadLocalRandom.current().nextLong())
+          + ".tmp");
+      try
+      {
+        Files.newOutputStream(temp, StandardOpenOption.CREATE_NEW).close();
+        return temp;
+      }
+      catch (FileAlreadyExistsException e)
+      {
+        // nächster Versuch
+      }
+    }
+  }
+
+  private static IOException ueberlauf(ByteBuffer buffer, int len)
+  {
+    return new IOException("ByteBuffer zu klein: " + len + " Bytes, frei "
+        + buffer.remaining());
+  }
+
+  /**
+   * Stream, in den die Writer schreiben. close() auf diesem Stream führt nur
+   * ein flush() aus.
+   */
+  public OutputStream getStream()
+  {
+    return stream;
+  }
+
+  public void flush() throws IOException
+  {
+    stream.flush();
+  }
+
+  /**
+   * Verwirft die bisher geschriebenen Daten: Eine Datei wird beim Schließen
+   * nicht ersetzt, ein ByteBuffer wird auf seine Anfangsposition
+   * zurückgesetzt. In Streams und Channels bereits geschriebene Daten können
+   * nicht zurückgenommen werden.
+   */
+  public void verwerfen()
+  {
+    verworfen = true;
+    if (ruecknahme != null)
+    {
+      ruecknahme.run();
+    }
+  }
+
+  public boolean isVerworfen()
+  {
+    return verworfen;
+  }
+
+  /**
+   * Schreibt gepufferte Daten und schließt eine selbst geöffnete Datei. Sie
+   * ersetzt die Zieldatei, sofern die Ausgabe nicht verworfen wurde.
+   * Übergebene Streams und Channels bleiben offen.
+   */
+  @Override
+  public void close() throws IOException
+  {
+    try
+    {
+      if (!verworfen)
+      {
+        stream.flush();
+      }
+      if (eigener != null)
+      {
+        eigener.close();
+      }
+    }
+    catch (IOException e)
+    {
+      verworfen = true;
+      throw e;
+    }
+    finally
+    {
+      if (temp != null)
+      {
+        if (verworfen)
+        {
+          Files.deleteIfExists(temp);
+        }
+        else
+        {
+          ersetze(temp, datei);
+        }
+        temp = null;
+      }
+    }
+  }
+
+  private static void ersetze(Path temp, Path datei) throws IOException
+  {
+    try
+    {
+      Files.move(temp, datei, StandardCopyOption.ATOMIC_MOVE);
+    }
+    catch (AtomicMoveNotSupportedException e)
+    {
+      Files.move(temp, datei, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+}
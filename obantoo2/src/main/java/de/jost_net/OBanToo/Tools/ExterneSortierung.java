@@ -0,0 +1,501 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.Tools;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * <h1>Externe Sortierung</h1>
+ * <p>
+ * Sortiert beliebig viele Sätze mit begrenztem Speicher. Die Sätze werden
+ * gesammelt, bis das Speicherbudget erreicht ist. Dann wird der Lauf sortiert
+ * und im Binärformat des Satzformats in eine temporäre Datei ausgelagert.
+ * ausgeben() mischt alle Läufe in einem k-Wege-Mischen und übergibt die Sätze
+ * in sortierter Reihenfolge. Gleiche Sätze behalten ihre Reihenfolge
+ * (stabil).
+ * </p>
+ * <p>
+ * Jeder Satz wird beim Hinzufügen einmal in das Binärformat geschrieben. Beim
+ * Auslagern werden diese Bytes in sortierter Reihenfolge unverändert in die
+ * Datei übernommen. Das Speicherbudget bezieht sich auf die Größe der Sätze im
+ * Binärformat. Der tatsächliche Speicherbedarf der Objekte ist entsprechend
+ * höher.
+ * </p>
+ * <code>
+ * try (ExterneSortierung&lt;Zahler&gt; s = new ExterneSortierung&lt;&gt;(<br>
+ * &nbsp;&nbsp;Zahler.NACH_BIC_IBAN, format, 64 &lt;&lt; 20))<br>
+ * {<br>
+ * &nbsp;&nbsp;s.add(...);<br>
+ * &nbsp;&nbsp;s.ausgeben(z -&gt; ...);<br>
+ * }<br>
+ * </code>
+ */
+public class ExterneSortierung<T> implements Closeable
+{
+  /**
+   * Kompaktes Binärformat eines Satzes in den Auslagerungsdateien
+   */
+  public interface Satzformat<T>
+  {
+    void schreibe(DataOutput out, T satz) throws IOException;
+
+    T lese(DataInput in) throws IOException;
+  }
+
+  /**
+   * Empfänger der sortierten Sätze
+   */
+  public interface Senke<T, E extends Exception>
+  {
+    void verarbeite(T satz) throws IOException, E;
+  }
+
+  /**
+   * Maximale Anzahl gleichzeitig gemischter Läufe. Bei mehr Läufen wird in
+   * mehreren Durchgängen gemischt.
+   */
+  private static final int MAXWEGE = 64;
+
+  private static final int PUFFER = 65536;
+
+  private final Comparator<? super T> reihenfolge;
+
+  private final Satzformat<T> format;
+
+  private final long speicher;
+
+  private final File verzeichnis;
+
+  private final ArrayList<Eintrag<T>> lauf = new ArrayList<>();
+
+  /**
+   * Binärformat der Sätze des aktuellen Laufs
+   */
+  private final Puffer puffer = new Puffer();
+
+  private final DataOutputStream daten = new DataOutputStream(puffer);
+
+  private final ArrayList<Lauf> laeufe = new ArrayList<>();
+
+  private long anzahl;
+
+  /**
+   * Satz des aktuellen Laufs und seine Lage im Puffer
+   */
+  private static final class Eintrag<T>
+  {
+    final T satz;
+
+    final int von;
+
+    final int laenge;
+
+    Eintrag(T satz, int von, int laenge)
+    {
+      this.satz = satz;
+      this.von = von;
+      this.laenge = laenge;
+    }
+  }
+
+  /**
+   * Ausgelagerter, sortierter Lauf
+   */
+  private static final class Lauf
+  {
+    final File datei;
+
+    final long anzahl;
+
+    Lauf(File datei, long anzahl)
+    {
+      this.datei = datei;
+      this.anzahl = anzahl;
+    }
+  }
+
+  /**
+   * Lesezeiger auf einen Lauf beim Mischen
+   */
+  private final class Leser implements Closeable
+  {
+    final int nr;
+
+    final DataInputStream in;
+
+    long rest;
+
+    T satz;
+
+    Leser(int nr, Lauf lauf) throws IOException
+    {
+      this.nr = nr;
+      this.in = new DataInputStream(new BufferedInputStream(
+          Files.newInputStream(lauf.datei.toPath()), PUFFER));
+      this.rest = lauf.anzahl;
+    }
+
+    boolean weiter() throws IOException
+    {
+      if (rest == 0)
+      {
+        satz = null;
+        return false;
+      }
+      rest--;
+      satz = format.lese(in);
+      return true;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+      in.close();
+    }
+  }
+
+  /**
+   * Puffer mit Zugriff auf das Array, damit ausgelagerte Sätze ohne Kopie
+   * geschrieben werden können
+   */
+  private static final class Puffer extends ByteArrayOutputStream
+  {
+    void schreibe(OutputStream out, int von, int laenge) throws IOException
+    {
+      out.write(buf, von, laenge);
+    }
+
+    /**
+     * Verschiebt die Bytes ab von an den Anfang und verwirft den Rest.
+     */
+    void behalte(int von)
+    {
+      System.arraycopy(buf, von, buf, 0, count - von);
+      count -= von;
+    }
+  }
+
+  /**
+   * Sortierung mit Auslagerung in das temporäre Verzeichnis des Systems.
+   *
+   * @param speicher
+   *          Speicherbudget eines Laufs in Bytes
+   */
+  public ExterneSortierung(Comparator<? super T> reihenfolge,
+      Satzformat<T> format, long speicher)
+  {
+    this(reihenfolge, format, speicher, null);
+  }
+
+  /**
+   * @param verzeichnis
+   *          Verzeichnis der Auslagerungsdateien. null: temporäres Verzeichnis
+   *          des Systems
+   */
+  public ExterneSortierung(Comparator<? super T> reihenfolge,
+      Satzformat<T> format, long speicher, File verzeichnis)
+  {
+    if (speicher <= 0)
+    {
+      throw new IllegalArgumentException(
+          "Ungültiges Speicherbudget: " + speicher);
+    }
+    this.reihenfolge = reihenfolge;
+    this.format = format;
+    // Ein Lauf muss in ein byte[] passen
+    this.speicher = Math.min(speicher, Integer.MAX_VALUE - 8);
+    this.verzeichnis = verzeichnis;
+  }
+
+  public void add(T satz) throws IOException
+  {
+    int von = puffer.size();
+    format.schreibe(daten, satz);
+    int laenge = puffer.size() - von;
+    if (!lauf.isEmpty() && (long) von + laenge > speicher)
+    {
+      auslagern();
+      puffer.behalte(von);
+      von = 0;
+    }
+    lauf.add(new Eintrag<>(satz, von, laenge));
+    anzahl++;
+  }
+
+  public long getAnzahl()
+  {
+    return anzahl;
+  }
+
+  /**
+   * Anzahl der bisher ausgelagerten Läufe
+   */
+  public int getAnzahlLaeufe()
+  {
+    return laeufe.size();
+  }
+
+  /**
+   * Übergibt alle Sätze in sortierter Reihenfolge. Passen alle Sätze in einen
+   * Lauf, wird ohne Auslagerung im Speicher sortiert. Danach ist die
+   * Sortierung leer und kann erneut befüllt werden.
+   */
+  public <E extends Exception> void ausgeben(Senke<? super T, E> senke)
+      throws IOException, E
+  {
+    try
+    {
+      durchlaufen(senke);
+    }
+    finally
+    {
+      close();
+    }
+  }
+
+  /**
+   * Übergibt alle Sätze in sortierter Reihenfolge, ohne die Sortierung zu
+   * leeren. Die Sätze können so mehrfach durchlaufen werden, ohne sie im
+   * Speicher zu halten. Danach dürfen keine Sätze mehr hinzugefügt werden; die
+   * Auslagerungsdateien werden mit close() gelöscht.
+   */
+  public <E extends Exception> void durchlaufen(Senke<? super T, E> senke)
+      throws IOException, E
+  {
+    if (laeufe.isEmpty())
+    {
+      lauf.sort(this::vergleiche);
+      for (Eintrag<T> e : lauf)
+      {
+        senke.verarbeite(e.satz);
+      }
+      return;
+    }
+    if (!lauf.isEmpty())
+    {
+      auslagern();
+      puffer.reset();
+    }
+    while (laeufe.size() > MAXWEGE)
+    {
+      // Zwischendurchgang: die ersten Läufe zu einem Lauf zusammenfassen
+      List<Lauf> teil = new ArrayList<>(laeufe.subList(0, MAXWEGE));
+      File datei = neueDatei();
+      long n = -1;
+      try (DataOutputStream out = oeffne(datei))
+      {
+        n = mische(teil, satz -> format.schreibe(out, satz));
+      }
+      finally
+      {
+        if (n < 0)
+        {
+          datei.delete();
+        }
+      }
+      loesche(teil);
+      laeufe.subList(0, MAXWEGE).clear();
+      laeufe.add(0, new Lauf(datei, n));
+    }
+    mische(laeufe, senke);
+  }
+
+  /**
+   * Löscht die Auslagerungsdateien und verwirft nicht ausgegebene Sätze.
+   */
+  @Override
+  public void close()
+  {
+    loesche(laeufe);
+    laeufe.clear();
+    lauf.clear();
+    puffer.reset();
+    anzahl = 0;
+  }
+
+  /**
+   * Hilfsmethoden für Satzformate: Text, der null sein darf.
+   */
+  public static void schreibeText(DataOutput out, String text)
+      throws IOException
+  {
+    out.writeBoolean(text != null);
+    if (text != null)
+    {
+      out.writeUTF(text);
+    }
+  }
+
+  public static String leseText(DataInput in) throws IOException
+  {
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+
+  /**
+   * Datum, das null sein darf. null wird als Long.MIN_VALUE abgelegt.
+   */
+  public static void schreibeDatum(DataOutput out, Date datum)
+      throws IOException
+  {
+    out.writeLong(datum != null ? datum.getTime() : Long.MIN_VALUE);
+  }
+
+  public static Date leseDatum(DataInput in) throws IOException
+  {
+    long zeit = in.readLong();
+    return zeit != Long.MIN_VALUE ? new Date(zeit) : null;
+  }
+
+  /**
+   * Betrag, der null sein darf, als unskalierter Wert und Nachkommastellen.
+   */
+  public static void schreibeBetrag(DataOutput out, BigDecimal betrag)
+      throws IOException
+  {
+    if (betrag == null)
+    {
+      out.writeByte(0);
+      return;
+    }
+    byte[] wert = betrag.unscaledValue().toByteArray();
+    out.writeByte(wert.length);
+    out.write(wert);
+    out.writeShort(betrag.scale());
+  }
+
+  public static BigDecimal leseBetrag(DataInput in) throws IOException
+  {
+    int laenge = in.readUnsignedByte();
+    if (laenge == 0)
+    {
+      return null;
+    }
+    byte[] wert = new byte[laenge];
+    in.readFully(wert);
+    return new BigDecimal(new BigInteger(wert), in.readShort());
+  }
+
+  private int vergleiche(Eintrag<T> a, Eintrag<T> b)
+  {
+    return reihenfolge.compare(a.satz, b.satz);
+  }
+
+  /**
+   * Schreibt den aktuellen Lauf sortiert aus dem Puffer in eine Datei. Der
+   * Puffer bleibt unverändert, da er hinter dem Lauf bereits den nächsten Satz
+   * enthalten kann.
+   */
+  private void auslagern() throws IOException
+  {
+    lauf.sort(this::vergleiche);
+    File datei = neueDatei();
+    boolean fertig = false;
+    try (DataOutputStream out = oeffne(datei))
+    {
+      for (Eintrag<T> e : lauf)
+      {
+        puffer.schreibe(out, e.von, e.laenge);
+      }
+      fertig = true;
+    }
+    finally
+    {
+      if (!fertig)
+      {
+        datei.delete();
+      }
+    }
+    laeufe.add(new Lauf(datei, lauf.size()));
+    lauf.clear();
+  }
+
+  /**
+   * k-Wege-Mischen über einen Heap. Bei gleichen Sätzen gewinnt der frühere
+   * Lauf.
+   */
+  private <E extends Exception> long mische(List<Lauf> quellen,
+      Senke<? super T, E> senke) throws IOException, E
+  {
+    PriorityQueue<Leser> heap = new PriorityQueue<>(quellen.size(), (a,
+        b) -> {
+      int c = reihenfolge.compare(a.satz, b.satz);
+      return c != 0 ? c : Integer.compare(a.nr, b.nr);
+    });
+    ArrayList<Leser> leser = new ArrayList<>();
+    long n = 0;
+    try
+    {
+      for (Lauf l : quellen)
+      {
+        Leser le = new Leser(leser.size(), l);
+        leser.add(le);
+        if (le.weiter())
+        {
+          heap.add(le);
+        }
+      }
+      while (!heap.isEmpty())
+      {
+        Leser le = heap.poll();
+        senke.verarbeite(le.satz);
+        n++;
+        if (le.weiter())
+        {
+          heap.add(le);
+        }
+      }
+    }
+    finally
+    {
+      for (Leser le : leser)
+      {
+        le.close();
+      }
+    }
+    return n;
+  }
+
+  /**
+   * Neue Auslagerungsdatei. Sie wird nicht mit deleteOnExit() registriert,
+   * da jeder Lauf bis zum Programmende einen Eintrag hinterlassen würde;
+   * gelöscht wird beim Mischen, bei einem Fehler und in close().
+   */
+  private File neueDatei() throws IOException
+  {
+    return File.createTempFile("obantoo", ".lauf", verzeichnis);
+  }
+
+  private static DataOutputStream oeffne(File datei) throws IOException
+  {
+    return new DataOutputStream(new BufferedOutputStream(
+        Files.newOutputStream(datei.toPath()), PUFFER));
+  }
+
+  private static void loesche(List<Lauf> quellen)
+  {
+    for (Lauf l : quellen)
+    {
+      l.datei.delete();
+    }
+  }
+}
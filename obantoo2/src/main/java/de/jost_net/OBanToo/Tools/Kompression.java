@@ -0,0 +1,189 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.Tools;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * <h1>Komprimierte Zahlungsdateien</h1>
+ * <p>
+ * Erkennt das Format einer Eingabe an den ersten Bytes und entpackt sie beim
+ * Lesen. Die Parser (DTAUS, QIF, SEPA) lesen damit gzip- und ZIP-Dateien
+ * genauso wie unkomprimierte Dateien. Beim Schreiben kann über
+ * Ausgabe.komprimiert() gepackt werden.
+ * </p>
+ * <p>
+ * zstd wird erkannt, aber nicht entpackt, da keine zstd-Bibliothek
+ * eingebunden ist.
+ * </p>
+ * <code>
+ * Kompression.eintraege(new FileInputStream("dtaus.zip"), (name, is) -&gt;
+ * {<br>
+ * &nbsp;&nbsp;DtausDateiParser p = new DtausDateiParser(is);<br>
+ * &nbsp;&nbsp;...<br>
+ * });<br>
+ * </code>
+ */
+public final class Kompression
+{
+  public enum Format
+  {
+    KEINE, GZIP, ZIP, ZSTD
+  }
+
+  /**
+   * Verarbeitung eines Eintrags. Der Stream darf nicht über das Ende des
+   * Eintrags hinaus gelesen werden; close() auf ihm hat keine Wirkung.
+   */
+  public interface Eintrag<E extends Exception>
+  {
+    void verarbeite(String name, InputStream is) throws IOException, E;
+  }
+
+  private static final int PUFFER = 65536;
+
+  private Kompression()
+  {
+  }
+
+  /**
+   * Ermittelt das Format anhand der ersten Bytes. Der Stream muss mark()
+   * unterstützen und steht anschließend wieder am Anfang.
+   */
+  public static Format getFormat(InputStream is) throws IOException
+  {
+    byte[] kopf = new byte[4];
+    is.mark(kopf.length);
+    int n = is.readNBytes(kopf, 0, kopf.length);
+    is.reset();
+    if (n >= 2 && (kopf[0] & 0xff) == 0x1f && (kopf[1] & 0xff) == 0x8b)
+    {
+      return Format.GZIP;
+    }
+    if (n == 4 && kopf[0] == 'P' && kopf[1] == 'K' && kopf[2] == 3
+        && kopf[3] == 4)
+    {
+      return Format.ZIP;
+    }
+    if (n == 4 && (kopf[0] & 0xff) == 0x28 && (kopf[1] & 0xff) == 0xb5
+        && (kopf[2] & 0xff) == 0x2f && (kopf[3] & 0xff) == 0xfd)
+    {
+      return Format.ZSTD;
+    }
+    return Format.KEINE;
+  }
+
+  /**
+   * Liefert den entpackten Inhalt. Unkomprimierte Eingaben werden unverändert
+   * durchgereicht. Bei ZIP-Archiven wird nur der erste Eintrag geliefert;
+   * mehrere Einträge werden mit eintraege() verarbeitet. Der gelieferte Stream
+   * unterstützt mark().
+   */
+  public static InputStream entpacke(InputStream is) throws IOException
+  {
+    InputStream ein = is.markSupported() ? is : new BufferedInputStream(is);
+    switch (getFormat(ein))
+    {
+      case GZIP:
+        return new BufferedInputStream(new GZIPInputStream(ein, PUFFER),
+            PUFFER);
+      case ZIP:
+        ZipInputStream zis = new ZipInputStream(ein);
+        if (naechster(zis) == null)
+        {
+          throw new IOException("ZIP-Archiv ohne Einträge");
+        }
+        return new BufferedInputStream(zis, PUFFER);
+      case ZSTD:
+        throw zstd();
+      default:
+        return ein;
+    }
+  }
+
+  /**
+   * Verarbeitet die Einträge eines ZIP-Archivs nacheinander, ohne das Archiv
+   * vollständig zu laden. Andere Eingaben werden als ein Eintrag ohne Namen
+   * (null) übergeben, gzip-Dateien entpackt. Der Stream wird nicht
+   * geschlossen.
+   */
+  public static <E extends Exception> void eintraege(InputStream is,
+      Eintrag<E> eintrag) throws IOException, E
+  {
+    InputStream ein = is.markSupported() ? is : new BufferedInputStream(is);
+    if (getFormat(ein) != Format.ZIP)
+    {
+      eintrag.verarbeite(null, offen(entpacke(ein)));
+      return;
+    }
+    ZipInputStream zis = new ZipInputStream(ein);
+    ZipEntry ze;
+    while ((ze = naechster(zis)) != null)
+    {
+      eintrag.verarbeite(ze.getName(),
+          offen(new BufferedInputStream(zis, PUFFER)));
+    }
+  }
+
+  /**
+   * Packt die Ausgabe im angegebenen Format. Bei ZIP wird ein Eintrag mit dem
+   * angegebenen Namen angelegt. close() auf dem gelieferten Stream schließt
+   * das komprimierte Format ab und schließt den Zielstream.
+   */
+  public static OutputStream packe(OutputStream os, Format format,
+      String name) throws IOException
+  {
+    switch (format)
+    {
+      case GZIP:
+        return new GZIPOutputStream(os, PUFFER);
+      case ZIP:
+        ZipOutputStream zos = new ZipOutputStream(os);
+        zos.putNextEntry(new ZipEntry(name));
+        return zos;
+      case ZSTD:
+        throw zstd();
+      default:
+        return os;
+    }
+  }
+
+  private static ZipEntry naechster(ZipInputStream zis) throws IOException
+  {
+    ZipEntry ze;
+    while ((ze = zis.getNextEntry()) != null && ze.isDirectory())
+    {
+      // Verzeichnisse enthalten keine Daten
+    }
+    return ze;
+  }
+
+  private static InputStream offen(InputStream is)
+  {
+    return new FilterInputStream(is)
+    {
+      @Override
+      public void close()
+      {
+        // Der Eintrag wird vom Aufrufer nicht geschlossen.
+      }
+    };
+  }
+
+  private static IOException zstd()
+  {
+    return new IOException(
+        "zstd-komprimierte Dateien werden nicht unterstützt");
+  }
+}
@@ -7,9 +7,12 @@ package de.jost_net.OBanToo;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
+import de.jost_net.OBanToo.PruefziffernCheck.TestStandardverfahren;
+
 @RunWith(Suite.class)
-@Suite.SuiteClasses({ TestIBAN.class, TestPruefziffer.class, TestSEPALand.class,
-    TestUeberweisung.class })
+@Suite.SuiteClasses({ TestIBAN.class, TestPruefziffer.class,
+    TestStandardverfahren.class, TestSEPALand.class, TestUeberweisung.class,
+    TestSEPADatei.class, TestDtaus.class, TestQIF.class })
 public class ATestSuite
 {
   // Nothing to do
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo.PruefziffernCheck;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Übersetzen von pruefziffernverfahren.txt. Liegt im Paket der
+ * Prüfziffernverfahren, weil Standardverfahren nicht öffentlich ist.
+ */
+@RunWith(JUnit4.class)
+public class TestStandardverfahren
+{
+  @Test
+  public void lesen() throws IOException
+  {
+    List<Standardverfahren> v = lies("# Kommentar", "",
+        "00  1-9  2,1,2,1,2,1,2,1,2   Q  10  10  M-R  10=0",
+        "  A1 1-9 10,9,8,7,6,5,4,3,2 - 11 10 M-R 10=9 11=0  ");
+    assertEquals(2, v.size());
+    assertEquals("00", v.get(0).getKennzeichen());
+    assertEquals("A1", v.get(1).getKennzeichen());
+    assertTrue(pruefe(v.get(0), "0009290701"));
+    assertFalse(pruefe(v.get(0), "0009290702"));
+    for (Standardverfahren s : Standardverfahren.getVerfahren())
+    {
+      assertEquals(s, Standardverfahren.get(s.getKennzeichen()));
+    }
+  }
+
+  @Test
+  public void doppelt() throws IOException
+  {
+    fehler("Zeile 3: doppelt", "00 1-9 2,1,2,1,2,1,2,1,2 Q 10 10 M-R 10=0",
+        "# Kommentar", "00 1-9 1,7,3,1,7,3,1,7,3 - 10 10 M-R 10=0");
+  }
+
+  @Test
+  public void modul() throws IOException
+  {
+    fehler("Zeile 1: Ungültiger Modul 1",
+        "00 1-9 2,1,2,1,2,1,2,1,2 Q 1 10 M-R");
+    fehler("Zeile 1: Ungültiger Modul 0",
+        "00 1-9 2,1,2,1,2,1,2,1,2 Q 0 10 M-R");
+    fehler("Zeile 1: For input string: \"x\"",
+        "00 1-9 2,1,2,1,2,1,2,1,2 Q x 10 M-R");
+  }
+
+  @Test
+  public void stelle() throws IOException
+  {
+    fehler("Zeile 1: Ungültige Stelle 0",
+        "00 0-8 2,1,2,1,2,1,2,1,2 Q 10 10 M-R");
+    fehler("Zeile 1: Ungültige Stelle 11",
+        "00 3-11 2,1,2,1,2,1,2,1,2 Q 10 10 M-R");
+    fehler("Zeile 1: Ungültige Stelle 11",
+        "00 1-9 2,1,2,1,2,1,2,1,2 Q 10 11 M-R");
+    fehler("Zeile 1: 9 Gewichte für 8 Stellen",
+        "00 1-8 2,1,2,1,2,1,2,1,2 Q 10 10 M-R");
+  }
+
+  @Test
+  public void spalten() throws IOException
+  {
+    fehler("Zeile 1: Spalten fehlen: 00 1-9 2,1,2,1,2,1,2,1,2 Q 10 10",
+        "00 1-9 2,1,2,1,2,1,2,1,2 Q 10 10");
+    fehler("Zeile 1: Ungültiges Kennzeichen F0",
+        "F0 1-9 2,1,2,1,2,1,2,1,2 Q 10 10 M-R");
+    fehler("Zeile 1: Quersumme Q oder -: X",
+        "00 1-9 2,1,2,1,2,1,2,1,2 X 10 10 M-R");
+    fehler("Zeile 1: Berechnung M-R oder R: R-M",
+        "00 1-9 2,1,2,1,2,1,2,1,2 Q 10 10 R-M");
+    fehler("Zeile 1: Ungültige Ersetzung 10",
+        "00 1-9 2,1,2,1,2,1,2,1,2 Q 10 10 M-R 10");
+  }
+
+  private static List<Standardverfahren> lies(String... zeilen)
+      throws IOException
+  {
+    return Standardverfahren.lies(
+        new BufferedReader(new StringReader(String.join("\n", zeilen))),
+        "test.txt");
+  }
+
+  private static void fehler(String meldung, String... zeilen)
+      throws IOException
+  {
+    try
+    {
+      lies(zeilen);
+      fail(meldung);
+    }
+    catch (IllegalStateException e)
+    {
+      assertEquals("test.txt " + meldung, e.getMessage());
+    }
+  }
+
+  private static boolean pruefe(Standardverfahren v, String konto)
+  {
+    int[] ziffern = new int[10];
+    for (int i = 0; i < 10; i++)
+    {
+      ziffern[i] = konto.charAt(i) - '0';
+    }
+    return v.pruefe(new int[8], ziffern).isValid();
+  }
+}
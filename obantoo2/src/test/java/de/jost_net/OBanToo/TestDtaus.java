@@ -0,0 +1,139 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Calendar;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.jost_net.OBanToo.Dtaus.CSatz;
+import de.jost_net.OBanToo.Dtaus.DtausDateiParser;
+import de.jost_net.OBanToo.Dtaus.DtausDateiWriter;
+import de.jost_net.OBanToo.Tools.Ausgabe;
+import de.jost_net.OBanToo.Tools.Kompression;
+
+@RunWith(JUnit4.class)
+public class TestDtaus
+{
+  private static final long[] BLZ = { 80077711, 10020030, 40050060 };
+
+  @Test
+  public void sortierung() throws Exception
+  {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    DtausDateiWriter dw = new DtausDateiWriter(bos);
+    // Wenige C-Sätze je Lauf erzwingen die Auslagerung
+    dw.setSortierung(CSatz.NACH_BLZ_KONTO, 1000);
+    schreibe(dw, 30);
+    dw.close();
+
+    DtausDateiParser p = new DtausDateiParser(
+        new ByteArrayInputStream(bos.toByteArray()));
+    assertEquals(1, p.getAnzahlLogischerDateien());
+    long blz = 0;
+    long konto = 0;
+    int anzahl = 0;
+    CSatz c;
+    while ((c = p.next()) != null)
+    {
+      String fehler = "Satz " + anzahl + ": " + c.getBlzEndbeguenstigt() + "/"
+          + c.getKontonummer();
+      if (anzahl == 0)
+      {
+        assertEquals(10020030, c.getBlzEndbeguenstigt());
+      }
+      else if (c.getBlzEndbeguenstigt() == blz)
+      {
+        assertTrue(fehler, c.getKontonummer() > konto);
+      }
+      else
+      {
+        assertTrue(fehler, c.getBlzEndbeguenstigt() > blz);
+      }
+      blz = c.getBlzEndbeguenstigt();
+      konto = c.getKontonummer();
+      anzahl++;
+    }
+    assertEquals(30, anzahl);
+    assertEquals(80077711, blz);
+    assertEquals(30, p.getESatz().getAnzahlDatensaetze());
+  }
+
+  @Test
+  public void komprimierung() throws Exception
+  {
+    ByteArrayOutputStream roh = new ByteArrayOutputStream();
+    DtausDateiWriter dw = new DtausDateiWriter(roh);
+    schreibe(dw, 5);
+    dw.close();
+    for (Kompression.Format format : new Kompression.Format[] {
+        Kompression.Format.GZIP, Kompression.Format.ZIP })
+    {
+      ByteArrayOutputStream bos = new ByteArrayOutputStream();
+      try (Ausgabe a = Ausgabe.komprimiert(Ausgabe.of(bos), format, "dtaus"))
+      {
+        DtausDateiWriter w = new DtausDateiWriter(a);
+        schreibe(w, 5);
+        w.close();
+      }
+      byte[] gepackt = bos.toByteArray();
+      assertEquals(format,
+          Kompression.getFormat(new ByteArrayInputStream(gepackt)));
+      assertArrayEquals(roh.toByteArray(), Kompression
+          .entpacke(new ByteArrayInputStream(gepackt)).readAllBytes());
+
+      DtausDateiParser p = new DtausDateiParser(
+          new ByteArrayInputStream(gepackt));
+      DtausDateiParser erwartet = new DtausDateiParser(
+          new ByteArrayInputStream(roh.toByteArray()));
+      assertEquals(1, p.getAnzahlLogischerDateien());
+      assertEquals(erwartet.getASatz().toString(), p.getASatz().toString());
+      for (int i = 0; i < 5; i++)
+      {
+        assertEquals(format + " Satz " + i, erwartet.next().toString(),
+            p.next().toString());
+      }
+      assertNull(p.next());
+      assertEquals(5, p.getESatz().getAnzahlDatensaetze());
+    }
+  }
+
+  /**
+   * Schreibt eine logische Datei mit anzahl Gutschriften. Bankleitzahlen und
+   * Kontonummern werden absichtlich unsortiert vergeben.
+   */
+  static void schreibe(DtausDateiWriter dw, int anzahl) throws Exception
+  {
+    dw.setAGutschriftLastschrift("GK");
+    dw.setABLZBank(40050060);
+    dw.setAKundenname("Donald Duck GmbH und Co");
+    dw.setAKonto(123456);
+    Calendar cal = Calendar.getInstance();
+    cal.set(2013, Calendar.FEBRUARY, 22);
+    dw.setADatum(cal.getTime());
+    dw.writeASatz();
+    for (int i = 0; i < anzahl; i++)
+    {
+      dw.setCBLZEndbeguenstigt(BLZ[i % BLZ.length]);
+      dw.setCKonto(1000 + (i * 7) % anzahl);
+      dw.setCTextschluessel(CSatz.TS_UEBERWEISUNGSGUTSCHRIFT);
+      dw.setCInterneKundennummer(i);
+      dw.setCBetragInEuro(10 + i);
+      dw.setCName("Micky Maus " + i);
+      dw.addCVerwendungszweck("Beitrag");
+      dw.writeCSatz();
+    }
+    dw.writeESatz();
+  }
+}
@@ -5,8 +5,17 @@
 package de.jost_net.OBanToo;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.junit.FixMethodOrder;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -14,10 +23,24 @@ import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 import org.junit.runners.MethodSorters;
 
+import de.jost_net.OBanToo.PruefziffernCheck.KontoPruefziffernrechnung;
 import de.jost_net.OBanToo.SEPA.IBAN;
+import de.jost_net.OBanToo.SEPA.IBANCache;
 import de.jost_net.OBanToo.SEPA.IBANCode;
+import de.jost_net.OBanToo.SEPA.IBANEingabe;
+import de.jost_net.OBanToo.SEPA.IBANMassenberechnung;
+import de.jost_net.OBanToo.SEPA.IBANMassenpruefung;
+import de.jost_net.OBanToo.SEPA.IBANPruefung;
+import de.jost_net.OBanToo.SEPA.IBANRegeln;
+import de.jost_net.OBanToo.SEPA.KompakteIBAN;
+import de.jost_net.OBanToo.SEPA.KompakteIBANMap;
+import de.jost_net.OBanToo.SEPA.KompakteIBANMenge;
 import de.jost_net.OBanToo.SEPA.SEPAException;
 import de.jost_net.OBanToo.SEPA.SEPAException.Fehler;
+import de.jost_net.OBanToo.SEPA.BankenDaten.Bank;
+import de.jost_net.OBanToo.SEPA.BankenDaten.Banken;
+import de.jost_net.OBanToo.SEPA.BankenDaten.Ladebericht;
+import de.jost_net.OBanToo.SEPA.Land.SEPALaender;
 
 @RunWith(JUnit4.class)
 @FixMethodOrder(MethodSorters.NAME_ASCENDING)
@@ -77,6 +100,342 @@ public class TestIBAN
     }
   }
 
+  /**
+   * Prüfziffernprüfung nach Modulo 97 ohne Zerlegung der IBAN, mit
+   * Leerzeichen und Kleinbuchstaben
+   */
+  @Test
+  public void pruefungMod97() throws SEPAException
+  {
+    IBAN iban = new IBAN("de61 4785 3520 0001 8618 89");
+    assertEquals("DE61478535200001861889", iban.getIBAN());
+    assertEquals(IBANPruefung.Ergebnis.GUELTIG,
+        IBANPruefung.pruefe("DE61478535200001861889"));
+    byte[] b = " DE61478535200001861889".getBytes(StandardCharsets.US_ASCII);
+    assertEquals(IBANPruefung.Ergebnis.GUELTIG,
+        IBANPruefung.pruefe(b, 1, b.length - 1));
+    assertEquals(IBANPruefung.Ergebnis.PRUEFZIFFER_FALSCH,
+        IBANPruefung.pruefe("DE11478535200001861889"));
+    assertEquals(IBANPruefung.Ergebnis.UNGUELTIGES_ZEICHEN,
+        IBANPruefung.pruefe("DE61-478535200001861889"));
+    assertEquals(IBANPruefung.Ergebnis.ZU_KURZ, IBANPruefung.pruefe("DE6 1"));
+    assertEquals(8, IBANPruefung.getPruefziffer("700901001234567890", "DE"));
+  }
+
+  /**
+   * Prüfung während der Eingabe
+   */
+  @Test
+  public void pruefungWaehrendEingabe()
+  {
+    IBANEingabe e = new IBANEingabe();
+    assertEquals(IBANEingabe.Status.UNVOLLSTAENDIG, e.add("de89 3704 0044"));
+    assertEquals(22, e.getErwarteteLaenge());
+    assertEquals(IBANEingabe.Status.GUELTIG, e.add(" 0532 0130 00"));
+    assertEquals("DE89370400440532013000", e.toString());
+    // Zu lang
+    assertEquals(IBANEingabe.Status.UNGUELTIG, e.add('0'));
+    assertEquals(22, e.getFehlerposition());
+    assertEquals(IBANEingabe.Status.GUELTIG, e.entfernen());
+    // Falsche Prüfziffer erst bei vollständiger Eingabe erkennbar
+    e.entfernen();
+    assertEquals(IBANEingabe.Status.UNGUELTIG, e.add('1'));
+    assertEquals(2, e.getFehlerposition());
+    assertEquals(IBANEingabe.Status.UNVOLLSTAENDIG, e.entfernen());
+    assertEquals(IBANEingabe.Status.GUELTIG, e.add('0'));
+    // Buchstabe in numerischer BBAN, unbekanntes Land
+    e.clear();
+    assertEquals(IBANEingabe.Status.UNGUELTIG, e.add("DE89A"));
+    assertEquals(4, e.getFehlerposition());
+    e.clear();
+    assertEquals(IBANEingabe.Status.UNGUELTIG, e.add("EF"));
+    assertEquals(1, e.getFehlerposition());
+    assertEquals(IBANEingabe.Status.UNVOLLSTAENDIG, e.entfernen());
+    // Zeichen-Positionen (c) in Großbritannien
+    e.clear();
+    assertEquals(IBANEingabe.Status.UNGUELTIG, e.add("GB29 1"));
+    e.entfernen();
+    assertEquals(IBANEingabe.Status.GUELTIG, e.add("NWBK60161331926819"));
+  }
+
+  /**
+   * Eingabe über die längste mögliche IBAN hinaus: Die überzähligen Zeichen
+   * werden gezählt und von entfernen() wieder abgebaut.
+   */
+  @Test
+  public void eingabeUeberlauf()
+  {
+    IBANEingabe e = new IBANEingabe();
+    assertEquals(IBANEingabe.Status.GUELTIG, e.add("DE89370400440532013000"));
+    for (int i = 22; i < 40; i++)
+    {
+      assertEquals(IBANEingabe.Status.UNGUELTIG, e.add('0'));
+    }
+    assertEquals(40, e.getLaenge());
+    assertEquals(22, e.getFehlerposition());
+    assertEquals(35, e.toString().length());
+    for (int i = 40; i > 23; i--)
+    {
+      assertEquals(IBANEingabe.Status.UNGUELTIG, e.entfernen());
+    }
+    assertEquals(23, e.getLaenge());
+    assertEquals(IBANEingabe.Status.GUELTIG, e.entfernen());
+    assertEquals("DE89370400440532013000", e.toString());
+    // clear() verwirft auch den Überlauf
+    e.add("000000000000000000");
+    e.clear();
+    assertEquals(0, e.getLaenge());
+    assertEquals(IBANEingabe.Status.UNVOLLSTAENDIG, e.add("DE89"));
+  }
+
+  /**
+   * Tabelle der IBAN-Regeln und nicht implementierte Regeln des
+   * Bankenverzeichnisses
+   */
+  @Test
+  public void tabelleIBANRegeln()
+  {
+    assertTrue(IBANRegeln.isImplementiert("000503"));
+    assertTrue(!IBANRegeln.isImplementiert("009999"));
+    for (String regel : Banken.getUnbekannteIBANRegeln())
+    {
+      assertTrue(regel, !IBANRegeln.isImplementiert(regel));
+    }
+  }
+
+  /**
+   * Zwischenspeicher für BLZ/Konto zu IBAN: Treffer, Fehlversuche und
+   * Begrenzung der Größe
+   */
+  @Test
+  public void cache() throws SEPAException
+  {
+    IBANCache cache = new IBANCache(2);
+    IBAN.setCache(cache);
+    try
+    {
+      IBAN iban = new IBAN("1234560890", "72020700", "DE");
+      assertEquals("DE76720207001234560890", iban.getIBAN());
+      iban = new IBAN("001234560890", "72020700", "DE");
+      assertEquals("DE76720207001234560890", iban.getIBAN());
+      iban = new IBAN("1234560864", "72020700", "DE");
+      assertEquals(IBANCode.IBANBERECHNUNGNICHTMOEGLICH, iban.getCode());
+      for (int i = 0; i < 2; i++)
+      {
+        try
+        {
+          new IBAN("1", "99999999", "DE");
+          fail();
+        }
+        catch (SEPAException e)
+        {
+          assertEquals(Fehler.BLZ_UNGUELTIG, e.getFehler());
+        }
+      }
+      assertEquals(2, cache.getTreffer());
+      assertEquals(3, cache.getFehlversuche());
+      assertTrue(cache.getAnzahl() <= 2);
+    }
+    finally
+    {
+      IBAN.setCache(null);
+    }
+  }
+
+  /**
+   * Massenberechnung nach Banken gruppiert liefert dieselben Ergebnisse wie
+   * die Einzelberechnung, auch für ungültige Bankleitzahlen
+   */
+  @Test
+  public void massenberechnung() throws Exception
+  {
+    String[] blz = { "72020700", "51010800", "99999999", "72020700",
+        "7202070", "72020700", null, "51010800" };
+    String[] konto = { "1234560890", "6161604670", "1", "1234560864", "1",
+        "000", "1", "0000000135" };
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try
+    {
+      IBANMassenberechnung.Ergebnis[] e = new IBANMassenberechnung(executor)
+          .berechne(blz, konto);
+      assertEquals(blz.length, e.length);
+      for (int i = 0; i < blz.length; i++)
+      {
+        try
+        {
+          IBAN iban = new IBAN(konto[i], blz[i], "DE");
+          assertEquals(iban.getCode(), e[i].getCode());
+          assertEquals(iban.getIBAN(), e[i].getIBAN());
+          assertEquals(iban.getBIC(), e[i].getBIC());
+        }
+        catch (SEPAException ex)
+        {
+          assertEquals(ex.getFehler(), e[i].getFehler());
+        }
+      }
+      assertEquals("DE76720207001234560890", e[0].getIBAN());
+      assertEquals(IBANCode.BLZUNGUELTIG, e[2].getCode());
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Kompakte IBAN mit Menge und Map auf Basis primitiver Arrays
+   */
+  @Test
+  public void kompakteIBAN() throws SEPAException
+  {
+    String[] ibans = { "DE89370400440532013000", "AT611904300234573201",
+        "MT84MALT011000012345MTLCAST001S", "DE08700901001234567890" };
+    KompakteIBANMap<String> map = new KompakteIBANMap<>();
+    KompakteIBANMenge menge = new KompakteIBANMenge();
+    for (String i : ibans)
+    {
+      KompakteIBAN k = KompakteIBAN.of(i.toLowerCase());
+      assertEquals(i, k.toString());
+      assertEquals(i.substring(0, 2), k.getLand());
+      assertEquals(k, KompakteIBAN.of(i));
+      assertTrue(menge.add(k));
+      assertEquals(null, map.put(k, i));
+    }
+    assertTrue(KompakteIBAN.of(ibans[1])
+        .compareTo(KompakteIBAN.of(ibans[0])) < 0);
+    assertTrue(KompakteIBAN.of(ibans[3])
+        .compareTo(KompakteIBAN.of(ibans[0])) < 0);
+    assertTrue(menge.contains("DE89 3704 0044 0532 0130 00"));
+    assertTrue(!menge.contains("DE89370400440532013001"));
+    assertEquals(ibans[2], map.get(ibans[2]));
+    assertEquals(ibans[0], map.remove(KompakteIBAN.of(ibans[0])));
+    assertEquals(3, map.size());
+    assertTrue(!map.containsKey(ibans[0]));
+
+    // Vergrößern und Entfernen mit langen Sondierungsketten
+    String[] de = new String[10000];
+    for (int i = 0; i < de.length; i++)
+    {
+      String bban = "700901000001" + (100000 + i);
+      int pz = IBANPruefung.getPruefziffer(bban, "DE");
+      de[i] = "DE" + (pz < 10 ? "0" : "") + pz + bban;
+    }
+    KompakteIBANMenge viele = new KompakteIBANMenge();
+    for (String i : de)
+    {
+      viele.add(KompakteIBAN.of(i));
+    }
+    assertEquals(de.length, viele.size());
+    for (int i = 0; i < de.length; i += 2)
+    {
+      assertTrue(viele.remove(KompakteIBAN.of(de[i])));
+    }
+    for (int i = 0; i < de.length; i++)
+    {
+      assertEquals(i % 2 == 1, viele.contains(de[i]));
+    }
+  }
+
+  /**
+   * Aufbau der IBAN nach Länderformat vor der Prüfziffer
+   */
+  @Test
+  public void aufbauNachLaenderformat()
+  {
+    assertEquals(-1, SEPALaender.getLand("BG")
+        .pruefeAufbau("BG80BNBG96611020345678"));
+    assertEquals(4, SEPALaender.getLand("BG")
+        .pruefeAufbau("BG800NBG96611020345678"));
+    assertEquals(20, SEPALaender.getLand("AT")
+        .pruefeAufbau("AT6119043002345732012"));
+    assertEquals(null, SEPALaender.getLand("de"));
+    assertEquals(null, SEPALaender.getLand("D"));
+    try
+    {
+      new IBAN("BG800NBG96611020345678");
+      fail();
+    }
+    catch (SEPAException e)
+    {
+      assertEquals("Ungültige IBAN: Ungültiges Zeichen an Position 5",
+          e.getMessage());
+    }
+    try
+    {
+      new IBAN("AT61190430023457320");
+      fail();
+    }
+    catch (SEPAException e)
+    {
+      assertEquals("Ungültige IBAN: Länge 19 statt 20", e.getMessage());
+    }
+  }
+
+  /**
+   * Prüfziffernprüfung für Sätze fester Länge
+   */
+  @Test
+  public void massenpruefungSaetze()
+  {
+    String[] ibans = { "DE89370400440532013000", "de89 3704 0044 0532 0130 00",
+        "DE88370400440532013000", "MT84MALT011000012345MTLCAST001S", "DE89",
+        "DE8937040044053201300$", "", "AT611904300234573201",
+        "1E89370400440532013000", "DE99370400440532013000" };
+    int satzlaenge = 34;
+    byte[] daten = new byte[ibans.length * satzlaenge];
+    Arrays.fill(daten, (byte) ' ');
+    for (int i = 0; i < ibans.length; i++)
+    {
+      byte[] b = ibans[i].getBytes(StandardCharsets.US_ASCII);
+      System.arraycopy(b, 0, daten, i * satzlaenge, b.length);
+    }
+    BitSet fehler = IBANMassenpruefung.pruefe(daten, satzlaenge);
+    for (int i = 0; i < ibans.length; i++)
+    {
+      assertEquals(ibans[i],
+          IBANPruefung.pruefe(ibans[i]) != IBANPruefung.Ergebnis.GUELTIG,
+          fehler.get(i));
+    }
+    ByteBuffer direkt = ByteBuffer.allocateDirect(daten.length);
+    direkt.put(daten).flip();
+    assertEquals(fehler, IBANMassenpruefung.pruefe(direkt, satzlaenge));
+  }
+
+  /**
+   * Prüfziffernverfahren und IBAN-Regel werden beim Laden jeder Bank
+   * zugeordnet; der Ladebericht nennt die fehlenden Implementierungen
+   */
+  @Test
+  public void verfahrenJeBank()
+  {
+    Bank b = Banken.getBankByBLZ("37040044");
+    assertTrue(b.getPruefverfahren() != null);
+    assertTrue(b.getIBANRegelverfahren() != null);
+    assertTrue(b.pruefeKonto("532013000").isValid());
+    for (String konto : new String[] { "532013001", "12345", "9290701" })
+    {
+      assertEquals(konto,
+          KontoPruefziffernrechnung
+              .pruefe(b.getPruefziffernmethode(), b.getBLZ(), konto)
+              .isValid(),
+          b.pruefeKonto(konto).isValid());
+    }
+    Ladebericht bericht = Banken.getLadebericht();
+    assertTrue(bericht.getAnzahlBanken() > 0);
+    assertEquals(Banken.getUnbekannteIBANRegeln(),
+        bericht.getUnbekannteIBANRegeln().keySet());
+    for (Bank bank : Banken.getBanken())
+    {
+      if (bank.getLand().equals("DE"))
+      {
+        assertEquals(bank.getBLZ(),
+            !bericht.getUnbekanntePruefziffernmethoden()
+                .containsKey(bank.getPruefziffernmethode()),
+            bank.getPruefverfahren() != null);
+      }
+    }
+  }
+
   /**
    * keine IBAN-Berechnung
    */
@@ -303,6 +662,22 @@ public class TestIBAN
 
   }
 
+  /**
+   * Commerzbank mit Prüfziffernmethode 76: Wird an eine zehnstellige
+   * Kontonummer "00" angefügt, hat sie zwölf Stellen und kann nicht geprüft
+   * werden. Das Ergebnis ist PRUEFZIFFERNMETHODEFEHLT, nicht
+   * KONTONUMMERUNGUELTIG.
+   */
+  @Test
+  public void regel000503() throws Exception
+  {
+    IBAN iban = new IBAN("4000000103", "10080000", "DE");
+    assertEquals(IBANCode.PRUEFZIFFERNMETHODEFEHLT, iban.getCode());
+    assertNull(iban.getIBAN());
+    iban = new IBAN("998761700", "10080000", "DE");
+    assertEquals("DE73100800000998761700", iban.getIBAN());
+  }
+
   @Test
   public void regel000700()
   {
@@ -5,8 +5,16 @@
 
 package de.jost_net.OBanToo;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.Iterator;
 
@@ -15,13 +23,61 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import de.jost_net.OBanToo.PruefziffernCheck.AccountCRCAlgs;
 import de.jost_net.OBanToo.PruefziffernCheck.KontoPruefziffernrechnung;
+import de.jost_net.OBanToo.PruefziffernCheck.PZRet;
 import de.jost_net.OBanToo.SEPA.BankenDaten.Bank;
 import de.jost_net.OBanToo.SEPA.BankenDaten.Banken;
 
 @RunWith(JUnit4.class)
 public class TestPruefziffer
 {
+  /**
+   * Je Verfahren aus pruefziffernverfahren.txt eine gültige und eine ungültige
+   * Kontonummer, danach je Ersetzung eine gültige Kontonummer, bei der die
+   * Ersetzung greift. Die Konten wurden mit den programmierten Verfahren vor
+   * der Umstellung auf die Tabelle ermittelt.
+   */
+  private static final String[][] STANDARDVERFAHREN = {
+        { "00", "2780550402", "2780550405", "0281312330" },
+        { "01", "8945194224", "8945194227", "0140710470" },
+        { "02", "0401348873", "0401348876", "1762644530" },
+        { "03", "1249709403", "1249709406", "0160222990" },
+        { "04", "0704865007", "0704865000", "0758283070" },
+        { "05", "7800053425", "7800053428", "0518738550" },
+        { "06", "0170541154", "0170541157", "0998414300" },
+        { "07", "0521693608", "0521693601", "0074924850" },
+        { "10", "5061730542", "5061730545", "0764670000" },
+        { "11", "0013265784", "0013265787", "1586600019", "0240907450" },
+        { "14", "4885388414", "4885388417", "6214757270" },
+        { "15", "9485256197", "9485256190", "0755688790" },
+        { "18", "4342754416", "4342754419", "0529943060" },
+        { "19", "0893207306", "0893207309", "6358529160" },
+        { "20", "0092402984", "0092402987", "5017858760" },
+        { "22", "7307926026", "7307926029", "7812556510" },
+        { "28", "6805423827", "6805423127", "0631533060" },
+        { "30", "0726065715", "0726065718", "3723071170" },
+        { "31", "8862056303", "8862056306" },
+        { "32", "8240203742", "8240203745", "0989377000" },
+        { "33", "1972018996", "1972018999", "0047351890" },
+        { "34", "9320711484", "9320711784", "0344081032" },
+        { "36", "0153294035", "0153294038", "4488448290" },
+        { "38", "4188975793", "4188975796", "9018521020" },
+        { "40", "8102576402", "8102576405", "0288639590" },
+        { "42", "5520916077", "5520916070", "8455581720" },
+        { "43", "4976357565", "4976357568", "0321061410" },
+        { "44", "2373259434", "2373259437", "0734930620" },
+        { "46", "3610103666", "3610103966", "0852095020" },
+        { "48", "2373875474", "2373875404", "0053527704" },
+        { "55", "8568628722", "8568628725", "0174013690" },
+        { "58", "9552078964", "9552078967", "7654777110" },
+        { "60", "4292775527", "4292775520", "0861480620" },
+        { "64", "8030933852", "8030936852", "3690730453" },
+        { "67", "1788118668", "1788118968", "0396609043" },
+        { "71", "0933487945", "0933487948", "0554783921" },
+        { "92", "6684103972", "6684103975", "0882785440" },
+        { "94", "7289851119", "7289851112", "0102915990" } };
+
   @Test
   public void testAlgorithmen()
   {
@@ -2455,6 +2511,159 @@ public class TestPruefziffer
     assertTrue(check("D9", "0123456789"));
   }
 
+  @Test
+  public void testNichtImplementiert() throws Exception
+  {
+    assertTrue(KontoPruefziffernrechnung.getMethode("00") != null);
+    assertTrue(KontoPruefziffernrechnung.getMethode("E4") == null);
+    assertTrue(KontoPruefziffernrechnung.getMethode("Z0") == null);
+    PZRet ret = KontoPruefziffernrechnung.pruefe("E4", "12345678", "1");
+    assertFalse(ret.isImplementiert());
+    assertFalse(ret.isValid());
+    assertTrue(KontoPruefziffernrechnung.pruefe("00", "12345678", "9290701")
+        .isImplementiert());
+    try
+    {
+      KontoPruefziffernrechnung.checkAccountCRCByAlg("E4", "12345678", "1");
+      fail();
+    }
+    catch (Exception e)
+    {
+      //
+    }
+  }
+
+  /**
+   * Ergebnisse mit Position und Verfahren kommen aus vorab erzeugten
+   * Instanzen und stimmen mit dem direkten Aufruf von AccountCRCAlgs überein.
+   */
+  @Test
+  public void ergebnisMitPosition() throws Exception
+  {
+    String[][] konten = { { "06", "0170541154", "0170541157" },
+        { "40", "8102576402", "8102576405" },
+        { "46", "3610103666", "3610103966" },
+        { "48", "2373875474", "2373875404" },
+        { "50", "4000005001", "4000006001" } };
+    for (String[] k : konten)
+    {
+      for (int i = 1; i < 3; i++)
+      {
+        PZRet ret = KontoPruefziffernrechnung.checkAccountCRC(k[0],
+            "12345678", k[i]);
+        assertEquals(k[i], i == 1, ret.isValid());
+        assertEquals(10, ret.getPos());
+        assertEquals(k[0], ret.getAlg());
+        assertSame(ret, KontoPruefziffernrechnung.checkAccountCRC(k[0],
+            "12345678", k[i]));
+        assertSame(ret, direkt(k[0], k[i]));
+      }
+    }
+  }
+
+  /**
+   * Verfahren 24 und 50 verändern die Ziffern der Kontonummer. Der Puffer je
+   * Thread muss vor jeder Prüfung neu gefüllt werden, damit die folgende
+   * Prüfung davon unberührt bleibt.
+   */
+  @Test
+  public void pufferWiederverwendung() throws Exception
+  {
+    String[][] konten = { { "50", "1234567890" }, { "00", "9290701" },
+        { "24", "9141405" }, { "50", "4000005001" }, { "24", "3141405" },
+        { "00", "539290858" }, { "50", "4444442001" }, { "87", "0000406" } };
+    for (int n = 0; n < 3; n++)
+    {
+      for (String[] k : konten)
+      {
+        assertEquals(k[0] + "/" + k[1], direkt(k[0], k[1]).isValid(),
+            check(k[0], k[1]));
+      }
+    }
+  }
+
+  @Test
+  public void standardverfahren() throws Exception
+  {
+    for (String[] k : STANDARDVERFAHREN)
+    {
+      assertFalse(k[0] + "/" + k[2], check(k[0], k[2]));
+      assertFalse(k[0] + "/" + k[2], direkt(k[0], k[2]).isValid());
+      for (int i = 1; i < k.length; i++)
+      {
+        if (i != 2)
+        {
+          assertTrue(k[0] + "/" + k[i], check(k[0], k[i]));
+          assertTrue(k[0] + "/" + k[i], direkt(k[0], k[i]).isValid());
+        }
+      }
+    }
+  }
+
+  /**
+   * Jedes Verfahren der Datei ist in STANDARDVERFAHREN enthalten.
+   */
+  @Test
+  public void standardverfahrenVollstaendig() throws Exception
+  {
+    HashSet<String> getestet = new HashSet<>();
+    for (String[] k : STANDARDVERFAHREN)
+    {
+      getestet.add(k[0]);
+    }
+    HashSet<String> datei = new HashSet<>();
+    try (BufferedReader r = new BufferedReader(new InputStreamReader(
+        getClass().getClassLoader()
+            .getResourceAsStream("pruefziffernverfahren.txt"),
+        StandardCharsets.UTF_8)))
+    {
+      String zeile;
+      while ((zeile = r.readLine()) != null)
+      {
+        if (zeile.length() > 0 && !zeile.startsWith("#"))
+        {
+          datei.add(zeile.substring(0, 2));
+        }
+      }
+    }
+    assertEquals(datei, getestet);
+  }
+
+  /**
+   * Ergibt die Berechnung einen Wert über 9 ohne passende Ersetzung, ist
+   * keine Prüfziffer gültig.
+   */
+  @Test
+  public void standardverfahrenOhnePruefziffer() throws Exception
+  {
+    String[][] konten = { { "02", "053445772" }, { "04", "255811238" },
+        { "07", "088956101" }, { "14", "931013323" }, { "31", "047342682" },
+        { "58", "695526492" } };
+    for (String[] k : konten)
+    {
+      for (int z = 0; z < 10; z++)
+      {
+        assertFalse(k[0] + "/" + k[1] + z, check(k[0], k[1] + z));
+      }
+    }
+  }
+
+  /**
+   * AccountCRCAlgs.alg_XX, aufgerufen mit der BLZ 12345678
+   */
+  private static PZRet direkt(String alg, String konto) throws Exception
+  {
+    Method m = AccountCRCAlgs.class.getMethod("alg_" + alg, int[].class,
+        int[].class);
+    int[] ziffern = new int[10];
+    for (int i = 0; i < konto.length(); i++)
+    {
+      ziffern[10 - konto.length() + i] = konto.charAt(i) - '0';
+    }
+    return (PZRet) m.invoke(null, new int[] { 1, 2, 3, 4, 5, 6, 7, 8 },
+        ziffern);
+  }
+
   @Ignore
   private boolean check(String alg, String konto) throws Exception
   {
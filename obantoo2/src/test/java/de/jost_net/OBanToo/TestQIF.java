@@ -0,0 +1,74 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Calendar;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.jost_net.OBanToo.QIF.QIFBuchung;
+import de.jost_net.OBanToo.QIF.QIFDateiParser;
+import de.jost_net.OBanToo.QIF.QIFDateiWriter;
+import de.jost_net.OBanToo.Tools.Ausgabe;
+import de.jost_net.OBanToo.Tools.Kompression;
+
+@RunWith(JUnit4.class)
+public class TestQIF
+{
+  @Test
+  public void komprimierung() throws Exception
+  {
+    for (Kompression.Format format : new Kompression.Format[] {
+        Kompression.Format.KEINE, Kompression.Format.GZIP,
+        Kompression.Format.ZIP })
+    {
+      ByteArrayOutputStream bos = new ByteArrayOutputStream();
+      try (Ausgabe a = Ausgabe.komprimiert(Ausgabe.of(bos), format, "bank.qif"))
+      {
+        QIFDateiWriter w = new QIFDateiWriter(a);
+        Calendar cal = Calendar.getInstance();
+        cal.clear();
+        cal.set(2013, Calendar.FEBRUARY, 22);
+        for (int i = 0; i < 3; i++)
+        {
+          w.setDatum(cal.getTime());
+          w.setBetrag(-10.5 - i);
+          w.setEmpfaenger("Meier " + i);
+          w.setMemo("Beitrag");
+          w.addAdresse("Hauptstr. " + i);
+          w.write();
+        }
+        w.close();
+      }
+      byte[] daten = bos.toByteArray();
+      assertEquals(format,
+          Kompression.getFormat(new ByteArrayInputStream(daten)));
+
+      QIFDateiParser p = new QIFDateiParser(new ByteArrayInputStream(daten));
+      assertEquals(format.name(), 3, p.getAnzahlBuchungen());
+      for (int i = 0; i < 3; i++)
+      {
+        QIFBuchung b = p.next();
+        assertEquals(-10.5 - i, b.getBetrag(), 0.001);
+        assertEquals("Meier " + i, b.getEmpfaenger());
+        assertEquals("Beitrag", b.getMemo());
+        assertEquals("Hauptstr. " + i, b.getAdresseNext());
+        Calendar datum = Calendar.getInstance();
+        datum.setTime(b.getDatum());
+        assertEquals(22, datum.get(Calendar.DAY_OF_MONTH));
+        assertEquals(Calendar.FEBRUARY, datum.get(Calendar.MONTH));
+        assertEquals(2013, datum.get(Calendar.YEAR));
+      }
+      assertNull(p.next());
+    }
+  }
+}
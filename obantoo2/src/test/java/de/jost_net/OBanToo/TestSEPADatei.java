@@ -0,0 +1,854 @@
+/*
+ * Copyright 2006 by Heiner Jostkleigrewe
+ * Diese Datei steht unter LGPL - siehe beigefügte lpgl.txt
+ */
+package de.jost_net.OBanToo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import de.jost_net.OBanToo.SEPA.SEPAException;
+import de.jost_net.OBanToo.SEPA.Basislastschrift.Basislastschrift;
+import de.jost_net.OBanToo.SEPA.Basislastschrift.MandatSequence;
+import de.jost_net.OBanToo.SEPA.Basislastschrift.Zahler;
+import de.jost_net.OBanToo.SEPA.Datei.SEPAAufteilung;
+import de.jost_net.OBanToo.SEPA.Datei.SEPADateityp;
+import de.jost_net.OBanToo.SEPA.Datei.SEPADublettenpruefung;
+import de.jost_net.OBanToo.SEPA.Datei.SEPAKopfdaten;
+import de.jost_net.OBanToo.SEPA.Datei.SEPAParallelWriter;
+import de.jost_net.OBanToo.SEPA.Datei.SEPAValidator;
+import de.jost_net.OBanToo.SEPA.Datei.SEPAWertepool;
+import de.jost_net.OBanToo.SEPA.Datei.SEPAZahlungsblock;
+import de.jost_net.OBanToo.SEPA.Datei.SEPAZusammenfuehrung;
+import de.jost_net.OBanToo.SEPA.Ueberweisung.Empfaenger;
+import de.jost_net.OBanToo.SEPA.Ueberweisung.Ueberweisung;
+import de.jost_net.OBanToo.Tools.Ausgabe;
+import de.jost_net.OBanToo.Tools.ExterneSortierung;
+import de.jost_net.OBanToo.Tools.Kompression;
+
+@RunWith(JUnit4.class)
+public class TestSEPADatei
+{
+  @Test
+  public void validierungUeberweisung() throws Exception
+  {
+    File file = File.createTempFile("obantoo", ".xml");
+    file.deleteOnExit();
+    Ueberweisung ue = getUeberweisung();
+    ue.setValidierung(true);
+    ue.write(file);
+    assertEquals(SEPADateityp.PAIN_001_003_03, SEPAValidator.validate(file));
+  }
+
+  @Test
+  public void validierungBasislastschrift() throws Exception
+  {
+    File file = File.createTempFile("obantoo", ".xml");
+    file.deleteOnExit();
+    Basislastschrift bl = getBasislastschrift("4711", 3);
+    bl.setValidierung(true);
+    bl.write(file);
+    assertEquals(SEPADateityp.PAIN_008_002_02, SEPAValidator.validate(file));
+  }
+
+  @Test
+  public void validierungFehler() throws Exception
+  {
+    File file = File.createTempFile("obantoo", ".xml");
+    file.deleteOnExit();
+    getBasislastschrift("4711", 1).write(file);
+    String xml = new String(Files.readAllBytes(file.toPath()),
+        StandardCharsets.UTF_8).replace("<NbOfTxs>", "<NbOfTx>")
+            .replace("</NbOfTxs>", "</NbOfTx>");
+    try
+    {
+      SEPAValidator.validate(
+          new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+      fail("Ungültige Datei wurde nicht erkannt");
+    }
+    catch (SEPAException e)
+    {
+      assertTrue(e.getMessage().startsWith("Ungültige SEPA-Datei"));
+    }
+  }
+
+  @Test
+  public void validierungBeimSchreiben() throws Exception
+  {
+    File file = File.createTempFile("obantoo", ".xml");
+    file.deleteOnExit();
+    getBasislastschrift("4711", 1).write(file);
+    byte[] vorher = Files.readAllBytes(file.toPath());
+    // Das Zeichen # ist in der Mandats-ID nach dem Schema nicht erlaubt.
+    Basislastschrift bl = getBasislastschrift("4712", 3);
+    bl.add(getZahler("M#1", MandatSequence.RCUR, new Date()));
+    bl.setValidierung(true);
+    try
+    {
+      bl.write(file);
+      fail("Ungültige Datei wurde nicht erkannt");
+    }
+    catch (SEPAException e)
+    {
+      assertTrue(e.getMessage(),
+          e.getMessage().contains("Ungültige SEPA-Datei"));
+    }
+    assertTrue(Arrays.equals(vorher, Files.readAllBytes(file.toPath())));
+
+    ByteBuffer buffer = ByteBuffer.allocate(100000);
+    bl = getBasislastschrift("4713", 3);
+    bl.add(getZahler("M#2", MandatSequence.RCUR, new Date()));
+    bl.setValidierung(true);
+    try
+    {
+      bl.write(Ausgabe.of(buffer));
+      fail("Ungültige Datei wurde nicht erkannt");
+    }
+    catch (SEPAException e)
+    {
+      assertEquals(0, buffer.position());
+    }
+  }
+
+  @Test
+  public void parallelesSchreiben() throws Exception
+  {
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try
+    {
+      SEPAParallelWriter pw = new SEPAParallelWriter(executor, 3);
+      pw.setBlockgroesse(2);
+
+      File file = File.createTempFile("obantoo", ".xml");
+      file.deleteOnExit();
+      Basislastschrift bl = getBasislastschrift("4712", 11);
+      bl.setParallelWriter(pw);
+      bl.setValidierung(true);
+      bl.write(file);
+      // Reihenfolge: erst alle FRST- (gerade), dann alle RCUR-Lastschriften
+      String xml = new String(Files.readAllBytes(file.toPath()),
+          StandardCharsets.UTF_8);
+      int pos = 0;
+      for (int i : new int[] { 0, 2, 4, 6, 8, 10, 1, 3, 5, 7, 9 })
+      {
+        int neu = xml.indexOf("<EndToEndId>M4712-" + i + "<", pos);
+        assertTrue("Reihenfolge " + i, neu > pos);
+        pos = neu;
+      }
+
+      file = File.createTempFile("obantoo", ".xml");
+      file.deleteOnExit();
+      Ueberweisung ue = getUeberweisung();
+      ue.setParallelWriter(pw);
+      ue.setValidierung(true);
+      ue.write(file);
+      assertEquals(SEPADateityp.PAIN_001_003_03, SEPAValidator.validate(file));
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void kopfdaten() throws Exception
+  {
+    File file = File.createTempFile("obantoo", ".xml");
+    file.deleteOnExit();
+    getBasislastschrift("4713", 5).write(file);
+    SEPAKopfdaten k = new SEPAKopfdaten(file);
+    assertEquals(SEPADateityp.PAIN_008_002_02, k.getTyp());
+    assertEquals("4713", k.getMessageID());
+    assertEquals(5, k.getAnzahlBuchungen());
+    assertEquals(new BigDecimal("50.00"), k.getKontrollsumme());
+    assertEquals("OBANTOO-VEREIN", k.getInitiator());
+    assertEquals(2, k.getZahlungsbloecke().size());
+    SEPAZahlungsblock b = k.getZahlungsbloecke().get(0);
+    assertEquals("FRST", b.getSequenz());
+    assertEquals(3, b.getAnzahlBuchungen());
+    assertEquals(new BigDecimal("30.00"), b.getKontrollsumme());
+    assertEquals("DE86100500000990021440", b.getIBAN());
+    assertEquals("BELADEBEXXX", b.getBIC());
+    b = k.getZahlungsbloecke().get(1);
+    assertEquals("RCUR", b.getSequenz());
+    assertEquals(2, b.getAnzahlBuchungen());
+
+    k = new SEPAKopfdaten(file, true);
+    assertEquals(5, k.getAnzahlBuchungen());
+    assertEquals(0, k.getZahlungsbloecke().size());
+
+    getUeberweisung().write(file);
+    k = new SEPAKopfdaten(file);
+    assertEquals(SEPADateityp.PAIN_001_003_03, k.getTyp());
+    assertEquals(2, k.getAnzahlBuchungen());
+    assertEquals(1, k.getZahlungsbloecke().size());
+    assertEquals("DE86100500000990021440",
+        k.getZahlungsbloecke().get(0).getIBAN());
+    assertEquals(null, k.getZahlungsbloecke().get(0).getSequenz());
+  }
+
+  @Test
+  public void ergaenzung() throws Exception
+  {
+    File file = File.createTempFile("obantoo", ".xml");
+    file.deleteOnExit();
+    getBasislastschrift("4714", 3).write(file);
+    Calendar cal = Calendar.getInstance();
+    cal.add(Calendar.DAY_OF_YEAR, 10);
+    Basislastschrift bl = getBasislastschrift("4714", 0);
+    bl.add(getZahler("N1", MandatSequence.FRST, cal.getTime()));
+    bl.add(getZahler("N2", MandatSequence.FRST, cal.getTime()));
+    bl.add(getZahler("N3", MandatSequence.OOFF, cal.getTime()));
+    bl.append(file);
+    assertEquals(SEPADateityp.PAIN_008_002_02, SEPAValidator.validate(file));
+    SEPAKopfdaten k = new SEPAKopfdaten(file);
+    assertEquals(6, k.getAnzahlBuchungen());
+    assertEquals(new BigDecimal("60.00"), k.getKontrollsumme());
+    assertEquals(3, k.getZahlungsbloecke().size());
+    assertEquals(4, k.getZahlungsbloecke().get(0).getAnzahlBuchungen());
+    assertEquals(new BigDecimal("40.00"),
+        k.getZahlungsbloecke().get(0).getKontrollsumme());
+    assertEquals(1, k.getZahlungsbloecke().get(1).getAnzahlBuchungen());
+    assertEquals("OOFF", k.getZahlungsbloecke().get(2).getSequenz());
+    String xml = new String(Files.readAllBytes(file.toPath()),
+        StandardCharsets.UTF_8);
+    assertTrue(xml.indexOf("<EndToEndId>N2<") < xml.indexOf("<SeqTp>RCUR<"));
+
+    // Namespace im Document-Element nur mit Präfix deklariert
+    getBasislastschrift("4714", 3).write(file);
+    xml = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    xml = xml.replaceAll("<(/?)(\\w)", "<$1p:$2").replace("xmlns=",
+        "xmlns:p=");
+    Files.write(file.toPath(), xml.getBytes(StandardCharsets.UTF_8));
+    bl.append(file);
+    assertEquals(SEPADateityp.PAIN_008_002_02, SEPAValidator.validate(file));
+    k = new SEPAKopfdaten(file);
+    assertEquals(6, k.getAnzahlBuchungen());
+    assertEquals(4, k.getZahlungsbloecke().get(0).getAnzahlBuchungen());
+    assertEquals("OOFF", k.getZahlungsbloecke().get(2).getSequenz());
+
+    // CDATA-Abschnitt, dessen Text mit ] endet: ]]]>
+    getBasislastschrift("4714", 3).write(file);
+    xml = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    int ustrd = xml.indexOf("<Ustrd>") + 7;
+    xml = xml.substring(0, ustrd) + "<![CDATA[Beitrag]]]>"
+        + xml.substring(xml.indexOf('<', ustrd));
+    Files.write(file.toPath(), xml.getBytes(StandardCharsets.UTF_8));
+    bl.append(file);
+    assertEquals(SEPADateityp.PAIN_008_002_02, SEPAValidator.validate(file));
+    k = new SEPAKopfdaten(file);
+    assertEquals(6, k.getAnzahlBuchungen());
+    assertEquals(4, k.getZahlungsbloecke().get(0).getAnzahlBuchungen());
+    assertEquals("OOFF", k.getZahlungsbloecke().get(2).getSequenz());
+  }
+
+  @Test
+  public void zusammenfuehrung() throws Exception
+  {
+    File a = File.createTempFile("obantoo", ".xml");
+    a.deleteOnExit();
+    getBasislastschrift("A", 3).write(a);
+    File c = File.createTempFile("obantoo", ".xml");
+    c.deleteOnExit();
+    Calendar cal = Calendar.getInstance();
+    cal.add(Calendar.DAY_OF_YEAR, 10);
+    Basislastschrift bl = getBasislastschrift("C", 0);
+    bl.add(getZahler("C1", MandatSequence.RCUR, cal.getTime()));
+    bl.write(c);
+
+    // Ergebnis mit der Reihenfolge RCUR, FRST
+    File m = File.createTempFile("obantoo", ".xml");
+    m.deleteOnExit();
+    SEPAZusammenfuehrung z = new SEPAZusammenfuehrung("M");
+    z.add(c);
+    z.add(a);
+    z.write(m);
+    assertEquals(SEPADateityp.PAIN_008_002_02, SEPAValidator.validate(m));
+    SEPAKopfdaten k = new SEPAKopfdaten(m);
+    assertEquals("M", k.getMessageID());
+    assertEquals(4, k.getAnzahlBuchungen());
+    assertEquals("RCUR", k.getZahlungsbloecke().get(0).getSequenz());
+    assertEquals(2, k.getZahlungsbloecke().get(0).getAnzahlBuchungen());
+
+    // Die Blöcke von m werden in umgekehrter Reihenfolge benötigt
+    File g = File.createTempFile("obantoo", ".xml");
+    g.deleteOnExit();
+    z = new SEPAZusammenfuehrung("G");
+    z.add(a);
+    z.add(m);
+    assertEquals(2, z.getAnzahlZahlungsbloecke());
+    z.write(g);
+    assertEquals(SEPADateityp.PAIN_008_002_02, SEPAValidator.validate(g));
+    k = new SEPAKopfdaten(g);
+    assertEquals(7, k.getAnzahlBuchungen());
+    assertEquals(new BigDecimal("70.00"), k.getKontrollsumme());
+    assertEquals("FRST", k.getZahlungsbloecke().get(0).getSequenz());
+    assertEquals(4, k.getZahlungsbloecke().get(0).getAnzahlBuchungen());
+    assertEquals(new BigDecimal("40.00"),
+        k.getZahlungsbloecke().get(0).getKontrollsumme());
+    assertEquals(3, k.getZahlungsbloecke().get(1).getAnzahlBuchungen());
+
+    // Eine Eingabedatei als Ziel würde beim Schreiben abgeschnitten
+    byte[] vorher = Files.readAllBytes(m.toPath());
+    try
+    {
+      z.write(new File(m.getParentFile(), "./" + m.getName()));
+      fail("Eingabedatei als Ziel wurde nicht erkannt");
+    }
+    catch (SEPAException e)
+    {
+      assertTrue(e.getMessage(), e.getMessage().contains("Eingabedatei"));
+    }
+    assertTrue(Arrays.equals(vorher, Files.readAllBytes(m.toPath())));
+  }
+
+  @Test
+  public void zusammenfuehrungGlaeubiger() throws Exception
+  {
+    // Zwei Gläubiger mit demselben Konto werden nicht zusammengefasst
+    File a = File.createTempFile("obantoo", ".xml");
+    a.deleteOnExit();
+    getBasislastschrift("A", 1).write(a);
+    File b = File.createTempFile("obantoo", ".xml");
+    b.deleteOnExit();
+    Basislastschrift bl = getBasislastschrift("B", 1);
+    bl.setName("OBanToo-Jugend");
+    bl.setGlaeubigerID("DE02ZZZ01234567890");
+    bl.write(b);
+
+    File m = File.createTempFile("obantoo", ".xml");
+    m.deleteOnExit();
+    SEPAZusammenfuehrung z = new SEPAZusammenfuehrung("M");
+    z.add(a);
+    z.add(b);
+    assertEquals(2, z.getAnzahlZahlungsbloecke());
+    z.write(m);
+    assertEquals(SEPADateityp.PAIN_008_002_02, SEPAValidator.validate(m));
+    SEPAKopfdaten k = new SEPAKopfdaten(m);
+    assertEquals("OBANTOO-VEREIN", k.getZahlungsbloecke().get(0).getName());
+    assertEquals("OBANTOO-JUGEND", k.getZahlungsbloecke().get(1).getName());
+    String xml = new String(Files.readAllBytes(m.toPath()),
+        StandardCharsets.UTF_8);
+    assertTrue(xml.contains("DE98ZZZ09999999999"));
+    assertTrue(xml.contains("DE02ZZZ01234567890"));
+  }
+
+  @Test
+  public void aufteilung() throws Exception
+  {
+    File file = File.createTempFile("obantoo", ".xml");
+    file.deleteOnExit();
+    getBasislastschrift("S", 5).write(file);
+    HashMap<String, ByteArrayOutputStream> dateien = new HashMap<>();
+    SEPAAufteilung a = new SEPAAufteilung(SEPAAufteilung.SEQUENZ);
+    List<String> schluessel = a.write(file, s -> {
+      ByteArrayOutputStream bos = new ByteArrayOutputStream();
+      dateien.put(s, bos);
+      return bos;
+    });
+    assertEquals(Arrays.asList("FRST", "RCUR"), schluessel);
+    SEPAKopfdaten k = getKopfdaten(dateien.get("FRST"));
+    assertEquals("S-1", k.getMessageID());
+    assertEquals(3, k.getAnzahlBuchungen());
+    assertEquals(new BigDecimal("30.00"), k.getKontrollsumme());
+    assertEquals(1, k.getZahlungsbloecke().size());
+    assertEquals(3, k.getZahlungsbloecke().get(0).getAnzahlBuchungen());
+    k = getKopfdaten(dateien.get("RCUR"));
+    assertEquals("S-2", k.getMessageID());
+    assertEquals(new BigDecimal("20.00"),
+        k.getZahlungsbloecke().get(0).getKontrollsumme());
+
+    dateien.clear();
+    a = new SEPAAufteilung(SEPAAufteilung.BIC);
+    a.write(file, s -> {
+      ByteArrayOutputStream bos = new ByteArrayOutputStream();
+      dateien.put(s, bos);
+      return bos;
+    });
+    k = getKopfdaten(dateien.get("DRESDEFF265"));
+    assertEquals(5, k.getAnzahlBuchungen());
+    assertEquals(2, k.getZahlungsbloecke().size());
+
+    // Mehr Schlüssel als üblicherweise Dateien geöffnet werden dürfen
+    getBasislastschrift("V", 2000).write(file);
+    dateien.clear();
+    a = new SEPAAufteilung((b, t) -> t.getMandatID().substring(3));
+    schluessel = a.write(file, s -> {
+      ByteArrayOutputStream bos = new ByteArrayOutputStream();
+      dateien.put(s, bos);
+      return bos;
+    });
+    assertEquals(2000, schluessel.size());
+    k = getKopfdaten(dateien.get("1999"));
+    assertEquals(1, k.getAnzahlBuchungen());
+    assertEquals("RCUR", k.getZahlungsbloecke().get(0).getSequenz());
+
+    // Abwechselnd belegte Schlüssel behalten die Reihenfolge der Eingabe
+    dateien.clear();
+    a = new SEPAAufteilung(
+        (b, t) -> Integer.parseInt(t.getMandatID().substring(3)) % 7 + "");
+    a.write(file, s -> {
+      ByteArrayOutputStream bos = new ByteArrayOutputStream();
+      dateien.put(s, bos);
+      return bos;
+    });
+    assertEquals(7, dateien.size());
+    for (int rest = 0; rest < 7; rest++)
+    {
+      k = getKopfdaten(dateien.get(rest + ""));
+      String xml = new String(dateien.get(rest + "").toByteArray(),
+          StandardCharsets.UTF_8);
+      // FRST (gerade Nummern) und RCUR (ungerade) jeweils aufsteigend
+      int[] letzte = { -1, -1 };
+      int anzahl = 0;
+      for (int i = xml.indexOf("<MndtId>MV-"); i >= 0; i = xml
+          .indexOf("<MndtId>MV-", i + 1))
+      {
+        int nr = Integer
+            .parseInt(xml.substring(i + 11, xml.indexOf('<', i + 11)));
+        assertEquals(rest, nr % 7);
+        assertTrue(nr > letzte[nr % 2]);
+        letzte[nr % 2] = nr;
+        anzahl++;
+      }
+      assertEquals(k.getAnzahlBuchungen(), anzahl);
+    }
+  }
+
+  @Test
+  public void lesenBasislastschrift() throws Exception
+  {
+    File file = File.createTempFile("obantoo", ".xml");
+    file.deleteOnExit();
+    Basislastschrift bl = getBasislastschrift("L", 3);
+    bl.setValidierung(true);
+    bl.write(file);
+    Basislastschrift gelesen = new Basislastschrift();
+    gelesen.read(file);
+    assertEquals("L", gelesen.getMessageID());
+    assertEquals("DE98ZZZ09999999999", gelesen.getGlaeubigerID());
+    assertEquals("DE86100500000990021440", gelesen.getIBAN());
+    assertEquals(new BigDecimal("30.00"), gelesen.getKontrollsumme());
+    assertEquals(3, gelesen.getZahler().size());
+    Zahler z = gelesen.getZahler().get(0);
+    assertEquals("ML-0", z.getMandatid());
+    assertEquals(MandatSequence.FRST, z.getMandatsequence());
+    assertEquals(new BigDecimal("10.00"), z.getBetrag());
+  }
+
+  @Test
+  public void lesenMandatID() throws Exception
+  {
+    // Die Mandats-ID wird aus MndtId gelesen, nicht aus der EndToEndId.
+    File file = File.createTempFile("obantoo", ".xml");
+    file.deleteOnExit();
+    getBasislastschrift("E", 1).write(file);
+    String xml = new String(Files.readAllBytes(file.toPath()),
+        StandardCharsets.UTF_8);
+    assertTrue(xml.contains("<EndToEndId>ME-0</EndToEndId>"));
+    Files.write(file.toPath(),
+        xml.replace("<EndToEndId>ME-0</EndToEndId>",
+            "<EndToEndId>NOTPROVIDED</EndToEndId>")
+            .getBytes(StandardCharsets.UTF_8));
+    Basislastschrift gelesen = new Basislastschrift();
+    gelesen.read(file);
+    assertEquals("ME-0", gelesen.getZahler().get(0).getMandatid());
+  }
+
+  @Test
+  public void ausgabe() throws Exception
+  {
+    ByteBuffer puffer = ByteBuffer.allocateDirect(1 << 16);
+    getBasislastschrift("A", 4).write(Ausgabe.of(puffer));
+    puffer.flip();
+    byte[] daten = new byte[puffer.remaining()];
+    puffer.get(daten);
+    assertEquals(SEPADateityp.PAIN_008_002_02,
+        SEPAValidator.validate(new ByteArrayInputStream(daten)));
+
+    // Channel und Stream bleiben offen
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    WritableByteChannel channel = Channels.newChannel(bos);
+    Ueberweisung ue = getUeberweisung();
+    ue.setValidierung(true);
+    ue.write(Ausgabe.of(channel));
+    assertTrue(channel.isOpen());
+    assertEquals(SEPADateityp.PAIN_001_003_03, SEPAValidator
+        .validate(new ByteArrayInputStream(bos.toByteArray())));
+
+    try
+    {
+      getBasislastschrift("A", 4).write(Ausgabe.of(ByteBuffer.allocate(100)));
+      fail("Überlauf nicht erkannt");
+    }
+    catch (SEPAException e)
+    {
+      assertTrue(e.getMessage().contains("ByteBuffer zu klein"));
+    }
+  }
+
+  @Test
+  public void komprimierung() throws Exception
+  {
+    File file = File.createTempFile("obantoo", ".xml.gz");
+    file.deleteOnExit();
+    try (Ausgabe a = Ausgabe.komprimiert(Ausgabe.of(file.toPath()),
+        Kompression.Format.GZIP, null))
+    {
+      getBasislastschrift("G", 3).write(a);
+    }
+    assertEquals(SEPADateityp.PAIN_008_002_02, SEPAValidator.validate(file));
+    Basislastschrift gelesen = new Basislastschrift();
+    gelesen.read(file);
+    assertEquals("G", gelesen.getMessageID());
+    assertEquals(3, gelesen.getZahler().size());
+
+    // ZIP-Archiv mit zwei Dateien wird Eintrag für Eintrag gelesen
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (ZipOutputStream zos = new ZipOutputStream(bos))
+    {
+      zos.putNextEntry(new ZipEntry("lastschrift.xml"));
+      getBasislastschrift("Z", 2).write(Ausgabe.of(zos));
+      zos.putNextEntry(new ZipEntry("ueberweisung.xml"));
+      getUeberweisung().write(Ausgabe.of(zos));
+    }
+    List<String> eintraege = new ArrayList<>();
+    Kompression.eintraege(new ByteArrayInputStream(bos.toByteArray()),
+        (name, is) -> eintraege
+            .add(name + ":" + SEPAValidator.validate(is).name()));
+    assertEquals(Arrays.asList("lastschrift.xml:PAIN_008_002_02",
+        "ueberweisung.xml:PAIN_001_003_03"), eintraege);
+  }
+
+  @Test
+  public void sortierung() throws Exception
+  {
+    String[] bics = { "DRESDEFF265", "BELADEBEXXX", "COBADEFFXXX" };
+    Basislastschrift bl = getBasislastschrift("S", 0);
+    Calendar cal = Calendar.getInstance();
+    cal.add(Calendar.DAY_OF_YEAR, 10);
+    for (int i = 0; i < 30; i++)
+    {
+      Zahler z = getZahler("S-" + i, MandatSequence.FRST, cal.getTime());
+      z.setBic(bics[i % bics.length]);
+      bl.add(z);
+    }
+    // Folgelastschriften bilden trotz kleinerer BIC ein eigenes PmtInf hinter
+    // den Erstlastschriften
+    for (int i = 0; i < 3; i++)
+    {
+      bl.add(getZahler("R-" + i, MandatSequence.RCUR, cal.getTime()));
+      bl.getZahler().get(bl.getZahler().size() - 1).setBic("BELADEBEXXX");
+    }
+    // Wenige hundert Bytes je Lauf erzwingen die Auslagerung
+    bl.setSortierung(Zahler.NACH_BIC_IBAN, 500);
+    bl.setValidierung(true);
+    File file = File.createTempFile("obantoo", ".xml");
+    file.deleteOnExit();
+    File verzeichnis = Files.createTempDirectory("obantoo").toFile();
+    try (SEPADublettenpruefung d = new SEPADublettenpruefung(verzeichnis,
+        1000))
+    {
+      bl.setDublettenpruefung(d);
+      bl.write(file);
+      // Registriert wird aus der Sortierung
+      assertEquals(33, d.getAnzahl());
+    }
+    for (File f : verzeichnis.listFiles())
+    {
+      f.delete();
+    }
+    verzeichnis.delete();
+    // Die sortierten Zahler werden nicht wieder geladen
+    assertEquals(0, bl.getZahler().size());
+    assertEquals("33", bl.getAnzahlBuchungen());
+    Basislastschrift gelesen = new Basislastschrift();
+    gelesen.read(file);
+    List<Zahler> zahler = gelesen.getZahler();
+    assertEquals(33, zahler.size());
+    assertEquals("BELADEBEXXX", zahler.get(0).getBic());
+    assertEquals("S-1", zahler.get(0).getMandatid());
+    assertEquals("S-4", zahler.get(1).getMandatid());
+    assertEquals("COBADEFFXXX", zahler.get(10).getBic());
+    assertEquals("DRESDEFF265", zahler.get(29).getBic());
+    assertEquals("S-27", zahler.get(29).getMandatid());
+    assertEquals("BEITRAG", zahler.get(29).getVerwendungszweck());
+    for (int i = 0; i < 3; i++)
+    {
+      assertEquals("R-" + i, zahler.get(30 + i).getMandatid());
+      assertEquals(MandatSequence.RCUR, zahler.get(30 + i).getMandatsequence());
+    }
+
+    // Mehr Läufe als gleichzeitig gemischt werden
+    List<Integer> sortiert = new ArrayList<>();
+    int[] geschrieben = new int[1];
+    ExterneSortierung.Satzformat<Integer> format = new ExterneSortierung.Satzformat<Integer>()
+    {
+      @Override
+      public void schreibe(DataOutput out, Integer satz) throws IOException
+      {
+        geschrieben[0]++;
+        out.writeInt(satz);
+      }
+
+      @Override
+      public Integer lese(DataInput in) throws IOException
+      {
+        return in.readInt();
+      }
+    };
+    // Jeder Satz wird nur einmal ins Binärformat geschrieben
+    try (ExterneSortierung<Integer> s = new ExterneSortierung<>(
+        Comparator.naturalOrder(), format, 40))
+    {
+      for (int i = 0; i < 100; i++)
+      {
+        s.add((i * 37) % 100);
+      }
+      assertEquals(9, s.getAnzahlLaeufe());
+      s.ausgeben(sortiert::add);
+    }
+    assertEquals(100, geschrieben[0]);
+    for (int i = 0; i < 100; i++)
+    {
+      assertEquals(i, sortiert.get(i).intValue());
+    }
+    sortiert.clear();
+    // close() löscht die Auslagerungsdateien auch ohne Ausgabe
+    File auslagerung = Files.createTempDirectory("obantoo").toFile();
+    try (ExterneSortierung<Integer> s = new ExterneSortierung<>(
+        Comparator.naturalOrder(), format, 40, auslagerung))
+    {
+      for (int i = 0; i < 100; i++)
+      {
+        s.add(i);
+      }
+      assertEquals(9, auslagerung.list().length);
+    }
+    assertEquals(0, auslagerung.list().length);
+    auslagerung.delete();
+    try (ExterneSortierung<Integer> s = new ExterneSortierung<>(
+        Comparator.naturalOrder(), new ExterneSortierung.Satzformat<Integer>()
+        {
+          @Override
+          public void schreibe(DataOutput out, Integer satz)
+              throws IOException
+          {
+            out.writeInt(satz);
+          }
+
+          @Override
+          public Integer lese(DataInput in) throws IOException
+          {
+            return in.readInt();
+          }
+        }, 8))
+    {
+      for (int i = 0; i < 1000; i++)
+      {
+        s.add((i * 7919) % 1000);
+      }
+      assertEquals(499, s.getAnzahlLaeufe());
+      s.ausgeben(sortiert::add);
+    }
+    for (int i = 0; i < 1000; i++)
+    {
+      assertEquals(i, sortiert.get(i).intValue());
+    }
+  }
+
+  @Test
+  public void dublettenpruefung() throws Exception
+  {
+    File verzeichnis = Files.createTempDirectory("obantoo").toFile();
+    File file = File.createTempFile("obantoo", ".xml");
+    file.deleteOnExit();
+    try (SEPADublettenpruefung d = new SEPADublettenpruefung(verzeichnis,
+        1000))
+    {
+      Basislastschrift bl = getBasislastschrift("D", 3);
+      bl.setDublettenpruefung(d);
+      bl.write(file);
+      assertEquals(3, d.getAnzahl());
+    }
+    try (SEPADublettenpruefung d = new SEPADublettenpruefung(verzeichnis,
+        1000))
+    {
+      assertEquals(3, d.getAnzahl());
+      byte[] vorher = Files.readAllBytes(file.toPath());
+      Basislastschrift bl = getBasislastschrift("D", 3);
+      bl.setDublettenpruefung(d);
+      try
+      {
+        bl.write(file);
+        fail("Dublette nicht erkannt");
+      }
+      catch (SEPAException e)
+      {
+        assertEquals(SEPAException.Fehler.DUBLETTE, e.getFehler());
+      }
+      // Die abgelehnte Datei lässt die vorhandene unverändert
+      assertTrue(Arrays.equals(vorher, Files.readAllBytes(file.toPath())));
+      assertEquals(0, file.getParentFile()
+          .list((dir, name) -> name.startsWith("." + file.getName())).length);
+      // Anderer Betrag ist keine Dublette
+      Date datum = new Date();
+      assertTrue(d.add("K/1", new BigDecimal("1.00"), datum));
+      assertTrue(!d.add("K/1", new BigDecimal("1.0"), datum));
+      assertTrue(!d.isDublette("K/1", new BigDecimal("2.00"), datum));
+      // Vergrößern der Tabelle
+      for (int i = 0; i < 2000; i++)
+      {
+        d.add("V/" + i, BigDecimal.TEN, datum);
+      }
+      assertEquals(2004, d.getAnzahl());
+      for (int i = 0; i < 2000; i++)
+      {
+        assertTrue(d.isDublette("V/" + i, BigDecimal.TEN, datum));
+      }
+    }
+    // Die vergrößerte Tabelle ist eine neue Generation, die alte ist entfernt
+    String[] dateien = verzeichnis.list();
+    Arrays.sort(dateien);
+    assertEquals("[dubletten.bloom, dubletten.hash.1]",
+        Arrays.toString(dateien));
+    Date datum = new Date();
+    try (SEPADublettenpruefung d = new SEPADublettenpruefung(verzeichnis,
+        1000))
+    {
+      assertEquals(2004, d.getAnzahl());
+      assertTrue(d.isDublette("V/1999", BigDecimal.TEN, datum));
+    }
+    // Ohne Bloom-Filter wird er aus der letzten Generation aufgebaut
+    new File(verzeichnis, "dubletten.bloom").delete();
+    try (SEPADublettenpruefung d = new SEPADublettenpruefung(verzeichnis,
+        1000))
+    {
+      assertEquals(2004, d.getAnzahl());
+      assertTrue(d.isDublette("V/1999", BigDecimal.TEN, datum));
+      assertTrue(!d.isDublette("V/2000", BigDecimal.TEN, datum));
+    }
+    for (File f : verzeichnis.listFiles())
+    {
+      f.delete();
+    }
+    verzeichnis.delete();
+  }
+
+  @Test
+  public void wertepool() throws Exception
+  {
+    SEPAWertepool pool = new SEPAWertepool();
+    Calendar cal = Calendar.getInstance();
+    cal.set(2026, Calendar.MARCH, 9, 0, 0, 1);
+    XMLGregorianCalendar tag = pool.getDatum(cal.getTime());
+    assertEquals("2026-03-09", tag.toXMLFormat());
+    // Andere Uhrzeit desselben Tages liefert dieselbe Instanz
+    cal.set(Calendar.HOUR_OF_DAY, 23);
+    assertTrue(tag == pool.getDatum(cal.getTime()));
+    cal.add(Calendar.DAY_OF_MONTH, 1);
+    assertEquals("2026-03-10", pool.getDatum(cal.getTime()).toXMLFormat());
+  }
+
+  private static SEPAKopfdaten getKopfdaten(ByteArrayOutputStream bos)
+      throws SEPAException
+  {
+    assertEquals(SEPADateityp.PAIN_008_002_02,
+        SEPAValidator.validate(new ByteArrayInputStream(bos.toByteArray())));
+    return new SEPAKopfdaten(new ByteArrayInputStream(bos.toByteArray()),
+        false);
+  }
+
+  static Ueberweisung getUeberweisung() throws SEPAException
+  {
+    Ueberweisung ue = new Ueberweisung();
+    ue.setBIC("BELADEBEXXX");
+    ue.setIBAN("DE86100500000990021440");
+    ue.setMessageID("222");
+    ue.setName("OBanToo-Verein");
+    Calendar cal = Calendar.getInstance();
+    cal.add(Calendar.DAY_OF_YEAR, 5);
+    ue.setAusfuehrungsdatum(cal.getTime());
+    for (int i = 0; i < 2; i++)
+    {
+      Empfaenger e = new Empfaenger();
+      e.setBetrag(new BigDecimal("0.01"));
+      e.setBic("DRESDEFF265");
+      e.setIban("DE32265800700732502200");
+      e.setName("Meier");
+      e.setVerwendungszweck("Testueberweisung");
+      e.setReferenz("REF" + i);
+      ue.add(e);
+    }
+    return ue;
+  }
+
+  static Basislastschrift getBasislastschrift(String messageid, int anzahl)
+      throws SEPAException
+  {
+    Basislastschrift bl = new Basislastschrift();
+    bl.setMessageID(messageid);
+    bl.setBIC("BELADEBEXXX");
+    bl.setIBAN("DE86100500000990021440");
+    bl.setName("OBanToo-Verein");
+    bl.setGlaeubigerID("DE98ZZZ09999999999");
+    Calendar cal = Calendar.getInstance();
+    cal.add(Calendar.DAY_OF_YEAR, 10);
+    for (int i = 0; i < anzahl; i++)
+    {
+      bl.add(getZahler("M" + messageid + "-" + i,
+          i % 2 == 0 ? MandatSequence.FRST : MandatSequence.RCUR,
+          cal.getTime()));
+    }
+    return bl;
+  }
+
+  static Zahler getZahler(String mandatid, MandatSequence sequence,
+      java.util.Date faelligkeit) throws SEPAException
+  {
+    Calendar cal = Calendar.getInstance();
+    cal.set(2013, Calendar.FEBRUARY, 22);
+    Zahler z = new Zahler();
+    z.setBetrag(new BigDecimal("10.00"));
+    z.setBic("DRESDEFF265");
+    z.setIban("DE32265800700732502200");
+    z.setMandatdatum(cal.getTime());
+    z.setMandatid(mandatid);
+    z.setMandatsequence(sequence);
+    z.setFaelligkeit(faelligkeit);
+    z.setName("Meier");
+    z.setVerwendungszweck("Beitrag");
+    return z;
+  }
+}